@@ -0,0 +1,85 @@
+package com.reliaquest.api.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over strings. {@link #mightContain} never answers {@code false} for an added value, and
+ * answers {@code true} for an absent one with roughly the false positive rate it was sized for. Safe for concurrent
+ * adds and lookups.
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        this.bits = new AtomicLongArray((int) ((bitCount + 63) >>> 6));
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    static BloomFilter create(int expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be in (0, 1): " + falsePositiveRate);
+        }
+        final int n = Math.max(1, expectedInsertions);
+        final double ln2 = Math.log(2);
+        final long bitCount = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2)));
+        final int hashCount = Math.max(1, (int) Math.round((double) bitCount / n * ln2));
+        return new BloomFilter(bitCount, hashCount);
+    }
+
+    void add(CharSequence value) {
+        final long hash = hash(value);
+        final long h1 = hash;
+        final long h2 = mix(hash);
+        for (int i = 0; i < hashCount; i++) {
+            final long bit = index(h1 + i * h2);
+            final long mask = 1L << bit;
+            bits.getAndAccumulate((int) (bit >>> 6), mask, (word, m) -> word | m);
+        }
+    }
+
+    boolean mightContain(CharSequence value) {
+        final long hash = hash(value);
+        final long h1 = hash;
+        final long h2 = mix(hash);
+        for (int i = 0; i < hashCount; i++) {
+            final long bit = index(h1 + i * h2);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    private long index(long combined) {
+        return (combined & Long.MAX_VALUE) % bitCount;
+    }
+
+    private static long hash(CharSequence value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h = (h ^ value.charAt(i)) * 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    /*
+     * Finalizer of MurmurHash3; spreads FNV's weak low bits over the whole word.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+}
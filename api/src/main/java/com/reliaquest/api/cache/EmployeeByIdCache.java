@@ -0,0 +1,114 @@
+package com.reliaquest.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.config.CacheProperties;
+import com.reliaquest.api.jfr.CacheLookupEvent;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of employees looked up by id. Caffeine's W-TinyLFU policy admits a new entry only when it is estimated
+ * to be used more often than the entry it would evict, so the hot ids of a skewed workload stay resident while
+ * one-off lookups pass through. Capacity is a byte budget over {@link #weigh estimated} retained sizes.
+ *
+ * <p>Publishes the standard cache meters tagged {@code cache=employee-by-id} ({@code cache.gets},
+ * {@code cache.evictions}, {@code cache.eviction.weight}, ...) plus {@code mock.api.cache.by-id.hit-ratio} and
+ * {@code mock.api.cache.by-id.weight} in bytes.
+ */
+@Component
+public class EmployeeByIdCache {
+
+    static final String CACHE_NAME = "employee-by-id";
+
+    private static final int NODE_BYTES = 80;
+    private static final int EMPLOYEE_BYTES = 72;
+    private static final int STRING_BYTES = 40;
+
+    private final boolean enabled;
+    private final Cache<String, Employee> cache;
+
+    public EmployeeByIdCache(CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        final var byId = cacheProperties.getById();
+        this.enabled = cacheProperties.isEnabled() && byId.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(byId.getMaxSize().toBytes())
+                .weigher(EmployeeByIdCache::weigh)
+                .expireAfterWrite(byId.getTtl())
+                .recordStats()
+                .build();
+        if (enabled) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+            Gauge.builder("mock.api.cache.by-id.hit-ratio", cache, c -> c.stats().hitRate())
+                    .register(meterRegistry);
+            Gauge.builder("mock.api.cache.by-id.weight", this, EmployeeByIdCache::weightedSize)
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+        }
+    }
+
+    public Optional<Employee> get(String id) {
+        if (!enabled || id == null) {
+            return Optional.empty();
+        }
+        final var employee = cache.getIfPresent(id);
+        CacheLookupEvent.emit(CACHE_NAME, employee != null ? CacheLookupEvent.HIT : CacheLookupEvent.MISS, 0);
+        return Optional.ofNullable(employee);
+    }
+
+    public void put(String id, Employee employee) {
+        if (enabled && id != null && employee != null) {
+            cache.put(id, employee);
+        }
+    }
+
+    /**
+     * Drops the deleted employee. The upstream deletes the first employee with the given name, which need not be the
+     * one that was looked up, so every cached employee with that name is dropped as well.
+     */
+    public void invalidateDeleted(String id, String name) {
+        if (!enabled) {
+            return;
+        }
+        cache.invalidate(id);
+        if (name != null) {
+            cache.asMap().values().removeIf(employee -> name.equalsIgnoreCase(employee.getEmployeeName()));
+        }
+    }
+
+    long weightedSize() {
+        return cache.policy()
+                .eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    /**
+     * Runs pending evictions now rather than on Caffeine's executor.
+     */
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    /*
+     * Rough retained size on a 64-bit JVM with compressed oops: the cache and map nodes, the employee with its boxed
+     * ints, and each string as its header plus one byte per Latin-1 character.
+     */
+    static int weigh(String id, Employee employee) {
+        return NODE_BYTES
+                + EMPLOYEE_BYTES
+                + stringBytes(id)
+                + stringBytes(employee.getId())
+                + stringBytes(employee.getEmployeeName())
+                + stringBytes(employee.getEmployeeTitle())
+                + stringBytes(employee.getEmployeeEmail());
+    }
+
+    private static int stringBytes(String value) {
+        return value == null ? 0 : STRING_BYTES + ((value.length() + 7) & ~7);
+    }
+}
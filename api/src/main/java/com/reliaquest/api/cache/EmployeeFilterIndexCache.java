@@ -0,0 +1,42 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.config.FilterProperties;
+import com.reliaquest.api.snapshot.EmployeeFilterIndex;
+import com.reliaquest.api.snapshot.EmployeeSnapshot;
+import com.reliaquest.api.snapshot.EmployeeTable;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Holds the {@link EmployeeFilterIndex} of the newest snapshot version, built in the background as soon as a snapshot
+ * is published.
+ */
+@Component
+public class EmployeeFilterIndexCache {
+
+    private final FilterProperties filterProperties;
+    private final SnapshotIndex<EmployeeFilterIndex> indexes;
+
+    public EmployeeFilterIndexCache(FilterProperties filterProperties, EmployeeSnapshotCache employeeSnapshotCache) {
+        this.filterProperties = filterProperties;
+        this.indexes = new SnapshotIndex<>(
+                "employee filter index",
+                table -> EmployeeFilterIndex.build(
+                        table, filterProperties.getAgeBucketWidth(), filterProperties.getSalaryBucketWidth()),
+                EmployeeFilterIndex::titleCount,
+                "distinct titles",
+                employeeSnapshotCache);
+    }
+
+    public int getMaxLimit() {
+        return filterProperties.getMaxLimit();
+    }
+
+    public Mono<EmployeeFilterIndex> index(EmployeeSnapshot snapshot) {
+        return indexes.get(snapshot);
+    }
+
+    public EmployeeFilterIndex build(EmployeeTable table) {
+        return indexes.build(table);
+    }
+}
@@ -0,0 +1,177 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.config.IdFilterProperties;
+import com.reliaquest.api.jfr.CacheLookupEvent;
+import com.reliaquest.api.snapshot.EmployeeSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tells which employee ids are definitely absent, so that lookups of unknown ids are answered without an upstream
+ * call. Two sources are consulted: a recent-404 cache with a TTL, and a {@link BloomFilter} over the ids of the latest
+ * snapshot plus those created through this service since. The Bloom filter is only trusted for
+ * {@link IdFilterProperties#getMaxAge()}, because employees created by other clients are missing from it.
+ *
+ * <p>Publishes {@code mock.api.ids.absent}, tagged with the source that answered.
+ */
+@Slf4j
+@Component
+public class EmployeeIdFilter {
+
+    static final String CACHE_NAME = "employee-ids";
+
+    private static final int MIN_EXPECTED_IDS = 1024;
+
+    /**
+     * Upper bound on {@link #created}; an id lingers there only when it was deleted before a snapshot saw it.
+     */
+    private static final int MAX_CREATED = 10_000;
+
+    private final IdFilterProperties idFilterProperties;
+    private final Counter filterHits;
+    private final Counter notFoundHits;
+
+    /**
+     * Ids created through this service that no snapshot has contained yet. They are re-added on every rebuild, since
+     * a snapshot loaded just before a create can still be published after it.
+     */
+    private final Set<String> created = new LinkedHashSet<>();
+
+    /**
+     * Id to expiry on the {@link System#nanoTime()} clock, oldest first.
+     */
+    private final Map<String, Long> notFound;
+
+    private volatile Membership membership;
+
+    public EmployeeIdFilter(
+            IdFilterProperties idFilterProperties,
+            EmployeeSnapshotCache employeeSnapshotCache,
+            MeterRegistry meterRegistry) {
+        this.idFilterProperties = idFilterProperties;
+        this.filterHits = Counter.builder("mock.api.ids.absent")
+                .tag("source", "filter")
+                .register(meterRegistry);
+        this.notFoundHits = Counter.builder("mock.api.ids.absent")
+                .tag("source", "not-found")
+                .register(meterRegistry);
+        this.notFound = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > idFilterProperties.getNegativeMaxSize();
+            }
+        };
+        employeeSnapshotCache.onPublish(this::rebuild);
+    }
+
+    public boolean isEnabled() {
+        return idFilterProperties.isEnabled();
+    }
+
+    /**
+     * @return {@code true} only when the id is known not to exist upstream; {@code false} means it may exist.
+     */
+    public boolean isDefinitelyAbsent(String id) {
+        if (!isEnabled() || id == null) {
+            return false;
+        }
+        if (isRecentlyNotFound(id)) {
+            notFoundHits.increment();
+            CacheLookupEvent.emit(CACHE_NAME, CacheLookupEvent.ABSENT, 0);
+            return true;
+        }
+        final var current = membership;
+        if (current != null && current.isFresh(idFilterProperties) && !current.ids().mightContain(id)) {
+            filterHits.increment();
+            CacheLookupEvent.emit(CACHE_NAME, CacheLookupEvent.ABSENT, 0);
+            return true;
+        }
+        return false;
+    }
+
+    public void recordNotFound(String id) {
+        if (!isEnabled() || id == null) {
+            return;
+        }
+        final long expiresAt = System.nanoTime() + idFilterProperties.getNegativeTtl().toNanos();
+        synchronized (notFound) {
+            notFound.remove(id);
+            notFound.put(id, expiresAt);
+        }
+    }
+
+    public synchronized void recordCreated(String id) {
+        if (!isEnabled() || id == null) {
+            return;
+        }
+        synchronized (notFound) {
+            notFound.remove(id);
+        }
+        final var current = membership;
+        if (current != null) {
+            current.ids().add(id);
+        }
+        created.add(id);
+        if (created.size() > MAX_CREATED) {
+            final Iterator<String> oldest = created.iterator();
+            oldest.next();
+            oldest.remove();
+        }
+    }
+
+    private boolean isRecentlyNotFound(String id) {
+        synchronized (notFound) {
+            final Long expiresAt = notFound.get(id);
+            if (expiresAt == null) {
+                return false;
+            }
+            if (expiresAt - System.nanoTime() > 0) {
+                return true;
+            }
+            notFound.remove(id);
+            return false;
+        }
+    }
+
+    /*
+     * Runs under the snapshot cache's lock for every snapshot that becomes current. Sized at twice the known ids so
+     * that creates until the next rebuild keep the false positive rate near its target. A stale snapshot may lack
+     * employees created since it was loaded, so it leaves the filter empty.
+     */
+    private synchronized void rebuild(EmployeeSnapshot snapshot) {
+        if (!isEnabled() || snapshot.stale()) {
+            return;
+        }
+        final var table = snapshot.table();
+        final var ids = BloomFilter.create(
+                Math.max(MIN_EXPECTED_IDS, 2 * (table.size() + created.size())),
+                idFilterProperties.getFalsePositiveRate());
+        synchronized (notFound) {
+            for (int row = 0; row < table.size(); row++) {
+                final var id = table.id(row);
+                if (id != null) {
+                    ids.add(id);
+                    created.remove(id);
+                    notFound.remove(id);
+                }
+            }
+        }
+        created.forEach(ids::add);
+        membership = new Membership(ids, System.nanoTime());
+        log.debug("Rebuilt id filter from snapshot version {} with {} ids", snapshot.version(), table.size());
+    }
+
+    private record Membership(BloomFilter ids, long builtAt) {
+
+        boolean isFresh(IdFilterProperties idFilterProperties) {
+            return System.nanoTime() - builtAt < idFilterProperties.getMaxAge().toNanos();
+        }
+    }
+}
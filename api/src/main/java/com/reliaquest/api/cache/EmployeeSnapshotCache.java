@@ -0,0 +1,286 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.client.Deadline;
+import com.reliaquest.api.client.OutboundScheduler;
+import com.reliaquest.api.config.CacheProperties;
+import com.reliaquest.api.jfr.CacheLookupEvent;
+import com.reliaquest.api.jfr.SnapshotLoadEvent;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.snapshot.CompactEmployeeTable;
+import com.reliaquest.api.snapshot.EmployeeSnapshot;
+import com.reliaquest.api.snapshot.EmployeeTable;
+import com.reliaquest.api.snapshot.ListEmployeeTable;
+import com.reliaquest.api.snapshot.OffHeapEmployeeTable;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Holds the current {@link EmployeeSnapshot}. An expired or invalidated snapshot is replaced on the next request, and
+ * one nearing expiry is refreshed in the background while it is still served; concurrent requests share a single
+ * upstream load.
+ *
+ * <p>A {@link EmployeeSnapshot#stale() stale} snapshot, restored from disk at startup, is served regardless of the
+ * TTL, but every request that sees it also reloads it in the background.
+ *
+ * <p>Loads go to the upstream unless a {@link Source} is registered, e.g. peers that share their snapshots.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeSnapshotCache {
+
+    static final String CACHE_NAME = "employee-snapshot";
+
+    private final CacheProperties cacheProperties;
+
+    private final AtomicLong versions = new AtomicLong();
+
+    /**
+     * Incremented by {@link #invalidate()}, so that a load that was already in flight is served to its callers but
+     * not cached.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final List<Consumer<EmployeeSnapshot>> publishListeners = new CopyOnWriteArrayList<>();
+
+    private volatile Source source = (upstream, notBefore) -> upstream;
+
+    /**
+     * When {@link #invalidate()} was last called; a snapshot loaded before then is outdated.
+     */
+    private volatile Instant invalidatedAt = Instant.EPOCH;
+
+    private volatile EmployeeSnapshot current;
+
+    private Mono<EmployeeSnapshot> loading;
+
+    private Instant loadStartedAt;
+
+    public boolean isEnabled() {
+        return cacheProperties.isEnabled();
+    }
+
+    public Mono<EmployeeSnapshot> snapshot(Supplier<Mono<List<Employee>>> loader) {
+        return Mono.defer(() -> {
+            final var snapshot = current;
+            final var now = Instant.now();
+            if (snapshot != null && snapshot.stale()) {
+                if (now.isBefore(snapshot.loadedAt().plus(cacheProperties.getWarmStart().getMaxAge()))) {
+                    CacheLookupEvent.emit(CACHE_NAME, CacheLookupEvent.REFRESH, snapshot.version());
+                    refreshInBackground(loader);
+                    return Mono.just(snapshot);
+                }
+            } else if (snapshot != null && now.isBefore(snapshot.loadedAt().plus(cacheProperties.getTtl()))) {
+                if (!now.isBefore(snapshot.loadedAt().plus(cacheProperties.getRefreshAfter()))) {
+                    CacheLookupEvent.emit(CACHE_NAME, CacheLookupEvent.REFRESH, snapshot.version());
+                    refreshInBackground(loader);
+                } else {
+                    CacheLookupEvent.emit(CACHE_NAME, CacheLookupEvent.HIT, snapshot.version());
+                }
+                return Mono.just(snapshot);
+            }
+            CacheLookupEvent.emit(CACHE_NAME, CacheLookupEvent.MISS, 0);
+            return load(loader, CacheLookupEvent.MISS);
+        });
+    }
+
+    /**
+     * Like {@link #snapshot}, but never serves a snapshot that is due for a refresh or was loaded before
+     * {@code notBefore}: waits for a load instead. For callers that cache the snapshot themselves, such as peers.
+     * A {@code notBefore} in the future, e.g. from a peer whose clock is ahead, counts as now. A load that started
+     * after it is joined rather than repeated.
+     */
+    public Mono<EmployeeSnapshot> freshSnapshot(Supplier<Mono<List<Employee>>> loader, Instant notBefore) {
+        return Mono.defer(() -> {
+            final var snapshot = current;
+            final var now = Instant.now();
+            final var earliest = notBefore.isAfter(now) ? now : notBefore;
+            if (snapshot != null
+                    && !snapshot.stale()
+                    && !snapshot.loadedAt().isBefore(earliest)
+                    && now.isBefore(snapshot.loadedAt().plus(cacheProperties.getRefreshAfter()))
+                    && now.isBefore(snapshot.loadedAt().plus(cacheProperties.getTtl()))) {
+                CacheLookupEvent.emit(CACHE_NAME, CacheLookupEvent.HIT, snapshot.version());
+                return Mono.just(snapshot);
+            }
+            CacheLookupEvent.emit(CACHE_NAME, CacheLookupEvent.MISS, 0);
+            return loadSince(loader, earliest);
+        });
+    }
+
+    /**
+     * @return the cached snapshot, if any, regardless of its age.
+     */
+    public Optional<EmployeeSnapshot> current() {
+        return Optional.ofNullable(current);
+    }
+
+    /**
+     * Registers a callback for every snapshot that becomes current. It runs under the cache's lock, so it is ordered
+     * with {@link #invalidate()}.
+     */
+    public void onPublish(Consumer<EmployeeSnapshot> listener) {
+        publishListeners.add(listener);
+    }
+
+    /**
+     * Makes a snapshot restored from disk current, unless a snapshot was already loaded or is loading. Versions
+     * continue after the restored one, so that it never shares a version with a later load.
+     *
+     * @return whether the snapshot became current.
+     */
+    public synchronized boolean restore(EmployeeSnapshot snapshot) {
+        if (current != null || loading != null) {
+            return false;
+        }
+        versions.accumulateAndGet(snapshot.version(), Math::max);
+        current = snapshot;
+        publishListeners.forEach(listener -> listener.accept(snapshot));
+        log.info(
+                "Restored employee snapshot version {} with {} employees, loaded at {}",
+                snapshot.version(),
+                snapshot.table().size(),
+                snapshot.loadedAt());
+        return true;
+    }
+
+    /**
+     * Routes every load through {@code source}. Only one source can be registered.
+     */
+    public void loadThrough(Source source) {
+        this.source = source;
+    }
+
+    public synchronized void invalidate() {
+        invalidatedAt = Instant.now();
+        generation.incrementAndGet();
+        current = null;
+        loading = null;
+    }
+
+    /*
+     * Joins a load that started no earlier than notBefore, so that peers asking after the same write share one
+     * upstream load; an older load or snapshot is dropped instead.
+     */
+    private synchronized Mono<EmployeeSnapshot> loadSince(Supplier<Mono<List<Employee>>> loader, Instant notBefore) {
+        final boolean outdated = loading != null
+                ? loadStartedAt.isBefore(notBefore)
+                : current != null && current.loadedAt().isBefore(notBefore);
+        if (outdated) {
+            invalidate();
+        }
+        return load(loader, CacheLookupEvent.MISS);
+    }
+
+    private void refreshInBackground(Supplier<Mono<List<Employee>>> loader) {
+        synchronized (this) {
+            if (loading != null) {
+                return;
+            }
+        }
+        load(loader, CacheLookupEvent.REFRESH)
+                .contextWrite(OutboundScheduler.withPriority(OutboundScheduler.Priority.BACKGROUND))
+                .subscribe(snapshot -> {}, error -> log.warn("Background refresh of employee snapshot failed", error));
+    }
+
+    private synchronized Mono<EmployeeSnapshot> load(Supplier<Mono<List<Employee>>> loader, String trigger) {
+        if (loading == null) {
+            final long loadGeneration = generation.get();
+            final var event = SnapshotLoadEvent.begin(trigger);
+            loadStartedAt = Instant.now();
+            // The load is shared, so no single caller's deadline may cut it short; each caller still gives up on
+            // its own deadline.
+            final Mono<EmployeeSnapshot> upstream = Mono.defer(loader)
+                    .map(employees -> new EmployeeSnapshot(0, tableOf(employees), Instant.now()));
+            loading = source.load(upstream, invalidatedAt)
+                    .map(this::adopt)
+                    .contextWrite(context -> context.delete(Deadline.CONTEXT_KEY))
+                    .doOnNext(snapshot -> event.loaded(
+                            snapshot.version(), snapshot.table().size(), publish(snapshot, loadGeneration)))
+                    .doFinally(signal -> {
+                        loaded(loadGeneration);
+                        event.finish(signal == SignalType.CANCEL ? "cancelled" : "failed");
+                    })
+                    .cache();
+        }
+        return loading;
+    }
+
+    /**
+     * Gives a loaded snapshot a local version and the configured representation. Its load time is kept, so that a
+     * snapshot from a peer expires as if it had been loaded here.
+     */
+    private EmployeeSnapshot adopt(EmployeeSnapshot snapshot) {
+        return new EmployeeSnapshot(versions.incrementAndGet(), tableOf(snapshot.table()), snapshot.loadedAt());
+    }
+
+    /**
+     * @return whether the snapshot became current, i.e. the cache was not invalidated while it loaded.
+     */
+    private synchronized boolean publish(EmployeeSnapshot snapshot, long loadGeneration) {
+        if (generation.get() == loadGeneration) {
+            current = snapshot;
+            publishListeners.forEach(listener -> listener.accept(snapshot));
+            log.info(
+                    "Cached employee snapshot version {} with {} employees",
+                    snapshot.version(),
+                    snapshot.table().size());
+            return true;
+        }
+        return false;
+    }
+
+    /*
+     * A failed load is not cached, so the next request retries it. After an invalidation, loading already belongs
+     * to a newer generation and is left alone.
+     */
+    private synchronized void loaded(long loadGeneration) {
+        if (generation.get() == loadGeneration) {
+            loading = null;
+        }
+    }
+
+    private EmployeeTable tableOf(EmployeeTable table) {
+        final boolean represented = switch (cacheProperties.getRepresentation()) {
+            case OBJECTS -> table instanceof ListEmployeeTable;
+            case COMPACT -> table instanceof CompactEmployeeTable;
+            case OFF_HEAP -> table instanceof OffHeapEmployeeTable;
+        };
+        return represented ? table : tableOf(table.employees());
+    }
+
+    private EmployeeTable tableOf(List<Employee> employees) {
+        return switch (cacheProperties.getRepresentation()) {
+            case OBJECTS -> new ListEmployeeTable(Collections.unmodifiableList(employees));
+            case COMPACT -> CompactEmployeeTable.of(employees);
+            case OFF_HEAP -> cacheProperties.getOffHeap().isMemoryMapped()
+                    ? OffHeapEmployeeTable.mapped(employees, Path.of(cacheProperties.getOffHeap().getDirectory()))
+                    : OffHeapEmployeeTable.of(employees);
+        };
+    }
+
+    /**
+     * Where a load gets its snapshot from.
+     */
+    @FunctionalInterface
+    public interface Source {
+        /**
+         * @param upstream loads the snapshot from the upstream; subscribing to it costs an upstream request.
+         * @param notBefore earliest acceptable load time: snapshots loaded before the last invalidation are outdated.
+         * @return the snapshot; its version is replaced with a local one.
+         */
+        Mono<EmployeeSnapshot> load(Mono<EmployeeSnapshot> upstream, Instant notBefore);
+    }
+}
@@ -0,0 +1,49 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.config.FuzzySearchProperties;
+import com.reliaquest.api.snapshot.EmployeeSnapshot;
+import com.reliaquest.api.snapshot.EmployeeTable;
+import com.reliaquest.api.snapshot.FuzzyNameIndex;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Holds the {@link FuzzyNameIndex} of the newest snapshot version. The index is built in the background as soon as a
+ * snapshot is published, and concurrent searches that arrive before it is ready share that build.
+ */
+@Component
+public class FuzzyNameIndexCache {
+
+    private final FuzzySearchProperties fuzzySearchProperties;
+    private final SnapshotIndex<FuzzyNameIndex> indexes;
+
+    public FuzzyNameIndexCache(
+            FuzzySearchProperties fuzzySearchProperties, EmployeeSnapshotCache employeeSnapshotCache) {
+        this.fuzzySearchProperties = fuzzySearchProperties;
+        this.indexes = new SnapshotIndex<>(
+                "fuzzy name index",
+                table -> FuzzyNameIndex.build(table, fuzzySearchProperties.getMaxEditDistance()),
+                FuzzyNameIndex::termCount,
+                "distinct words",
+                employeeSnapshotCache);
+    }
+
+    /**
+     * @return the largest edit distance per word the index can answer.
+     */
+    public int getMaxEditDistance() {
+        return fuzzySearchProperties.getMaxEditDistance();
+    }
+
+    public int getMaxLimit() {
+        return fuzzySearchProperties.getMaxLimit();
+    }
+
+    public Mono<FuzzyNameIndex> index(EmployeeSnapshot snapshot) {
+        return indexes.get(snapshot);
+    }
+
+    public FuzzyNameIndex build(EmployeeTable table) {
+        return indexes.build(table);
+    }
+}
@@ -0,0 +1,50 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.config.AutocompleteProperties;
+import com.reliaquest.api.snapshot.EmployeeSnapshot;
+import com.reliaquest.api.snapshot.EmployeeTable;
+import com.reliaquest.api.snapshot.NameCompletionTrie;
+import java.time.Duration;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Holds the {@link NameCompletionTrie} of the newest snapshot version, built in the background as soon as a snapshot
+ * is published so that the first keystrokes after a refresh do not pay for it.
+ */
+@Component
+public class NameCompletionCache {
+
+    private final AutocompleteProperties autocompleteProperties;
+    private final SnapshotIndex<NameCompletionTrie> tries;
+
+    public NameCompletionCache(
+            AutocompleteProperties autocompleteProperties, EmployeeSnapshotCache employeeSnapshotCache) {
+        this.autocompleteProperties = autocompleteProperties;
+        this.tries = new SnapshotIndex<>(
+                "name completion trie",
+                table -> NameCompletionTrie.build(table, autocompleteProperties.getWeight()),
+                NameCompletionTrie::wordCount,
+                "distinct words",
+                employeeSnapshotCache);
+    }
+
+    public int getMaxLimit() {
+        return autocompleteProperties.getMaxLimit();
+    }
+
+    /**
+     * @return the latency budget of a completion request, see {@link AutocompleteProperties#getTimeout()}.
+     */
+    public Duration getTimeout() {
+        return autocompleteProperties.getTimeout();
+    }
+
+    public Mono<NameCompletionTrie> trie(EmployeeSnapshot snapshot) {
+        return tries.get(snapshot);
+    }
+
+    public NameCompletionTrie build(EmployeeTable table) {
+        return tries.build(table);
+    }
+}
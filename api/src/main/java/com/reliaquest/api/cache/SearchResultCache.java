@@ -0,0 +1,134 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.config.CacheProperties;
+import com.reliaquest.api.jfr.CacheLookupEvent;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * LRU cache of name search results, keyed by the lower-cased search string and valid for one snapshot version. The
+ * first search for a newer version drops every entry. A repeated search returns the same unmodifiable list without
+ * scanning or copying, and identical searches that arrive together share one scan. A failed scan is not kept: the
+ * next identical search scans again.
+ *
+ * <p>Publishes {@code cache.gets} by result and {@code cache.size}, tagged {@code cache=employee-search}.
+ */
+@Component
+public class SearchResultCache {
+
+    static final String CACHE_NAME = "employee-search";
+
+    /**
+     * Cache duration that Reactor treats as no expiry.
+     */
+    private static final Duration FOREVER = Duration.ofMillis(Long.MAX_VALUE);
+
+    private final boolean enabled;
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Snapshot version the entries were computed from.
+     */
+    private long version = Long.MIN_VALUE;
+
+    private final Map<String, Mono<List<Employee>>> results;
+
+    public SearchResultCache(CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        final var search = cacheProperties.getSearch();
+        this.enabled = cacheProperties.isEnabled() && search.isEnabled();
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Mono<List<Employee>>> eldest) {
+                return size() > search.getMaxEntries();
+            }
+        };
+        this.hits = Counter.builder("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", this, SearchResultCache::size)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param scan computes the result for {@code search} from the snapshot with the given version; called at most once
+     *     per version and search while the entry stays cached.
+     */
+    public Mono<List<Employee>> get(long snapshotVersion, String search, Supplier<List<Employee>> scan) {
+        return getDeferred(snapshotVersion, search, () -> Mono.fromSupplier(scan));
+    }
+
+    /**
+     * Like {@link #get}, for scans that complete asynchronously.
+     */
+    public Mono<List<Employee>> getDeferred(
+            long snapshotVersion, String search, Supplier<Mono<List<Employee>>> scan) {
+        final Mono<List<Employee>> result;
+        synchronized (this) {
+            if (snapshotVersion != version) {
+                // A caller still holding an older snapshot must not evict results for the newer one.
+                if (snapshotVersion < version) {
+                    misses.increment();
+                    CacheLookupEvent.emit(CACHE_NAME, CacheLookupEvent.MISS, snapshotVersion);
+                    return Mono.defer(scan);
+                }
+                results.clear();
+                version = snapshotVersion;
+            }
+            final var key = search.toLowerCase();
+            final var cached = results.get(key);
+            if (cached != null) {
+                hits.increment();
+                CacheLookupEvent.emit(CACHE_NAME, CacheLookupEvent.HIT, snapshotVersion);
+                return cached;
+            }
+            misses.increment();
+            CacheLookupEvent.emit(CACHE_NAME, CacheLookupEvent.MISS, snapshotVersion);
+            result = cachedScan(key, scan);
+            results.put(key, result);
+        }
+        return result;
+    }
+
+    /*
+     * Only a successful result is kept: a failed scan removes its entry, and a caller that already holds the entry
+     * scans again when it resubscribes.
+     */
+    private Mono<List<Employee>> cachedScan(String key, Supplier<Mono<List<Employee>>> scan) {
+        final var entry = new AtomicReference<Mono<List<Employee>>>();
+        entry.set(Mono.defer(scan)
+                .map(Collections::unmodifiableList)
+                .doOnError(error -> evict(key, entry.get()))
+                .cache(employees -> FOREVER, error -> Duration.ZERO, () -> Duration.ZERO));
+        return entry.get();
+    }
+
+    private synchronized void evict(String key, Mono<List<Employee>> entry) {
+        results.remove(key, entry);
+    }
+
+    synchronized int size() {
+        return results.size();
+    }
+}
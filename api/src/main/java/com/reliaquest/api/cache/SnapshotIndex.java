@@ -0,0 +1,86 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.snapshot.EmployeeSnapshot;
+import com.reliaquest.api.snapshot.EmployeeTable;
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Holds an index derived from the newest snapshot version. The index is built in the background as soon as a
+ * snapshot is published, and concurrent lookups that arrive before it is ready share that build. A failed build is
+ * not cached, so the next lookup retries it.
+ */
+@Slf4j
+final class SnapshotIndex<T> {
+
+    /**
+     * Cache duration that Reactor treats as no expiry.
+     */
+    private static final Duration FOREVER = Duration.ofMillis(Long.MAX_VALUE);
+
+    private final String name;
+    private final Function<EmployeeTable, T> builder;
+    private final ToIntFunction<T> entries;
+    private final String entryName;
+
+    private long version = Long.MIN_VALUE;
+
+    private Mono<T> index;
+
+    /**
+     * @param entries counts what the built index holds, described by {@code entryName}, for the build log.
+     */
+    SnapshotIndex(
+            String name,
+            Function<EmployeeTable, T> builder,
+            ToIntFunction<T> entries,
+            String entryName,
+            EmployeeSnapshotCache employeeSnapshotCache) {
+        this.name = name;
+        this.builder = builder;
+        this.entries = entries;
+        this.entryName = entryName;
+        employeeSnapshotCache.onPublish(
+                snapshot -> get(snapshot).subscribe(built -> {}, error -> log.warn("Building {} failed", name, error)));
+    }
+
+    Mono<T> get(EmployeeSnapshot snapshot) {
+        synchronized (this) {
+            if (snapshot.version() == version) {
+                return index;
+            }
+            // A caller still holding an older snapshot gets a one-off index rather than replacing the newer one.
+            if (snapshot.version() > version) {
+                version = snapshot.version();
+                index = building(snapshot).cache(built -> FOREVER, error -> Duration.ZERO, () -> Duration.ZERO);
+                return index;
+            }
+        }
+        return building(snapshot);
+    }
+
+    /*
+     * Builds run on boundedElastic, never on the thread that happens to subscribe first, e.g. a Netty event loop
+     * delivering the upstream response.
+     */
+    private Mono<T> building(EmployeeSnapshot snapshot) {
+        return Mono.fromSupplier(() -> build(snapshot.table())).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    T build(EmployeeTable table) {
+        final long start = System.nanoTime();
+        final T built = builder.apply(table);
+        log.info(
+                "Built {} over {} employees with {} {} in {} ms",
+                name,
+                table.size(),
+                entries.applyAsInt(built),
+                entryName,
+                (System.nanoTime() - start) / 1_000_000);
+        return built;
+    }
+}
@@ -0,0 +1,108 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.config.CacheProperties;
+import com.reliaquest.api.config.MockApiProperties;
+import com.reliaquest.api.snapshot.EmployeeSnapshot;
+import com.reliaquest.api.snapshot.SnapshotFile;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Keeps a {@link SnapshotFile} of the latest employee snapshot, so that a restarted service answers from it at once
+ * instead of waiting for its first upstream load. The file is restored before the service accepts requests, as a
+ * stale snapshot that {@link EmployeeSnapshotCache} replaces on first use. Every loaded snapshot is written back in
+ * the background, at most once per {@link CacheProperties.WarmStart#getWriteInterval()}; snapshots published while a
+ * write is pending replace it.
+ */
+@Slf4j
+@Component
+public class SnapshotWarmStart implements SmartInitializingSingleton {
+
+    private final CacheProperties cacheProperties;
+    private final EmployeeSnapshotCache employeeSnapshotCache;
+    private final String source;
+    private final Path file;
+
+    /**
+     * Newest snapshot not written yet; non-null while a write is scheduled.
+     */
+    private final AtomicReference<EmployeeSnapshot> pending = new AtomicReference<>();
+
+    private volatile long lastWrite = System.nanoTime() - TimeUnit.DAYS.toNanos(1);
+
+    public SnapshotWarmStart(
+            CacheProperties cacheProperties,
+            MockApiProperties mockApiProperties,
+            EmployeeSnapshotCache employeeSnapshotCache) {
+        this.cacheProperties = cacheProperties;
+        this.employeeSnapshotCache = employeeSnapshotCache;
+        this.source = mockApiProperties.getBaseUrl();
+        this.file = Path.of(cacheProperties.getWarmStart().getFile());
+        employeeSnapshotCache.onPublish(this::schedule);
+    }
+
+    public boolean isEnabled() {
+        return cacheProperties.isEnabled() && cacheProperties.getWarmStart().isEnabled();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            final var snapshot = SnapshotFile.read(file, source);
+            final var age = Duration.between(snapshot.loadedAt(), Instant.now());
+            if (age.compareTo(cacheProperties.getWarmStart().getMaxAge()) >= 0) {
+                log.info("Ignoring employee snapshot in {}, loaded {} ago", file, age);
+                return;
+            }
+            employeeSnapshotCache.restore(snapshot);
+        } catch (NoSuchFileException e) {
+            log.debug("No employee snapshot to restore in {}", file);
+        } catch (IOException e) {
+            log.warn("Could not restore employee snapshot from {}", file, e);
+        }
+    }
+
+    /*
+     * Runs under the snapshot cache's lock, so the write itself is left to a background thread.
+     */
+    private void schedule(EmployeeSnapshot snapshot) {
+        if (!isEnabled() || snapshot.stale() || pending.getAndSet(snapshot) != null) {
+            return;
+        }
+        final long delay = lastWrite + cacheProperties.getWarmStart().getWriteInterval().toNanos() - System.nanoTime();
+        Schedulers.boundedElastic().schedule(this::writePending, Math.max(0, delay), TimeUnit.NANOSECONDS);
+    }
+
+    private synchronized void writePending() {
+        final var snapshot = pending.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        lastWrite = System.nanoTime();
+        try {
+            final long started = System.nanoTime();
+            SnapshotFile.write(snapshot, source, file);
+            log.debug(
+                    "Wrote employee snapshot version {} to {} in {} ms ({} bytes)",
+                    snapshot.version(),
+                    file,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started),
+                    Files.size(file));
+        } catch (IOException e) {
+            log.warn("Could not write employee snapshot to {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.util.Optional;
+import reactor.util.context.ContextView;
+
+/**
+ * Point in time, on the {@link System#nanoTime()} clock, by which an upstream call must have completed. Carried in
+ * the Reactor context under {@link #CONTEXT_KEY}.
+ */
+public record Deadline(long nanoTime) {
+
+    public static final Object CONTEXT_KEY = Deadline.class;
+
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    public static Optional<Deadline> from(ContextView context) {
+        return context.getOrEmpty(CONTEXT_KEY);
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, nanoTime - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return nanoTime - System.nanoTime() <= 0;
+    }
+
+    /**
+     * @return whichever of the two deadlines comes first.
+     */
+    public Deadline min(Deadline other) {
+        return nanoTime - other.nanoTime <= 0 ? this : other;
+    }
+}
@@ -0,0 +1,18 @@
+package com.reliaquest.api.client;
+
+/**
+ * An upstream request was not sent because {@link OutboundScheduler} could not admit it in time.
+ */
+public class OutboundRejectedException extends RuntimeException {
+
+    private final OutboundScheduler.Priority priority;
+
+    public OutboundRejectedException(OutboundScheduler.Priority priority, String reason) {
+        super("Upstream request (" + priority + ") rejected: " + reason);
+        this.priority = priority;
+    }
+
+    public OutboundScheduler.Priority getPriority() {
+        return priority;
+    }
+}
@@ -0,0 +1,278 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.config.OutboundProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Admission control in front of the upstream, applied to every exchange as a {@link #filter()}. At most
+ * {@code max-concurrency} requests are in flight; the rest wait in a bounded queue ordered by {@link Priority}, then by
+ * deadline. A request is rejected with {@link OutboundRejectedException} as soon as it is clear that it cannot start
+ * and complete before its deadline, so that the upstream's budget is spent on requests that are still wanted.
+ *
+ * <p>Callers choose the priority with {@code contextWrite(OutboundScheduler.withPriority(...))}; a {@link Deadline}
+ * in the context bounds the request, otherwise the per-priority default applies. Callers that retry fix the deadline
+ * once with {@link #deadline(ContextView)} and put it in the context, so that retries share one budget instead of each
+ * starting a fresh default.
+ */
+@Slf4j
+@Component
+public class OutboundScheduler {
+
+    public enum Priority {
+        /**
+         * Creates and deletes, which users wait on and which cannot be served from the cache.
+         */
+        WRITE,
+        /**
+         * Reads a user is waiting for. The default.
+         */
+        INTERACTIVE,
+        /**
+         * Refreshes nobody is waiting for.
+         */
+        BACKGROUND
+    }
+
+    private static final Object PRIORITY_KEY = Priority.class;
+
+    /**
+     * Weight of the newest sample in the moving average of service times.
+     */
+    private static final double SERVICE_TIME_WEIGHT = 0.2;
+
+    private static final Comparator<Waiter> ORDER = Comparator.<Waiter, Priority>comparing(w -> w.priority)
+            .thenComparingLong(w -> w.deadline.nanoTime())
+            .thenComparingLong(w -> w.sequence);
+
+    private final OutboundProperties outboundProperties;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong sequence = new AtomicLong();
+
+    // Guarded by this.
+    private final TreeSet<Waiter> queue = new TreeSet<>(ORDER);
+    private int inFlight;
+    private long averageServiceNanos;
+
+    public OutboundScheduler(OutboundProperties outboundProperties, MeterRegistry meterRegistry) {
+        this.outboundProperties = outboundProperties;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("mock.api.outbound.queued", this, scheduler -> scheduler.queued());
+        meterRegistry.gauge("mock.api.outbound.in-flight", this, scheduler -> scheduler.inFlight());
+    }
+
+    public static Function<Context, Context> withPriority(Priority priority) {
+        return context -> context.put(PRIORITY_KEY, priority);
+    }
+
+    /**
+     * @return the deadline of a request made under {@code context}: its {@link Deadline}, capped by the default for
+     *     its priority, which starts now. Without admission control, only the context's deadline.
+     */
+    public Optional<Deadline> deadline(ContextView context) {
+        if (!outboundProperties.isEnabled()) {
+            return Deadline.from(context);
+        }
+        return Optional.of(deadline(context, priority(context)));
+    }
+
+    private Deadline deadline(ContextView context, Priority priority) {
+        final var fallback = Deadline.after(outboundProperties.getDeadlines().get(priority));
+        return Deadline.from(context).map(fallback::min).orElse(fallback);
+    }
+
+    private static Priority priority(ContextView context) {
+        return context.getOrDefault(PRIORITY_KEY, Priority.INTERACTIVE);
+    }
+
+    public ExchangeFilterFunction filter() {
+        return (request, next) -> {
+            if (!outboundProperties.isEnabled()) {
+                return next.exchange(request);
+            }
+            return Mono.deferContextual(context -> {
+                final Priority priority = priority(context);
+                final var deadline = deadline(context, priority);
+                return acquire(priority, deadline).flatMap(permit -> next.exchange(request)
+                        .map(response -> holdUntilBodyEnds(response, permit))
+                        .doOnError(error -> permit.release())
+                        .doOnCancel(permit::release));
+            });
+        };
+    }
+
+    /*
+     * The upstream is busy until the body has been read, not just the headers, so the permit is held until then and
+     * the service time includes the body.
+     */
+    private static ClientResponse holdUntilBodyEnds(ClientResponse response, Permit permit) {
+        return response.mutate()
+                .body(body -> body.doFinally(signal -> permit.release()))
+                .build();
+    }
+
+    Mono<Permit> acquire(Priority priority, Deadline deadline) {
+        return Mono.<Permit>create(sink -> {
+                    final var waiter = new Waiter(priority, deadline, sequence.getAndIncrement(), sink);
+                    sink.onCancel(() -> cancel(waiter));
+                    admit(waiter).run();
+                })
+                // A permit granted concurrently with cancellation is dropped by the sink; give it back.
+                .doOnDiscard(Permit.class, Permit::release);
+    }
+
+    synchronized int queued() {
+        return queue.size();
+    }
+
+    synchronized int inFlight() {
+        return inFlight;
+    }
+
+    /*
+     * Sinks are signalled outside the lock: granting a permit subscribes to the exchange on the calling thread.
+     */
+    private Runnable admit(Waiter waiter) {
+        synchronized (this) {
+            if (waiter.deadline.isExpired()) {
+                return reject(waiter, "deadline-expired");
+            }
+            if (inFlight < outboundProperties.getMaxConcurrency() && queue.isEmpty()) {
+                inFlight++;
+                return grant(waiter);
+            }
+            if (!canMeetDeadline(waiter)) {
+                return reject(waiter, "deadline-unreachable");
+            }
+            Runnable displaced = () -> {};
+            if (queue.size() >= outboundProperties.getMaxQueueSize()) {
+                final var worst = queue.last();
+                if (ORDER.compare(waiter, worst) > 0) {
+                    return reject(waiter, "queue-full");
+                }
+                queue.remove(worst);
+                worst.expiry.dispose();
+                displaced = reject(worst, "displaced");
+            }
+            queue.add(waiter);
+            final long remaining = waiter.deadline.nanoTime() - System.nanoTime();
+            waiter.expiry = Schedulers.parallel().schedule(() -> expire(waiter), remaining, TimeUnit.NANOSECONDS);
+            return displaced;
+        }
+    }
+
+    /*
+     * Requests ahead of this one drain maxConcurrency at a time, each wave taking about the average service time,
+     * and this request then needs one more. Before any request has completed there is no estimate, so only the
+     * deadline timer applies.
+     */
+    private boolean canMeetDeadline(Waiter waiter) {
+        if (averageServiceNanos == 0) {
+            return true;
+        }
+        final int ahead = queue.headSet(waiter).size();
+        final long waves = ahead / outboundProperties.getMaxConcurrency() + 1;
+        final long expectedCompletion = System.nanoTime() + (waves + 1) * averageServiceNanos;
+        return expectedCompletion - waiter.deadline.nanoTime() <= 0;
+    }
+
+    private void release(long serviceNanos) {
+        final List<Runnable> signals = new ArrayList<>();
+        synchronized (this) {
+            inFlight--;
+            averageServiceNanos = averageServiceNanos == 0
+                    ? serviceNanos
+                    : (long) (SERVICE_TIME_WEIGHT * serviceNanos + (1 - SERVICE_TIME_WEIGHT) * averageServiceNanos);
+            while (inFlight < outboundProperties.getMaxConcurrency() && !queue.isEmpty()) {
+                final var next = queue.pollFirst();
+                next.expiry.dispose();
+                if (next.deadline.isExpired()) {
+                    signals.add(reject(next, "deadline-expired"));
+                } else {
+                    inFlight++;
+                    signals.add(grant(next));
+                }
+            }
+        }
+        signals.forEach(Runnable::run);
+    }
+
+    private void expire(Waiter waiter) {
+        final Runnable signal;
+        synchronized (this) {
+            if (!queue.remove(waiter)) {
+                return;
+            }
+            signal = reject(waiter, "deadline-expired");
+        }
+        signal.run();
+    }
+
+    private synchronized void cancel(Waiter waiter) {
+        if (queue.remove(waiter)) {
+            waiter.expiry.dispose();
+        }
+    }
+
+    private Runnable grant(Waiter waiter) {
+        final var permit = new Permit(System.nanoTime());
+        return () -> waiter.sink.success(permit);
+    }
+
+    private Runnable reject(Waiter waiter, String reason) {
+        meterRegistry
+                .counter("mock.api.outbound.rejected", Tags.of("priority", waiter.priority.name(), "reason", reason))
+                .increment();
+        log.warn("Rejecting {} upstream request: {}", waiter.priority, reason);
+        return () -> waiter.sink.error(new OutboundRejectedException(waiter.priority, reason));
+    }
+
+    final class Permit {
+        private final long grantedAt;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long grantedAt) {
+            this.grantedAt = grantedAt;
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                OutboundScheduler.this.release(System.nanoTime() - grantedAt);
+            }
+        }
+    }
+
+    private static final class Waiter {
+        private final Priority priority;
+        private final Deadline deadline;
+        private final long sequence;
+        private final MonoSink<Permit> sink;
+        private Disposable expiry = () -> {};
+
+        private Waiter(Priority priority, Deadline deadline, long sequence, MonoSink<Permit> sink) {
+            this.priority = priority;
+            this.deadline = deadline;
+            this.sequence = sequence;
+            this.sink = sink;
+        }
+    }
+}
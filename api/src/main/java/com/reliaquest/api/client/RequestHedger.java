@@ -0,0 +1,140 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.config.HedgingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Hedges idempotent upstream requests: when an attempt has not answered within a percentile of recent latencies, a
+ * second identical attempt is sent and whichever answers first is used; the other is cancelled. Once the hedge is
+ * sent, the request fails only when both attempts have failed, with the primary's error. Hedging is skipped
+ * while the upstream's rate limit is nearly exhausted, since a hedge would then mostly earn a 429 for a later call.
+ *
+ * <p>Publishes {@code mock.api.hedge.launched}, {@code mock.api.hedge.won} (hedge answered first) and
+ * {@code mock.api.hedge.skipped}; the win rate is won / launched.
+ */
+@Slf4j
+@Component
+public class RequestHedger {
+
+    private static final long DELAY_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final HedgingProperties hedgingProperties;
+    private final UpstreamRateLimit upstreamRateLimit;
+    private final Timer latency;
+    private final Counter launched;
+    private final Counter won;
+    private final Counter skipped;
+
+    private volatile long delayNanos;
+    private volatile long delayComputedAt;
+
+    public RequestHedger(
+            HedgingProperties hedgingProperties, UpstreamRateLimit upstreamRateLimit, MeterRegistry meterRegistry) {
+        this.hedgingProperties = hedgingProperties;
+        this.upstreamRateLimit = upstreamRateLimit;
+        this.latency = Timer.builder("mock.api.hedge.latency")
+                .description("Latency of hedgeable upstream attempts, up to cancellation for those cut short")
+                .publishPercentiles(hedgingProperties.getPercentile())
+                .distributionStatisticExpiry(Duration.ofMinutes(1))
+                .register(meterRegistry);
+        this.launched = Counter.builder("mock.api.hedge.launched").register(meterRegistry);
+        this.won = Counter.builder("mock.api.hedge.won").register(meterRegistry);
+        this.skipped = Counter.builder("mock.api.hedge.skipped")
+                .tag("reason", "rate-limit")
+                .register(meterRegistry);
+        this.delayNanos = hedgingProperties.getInitialDelay().toNanos();
+        this.delayComputedAt = System.nanoTime();
+    }
+
+    /**
+     * @param attempt creates one upstream attempt; called once, or twice when a hedge is sent.
+     */
+    public <T> Mono<T> hedge(Supplier<Mono<T>> attempt) {
+        if (!hedgingProperties.isEnabled()) {
+            return attempt.get();
+        }
+        return Mono.defer(() -> {
+            final var decided = new AtomicBoolean();
+            final var hedgeLaunched = new AtomicBoolean();
+            final Sinks.Empty<Void> hedgeFailed = Sinks.empty();
+            // Once a hedge is in flight, neither attempt's failure may mask the other, which may still succeed: a
+            // failed primary waits for the hedge to fail too, and a failed hedge never signals.
+            final Mono<T> primary = timed(attempt.get())
+                    .doOnNext(value -> decided.compareAndSet(false, true))
+                    .onErrorResume(error -> hedgeLaunched.get()
+                            ? hedgeFailed.asMono().then(Mono.error(error))
+                            : Mono.error(error));
+            final Mono<T> hedge = Mono.delay(Duration.ofNanos(hedgeDelayNanos()))
+                    .flatMap(tick -> {
+                        if (decided.get()) {
+                            return Mono.<T>never();
+                        }
+                        if (upstreamRateLimit.isNearlyExhausted(hedgingProperties.getMinRateLimitRemaining())) {
+                            skipped.increment();
+                            return Mono.<T>never();
+                        }
+                        launched.increment();
+                        hedgeLaunched.set(true);
+                        return timed(attempt.get())
+                                .doOnNext(value -> {
+                                    if (decided.compareAndSet(false, true)) {
+                                        won.increment();
+                                    }
+                                })
+                                .onErrorResume(error -> {
+                                    hedgeFailed.tryEmitEmpty();
+                                    return Mono.never();
+                                });
+                    });
+            return Mono.firstWithSignal(primary, hedge);
+        });
+    }
+
+    /*
+     * Every attempt is recorded, however it ends. Recording only the winners would hide the slow attempts that
+     * hedging cancels and bias the percentile, and with it the hedge delay, low; for a cancelled or failed attempt
+     * the elapsed time is a lower bound of its latency.
+     */
+    private <T> Mono<T> timed(Mono<T> attempt) {
+        return Mono.defer(() -> {
+            final long start = System.nanoTime();
+            return attempt.doFinally(signal -> latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    /*
+     * Percentile snapshots are not free, so the delay is recomputed at most once per DELAY_REFRESH_NANOS.
+     */
+    private long hedgeDelayNanos() {
+        final long now = System.nanoTime();
+        if (now - delayComputedAt < DELAY_REFRESH_NANOS) {
+            return delayNanos;
+        }
+        delayComputedAt = now;
+        final var snapshot = latency.takeSnapshot();
+        long delay = hedgingProperties.getInitialDelay().toNanos();
+        if (snapshot.count() >= hedgingProperties.getMinSamples()) {
+            for (var value : snapshot.percentileValues()) {
+                if (value.percentile() == hedgingProperties.getPercentile()) {
+                    delay = (long) value.value(TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+        delay = Math.max(
+                hedgingProperties.getMinDelay().toNanos(),
+                Math.min(hedgingProperties.getMaxDelay().toNanos(), delay));
+        delayNanos = delay;
+        log.debug("Hedge delay is now {} ms", TimeUnit.NANOSECONDS.toMillis(delay));
+        return delay;
+    }
+}
@@ -0,0 +1,54 @@
+package com.reliaquest.api.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+
+/**
+ * Last rate limit state reported by the upstream through its {@code X-RateLimit-Remaining} header, observed on every
+ * response by {@link #filter()}. Unknown until the upstream sends the header, e.g. when it does not rate limit.
+ */
+@Slf4j
+@Component
+public class UpstreamRateLimit {
+
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    public static final int UNKNOWN = -1;
+
+    private volatile int remaining = UNKNOWN;
+
+    public ExchangeFilterFunction filter() {
+        return (request, next) -> next.exchange(request)
+                .doOnNext(response -> record(response.statusCode().value(), response.headers().asHttpHeaders()));
+    }
+
+    public void record(int status, HttpHeaders headers) {
+        final var header = headers.getFirst(REMAINING_HEADER);
+        if (header != null) {
+            try {
+                remaining = Integer.parseInt(header.trim());
+                return;
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring malformed {} header: {}", REMAINING_HEADER, header);
+            }
+        }
+        if (status == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            remaining = 0;
+        }
+    }
+
+    /**
+     * @return requests left in the upstream's current window, or {@link #UNKNOWN}.
+     */
+    public int remaining() {
+        return remaining;
+    }
+
+    public boolean isNearlyExhausted(int threshold) {
+        final int current = remaining;
+        return current != UNKNOWN && current <= threshold;
+    }
+}
@@ -0,0 +1,154 @@
+package com.reliaquest.api.codec;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hand-written streaming reader for the mock API's {@link ApiResponse} envelope around one {@link Employee} or a list
+ * of them. It produces the same objects as the reflective Jackson mapping (unknown properties ignored, scalars coerced
+ * the same way) without bean introspection, property lookup tables or intermediate token buffering.
+ *
+ * <p>Field names come from Jackson's symbol table, so each name is one shared {@code String} whose hash code is
+ * computed once. A {@code switch} on a string dispatches on {@code hashCode()} and confirms the case with
+ * {@code equals()}, which returns at its reference check when the name is the interned case constant. Stateless and
+ * thread safe; buffers are recycled by the parser.
+ */
+public final class EmployeeJsonReader {
+
+    public ApiResponse<List<Employee>> readList(JsonParser parser) throws IOException {
+        final var response = new ApiResponse<List<Employee>>();
+        if (!readEnvelopeStart(parser)) {
+            return null;
+        }
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            switch (field) {
+                case "data" -> response.setData(readEmployees(parser));
+                case "status" -> response.setStatus(readString(parser));
+                default -> skipValue(parser);
+            }
+        }
+        return response;
+    }
+
+    public ApiResponse<Employee> readOne(JsonParser parser) throws IOException {
+        final var response = new ApiResponse<Employee>();
+        if (!readEnvelopeStart(parser)) {
+            return null;
+        }
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            switch (field) {
+                case "data" -> response.setData(
+                        parser.nextToken() == JsonToken.VALUE_NULL ? null : readEmployee(parser));
+                case "status" -> response.setStatus(readString(parser));
+                default -> skipValue(parser);
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Reads an employee object; the parser must be positioned on its {@link JsonToken#START_OBJECT}.
+     */
+    public Employee readEmployee(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_OBJECT);
+        final var employee = new Employee();
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            switch (field) {
+                case "id" -> employee.setId(readString(parser));
+                case "employee_name" -> employee.setEmployeeName(readString(parser));
+                case "employee_salary" -> employee.setEmployeeSalary(readInt(parser));
+                case "employee_age" -> employee.setEmployeeAge(readInt(parser));
+                case "employee_title" -> employee.setEmployeeTitle(readString(parser));
+                case "employee_email" -> employee.setEmployeeEmail(readString(parser));
+                default -> skipValue(parser);
+            }
+        }
+        expect(parser, JsonToken.END_OBJECT);
+        return employee;
+    }
+
+    private List<Employee> readEmployees(JsonParser parser) throws IOException {
+        final var token = parser.nextToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, JsonToken.START_ARRAY);
+        final var employees = new ArrayList<Employee>();
+        JsonToken next;
+        while ((next = parser.nextToken()) != JsonToken.END_ARRAY) {
+            employees.add(next == JsonToken.VALUE_NULL ? null : readEmployee(parser));
+        }
+        return employees;
+    }
+
+    private static boolean readEnvelopeStart(JsonParser parser) throws IOException {
+        final var token = parser.hasCurrentToken() ? parser.currentToken() : parser.nextToken();
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        expect(parser, JsonToken.START_OBJECT);
+        return true;
+    }
+
+    private static String readString(JsonParser parser) throws IOException {
+        final var token = parser.nextToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isScalarValue()) {
+            return parser.getText();
+        }
+        throw new JsonParseException(parser, "Expected a string value but found " + token);
+    }
+
+    /*
+     * Returns Integer rather than int because absent and null salaries/ages are meaningful to callers; Integer.valueOf
+     * keeps small values (ages) allocation free.
+     */
+    private static Integer readInt(JsonParser parser) throws IOException {
+        final var token = parser.nextToken();
+        switch (token) {
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> {
+                return parser.getIntValue();
+            }
+            case VALUE_NULL -> {
+                return null;
+            }
+            case VALUE_STRING -> {
+                final var text = parser.getText().trim();
+                if (text.isEmpty()) {
+                    return null;
+                }
+                try {
+                    return Integer.valueOf(text);
+                } catch (NumberFormatException e) {
+                    throw new JsonParseException(parser, "Not a valid integer: \"" + text + "\"", e);
+                }
+            }
+            default -> throw new JsonParseException(parser, "Expected an integer value but found " + token);
+        }
+    }
+
+    private static void skipValue(JsonParser parser) throws IOException {
+        parser.nextToken();
+        parser.skipChildren();
+    }
+
+    private static void expect(JsonParser parser, JsonToken expected) throws IOException {
+        if (parser.currentToken() != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + parser.currentToken());
+        }
+    }
+}
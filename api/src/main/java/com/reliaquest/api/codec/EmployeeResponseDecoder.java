@@ -0,0 +1,92 @@
+package com.reliaquest.api.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractDataBufferDecoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+
+/**
+ * Decodes {@code ApiResponse<Employee>} and {@code ApiResponse<List<Employee>>} with {@link EmployeeJsonReader}.
+ * Registered as a custom codec so that it is consulted before the default Jackson decoder, which still handles every
+ * other type. The reader only sees Jackson tokens, so the same decoder reads binary Jackson formats such as Smile when
+ * given their factory and media type.
+ */
+public class EmployeeResponseDecoder extends AbstractDataBufferDecoder<ApiResponse<?>> {
+
+    private final JsonFactory jsonFactory;
+    private final EmployeeJsonReader reader = new EmployeeJsonReader();
+
+    public EmployeeResponseDecoder(JsonFactory jsonFactory) {
+        this(jsonFactory, MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+    }
+
+    /**
+     * @param jsonFactory creates parsers for the format of {@code mimeTypes}
+     */
+    public EmployeeResponseDecoder(JsonFactory jsonFactory, MimeType... mimeTypes) {
+        super(mimeTypes);
+        this.jsonFactory = jsonFactory;
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, @Nullable MimeType mimeType) {
+        return shapeOf(elementType) != null && super.canDecode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<ApiResponse<?>> decode(
+            Publisher<DataBuffer> input,
+            ResolvableType elementType,
+            @Nullable MimeType mimeType,
+            @Nullable Map<String, Object> hints) {
+        // The envelope is a single JSON document, so it is never split into several elements.
+        return Flux.from(decodeToMono(input, elementType, mimeType, hints));
+    }
+
+    @Override
+    public ApiResponse<?> decode(
+            DataBuffer buffer,
+            ResolvableType targetType,
+            @Nullable MimeType mimeType,
+            @Nullable Map<String, Object> hints) {
+        try (var parser = jsonFactory.createParser(buffer.asInputStream())) {
+            return shapeOf(targetType) == Shape.LIST ? reader.readList(parser) : reader.readOne(parser);
+        } catch (IOException e) {
+            throw new DecodingException(jsonFactory.getFormatName() + " decoding error: " + e.getMessage(), e);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    @Nullable
+    private static Shape shapeOf(ResolvableType type) {
+        if (type.toClass() != ApiResponse.class) {
+            return null;
+        }
+        final var data = type.getGeneric(0);
+        if (data.toClass() == Employee.class) {
+            return Shape.ONE;
+        }
+        if (data.toClass() == List.class && data.getGeneric(0).toClass() == Employee.class) {
+            return Shape.LIST;
+        }
+        return null;
+    }
+
+    private enum Shape {
+        ONE,
+        LIST
+    }
+}
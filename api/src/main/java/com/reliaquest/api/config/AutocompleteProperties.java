@@ -0,0 +1,29 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.snapshot.NameCompletionTrie;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "mock-api.autocomplete")
+public class AutocompleteProperties {
+
+    /**
+     * How completions are ranked; ties are broken alphabetically.
+     */
+    private NameCompletionTrie.Weight weight = NameCompletionTrie.Weight.FREQUENCY;
+
+    /**
+     * Upper bound on completions a single request may ask for.
+     */
+    private int maxLimit = 50;
+
+    /**
+     * Latency budget of a request. When the trie of the current snapshot is not ready within it, no completions are
+     * returned rather than holding up the next keystroke.
+     */
+    private Duration timeout = Duration.ofMillis(200);
+}
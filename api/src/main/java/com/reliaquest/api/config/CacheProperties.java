@@ -0,0 +1,117 @@
+package com.reliaquest.api.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "mock-api.cache")
+public class CacheProperties {
+    private boolean enabled = true;
+
+    /**
+     * How long a snapshot of the employee list is served before it is fetched again. Creating or deleting an
+     * employee through this API invalidates it immediately.
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+
+    /**
+     * Age after which a snapshot that is still served is also reloaded in the background, at background priority, so
+     * that requests rarely wait for a load. Disabled when not shorter than {@link #ttl}.
+     */
+    private Duration refreshAfter = Duration.ofSeconds(20);
+
+    private Representation representation = Representation.COMPACT;
+
+    private OffHeap offHeap = new OffHeap();
+
+    /**
+     * Per-id cache in front of employee lookups; only used while {@link #enabled} is also set.
+     */
+    private ById byId = new ById();
+
+    /**
+     * Cache of name search results per snapshot version; only used while {@link #enabled} is also set.
+     */
+    private Search search = new Search();
+
+    /**
+     * Copy of the latest snapshot on local disk, served after a restart until the first load replaces it.
+     */
+    private WarmStart warmStart = new WarmStart();
+
+    public enum Representation {
+        /**
+         * The decoded {@code Employee} objects, as received.
+         */
+        OBJECTS,
+        /**
+         * Primitive columns and dictionaries, see {@code CompactEmployeeTable}.
+         */
+        COMPACT,
+        /**
+         * Fixed-width columns and a string arena in direct or memory-mapped buffers, see {@code OffHeapEmployeeTable}.
+         */
+        OFF_HEAP
+    }
+
+    @Data
+    public static class OffHeap {
+        /**
+         * Map snapshots from (deleted) files in {@link #directory} instead of allocating direct buffers, so that they
+         * are not limited by {@code -XX:MaxDirectMemorySize}.
+         */
+        private boolean memoryMapped = false;
+
+        private String directory = System.getProperty("java.io.tmpdir");
+    }
+
+    @Data
+    public static class ById {
+        private boolean enabled = true;
+
+        /**
+         * Heap budget, counted in estimated retained bytes of the cached employees rather than in entries.
+         */
+        private DataSize maxSize = DataSize.ofMegabytes(8);
+
+        /**
+         * How long a looked up employee is served before it is fetched again. Deleting it through this API
+         * invalidates it immediately.
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Search {
+        private boolean enabled = true;
+
+        /**
+         * Distinct searches kept; the least recently used is dropped beyond this.
+         */
+        private int maxEntries = 256;
+    }
+
+    @Data
+    public static class WarmStart {
+        private boolean enabled = true;
+
+        private String file = Path.of(System.getProperty("java.io.tmpdir"), "employee-api", "employees.snapshot")
+                .toString();
+
+        /**
+         * Oldest snapshot that is still served at startup. A restored snapshot is always reloaded in the background
+         * on first use; this bounds how long it can be served while the upstream is unavailable.
+         */
+        private Duration maxAge = Duration.ofHours(24);
+
+        /**
+         * Minimum time between writes, so that a short {@code ttl} does not rewrite the file on every load.
+         */
+        private Duration writeInterval = Duration.ofMinutes(1);
+    }
+}
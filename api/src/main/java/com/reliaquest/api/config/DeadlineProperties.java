@@ -0,0 +1,28 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "mock-api.deadline")
+public class DeadlineProperties {
+    private boolean enabled = true;
+
+    /**
+     * Header carrying the caller's timeout, as milliseconds or a duration such as {@code 2s}.
+     */
+    private String header = "X-Request-Timeout";
+
+    /**
+     * Timeout of a request that does not send the header, or sends one that cannot be parsed.
+     */
+    private Duration defaultTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Upper bound on a requested timeout.
+     */
+    private Duration maxTimeout = Duration.ofSeconds(60);
+}
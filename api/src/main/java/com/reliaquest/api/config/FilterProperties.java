@@ -0,0 +1,26 @@
+package com.reliaquest.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "mock-api.filter")
+public class FilterProperties {
+
+    /**
+     * Years covered by each precomputed age bitmap. Ranges aligned to it are answered from bitmaps alone.
+     */
+    private int ageBucketWidth = 10;
+
+    /**
+     * Salary span covered by each precomputed salary bitmap.
+     */
+    private int salaryBucketWidth = 25_000;
+
+    /**
+     * Upper bound on employees a single filter request may ask for.
+     */
+    private int maxLimit = 1000;
+}
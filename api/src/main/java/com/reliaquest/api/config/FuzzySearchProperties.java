@@ -0,0 +1,22 @@
+package com.reliaquest.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "mock-api.fuzzy-search")
+public class FuzzySearchProperties {
+
+    /**
+     * Largest edit distance per word a search may ask for. The index holds every deletion up to this distance, so
+     * its size grows quickly with it.
+     */
+    private int maxEditDistance = 2;
+
+    /**
+     * Largest number of results a search may ask for.
+     */
+    private int maxLimit = 1000;
+}
@@ -0,0 +1,32 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "mock-api.hedging")
+public class HedgingProperties {
+    private boolean enabled = false;
+
+    /**
+     * A second request is sent when the first has not answered within this percentile of recent lookup latencies.
+     */
+    private double percentile = 0.95;
+
+    /**
+     * Latency samples required before the percentile is trusted; {@link #initialDelay} is used until then.
+     */
+    private int minSamples = 50;
+
+    private Duration initialDelay = Duration.ofMillis(100);
+    private Duration minDelay = Duration.ofMillis(5);
+    private Duration maxDelay = Duration.ofSeconds(2);
+
+    /**
+     * No hedge is sent while the upstream reports this many or fewer requests left in its rate limit window.
+     */
+    private int minRateLimitRemaining = 2;
+}
@@ -0,0 +1,31 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "mock-api.id-filter")
+public class IdFilterProperties {
+    private boolean enabled = true;
+
+    /**
+     * Share of absent ids the membership filter lets through to the upstream.
+     */
+    private double falsePositiveRate = 0.01;
+
+    /**
+     * The membership filter is trusted for this long after the snapshot it was built from, since employees created
+     * by other clients are not in it; lookups go upstream once it is older.
+     */
+    private Duration maxAge = Duration.ofMinutes(1);
+
+    /**
+     * How long an id the upstream reported missing is answered with 404 without asking again.
+     */
+    private Duration negativeTtl = Duration.ofSeconds(10);
+
+    private int negativeMaxSize = 10_000;
+}
@@ -3,6 +3,7 @@ package com.reliaquest.api.config;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
 
 @Data
 @Configuration
@@ -13,6 +14,36 @@ public class MockApiProperties {
     private int readTimeout = 10000;
     private RetryConfig retry = new RetryConfig();
 
+    /**
+     * Decode employee responses with the hand-written streaming reader instead of Jackson data binding.
+     */
+    private boolean streamingDecoder = true;
+
+    /**
+     * Format requested for upstream responses. A format other than JSON is only preferred: JSON stays acceptable, so
+     * an upstream without support for it still answers.
+     */
+    private WireFormat wireFormat = WireFormat.SMILE;
+
+    public enum WireFormat {
+        JSON(MediaType.APPLICATION_JSON),
+        /**
+         * Jackson's binary JSON. Repeated property names, such as the {@code employee_*} keys of every list entry,
+         * are sent once and then referenced.
+         */
+        SMILE(new MediaType("application", "x-jackson-smile"));
+
+        private final MediaType mediaType;
+
+        WireFormat(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public MediaType mediaType() {
+            return mediaType;
+        }
+    }
+
     @Data
     public static class RetryConfig {
         private int maxAttempts = 3;
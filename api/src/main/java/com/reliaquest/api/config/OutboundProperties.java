@@ -0,0 +1,34 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.client.OutboundScheduler;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "mock-api.outbound")
+public class OutboundProperties {
+    private boolean enabled = true;
+
+    /**
+     * Upstream requests in flight at once; further requests wait in priority order.
+     */
+    private int maxConcurrency = 4;
+
+    /**
+     * Waiting requests; when full, a new request displaces the lowest priority waiter or is rejected.
+     */
+    private int maxQueueSize = 100;
+
+    /**
+     * Deadline of a request that does not carry one from its caller, per priority.
+     */
+    private Map<OutboundScheduler.Priority, Duration> deadlines = new EnumMap<>(Map.of(
+            OutboundScheduler.Priority.WRITE, Duration.ofSeconds(10),
+            OutboundScheduler.Priority.INTERACTIVE, Duration.ofSeconds(5),
+            OutboundScheduler.Priority.BACKGROUND, Duration.ofSeconds(60)));
+}
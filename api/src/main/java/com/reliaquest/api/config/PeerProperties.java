@@ -0,0 +1,55 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "mock-api.peers")
+public class PeerProperties {
+
+    /**
+     * Share employee snapshots between the instances in {@link #members}, so that the upstream sees one load per
+     * refresh instead of one per instance. Only used while the snapshot cache is enabled.
+     */
+    private boolean enabled = false;
+
+    /**
+     * This instance's base URL, as it appears in {@link #members}.
+     */
+    private String self = "http://localhost:8080";
+
+    /**
+     * Base URLs of all instances, in the same order on every instance. The first one that answers loads from the
+     * upstream; every other instance takes its snapshot from the first member before it that answers. An instance
+     * missing from the list only ever takes snapshots.
+     */
+    private List<String> members = new ArrayList<>();
+
+    /**
+     * Shared secret that peers present to get this instance's snapshot; required while peers are enabled, since a
+     * request for a snapshot can make this instance reload from the upstream.
+     */
+    private String token;
+
+    /**
+     * Time allowed for a snapshot transfer, which includes the peer's own upstream load when it has none fresh.
+     */
+    private Duration timeout = Duration.ofSeconds(30);
+
+    /**
+     * Time this instance spends getting a snapshot for a peer before it answers 503, which sends the peer on to the
+     * next member or the upstream. Shorter than {@link #timeout}, so that the peer learns of the failure while it
+     * still has time to load elsewhere rather than after its own transfer times out.
+     */
+    private Duration serveTimeout = Duration.ofSeconds(10);
+
+    /**
+     * How long a peer that failed a transfer is passed over.
+     */
+    private Duration retryAfter = Duration.ofSeconds(30);
+}
@@ -0,0 +1,28 @@
+package com.reliaquest.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "mock-api.scan")
+public class ScanProperties {
+
+    /**
+     * Whether tables larger than one partition are scanned in parallel; otherwise every scan runs on the calling
+     * thread.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Threads of the dedicated scan pool; 0 for one per available processor.
+     */
+    private int parallelism = 0;
+
+    /**
+     * Rows per partition. Small enough that a partition's columns stay in the CPU caches, large enough to amortize
+     * handing it to a thread.
+     */
+    private int partitionRows = 8192;
+}
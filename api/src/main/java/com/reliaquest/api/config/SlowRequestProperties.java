@@ -0,0 +1,38 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "mock-api.slow-requests")
+public class SlowRequestProperties {
+    private boolean enabled = true;
+
+    /**
+     * Requests at or above this percentile of recent inbound latencies are captured.
+     */
+    private double percentile = 0.99;
+
+    /**
+     * Latency samples required before the percentile is trusted; {@link #initialThreshold} is used until then.
+     */
+    private int minSamples = 100;
+
+    private Duration initialThreshold = Duration.ofSeconds(1);
+
+    /**
+     * Lower bound on the threshold, so that a fast, steady workload does not fill the buffer with unremarkable
+     * requests.
+     */
+    private Duration minThreshold = Duration.ofMillis(100);
+
+    private Duration maxThreshold = Duration.ofSeconds(10);
+
+    /**
+     * Captured requests kept; the oldest is overwritten first.
+     */
+    private int capacity = 100;
+}
@@ -1,9 +1,18 @@
 package com.reliaquest.api.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.client.OutboundScheduler;
+import com.reliaquest.api.client.UpstreamRateLimit;
+import com.reliaquest.api.codec.EmployeeResponseDecoder;
+import com.reliaquest.api.jfr.UpstreamAttemptFilter;
+import com.reliaquest.api.trace.TracingExchangeFilter;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,6 +21,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
 
@@ -21,9 +32,14 @@ import reactor.netty.http.client.HttpClient;
 public class WebClientConfig {
 
     private final MockApiProperties mockApiProperties;
+    private final UpstreamRateLimit upstreamRateLimit;
+    private final OutboundScheduler outboundScheduler;
 
     @Bean
-    public WebClient mockApiWebClient(WebClient.Builder webClientBuilder) {
+    public WebClient mockApiWebClient(
+            WebClient.Builder webClientBuilder,
+            ObjectMapper objectMapper,
+            Jackson2ObjectMapperBuilder objectMapperBuilder) {
         HttpClient httpClient = HttpClient.create()
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, mockApiProperties.getConnectionTimeout())
                 .responseTimeout(Duration.ofMillis(mockApiProperties.getReadTimeout()))
@@ -32,13 +48,49 @@ public class WebClientConfig {
                         .addHandlerLast(
                                 new WriteTimeoutHandler(mockApiProperties.getReadTimeout(), TimeUnit.MILLISECONDS)));
 
-        log.info("Configuring WebClient for Mock API with base URL: {}", mockApiProperties.getBaseUrl());
+        final var wireFormat = mockApiProperties.getWireFormat();
+        log.info(
+                "Configuring WebClient for Mock API with base URL: {}, preferring {}",
+                mockApiProperties.getBaseUrl(),
+                wireFormat);
+
+        if (mockApiProperties.isStreamingDecoder()) {
+            EmployeeResponseDecoder decoder = new EmployeeResponseDecoder(objectMapper.getFactory());
+            webClientBuilder.codecs(codecs -> codecs.customCodecs().registerWithDefaultConfig(decoder));
+        }
+        if (wireFormat == MockApiProperties.WireFormat.SMILE) {
+            ObjectMapper smileMapper = objectMapperBuilder.factory(new SmileFactory()).build();
+            // Custom decoders are consulted in registration order, so the streaming one goes first.
+            webClientBuilder.codecs(codecs -> {
+                if (mockApiProperties.isStreamingDecoder()) {
+                    codecs.customCodecs()
+                            .registerWithDefaultConfig(
+                                    new EmployeeResponseDecoder(smileMapper.getFactory(), wireFormat.mediaType()));
+                }
+                codecs.customCodecs().registerWithDefaultConfig(new Jackson2SmileDecoder(smileMapper));
+            });
+        }
 
         return webClientBuilder
                 .baseUrl(mockApiProperties.getBaseUrl())
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .defaultHeader(HttpHeaders.ACCEPT, MediaType.toString(accepted(wireFormat)))
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
+                // Outermost first: queue for admission, then observe the response, then time the attempt itself.
+                .filter(outboundScheduler.filter())
+                .filter(upstreamRateLimit.filter())
+                .filter(new UpstreamAttemptFilter())
+                .filter(new TracingExchangeFilter())
                 .build();
     }
+
+    /**
+     * @return the preferred format, then JSON as the fallback.
+     */
+    private static List<MediaType> accepted(MockApiProperties.WireFormat wireFormat) {
+        if (wireFormat == MockApiProperties.WireFormat.JSON) {
+            return List.of(MediaType.APPLICATION_JSON);
+        }
+        return List.of(wireFormat.mediaType(), new MediaType(MediaType.APPLICATION_JSON, Map.of("q", "0.9")));
+    }
 }
@@ -0,0 +1,25 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.trace.SlowRequestRecorder;
+import com.reliaquest.api.web.RequestDeadlineFilter;
+import com.reliaquest.api.web.RequestTraceFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class WebConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "mock-api.deadline.enabled", matchIfMissing = true)
+    public FilterRegistrationBean<RequestDeadlineFilter> requestDeadlineFilter(DeadlineProperties deadlineProperties) {
+        return new FilterRegistrationBean<>(new RequestDeadlineFilter(deadlineProperties));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "mock-api.slow-requests.enabled", matchIfMissing = true)
+    public FilterRegistrationBean<RequestTraceFilter> requestTraceFilter(SlowRequestRecorder slowRequestRecorder) {
+        return new FilterRegistrationBean<>(new RequestTraceFilter(slowRequestRecorder));
+    }
+}
@@ -1,20 +1,28 @@
 package com.reliaquest.api.controller;
 
+import com.reliaquest.api.client.Deadline;
 import com.reliaquest.api.model.CreateEmployeeRequest;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.snapshot.EmployeeFilter;
+import com.reliaquest.api.web.RequestDeadlineFilter;
+import com.reliaquest.api.web.RequestTraceFilter;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @RestController
@@ -26,7 +34,7 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
     private final Validator validator;
 
     @Override
-    public ResponseEntity<List<Employee>> getAllEmployees() {
+    public Mono<ResponseEntity<List<Employee>>> getAllEmployees() {
         log.debug("GET request to fetch all employees");
         return employeeService
                 .getAllEmployees()
@@ -34,11 +42,11 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
                 .doOnError(error -> log.error("Error in getAllEmployees endpoint", error))
                 .onErrorReturn(
                         ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build())
-                .block();
+                .transform(this::withinDeadline);
     }
 
     @Override
-    public ResponseEntity<List<Employee>> getEmployeesByNameSearch(@PathVariable String searchString) {
+    public Mono<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(@PathVariable String searchString) {
         log.debug("GET request to search employees by name: {}", searchString);
         return employeeService
                 .searchEmployeesByName(searchString)
@@ -46,11 +54,81 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
                 .doOnError(error -> log.error("Error in getEmployeesByNameSearch endpoint", error))
                 .onErrorReturn(
                         ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build())
-                .block();
+                .transform(this::withinDeadline);
+    }
+
+    /**
+     * Typo-tolerant counterpart of {@link #getEmployeesByNameSearch}: every word of {@code searchString} may be up to
+     * {@code maxDistance} edits away from a word of the name. Results are ranked, closest first.
+     */
+    @GetMapping("/search/fuzzy/{searchString}")
+    public Mono<ResponseEntity<List<Employee>>> getEmployeesByFuzzyNameSearch(
+            @PathVariable String searchString,
+            @RequestParam(defaultValue = "1") int maxDistance,
+            @RequestParam(defaultValue = "50") int limit) {
+        log.debug("GET request to fuzzy search employees by name: {} within {} edits", searchString, maxDistance);
+        return employeeService
+                .fuzzySearchEmployeesByName(searchString, maxDistance, limit)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, error -> {
+                    log.warn("Rejected fuzzy search: {}", error.getMessage());
+                    return Mono.just(ResponseEntity.badRequest().build());
+                })
+                .doOnError(error -> log.error("Error in getEmployeesByFuzzyNameSearch endpoint", error))
+                .onErrorReturn(
+                        ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build())
+                .transform(this::withinDeadline);
+    }
+
+    /**
+     * Type-ahead over the words of employee names: completes the last word of {@code prefix}, most relevant first.
+     */
+    @GetMapping("/autocomplete/{prefix}")
+    public Mono<ResponseEntity<List<String>>> getEmployeeNameCompletions(
+            @PathVariable String prefix, @RequestParam(defaultValue = "10") int limit) {
+        log.debug("GET request to autocomplete employee names: {}", prefix);
+        return employeeService
+                .autocompleteEmployeeNames(prefix, limit)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, error -> {
+                    log.warn("Rejected autocomplete: {}", error.getMessage());
+                    return Mono.just(ResponseEntity.badRequest().build());
+                })
+                .doOnError(error -> log.error("Error in getEmployeeNameCompletions endpoint", error))
+                .onErrorReturn(
+                        ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build())
+                .transform(this::withinDeadline);
+    }
+
+    /**
+     * Employees matching every given predicate, for example engineers aged 30 to 40 earning over 150k with
+     * {@code ?title=engineer&minAge=30&maxAge=40&minSalary=150001}. Repeated {@code title} parameters match any of
+     * them.
+     */
+    @GetMapping("/filter")
+    public Mono<ResponseEntity<List<Employee>>> getEmployeesByFilter(
+            @RequestParam(required = false) List<String> title,
+            @RequestParam(required = false) Integer minAge,
+            @RequestParam(required = false) Integer maxAge,
+            @RequestParam(required = false) Integer minSalary,
+            @RequestParam(required = false) Integer maxSalary,
+            @RequestParam(defaultValue = "100") int limit) {
+        log.debug("GET request to filter employees");
+        return Mono.fromCallable(() -> new EmployeeFilter(title, minAge, maxAge, minSalary, maxSalary))
+                .flatMap(filter -> employeeService.filterEmployees(filter, limit))
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, error -> {
+                    log.warn("Rejected filter: {}", error.getMessage());
+                    return Mono.just(ResponseEntity.badRequest().build());
+                })
+                .doOnError(error -> log.error("Error in getEmployeesByFilter endpoint", error))
+                .onErrorReturn(
+                        ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build())
+                .transform(this::withinDeadline);
     }
 
     @Override
-    public ResponseEntity<Employee> getEmployeeById(@PathVariable String id) {
+    public Mono<ResponseEntity<Employee>> getEmployeeById(@PathVariable String id) {
         log.debug("GET request to fetch employee by id: {}", id);
         return employeeService
                 .getEmployeeById(id)
@@ -59,11 +137,11 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
                 .doOnError(error -> log.error("Error in getEmployeeById endpoint", error))
                 .onErrorReturn(
                         ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build())
-                .block();
+                .transform(this::withinDeadline);
     }
 
     @Override
-    public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
+    public Mono<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
         log.debug("GET request to fetch highest salary");
         return employeeService
                 .getHighestSalary()
@@ -71,11 +149,11 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
                 .doOnError(error -> log.error("Error in getHighestSalaryOfEmployees endpoint", error))
                 .onErrorReturn(
                         ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build())
-                .block();
+                .transform(this::withinDeadline);
     }
 
     @Override
-    public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
+    public Mono<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
         log.debug("GET request to fetch top 10 highest earning employees");
         return employeeService
                 .getTop10HighestEarningEmployeeNames()
@@ -83,17 +161,17 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
                 .doOnError(error -> log.error("Error in getTopTenHighestEarningEmployeeNames endpoint", error))
                 .onErrorReturn(
                         ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build())
-                .block();
+                .transform(this::withinDeadline);
     }
 
     @Override
-    public ResponseEntity<Employee> createEmployee(@RequestBody CreateEmployeeRequest employeeInput) {
+    public Mono<ResponseEntity<Employee>> createEmployee(@RequestBody CreateEmployeeRequest employeeInput) {
         log.debug("POST request to create employee: {}", employeeInput.getName());
 
         Set<ConstraintViolation<CreateEmployeeRequest>> violations = validator.validate(employeeInput);
         if (!violations.isEmpty()) {
             log.warn("Validation failed for create employee request: {}", violations);
-            return ResponseEntity.badRequest().build();
+            return Mono.just(ResponseEntity.badRequest().build());
         }
 
         return employeeService
@@ -103,24 +181,49 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
                 .doOnError(error -> log.error("Error in createEmployee endpoint", error))
                 .onErrorReturn(
                         ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build())
-                .block();
+                .transform(this::withinDeadline);
     }
 
     @Override
-    public ResponseEntity<String> deleteEmployeeById(@PathVariable String id) {
+    public Mono<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
         log.debug("DELETE request for employee id: {}", id);
-        try {
-            String deletedEmployeeName = employeeService
-                    .deleteEmployeeById(id)
-                    .doOnError(error -> log.error("Error in deleteEmployeeById endpoint", error))
-                    .block();
-            return ResponseEntity.ok(deletedEmployeeName);
-        } catch (RuntimeException e) {
-            if (e.getMessage() != null && e.getMessage().contains("not found")) {
-                return ResponseEntity.notFound().build();
-            }
-            log.error("Error deleting employee", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+        return employeeService
+                .deleteEmployeeById(id)
+                .map(ResponseEntity::ok)
+                .doOnError(error -> log.error("Error in deleteEmployeeById endpoint", error))
+                .onErrorResume(error -> {
+                    if (error.getMessage() != null && error.getMessage().contains("not found")) {
+                        return Mono.just(ResponseEntity.notFound().build());
+                    }
+                    log.error("Error deleting employee", error);
+                    return Mono.just(
+                            ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+                })
+                .transform(this::withinDeadline);
+    }
+
+    /**
+     * Spring MVC answers the returned {@link Mono} asynchronously, so that no servlet thread waits on the upstream,
+     * and cancels it when the client disconnects or the async request times out, just like a passed deadline does.
+     */
+    private <T> Mono<ResponseEntity<T>> withinDeadline(Mono<ResponseEntity<T>> response) {
+        return boundByDeadline(
+                response, () -> Mono.just(ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build()));
+    }
+
+    /**
+     * Bounds the response by the request's deadline and makes the deadline visible upstream. Once it passes, the
+     * upstream chain is cancelled, abandoning in-flight calls and pending retries, and {@code onDeadlineExceeded} is
+     * returned instead. The request's trace, if any, is made visible upstream as well.
+     */
+    private <T> Mono<T> boundByDeadline(Mono<T> response, Supplier<Mono<T>> onDeadlineExceeded) {
+        final Mono<T> bounded = RequestDeadlineFilter.current()
+                .map(deadline -> response.timeout(deadline.remaining(), Mono.defer(() -> {
+                            log.warn("Request deadline exceeded, cancelled upstream work");
+                            return onDeadlineExceeded.get();
+                        }))
+                        .contextWrite(context -> context.put(Deadline.CONTEXT_KEY, deadline)))
+                .orElse(response);
+        return RequestTraceFilter.current().map(trace -> trace.traced(bounded)).orElse(bounded);
     }
 }
@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import reactor.core.publisher.Mono;
 
 /**
  * Please <b>do not</b> modify this interface. If you believe there's a bug or the API contract does not align with our
@@ -21,23 +22,23 @@ import org.springframework.web.bind.annotation.RequestBody;
 public interface IEmployeeController<Entity, Input> {
 
     @GetMapping()
-    ResponseEntity<List<Entity>> getAllEmployees();
+    Mono<ResponseEntity<List<Entity>>> getAllEmployees();
 
     @GetMapping("/search/{searchString}")
-    ResponseEntity<List<Entity>> getEmployeesByNameSearch(@PathVariable String searchString);
+    Mono<ResponseEntity<List<Entity>>> getEmployeesByNameSearch(@PathVariable String searchString);
 
     @GetMapping("/{id}")
-    ResponseEntity<Entity> getEmployeeById(@PathVariable String id);
+    Mono<ResponseEntity<Entity>> getEmployeeById(@PathVariable String id);
 
     @GetMapping("/highestSalary")
-    ResponseEntity<Integer> getHighestSalaryOfEmployees();
+    Mono<ResponseEntity<Integer>> getHighestSalaryOfEmployees();
 
     @GetMapping("/topTenHighestEarningEmployeeNames")
-    ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames();
+    Mono<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames();
 
     @PostMapping()
-    ResponseEntity<Entity> createEmployee(@RequestBody Input employeeInput);
+    Mono<ResponseEntity<Entity>> createEmployee(@RequestBody Input employeeInput);
 
     @DeleteMapping("/{id}")
-    ResponseEntity<String> deleteEmployeeById(@PathVariable String id);
+    Mono<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id);
 }
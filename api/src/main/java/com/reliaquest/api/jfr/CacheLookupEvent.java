@@ -0,0 +1,48 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A cache decision: whether a request was served from a cache, and how.
+ */
+@Name("com.reliaquest.api.CacheLookup")
+@Label("Cache Lookup")
+@Category({"Employee API", "Cache"})
+@StackTrace(false)
+public final class CacheLookupEvent extends Event {
+
+    public static final String HIT = "hit";
+    public static final String MISS = "miss";
+    public static final String REFRESH = "refresh";
+    public static final String ABSENT = "absent";
+
+    @Label("Cache")
+    String cache;
+
+    @Label("Result")
+    @Description("hit, miss, refresh (a hit that starts a background refresh) or absent (known not to exist)")
+    String result;
+
+    @Label("Snapshot Version")
+    @Description("Version the lookup was made against, or 0 when the cache is not versioned")
+    long version;
+
+    /**
+     * Records a lookup. On hot paths with recording off, the event is never populated and its allocation is
+     * eliminated once the caller is compiled.
+     */
+    public static void emit(String cache, String result, long version) {
+        final var event = new CacheLookupEvent();
+        if (event.shouldCommit()) {
+            event.cache = cache;
+            event.result = result;
+            event.version = version;
+            event.commit();
+        }
+    }
+}
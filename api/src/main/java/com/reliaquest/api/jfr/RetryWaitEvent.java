@@ -0,0 +1,52 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The backoff before retrying a rate limited upstream request; the event's duration is the time actually waited.
+ */
+@Name("com.reliaquest.api.RetryWait")
+@Label("Retry Wait")
+@Category({"Employee API", "Upstream"})
+@StackTrace(false)
+public final class RetryWaitEvent extends Event {
+
+    @Label("Attempt")
+    int attempt;
+
+    @Label("Max Attempts")
+    int maxAttempts;
+
+    @Label("Planned Backoff")
+    @Timespan
+    long plannedBackoff;
+
+    @Label("Failure")
+    String failure;
+
+    /**
+     * Starts timing a wait. Retries are rare, so the event is created even when it is not recorded.
+     */
+    public static RetryWaitEvent begin(int attempt, int maxAttempts, long plannedBackoffNanos, Throwable failure) {
+        final var event = new RetryWaitEvent();
+        if (event.isEnabled()) {
+            event.attempt = attempt;
+            event.maxAttempts = maxAttempts;
+            event.plannedBackoff = plannedBackoffNanos;
+            event.failure = failure == null ? null : failure.getClass().getSimpleName();
+            event.begin();
+        }
+        return event;
+    }
+
+    public void finish() {
+        if (shouldCommit()) {
+            commit();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A load of the employee snapshot from the upstream, shared by every request waiting on it.
+ */
+@Name("com.reliaquest.api.SnapshotLoad")
+@Label("Snapshot Load")
+@Category({"Employee API", "Cache"})
+@StackTrace(false)
+public final class SnapshotLoadEvent extends Event {
+
+    @Label("Trigger")
+    @Description("miss, or refresh when a snapshot nearing expiry is reloaded in the background")
+    String trigger;
+
+    @Label("Outcome")
+    @Description("published, discarded (invalidated while loading), failed or cancelled")
+    String outcome;
+
+    @Label("Snapshot Version")
+    long version;
+
+    @Label("Employees")
+    int employees;
+
+    /**
+     * Starts timing a load. Loads are rare, so the event is created even when it is not recorded.
+     */
+    public static SnapshotLoadEvent begin(String trigger) {
+        final var event = new SnapshotLoadEvent();
+        event.trigger = trigger;
+        event.begin();
+        return event;
+    }
+
+    public void loaded(long version, int employees, boolean published) {
+        this.version = version;
+        this.employees = employees;
+        this.outcome = published ? "published" : "discarded";
+    }
+
+    /**
+     * @param outcome used when {@link #loaded} was not called.
+     */
+    public void finish(String outcome) {
+        if (shouldCommit()) {
+            if (this.outcome == null) {
+                this.outcome = outcome;
+            }
+            commit();
+        }
+    }
+}
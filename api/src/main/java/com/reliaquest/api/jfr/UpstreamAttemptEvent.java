@@ -0,0 +1,47 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * One HTTP exchange with the upstream, from sending the request until its body has been read, failed or been
+ * abandoned. Retries and hedges are separate attempts, each with its own event.
+ */
+@Name("com.reliaquest.api.UpstreamAttempt")
+@Label("Upstream Attempt")
+@Category({"Employee API", "Upstream"})
+@StackTrace(false)
+public final class UpstreamAttemptEvent extends Event {
+
+    @Label("Operation")
+    @Description("Method and URI template, e.g. GET /{id}")
+    String operation;
+
+    @Label("URI")
+    String uri;
+
+    @Label("Status")
+    @Description("HTTP status, or 0 when no response arrived")
+    int status;
+
+    @Label("Outcome")
+    @Description("completed, failed or cancelled")
+    String outcome;
+
+    @Label("Error")
+    String error;
+
+    @Label("Response Bytes")
+    @DataAmount
+    long bytes;
+
+    @Label("Time To Headers")
+    @Timespan
+    long timeToHeaders;
+}
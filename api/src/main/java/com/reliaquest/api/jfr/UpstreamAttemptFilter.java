@@ -0,0 +1,87 @@
+package com.reliaquest.api.jfr;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Records an {@link UpstreamAttemptEvent} for every exchange that passes through it. The event ends when the response
+ * body has been read, so it covers the transfer as well as the wait for headers. While no recording enables the event,
+ * exchanges pass through untouched.
+ */
+public class UpstreamAttemptFilter implements ExchangeFilterFunction {
+
+    /**
+     * Set by {@link WebClient} when the URI is given as a template.
+     */
+    private static final String URI_TEMPLATE_ATTRIBUTE = WebClient.class.getName() + ".uriTemplate";
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!new UpstreamAttemptEvent().isEnabled()) {
+            return next.exchange(request);
+        }
+        return Mono.defer(() -> {
+            final var attempt = new Attempt(request);
+            return next.exchange(request)
+                    .map(attempt::received)
+                    .doOnError(attempt::failed)
+                    .doOnCancel(attempt::cancelled);
+        });
+    }
+
+    private static final class Attempt {
+        private final UpstreamAttemptEvent event = new UpstreamAttemptEvent();
+        private final AtomicBoolean ended = new AtomicBoolean();
+        private final long startedAt = System.nanoTime();
+
+        private Attempt(ClientRequest request) {
+            final var template = request.attribute(URI_TEMPLATE_ATTRIBUTE)
+                    .map(Object::toString)
+                    .orElse(request.url().getPath());
+            event.operation = request.method().name() + " " + template;
+            event.uri = request.url().toString();
+            event.begin();
+        }
+
+        private ClientResponse received(ClientResponse response) {
+            event.status = response.statusCode().value();
+            event.timeToHeaders = System.nanoTime() - startedAt;
+            return response.mutate()
+                    .body(body -> body.doOnNext(buffer -> event.bytes += buffer.readableByteCount())
+                            .doFinally(this::bodyEnded))
+                    .build();
+        }
+
+        private void bodyEnded(SignalType signal) {
+            final String outcome =
+                    switch (signal) {
+                        case ON_COMPLETE -> "completed";
+                        case CANCEL -> "cancelled";
+                        default -> "failed";
+                    };
+            end(outcome);
+        }
+
+        private void failed(Throwable error) {
+            event.error = error.getClass().getSimpleName();
+            end("failed");
+        }
+
+        private void cancelled() {
+            end("cancelled");
+        }
+
+        private void end(String outcome) {
+            if (ended.compareAndSet(false, true)) {
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+}
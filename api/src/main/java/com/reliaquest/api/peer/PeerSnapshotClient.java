@@ -0,0 +1,168 @@
+package com.reliaquest.api.peer;
+
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.config.MockApiProperties;
+import com.reliaquest.api.config.PeerProperties;
+import com.reliaquest.api.snapshot.EmployeeSnapshot;
+import com.reliaquest.api.snapshot.SnapshotFile;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Loads employee snapshots from peer instances instead of the upstream. Of the {@link PeerProperties#getMembers()}
+ * listed before this instance, the first that answers is asked for its snapshot; a peer that fails is passed over for
+ * {@link PeerProperties#getRetryAfter()}. When none answers, this instance loads from the upstream itself. Since an
+ * instance only ever asks members listed before it, requests cannot go round in a cycle, and with every peer up the
+ * first member is the only one that calls the upstream.
+ *
+ * <p>Snapshots travel in the {@link SnapshotFile} format, checksummed and with their original load time, so that a
+ * copy expires together with the snapshot it was taken from. Publishes {@code mock.api.peers.transfers}, tagged
+ * {@code outcome=received|failed}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "mock-api.peers.enabled")
+public class PeerSnapshotClient implements EmployeeSnapshotCache.Source {
+
+    static final String PATH = "/internal/v1/snapshot";
+
+    /**
+     * Earliest acceptable load time of the snapshot, in epoch milliseconds; set after a write through this instance
+     * so that the peer reloads rather than send a snapshot without it.
+     */
+    static final String NOT_BEFORE_HEADER = "X-Snapshot-Not-Before";
+
+    /**
+     * Carries {@link PeerProperties#getToken()}, without which a peer refuses to serve its snapshot.
+     */
+    static final String TOKEN_HEADER = "X-Peer-Token";
+
+    static final MediaType SNAPSHOT = new MediaType("application", "x-employee-snapshot");
+
+    private final PeerProperties peerProperties;
+    private final String source;
+    private final WebClient webClient;
+    private final List<String> peers;
+    private final Counter received;
+    private final Counter failed;
+
+    /**
+     * Peer to the {@link System#nanoTime()} until which it is passed over.
+     */
+    private final Map<String, Long> failedUntil = new ConcurrentHashMap<>();
+
+    public PeerSnapshotClient(
+            PeerProperties peerProperties,
+            MockApiProperties mockApiProperties,
+            EmployeeSnapshotCache employeeSnapshotCache,
+            WebClient.Builder webClientBuilder,
+            MeterRegistry meterRegistry) {
+        this.peerProperties = peerProperties;
+        this.source = mockApiProperties.getBaseUrl();
+        this.webClient = webClientBuilder.build();
+        this.peers = peersBefore(peerProperties.getSelf(), peerProperties.getMembers());
+        this.received = Counter.builder("mock.api.peers.transfers")
+                .tag("outcome", "received")
+                .register(meterRegistry);
+        this.failed = Counter.builder("mock.api.peers.transfers")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+        employeeSnapshotCache.loadThrough(this);
+        log.info("Taking employee snapshots from peers {} before the upstream", peers);
+    }
+
+    @Override
+    public Mono<EmployeeSnapshot> load(Mono<EmployeeSnapshot> upstream, Instant notBefore) {
+        return Mono.defer(() -> load(0, upstream, notBefore));
+    }
+
+    private Mono<EmployeeSnapshot> load(int from, Mono<EmployeeSnapshot> upstream, Instant notBefore) {
+        for (int i = from; i < peers.size(); i++) {
+            final var peer = peers.get(i);
+            if (isAvailable(peer)) {
+                final int next = i + 1;
+                return fetch(peer, notBefore).onErrorResume(error -> {
+                    failed(peer, error);
+                    return load(next, upstream, notBefore);
+                });
+            }
+        }
+        return upstream;
+    }
+
+    private Mono<EmployeeSnapshot> fetch(String peer, Instant notBefore) {
+        return webClient
+                .get()
+                .uri(peer + PATH)
+                .accept(SNAPSHOT)
+                .header(TOKEN_HEADER, peerProperties.getToken())
+                .header(NOT_BEFORE_HEADER, Long.toString(notBefore.toEpochMilli()))
+                .exchangeToMono(response -> response.statusCode().is2xxSuccessful()
+                        ? DataBufferUtils.join(response.body(BodyExtractors.toDataBuffers()))
+                        : response.<DataBuffer>createError())
+                .map(PeerSnapshotClient::copy)
+                .flatMap(bytes -> Mono.fromCallable(() -> SnapshotFile.read(bytes, source, peer)))
+                .timeout(peerProperties.getTimeout())
+                .doOnNext(snapshot -> {
+                    received.increment();
+                    failedUntil.remove(peer);
+                    log.debug(
+                            "Received employee snapshot of {} employees from {}, loaded at {}",
+                            snapshot.table().size(),
+                            peer,
+                            snapshot.loadedAt());
+                });
+    }
+
+    private boolean isAvailable(String peer) {
+        final Long until = failedUntil.get(peer);
+        return until == null || until - System.nanoTime() <= 0;
+    }
+
+    private void failed(String peer, Throwable error) {
+        failed.increment();
+        failedUntil.put(peer, System.nanoTime() + peerProperties.getRetryAfter().toNanos());
+        log.warn(
+                "Could not get employee snapshot from peer {}, passing it over for {}: {}",
+                peer,
+                peerProperties.getRetryAfter(),
+                error.toString());
+    }
+
+    private static ByteBuffer copy(DataBuffer buffer) {
+        try {
+            final byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return ByteBuffer.wrap(bytes);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    /**
+     * @return the members listed before {@code self}, or all of them when {@code self} is not listed.
+     */
+    static List<String> peersBefore(String self, List<String> members) {
+        final var normalized = members.stream().map(PeerSnapshotClient::normalize).toList();
+        final int index = normalized.indexOf(normalize(self));
+        return index < 0 ? normalized : normalized.subList(0, index);
+    }
+
+    private static String normalize(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
@@ -0,0 +1,88 @@
+package com.reliaquest.api.peer;
+
+import com.reliaquest.api.config.MockApiProperties;
+import com.reliaquest.api.config.PeerProperties;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.snapshot.SnapshotFile;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves this instance's employee snapshot to peers, see {@link PeerSnapshotClient}. A snapshot that is due for a
+ * refresh, or older than the requested {@value PeerSnapshotClient#NOT_BEFORE_HEADER}, is reloaded first, so that the
+ * peer gets as much of the TTL as possible; when that takes longer than {@link PeerProperties#getServeTimeout()}, the
+ * peer gets a 503 and moves on. Since that costs an upstream load, only peers that present
+ * {@link PeerProperties#getToken()} are served; others get a 403. Counted in {@code mock.api.peers.transfers}, tagged
+ * {@code outcome=served}.
+ */
+@Slf4j
+@RestController
+@ConditionalOnProperty(name = "mock-api.peers.enabled")
+public class PeerSnapshotController {
+
+    private final EmployeeService employeeService;
+    private final PeerProperties peerProperties;
+    private final String source;
+    private final byte[] token;
+    private final Counter served;
+
+    public PeerSnapshotController(
+            EmployeeService employeeService,
+            PeerProperties peerProperties,
+            MockApiProperties mockApiProperties,
+            MeterRegistry meterRegistry) {
+        this.employeeService = employeeService;
+        this.peerProperties = peerProperties;
+        this.source = mockApiProperties.getBaseUrl();
+        if (peerProperties.getToken() == null || peerProperties.getToken().isBlank()) {
+            throw new IllegalStateException("mock-api.peers.token must be set while peers are enabled");
+        }
+        this.token = peerProperties.getToken().getBytes(StandardCharsets.UTF_8);
+        if (peerProperties.getServeTimeout().compareTo(peerProperties.getTimeout()) >= 0) {
+            throw new IllegalStateException("mock-api.peers.serve-timeout must be shorter than mock-api.peers.timeout");
+        }
+        this.served = Counter.builder("mock.api.peers.transfers")
+                .tag("outcome", "served")
+                .register(meterRegistry);
+    }
+
+    @GetMapping(PeerSnapshotClient.PATH)
+    public ResponseEntity<StreamingResponseBody> getSnapshot(
+            @RequestHeader(name = PeerSnapshotClient.TOKEN_HEADER, required = false) String token,
+            @RequestHeader(name = PeerSnapshotClient.NOT_BEFORE_HEADER, required = false) Long notBefore) {
+        if (token == null || !MessageDigest.isEqual(this.token, token.getBytes(StandardCharsets.UTF_8))) {
+            log.warn("Refusing employee snapshot to a peer without a valid token");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        // A load that times out here keeps running, and is cached for the next request.
+        final var snapshot = employeeService
+                .getFreshSnapshot(notBefore == null ? Instant.EPOCH : Instant.ofEpochMilli(notBefore))
+                .timeout(peerProperties.getServeTimeout())
+                .onErrorResume(error -> {
+                    log.warn("Could not get an employee snapshot for a peer: {}", error.toString());
+                    return Mono.empty();
+                })
+                .block();
+        if (snapshot == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        log.debug("Serving employee snapshot version {} to a peer", snapshot.version());
+        served.increment();
+        return ResponseEntity.ok()
+                .contentType(PeerSnapshotClient.SNAPSHOT)
+                .body(out -> SnapshotFile.write(snapshot, source, Channels.newChannel(out)));
+    }
+}
@@ -0,0 +1,242 @@
+package com.reliaquest.api.scan;
+
+import com.reliaquest.api.config.ScanProperties;
+import com.reliaquest.api.snapshot.EmployeeTable;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntPredicate;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Runs queries that have no index as scans over an {@link EmployeeTable}. A table larger than one partition is split
+ * into partitions of consecutive rows, which are scanned in parallel on a dedicated {@link ForkJoinPool}. Large scans
+ * scale with the available cores and never occupy Reactor, Netty or servlet threads; the returned {@link Mono}
+ * completes on a scan thread. Smaller tables are scanned on the calling thread, where the hand-off would cost more
+ * than the scan.
+ *
+ * <p>A scan with a limit stops early. Once the partitions at the start of the table hold enough matches, the
+ * partitions after them are skipped or abandoned. Cancelling the returned {@link Mono} abandons the scan.
+ *
+ * <p>Publishes {@code mock.api.scan.partitions}, tagged {@code outcome=scanned|skipped}, and the pool's
+ * {@code mock.api.scan.active} threads.
+ */
+@Slf4j
+@Component
+public class TableScanner {
+
+    /**
+     * Rows between checks of whether a partition can stop early.
+     */
+    private static final int CHECK_INTERVAL = 1024;
+
+    private final boolean enabled;
+    private final int partitionRows;
+    private final ForkJoinPool pool;
+    private final Counter scanned;
+    private final Counter skipped;
+
+    public TableScanner(ScanProperties scanProperties, MeterRegistry meterRegistry) {
+        if (scanProperties.getPartitionRows() < 1) {
+            throw new IllegalArgumentException("Partition rows must be positive");
+        }
+        this.enabled = scanProperties.isEnabled();
+        this.partitionRows = scanProperties.getPartitionRows();
+        final int parallelism = scanProperties.getParallelism() > 0
+                ? scanProperties.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(
+                parallelism,
+                forkJoinPool -> {
+                    final var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                    thread.setName("employee-scan-" + thread.getPoolIndex());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (thread, error) -> log.error("Uncaught error on {}", thread.getName(), error),
+                false);
+        this.scanned = Counter.builder("mock.api.scan.partitions")
+                .tag("outcome", "scanned")
+                .register(meterRegistry);
+        this.skipped = Counter.builder("mock.api.scan.partitions")
+                .tag("outcome", "skipped")
+                .register(meterRegistry);
+        Gauge.builder("mock.api.scan.active", pool, ForkJoinPool::getActiveThreadCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the first {@code limit} rows matching {@code predicate}, ascending.
+     */
+    public Mono<int[]> filter(EmployeeTable table, IntPredicate predicate, int limit) {
+        if (!isParallel(table)) {
+            return Mono.fromSupplier(() -> filter(predicate, 0, table.size(), limit, () -> false));
+        }
+        return Mono.defer(() -> {
+            final var scan = new FilterScan(table.size(), predicate, limit);
+            return Mono.fromFuture(scan.start()).doOnCancel(scan::cancel);
+        });
+    }
+
+    /**
+     * Folds every row into a per-partition accumulator, then combines the accumulators in row order.
+     */
+    public <A> Mono<A> aggregate(
+            EmployeeTable table, Supplier<A> accumulator, ObjIntConsumer<A> accumulate, BinaryOperator<A> combine) {
+        if (!isParallel(table)) {
+            return Mono.fromSupplier(() -> {
+                final A result = accumulator.get();
+                for (int row = 0; row < table.size(); row++) {
+                    accumulate.accept(result, row);
+                }
+                return result;
+            });
+        }
+        return Mono.defer(() -> {
+            final int partitions = partitions(table.size());
+            @SuppressWarnings("unchecked")
+            final CompletableFuture<A>[] futures = new CompletableFuture[partitions];
+            for (int p = 0; p < partitions; p++) {
+                final int from = p * partitionRows;
+                final int to = Math.min(table.size(), from + partitionRows);
+                futures[p] = CompletableFuture.supplyAsync(
+                        () -> {
+                            final A result = accumulator.get();
+                            for (int row = from; row < to; row++) {
+                                accumulate.accept(result, row);
+                            }
+                            scanned.increment();
+                            return result;
+                        },
+                        pool);
+            }
+            return Mono.fromFuture(CompletableFuture.allOf(futures).thenApply(done -> Arrays.stream(futures)
+                    .map(CompletableFuture::join)
+                    .reduce(combine)
+                    .orElseThrow()));
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private boolean isParallel(EmployeeTable table) {
+        return enabled && table.size() > partitionRows;
+    }
+
+    private int partitions(int size) {
+        return (size + partitionRows - 1) / partitionRows;
+    }
+
+    private static int[] filter(IntPredicate predicate, int from, int to, int limit, BooleanSupplier stop) {
+        int[] rows = new int[Math.min(16, Math.min(limit, to - from))];
+        int n = 0;
+        for (int row = from; row < to && n < limit; row++) {
+            if ((row - from) % CHECK_INTERVAL == CHECK_INTERVAL - 1 && stop.getAsBoolean()) {
+                break;
+            }
+            if (predicate.test(row)) {
+                if (n == rows.length) {
+                    rows = Arrays.copyOf(rows, (int) Math.min((long) n * 2, Math.min(limit, to - from)));
+                }
+                rows[n++] = row;
+            }
+        }
+        return n == rows.length ? rows : Arrays.copyOf(rows, n);
+    }
+
+    /**
+     * One parallel filter. Partitions complete in any order; once the completed partitions at the start of the table
+     * hold {@code limit} matches, later partitions are no longer needed.
+     */
+    private final class FilterScan {
+        private final int size;
+        private final IntPredicate predicate;
+        private final int limit;
+        private final int[][] matches;
+
+        private volatile boolean cancelled;
+
+        /**
+         * Last partition whose matches can still be returned.
+         */
+        private volatile int lastNeeded = Integer.MAX_VALUE;
+
+        // Guarded by this.
+        private final boolean[] completed;
+        private int completedPrefix;
+        private long prefixMatches;
+
+        private FilterScan(int size, IntPredicate predicate, int limit) {
+            this.size = size;
+            this.predicate = predicate;
+            this.limit = limit;
+            this.matches = new int[partitions(size)][];
+            this.completed = new boolean[matches.length];
+        }
+
+        CompletableFuture<int[]> start() {
+            final CompletableFuture<?>[] futures = new CompletableFuture[matches.length];
+            for (int p = 0; p < matches.length; p++) {
+                final int partition = p;
+                futures[p] = CompletableFuture.runAsync(() -> scan(partition), pool);
+            }
+            return CompletableFuture.allOf(futures).thenApply(done -> collect());
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+
+        private void scan(int partition) {
+            if (cancelled || partition > lastNeeded) {
+                skipped.increment();
+                matches[partition] = new int[0];
+            } else {
+                final int from = partition * partitionRows;
+                final int to = Math.min(size, from + partitionRows);
+                matches[partition] = filter(predicate, from, to, limit, () -> cancelled || partition > lastNeeded);
+                scanned.increment();
+            }
+            complete(partition);
+        }
+
+        private synchronized void complete(int partition) {
+            completed[partition] = true;
+            while (completedPrefix < completed.length && completed[completedPrefix]) {
+                prefixMatches += matches[completedPrefix].length;
+                completedPrefix++;
+                if (prefixMatches >= limit && lastNeeded == Integer.MAX_VALUE) {
+                    lastNeeded = completedPrefix - 1;
+                }
+            }
+        }
+
+        private int[] collect() {
+            int total = 0;
+            for (int p = 0; p < matches.length && p <= lastNeeded; p++) {
+                total += matches[p].length;
+            }
+            final int[] rows = new int[Math.min(total, limit)];
+            int n = 0;
+            for (int p = 0; p < matches.length && n < rows.length; p++) {
+                final int count = Math.min(matches[p].length, rows.length - n);
+                System.arraycopy(matches[p], 0, rows, n, count);
+                n += count;
+            }
+            return rows;
+        }
+    }
+}
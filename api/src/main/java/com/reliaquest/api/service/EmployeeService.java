@@ -1,13 +1,28 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeByIdCache;
+import com.reliaquest.api.cache.EmployeeIdFilter;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.client.Deadline;
+import com.reliaquest.api.client.OutboundScheduler;
+import com.reliaquest.api.client.RequestHedger;
 import com.reliaquest.api.config.MockApiProperties;
+import com.reliaquest.api.jfr.RetryWaitEvent;
 import com.reliaquest.api.model.ApiResponse;
 import com.reliaquest.api.model.CreateEmployeeRequest;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.snapshot.EmployeeFilter;
+import com.reliaquest.api.snapshot.EmployeeSnapshot;
+import com.reliaquest.api.snapshot.EmployeeTable;
+import com.reliaquest.api.trace.RequestTrace;
+import com.reliaquest.api.trace.Span;
 import java.time.Duration;
-import java.util.Comparator;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.ParameterizedTypeReference;
@@ -16,6 +31,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
 import reactor.util.retry.Retry;
 
 @Slf4j
@@ -25,30 +41,111 @@ public class EmployeeService {
 
     private final WebClient mockApiWebClient;
     private final MockApiProperties mockApiProperties;
+    private final EmployeeSnapshotCache employeeSnapshotCache;
+    private final EmployeeIdFilter employeeIdFilter;
+    private final EmployeeByIdCache employeeByIdCache;
+    private final SnapshotQueryService snapshotQueryService;
+    private final RequestHedger requestHedger;
+    private final OutboundScheduler outboundScheduler;
 
-    private Retry getRetrySpec() {
+    /**
+     * Retries rate limited requests with backoff. The request's {@link Deadline}, the subscriber's or the default for
+     * its priority, is fixed once and shared by every attempt; retrying stops as soon as the time remaining can no
+     * longer cover the next backoff. Backoffs are added to the subscriber's {@link RequestTrace}, if any.
+     */
+    private <T> Mono<T> withRetry(Mono<T> request) {
+        return Mono.deferContextual(context -> {
+            Optional<Deadline> deadline = outboundScheduler.deadline(context);
+            Mono<T> retried = request.retryWhen(getRetrySpec(deadline, RequestTrace.from(context)));
+            return deadline.map(d -> retried.contextWrite(Context.of(Deadline.CONTEXT_KEY, d)))
+                    .orElse(retried);
+        });
+    }
+
+    private Retry getRetrySpec(Optional<Deadline> deadline, Optional<RequestTrace> trace) {
         MockApiProperties.RetryConfig retryConfig = mockApiProperties.getRetry();
+        Duration initialDelay = Duration.ofMillis(retryConfig.getInitialDelay());
+        Duration maxDelay = Duration.ofMillis(retryConfig.getMaxDelay());
+        AtomicInteger retries = new AtomicInteger();
+        AtomicReference<RetryWaitEvent> wait = new AtomicReference<>();
+        AtomicReference<RequestTrace.Timing> tracedWait = new AtomicReference<>();
 
-        return Retry.backoff(retryConfig.getMaxAttempts(), Duration.ofMillis(retryConfig.getInitialDelay()))
-                .maxBackoff(Duration.ofMillis(retryConfig.getMaxDelay()))
-                .filter(throwable -> throwable instanceof WebClientResponseException.TooManyRequests)
-                .doBeforeRetry(retrySignal -> log.warn(
-                        "Rate limited, retry attempt {} of {}",
-                        retrySignal.totalRetries() + 1,
-                        retryConfig.getMaxAttempts()))
+        return Retry.backoff(retryConfig.getMaxAttempts(), initialDelay)
+                .maxBackoff(maxDelay)
+                .filter(throwable -> throwable instanceof WebClientResponseException.TooManyRequests
+                        && deadline.map(d -> canBackOff(d, backoff(initialDelay, maxDelay, retries.getAndIncrement())))
+                                .orElse(true))
+                .doBeforeRetry(retrySignal -> {
+                    log.warn(
+                            "Rate limited, retry attempt {} of {}",
+                            retrySignal.totalRetries() + 1,
+                            retryConfig.getMaxAttempts());
+                    wait.set(RetryWaitEvent.begin(
+                            (int) retrySignal.totalRetries() + 1,
+                            retryConfig.getMaxAttempts(),
+                            backoff(initialDelay, maxDelay, (int) retrySignal.totalRetries()).toNanos(),
+                            retrySignal.failure()));
+                    trace.ifPresent(t -> tracedWait.set(t.start(
+                            Span.Kind.RETRY_WAIT,
+                            "retry " + (retrySignal.totalRetries() + 1) + " of " + retryConfig.getMaxAttempts())));
+                })
+                .doAfterRetry(retrySignal -> {
+                    RetryWaitEvent event = wait.getAndSet(null);
+                    if (event != null) {
+                        event.finish();
+                    }
+                    RequestTrace.Timing timing = tracedWait.getAndSet(null);
+                    if (timing != null) {
+                        timing.end(null, null, "completed");
+                    }
+                })
                 .onRetryExhaustedThrow((retryBackoffSpec, retrySignal) -> new RuntimeException(
                         "Service unavailable after " + retryConfig.getMaxAttempts() + " retry attempts",
                         retrySignal.failure()));
     }
 
+    private static boolean canBackOff(Deadline deadline, Duration backoff) {
+        Duration remaining = deadline.remaining();
+        if (remaining.compareTo(backoff) > 0) {
+            return true;
+        }
+        log.warn("Rate limited with {}ms left before the deadline, not retrying", remaining.toMillis());
+        return false;
+    }
+
+    /**
+     * @return the backoff before the given retry, ignoring jitter.
+     */
+    private static Duration backoff(Duration initialDelay, Duration maxDelay, int retry) {
+        if (retry >= 31) {
+            return maxDelay;
+        }
+        Duration backoff = initialDelay.multipliedBy(1L << retry);
+        return backoff.compareTo(maxDelay) > 0 ? maxDelay : backoff;
+    }
+
     public Mono<List<Employee>> getAllEmployees() {
+        if (!employeeSnapshotCache.isEnabled()) {
+            return fetchAllEmployees();
+        }
+        return snapshotQueryService.table(this::fetchAllEmployees).map(EmployeeTable::employees);
+    }
+
+    /**
+     * @return a snapshot loaded no earlier than {@code notBefore} and not yet due for a refresh, for a peer to cache.
+     */
+    public Mono<EmployeeSnapshot> getFreshSnapshot(Instant notBefore) {
+        return employeeSnapshotCache.freshSnapshot(this::fetchAllEmployees, notBefore);
+    }
+
+    private Mono<List<Employee>> fetchAllEmployees() {
         log.info("Fetching all employees from mock API");
 
         return mockApiWebClient
                 .get()
                 .retrieve()
                 .bodyToMono(new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {})
-                .retryWhen(getRetrySpec())
+                .transform(this::withRetry)
                 .map(response -> {
                     if (response != null && response.getData() != null) {
                         log.info(
@@ -71,27 +168,54 @@ public class EmployeeService {
     public Mono<List<Employee>> searchEmployeesByName(String searchString) {
         log.info("Searching employees by name: {}", searchString);
 
-        return getAllEmployees().map(employees -> {
-            String lowerSearchString = searchString.toLowerCase();
-            List<Employee> filtered = employees.stream()
-                    .filter(emp -> emp.getEmployeeName() != null
-                            && emp.getEmployeeName().toLowerCase().contains(lowerSearchString))
-                    .toList();
+        return snapshotQueryService.searchByName(this::fetchAllEmployees, searchString);
+    }
 
-            log.info("Found {} employees matching search criteria", filtered.size());
-            return filtered;
-        });
+    /**
+     * @see SnapshotQueryService#fuzzySearchByName
+     */
+    public Mono<List<Employee>> fuzzySearchEmployeesByName(String searchString, int maxDistance, int limit) {
+        log.info("Fuzzy searching employees by name: {} within {} edits", searchString, maxDistance);
+
+        return snapshotQueryService.fuzzySearchByName(this::fetchAllEmployees, searchString, maxDistance, limit);
+    }
+
+    /**
+     * @see SnapshotQueryService#autocompleteNames
+     */
+    public Mono<List<String>> autocompleteEmployeeNames(String prefix, int limit) {
+        return snapshotQueryService.autocompleteNames(this::fetchAllEmployees, prefix, limit);
+    }
+
+    /**
+     * @see SnapshotQueryService#filter
+     */
+    public Mono<List<Employee>> filterEmployees(EmployeeFilter filter, int limit) {
+        log.info("Filtering employees by {}", filter);
+
+        return snapshotQueryService.filter(this::fetchAllEmployees, filter, limit);
     }
 
     public Mono<Employee> getEmployeeById(String id) {
         log.info("Fetching employee by id: {}", id);
 
-        return mockApiWebClient
-                .get()
-                .uri("/{id}", id)
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<ApiResponse<Employee>>() {})
-                .retryWhen(getRetrySpec())
+        if (employeeIdFilter.isDefinitelyAbsent(id)) {
+            log.info("Employee id {} is known to be absent, not asking the external API", id);
+            return Mono.empty();
+        }
+        Optional<Employee> cached = employeeByIdCache.get(id);
+        if (cached.isPresent()) {
+            log.debug("Serving employee with id {} from cache", id);
+            return Mono.just(cached.get());
+        }
+
+        return requestHedger
+                .hedge(() -> mockApiWebClient
+                        .get()
+                        .uri("/{id}", id)
+                        .retrieve()
+                        .bodyToMono(new ParameterizedTypeReference<ApiResponse<Employee>>() {}))
+                .transform(this::withRetry)
                 .map(response -> {
                     if (response != null && response.getData() != null) {
                         log.info("Successfully fetched employee with id: {}", id);
@@ -99,8 +223,10 @@ public class EmployeeService {
                     }
                     return null;
                 })
+                .doOnNext(employee -> employeeByIdCache.put(id, employee))
                 .onErrorResume(WebClientResponseException.NotFound.class, ex -> {
                     log.warn("Employee not found with id: {}", id);
+                    employeeIdFilter.recordNotFound(id);
                     return Mono.empty();
                 })
                 .onErrorResume(error -> {
@@ -116,32 +242,13 @@ public class EmployeeService {
     public Mono<Integer> getHighestSalary() {
         log.info("Finding highest salary among all employees");
 
-        return getAllEmployees().map(employees -> {
-            Integer highestSalary = employees.stream()
-                    .map(Employee::getEmployeeSalary)
-                    .filter(salary -> salary != null)
-                    .max(Integer::compareTo)
-                    .orElse(0);
-
-            log.info("Highest salary found: {}", highestSalary);
-            return highestSalary;
-        });
+        return snapshotQueryService.highestSalary(this::fetchAllEmployees);
     }
 
     public Mono<List<String>> getTop10HighestEarningEmployeeNames() {
         log.info("Finding top 10 highest earning employees");
 
-        return getAllEmployees().map(employees -> {
-            List<String> topEarners = employees.stream()
-                    .filter(emp -> emp.getEmployeeSalary() != null)
-                    .sorted(Comparator.comparing(Employee::getEmployeeSalary).reversed())
-                    .limit(10)
-                    .map(Employee::getEmployeeName)
-                    .toList();
-
-            log.info("Found {} top earners", topEarners.size());
-            return topEarners;
-        });
+        return snapshotQueryService.topEarnerNames(this::fetchAllEmployees);
     }
 
     public Mono<Employee> createEmployee(CreateEmployeeRequest request) {
@@ -153,7 +260,7 @@ public class EmployeeService {
                 .bodyValue(request)
                 .retrieve()
                 .bodyToMono(new ParameterizedTypeReference<ApiResponse<Employee>>() {})
-                .retryWhen(getRetrySpec())
+                .transform(this::withRetry)
                 .map(response -> {
                     if (response != null && response.getData() != null) {
                         log.info(
@@ -163,10 +270,16 @@ public class EmployeeService {
                     }
                     return null;
                 })
+                .doOnNext(employee -> {
+                    // Recorded before invalidating, so that no snapshot published in between can drop the new id.
+                    employeeIdFilter.recordCreated(employee.getId());
+                    employeeSnapshotCache.invalidate();
+                })
                 .onErrorResume(error -> {
                     log.error("Error creating employee: {}", request.getName(), error);
                     return Mono.error(new RuntimeException("Failed to create employee in external API", error));
-                });
+                })
+                .contextWrite(OutboundScheduler.withPriority(OutboundScheduler.Priority.WRITE));
     }
 
     public Mono<String> deleteEmployeeById(String id) {
@@ -186,10 +299,12 @@ public class EmployeeService {
                             .bodyValue(requestBody)
                             .retrieve()
                             .bodyToMono(new ParameterizedTypeReference<ApiResponse<Boolean>>() {})
-                            .retryWhen(getRetrySpec())
+                            .transform(this::withRetry)
                             .map(response -> {
                                 if (response != null && Boolean.TRUE.equals(response.getData())) {
                                     log.info("Successfully deleted employee '{}' with id '{}'", employeeName, id);
+                                    employeeSnapshotCache.invalidate();
+                                    employeeByIdCache.invalidateDeleted(id, employeeName);
                                     return employeeName;
                                 } else {
                                     throw new RuntimeException("Failed to delete employee");
@@ -200,6 +315,8 @@ public class EmployeeService {
                 .onErrorResume(error -> {
                     log.error("Failed to delete employee due to error", error);
                     return Mono.error(error);
-                });
+                })
+                // Covers the lookup as well as the delete itself.
+                .contextWrite(OutboundScheduler.withPriority(OutboundScheduler.Priority.WRITE));
     }
 }
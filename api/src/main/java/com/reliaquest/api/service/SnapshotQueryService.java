@@ -0,0 +1,215 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeFilterIndexCache;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.cache.FuzzyNameIndexCache;
+import com.reliaquest.api.cache.NameCompletionCache;
+import com.reliaquest.api.cache.SearchResultCache;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.scan.TableScanner;
+import com.reliaquest.api.snapshot.EmployeeFilter;
+import com.reliaquest.api.snapshot.EmployeeFilterIndex;
+import com.reliaquest.api.snapshot.EmployeeSnapshot;
+import com.reliaquest.api.snapshot.EmployeeTable;
+import com.reliaquest.api.snapshot.FuzzyNameIndex;
+import com.reliaquest.api.snapshot.ListEmployeeTable;
+import com.reliaquest.api.snapshot.NameCompletionTrie;
+import com.reliaquest.api.snapshot.NameQuery;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only queries over the employee list: searches answered from the per-snapshot caches and indexes, and
+ * aggregations scanned by the {@link TableScanner}. Every query takes the upstream loader of {@link EmployeeService},
+ * which is only called when the snapshot cache needs a load or is disabled; with the cache disabled, indexes are
+ * built per request.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SnapshotQueryService {
+
+    private static final int TOP_EARNERS = 10;
+
+    private final EmployeeSnapshotCache employeeSnapshotCache;
+    private final SearchResultCache searchResultCache;
+    private final FuzzyNameIndexCache fuzzyNameIndexCache;
+    private final NameCompletionCache nameCompletionCache;
+    private final EmployeeFilterIndexCache employeeFilterIndexCache;
+    private final TableScanner tableScanner;
+
+    /**
+     * @return the cached snapshot's table, or a table over a fresh upstream response when caching is disabled.
+     */
+    public Mono<EmployeeTable> table(Supplier<Mono<List<Employee>>> upstream) {
+        if (!employeeSnapshotCache.isEnabled()) {
+            return upstream.get().map(ListEmployeeTable::new);
+        }
+        return employeeSnapshotCache.snapshot(upstream).map(EmployeeSnapshot::table);
+    }
+
+    public Mono<List<Employee>> searchByName(Supplier<Mono<List<Employee>>> upstream, String searchString) {
+        if (!employeeSnapshotCache.isEnabled() || !searchResultCache.isEnabled()) {
+            return table(upstream).flatMap(table -> searchTable(table, searchString));
+        }
+        return employeeSnapshotCache
+                .snapshot(upstream)
+                .flatMap(snapshot -> searchResultCache.getDeferred(
+                        snapshot.version(), searchString, () -> searchTable(snapshot.table(), searchString)));
+    }
+
+    private Mono<List<Employee>> searchTable(EmployeeTable table, String searchString) {
+        NameQuery query = NameQuery.of(searchString);
+        return tableScanner
+                .filter(table, row -> table.nameMatches(row, query), Integer.MAX_VALUE)
+                .map(rows -> {
+                    List<Employee> filtered = new ArrayList<>(rows.length);
+                    for (int row : rows) {
+                        filtered.add(table.employee(row));
+                    }
+
+                    log.info("Found {} employees matching search criteria", filtered.size());
+                    return filtered;
+                });
+    }
+
+    /**
+     * @param maxDistance edits allowed per word of {@code searchString}
+     * @return up to {@code limit} employees whose names approximately match, closest first; an
+     *     {@link IllegalArgumentException} when {@code maxDistance} or {@code limit} are out of range.
+     */
+    public Mono<List<Employee>> fuzzySearchByName(
+            Supplier<Mono<List<Employee>>> upstream, String searchString, int maxDistance, int limit) {
+        if (maxDistance < 0 || maxDistance > fuzzyNameIndexCache.getMaxEditDistance()) {
+            return Mono.error(new IllegalArgumentException(
+                    "maxDistance must be between 0 and " + fuzzyNameIndexCache.getMaxEditDistance()));
+        }
+        if (limit < 1 || limit > fuzzyNameIndexCache.getMaxLimit()) {
+            return Mono.error(
+                    new IllegalArgumentException("limit must be between 1 and " + fuzzyNameIndexCache.getMaxLimit()));
+        }
+
+        Mono<FuzzyNameIndex> index = index(upstream, fuzzyNameIndexCache::index, fuzzyNameIndexCache::build);
+        return index.map(fuzzyNameIndex -> {
+            List<Employee> matches = fuzzyNameIndex.search(searchString, maxDistance, limit);
+            log.info("Found {} employees approximately matching search criteria", matches.size());
+            return matches;
+        });
+    }
+
+    /**
+     * @return up to {@code limit} name words completing the last word of {@code prefix}, ranked by the configured
+     *     weight; none when they cannot be produced within the latency budget, and an
+     *     {@link IllegalArgumentException} when {@code limit} is out of range.
+     */
+    public Mono<List<String>> autocompleteNames(Supplier<Mono<List<Employee>>> upstream, String prefix, int limit) {
+        if (limit < 1 || limit > nameCompletionCache.getMaxLimit()) {
+            return Mono.error(
+                    new IllegalArgumentException("limit must be between 1 and " + nameCompletionCache.getMaxLimit()));
+        }
+
+        Mono<NameCompletionTrie> trie = index(upstream, nameCompletionCache::trie, nameCompletionCache::build);
+        Duration budget = nameCompletionCache.getTimeout();
+        return trie.map(completions -> completions.complete(prefix, limit))
+                .timeout(budget, Mono.fromSupplier(() -> {
+                    log.warn("No completions for '{}' within {}ms", prefix, budget.toMillis());
+                    return List.of();
+                }));
+    }
+
+    /**
+     * @return up to {@code limit} employees matching every predicate of {@code filter}, in upstream order; an
+     *     {@link IllegalArgumentException} when {@code limit} is out of range.
+     */
+    public Mono<List<Employee>> filter(Supplier<Mono<List<Employee>>> upstream, EmployeeFilter filter, int limit) {
+        if (limit < 1 || limit > employeeFilterIndexCache.getMaxLimit()) {
+            return Mono.error(new IllegalArgumentException(
+                    "limit must be between 1 and " + employeeFilterIndexCache.getMaxLimit()));
+        }
+
+        Mono<EmployeeFilterIndex> index =
+                index(upstream, employeeFilterIndexCache::index, employeeFilterIndexCache::build);
+        return index.map(filterIndex -> {
+            List<Employee> matches = filterIndex.filter(filter, limit);
+            log.info("Found {} employees matching filter", matches.size());
+            return matches;
+        });
+    }
+
+    /**
+     * @return the index of the cached snapshot, or one built over a fresh upstream response when caching is disabled.
+     */
+    private <T> Mono<T> index(
+            Supplier<Mono<List<Employee>>> upstream,
+            Function<EmployeeSnapshot, Mono<T>> cached,
+            Function<EmployeeTable, T> build) {
+        if (!employeeSnapshotCache.isEnabled()) {
+            return upstream.get().map(employees -> build.apply(new ListEmployeeTable(employees)));
+        }
+        return employeeSnapshotCache.snapshot(upstream).flatMap(cached);
+    }
+
+    public Mono<Integer> highestSalary(Supplier<Mono<List<Employee>>> upstream) {
+        // NULL_INT sorts below every salary, so null salaries never win.
+        return table(upstream)
+                .flatMap(table -> tableScanner.aggregate(
+                        table,
+                        () -> new int[] {EmployeeTable.NULL_INT},
+                        (highest, row) -> highest[0] = Math.max(highest[0], table.salary(row)),
+                        (left, right) -> new int[] {Math.max(left[0], right[0])}))
+                .map(highest -> {
+                    int highestSalary = highest[0] == EmployeeTable.NULL_INT ? 0 : highest[0];
+
+                    log.info("Highest salary found: {}", highestSalary);
+                    return highestSalary;
+                });
+    }
+
+    public Mono<List<String>> topEarnerNames(Supplier<Mono<List<Employee>>> upstream) {
+        return table(upstream).flatMap(table -> {
+            // Lowest salary at the head; among equal salaries the later row, so that ties keep list order.
+            Comparator<Integer> lowestFirst =
+                    Comparator.<Integer>comparingInt(table::salary).thenComparing(Comparator.reverseOrder());
+            return tableScanner
+                    .<PriorityQueue<Integer>>aggregate(
+                            table,
+                            () -> new PriorityQueue<>(TOP_EARNERS + 1, lowestFirst),
+                            (top, row) -> {
+                                if (table.salary(row) != EmployeeTable.NULL_INT) {
+                                    offerTopEarner(top, row);
+                                }
+                            },
+                            (left, right) -> {
+                                right.forEach(row -> offerTopEarner(left, row));
+                                return left;
+                            })
+                    .map(top -> {
+                        List<String> topEarners = new ArrayList<>(top.size());
+                        while (!top.isEmpty()) {
+                            topEarners.add(table.name(top.poll()));
+                        }
+                        Collections.reverse(topEarners);
+
+                        log.info("Found {} top earners", topEarners.size());
+                        return topEarners;
+                    });
+        });
+    }
+
+    private static void offerTopEarner(PriorityQueue<Integer> top, int row) {
+        top.offer(row);
+        if (top.size() > TOP_EARNERS) {
+            top.poll();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.reliaquest.api.snapshot;
+
+import com.reliaquest.api.model.Employee;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Column-oriented {@link EmployeeTable} holding a few primitive arrays instead of seven objects per employee:
+ *
+ * <ul>
+ *   <li>ids as two {@code long}s; the rare id that is not a canonical UUID is kept as a string on the side
+ *   <li>salary and age as {@code int}s, with {@link #NULL_INT} for null
+ *   <li>titles and email domains dictionary-encoded, since only a handful of distinct values exist
+ *   <li>names and email local parts as UTF-8 in a shared byte arena
+ * </ul>
+ *
+ * <p>Every value round-trips exactly, including nulls, except that null rows are dropped.
+ */
+public final class CompactEmployeeTable implements EmployeeTable {
+
+    private static final int NO_CODE = -1;
+
+    private final int size;
+    private final long[] idMostSignificant;
+    private final long[] idLeastSignificant;
+    private final Map<Integer, String> irregularIds;
+    private final int[] salaries;
+    private final int[] ages;
+    private final int[] titleCodes;
+    private final String[] titles;
+    private final Utf8Arena names;
+    private final Utf8Arena emailLocalParts;
+    private final int[] emailDomainCodes;
+    private final String[] emailDomains;
+
+    private CompactEmployeeTable(Builder builder) {
+        this.size = builder.size;
+        this.idMostSignificant = builder.idMostSignificant;
+        this.idLeastSignificant = builder.idLeastSignificant;
+        this.irregularIds = builder.irregularIds;
+        this.salaries = builder.salaries;
+        this.ages = builder.ages;
+        this.titleCodes = builder.titleCodes;
+        this.titles = builder.titles.keySet().toArray(String[]::new);
+        this.names = builder.names.build();
+        this.emailLocalParts = builder.emailLocalParts.build();
+        this.emailDomainCodes = builder.emailDomainCodes;
+        this.emailDomains = builder.emailDomains.keySet().toArray(String[]::new);
+    }
+
+    public static CompactEmployeeTable of(List<Employee> employees) {
+        final var builder = new Builder(employees.size());
+        for (Employee employee : employees) {
+            if (employee != null) {
+                builder.add(employee);
+            }
+        }
+        return new CompactEmployeeTable(builder);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String id(int row) {
+        if (!irregularIds.isEmpty() && irregularIds.containsKey(row)) {
+            return irregularIds.get(row);
+        }
+        return new UUID(idMostSignificant[row], idLeastSignificant[row]).toString();
+    }
+
+    @Override
+    public String name(int row) {
+        return names.get(row);
+    }
+
+    @Override
+    public boolean nameMatches(int row, NameQuery query) {
+        return names.matches(row, query);
+    }
+
+    @Override
+    public int salary(int row) {
+        return salaries[row];
+    }
+
+    @Override
+    public int age(int row) {
+        return ages[row];
+    }
+
+    @Override
+    public String title(int row) {
+        final int code = titleCodes[row];
+        return code == NO_CODE ? null : titles[code];
+    }
+
+    /*
+     * A domain code of NO_CODE means the address had no '@' and is stored whole as the local part.
+     */
+    @Override
+    public String email(int row) {
+        final var local = emailLocalParts.get(row);
+        final int code = emailDomainCodes[row];
+        return local == null || code == NO_CODE ? local : local + '@' + emailDomains[code];
+    }
+
+    /**
+     * @return approximate heap retained by this table, for logging.
+     */
+    public long sizeInBytes() {
+        final long columns = 8L * (idMostSignificant.length + idLeastSignificant.length)
+                + 4L * (salaries.length + ages.length + titleCodes.length + emailDomainCodes.length);
+        return columns + names.sizeInBytes() + emailLocalParts.sizeInBytes() + 64L * irregularIds.size();
+    }
+
+    private static final class Builder {
+        private final long[] idMostSignificant;
+        private final long[] idLeastSignificant;
+        private final Map<Integer, String> irregularIds = new HashMap<>();
+        private final int[] salaries;
+        private final int[] ages;
+        private final int[] titleCodes;
+        // Insertion ordered: a value's code is its position.
+        private final Map<String, Integer> titles = new LinkedHashMap<>();
+        private final Utf8Arena.Builder names;
+        private final Utf8Arena.Builder emailLocalParts;
+        private final int[] emailDomainCodes;
+        private final Map<String, Integer> emailDomains = new LinkedHashMap<>();
+        private int size;
+
+        private Builder(int capacity) {
+            idMostSignificant = new long[capacity];
+            idLeastSignificant = new long[capacity];
+            salaries = new int[capacity];
+            ages = new int[capacity];
+            titleCodes = new int[capacity];
+            names = new Utf8Arena.Builder(capacity, 16);
+            emailLocalParts = new Utf8Arena.Builder(capacity, 16);
+            emailDomainCodes = new int[capacity];
+        }
+
+        private void add(Employee employee) {
+            final int row = size++;
+            addId(row, employee.getId());
+            salaries[row] = EmployeeTable.unboxed(employee.getEmployeeSalary());
+            ages[row] = EmployeeTable.unboxed(employee.getEmployeeAge());
+            titleCodes[row] = code(titles, employee.getEmployeeTitle());
+            names.add(employee.getEmployeeName());
+
+            final var email = employee.getEmployeeEmail();
+            final int at = email == null ? -1 : email.lastIndexOf('@');
+            if (at < 0) {
+                emailLocalParts.add(email);
+                emailDomainCodes[row] = NO_CODE;
+            } else {
+                emailLocalParts.add(email.substring(0, at));
+                emailDomainCodes[row] = code(emailDomains, email.substring(at + 1));
+            }
+        }
+
+        private void addId(int row, String id) {
+            final UUID uuid = Uuids.parseCanonical(id);
+            if (uuid == null) {
+                irregularIds.put(row, id);
+            } else {
+                idMostSignificant[row] = uuid.getMostSignificantBits();
+                idLeastSignificant[row] = uuid.getLeastSignificantBits();
+            }
+        }
+
+        private static int code(Map<String, Integer> dictionary, String value) {
+            if (value == null) {
+                return NO_CODE;
+            }
+            return dictionary.computeIfAbsent(value, v -> dictionary.size());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.reliaquest.api.snapshot;
+
+import java.util.List;
+
+/**
+ * Attribute filter over employees. All given predicates must hold; absent ones match every employee. An employee
+ * without an age or salary never matches a bound on it.
+ *
+ * @param titles matches titles containing any of these, case-insensitively; empty for any title.
+ * @param minAge inclusive, or {@code null}.
+ * @param maxAge inclusive, or {@code null}.
+ * @param minSalary inclusive, or {@code null}.
+ * @param maxSalary inclusive, or {@code null}.
+ */
+public record EmployeeFilter(
+        List<String> titles, Integer minAge, Integer maxAge, Integer minSalary, Integer maxSalary) {
+
+    public EmployeeFilter {
+        titles = titles == null ? List.of() : List.copyOf(titles);
+        if (minAge != null && maxAge != null && minAge > maxAge) {
+            throw new IllegalArgumentException("minAge must not exceed maxAge");
+        }
+        if (minSalary != null && maxSalary != null && minSalary > maxSalary) {
+            throw new IllegalArgumentException("minSalary must not exceed maxSalary");
+        }
+    }
+
+    public boolean hasAgeBound() {
+        return minAge != null || maxAge != null;
+    }
+
+    public boolean hasSalaryBound() {
+        return minSalary != null || maxSalary != null;
+    }
+}
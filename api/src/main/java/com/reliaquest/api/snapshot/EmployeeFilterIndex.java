@@ -0,0 +1,233 @@
+package com.reliaquest.api.snapshot;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Answers {@link EmployeeFilter}s over an {@link EmployeeTable} by combining precomputed row bitmaps instead of
+ * scanning rows. There is one bitmap per distinct title, and one per age and per salary bucket of configurable width.
+ * A range takes the buckets it fully covers as they are and cuts its partial edge buckets out of the column sorted by
+ * value. Immutable once built.
+ */
+public final class EmployeeFilterIndex {
+
+    private final EmployeeTable table;
+
+    /**
+     * Distinct titles, lower case, and the rows holding each.
+     */
+    private final String[] titles;
+
+    private final RowBitmap[] rowsByTitle;
+
+    private final RangeIndex ages;
+    private final RangeIndex salaries;
+
+    private EmployeeFilterIndex(
+            EmployeeTable table, String[] titles, RowBitmap[] rowsByTitle, RangeIndex ages, RangeIndex salaries) {
+        this.table = table;
+        this.titles = titles;
+        this.rowsByTitle = rowsByTitle;
+        this.ages = ages;
+        this.salaries = salaries;
+    }
+
+    public static EmployeeFilterIndex build(EmployeeTable table, int ageBucketWidth, int salaryBucketWidth) {
+        if (ageBucketWidth < 1 || salaryBucketWidth < 1) {
+            throw new IllegalArgumentException("Bucket widths must be positive");
+        }
+        final Map<String, IntList> rowsByTitle = new HashMap<>();
+        for (int row = 0; row < table.size(); row++) {
+            final String title = table.title(row);
+            if (title != null) {
+                rowsByTitle.computeIfAbsent(title.toLowerCase(), t -> new IntList()).add(row);
+            }
+        }
+        final String[] titles = rowsByTitle.keySet().toArray(String[]::new);
+        Arrays.sort(titles);
+        final RowBitmap[] bitmaps = new RowBitmap[titles.length];
+        for (int i = 0; i < titles.length; i++) {
+            bitmaps[i] = RowBitmap.of(rowsByTitle.get(titles[i]).toArray());
+        }
+        return new EmployeeFilterIndex(
+                table,
+                titles,
+                bitmaps,
+                RangeIndex.build(table.size(), table::age, ageBucketWidth),
+                RangeIndex.build(table.size(), table::salary, salaryBucketWidth));
+    }
+
+    public int titleCount() {
+        return titles.length;
+    }
+
+    /**
+     * @return up to {@code limit} matching employees, in table order.
+     */
+    public List<Employee> filter(EmployeeFilter filter, int limit) {
+        final int[] rows = filterRows(filter, limit);
+        final List<Employee> employees = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            employees.add(table.employee(row));
+        }
+        return employees;
+    }
+
+    /**
+     * @return the number of matching employees.
+     */
+    public int count(EmployeeFilter filter) {
+        final RowBitmap matches = matches(filter);
+        return matches == null ? table.size() : matches.cardinality();
+    }
+
+    int[] filterRows(EmployeeFilter filter, int limit) {
+        final RowBitmap matches = matches(filter);
+        if (matches != null) {
+            return matches.toArray(limit);
+        }
+        final int[] rows = new int[Math.min(limit, table.size())];
+        Arrays.setAll(rows, row -> row);
+        return rows;
+    }
+
+    /**
+     * @return the rows matching every predicate, or {@code null} when the filter has none.
+     */
+    private RowBitmap matches(EmployeeFilter filter) {
+        final List<RowBitmap> predicates = new ArrayList<>(3);
+        if (!filter.titles().isEmpty()) {
+            predicates.add(titles(filter.titles()));
+        }
+        if (filter.hasAgeBound()) {
+            predicates.add(ages.between(filter.minAge(), filter.maxAge()));
+        }
+        if (filter.hasSalaryBound()) {
+            predicates.add(salaries.between(filter.minSalary(), filter.maxSalary()));
+        }
+        if (predicates.isEmpty()) {
+            return null;
+        }
+        // Smallest first, so intermediate results only shrink.
+        predicates.sort((a, b) -> Integer.compare(a.cardinality(), b.cardinality()));
+        RowBitmap matches = predicates.get(0);
+        for (int i = 1; i < predicates.size() && !matches.isEmpty(); i++) {
+            matches = matches.and(predicates.get(i));
+        }
+        return matches;
+    }
+
+    private RowBitmap titles(List<String> queries) {
+        final List<String> lowerCase = queries.stream().map(String::toLowerCase).toList();
+        RowBitmap matches = RowBitmap.empty();
+        for (int i = 0; i < titles.length; i++) {
+            for (String query : lowerCase) {
+                if (titles[i].contains(query)) {
+                    matches = matches.or(rowsByTitle[i]);
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Rows of one numeric column, sorted by value, and a bitmap per bucket of {@code width} consecutive values.
+     */
+    private static final class RangeIndex {
+        private final int width;
+        private final int[] values;
+        private final int[] rows;
+        private final TreeMap<Long, RowBitmap> buckets;
+
+        private RangeIndex(int width, int[] values, int[] rows, TreeMap<Long, RowBitmap> buckets) {
+            this.width = width;
+            this.values = values;
+            this.rows = rows;
+            this.buckets = buckets;
+        }
+
+        static RangeIndex build(int size, IntUnaryOperator column, int width) {
+            // Value in the upper and row in the lower half, so that sorting orders by value, then row.
+            final long[] packed = new long[size];
+            int n = 0;
+            for (int row = 0; row < size; row++) {
+                final int value = column.applyAsInt(row);
+                if (value != EmployeeTable.NULL_INT) {
+                    packed[n++] = ((long) value << 32) | row;
+                }
+            }
+            Arrays.sort(packed, 0, n);
+            final int[] values = new int[n];
+            final int[] rows = new int[n];
+            for (int i = 0; i < n; i++) {
+                values[i] = (int) (packed[i] >> 32);
+                rows[i] = (int) packed[i];
+            }
+
+            final var index = new RangeIndex(width, values, rows, new TreeMap<>());
+            for (int start = 0; start < n; ) {
+                final long bucket = Math.floorDiv((long) values[start], width);
+                final int end = index.lowerBound(bucket * width + width);
+                index.buckets.put(bucket, index.slice(start, end));
+                start = end;
+            }
+            return index;
+        }
+
+        /**
+         * @param min inclusive, or {@code null} for no lower bound.
+         * @param max inclusive, or {@code null} for no upper bound.
+         */
+        RowBitmap between(Integer min, Integer max) {
+            final long from = min == null ? Integer.MIN_VALUE + 1L : min;
+            final long to = max == null ? Integer.MAX_VALUE : max;
+            // Buckets lying entirely within [from, to].
+            final long firstFull = Math.floorDiv(from + width - 1, width);
+            final long lastFull = Math.floorDiv(to + 1, width) - 1;
+            if (firstFull > lastFull) {
+                return slice(lowerBound(from), lowerBound(to + 1));
+            }
+            RowBitmap matches = slice(lowerBound(from), lowerBound(firstFull * width));
+            for (RowBitmap bucket : buckets.subMap(firstFull, true, lastFull, true).values()) {
+                matches = matches.or(bucket);
+            }
+            return matches.or(slice(lowerBound((lastFull + 1) * width), lowerBound(to + 1)));
+        }
+
+        /**
+         * @return the rows at sorted positions {@code [start, end)} as a bitmap.
+         */
+        private RowBitmap slice(int start, int end) {
+            if (start >= end) {
+                return RowBitmap.empty();
+            }
+            final int[] slice = Arrays.copyOfRange(rows, start, end);
+            Arrays.sort(slice);
+            return RowBitmap.of(slice);
+        }
+
+        /**
+         * @return the first sorted position whose value is at least {@code value}.
+         */
+        private int lowerBound(long value) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (values[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
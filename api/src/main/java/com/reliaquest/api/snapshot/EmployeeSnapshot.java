@@ -0,0 +1,17 @@
+package com.reliaquest.api.snapshot;
+
+import java.time.Instant;
+
+/**
+ * Immutable employee list as fetched from the upstream at one point in time. {@code version} increases with every
+ * load, so it can key anything derived from the snapshot.
+ *
+ * @param stale whether the snapshot was restored from disk rather than loaded by this process; it is served only
+ *     until a load replaces it.
+ */
+public record EmployeeSnapshot(long version, EmployeeTable table, Instant loadedAt, boolean stale) {
+
+    public EmployeeSnapshot(long version, EmployeeTable table, Instant loadedAt) {
+        this(version, table, loadedAt, false);
+    }
+}
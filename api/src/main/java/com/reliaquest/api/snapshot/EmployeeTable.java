@@ -0,0 +1,81 @@
+package com.reliaquest.api.snapshot;
+
+import com.reliaquest.api.model.Employee;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Read-only, row-addressed view of an employee list. Implementations choose their own storage; searches and
+ * aggregations read individual columns, and {@link Employee} objects are only created for rows that are returned to
+ * clients.
+ */
+public interface EmployeeTable {
+
+    /**
+     * Returned by {@link #salary(int)} and {@link #age(int)} for a null value.
+     */
+    int NULL_INT = Integer.MIN_VALUE;
+
+    int size();
+
+    String id(int row);
+
+    String name(int row);
+
+    default boolean nameMatches(int row, NameQuery query) {
+        return query.matches(name(row));
+    }
+
+    int salary(int row);
+
+    int age(int row);
+
+    String title(int row);
+
+    String email(int row);
+
+    default Employee employee(int row) {
+        return Employee.builder()
+                .id(id(row))
+                .employeeName(name(row))
+                .employeeSalary(boxed(salary(row)))
+                .employeeAge(boxed(age(row)))
+                .employeeTitle(title(row))
+                .employeeEmail(email(row))
+                .build();
+    }
+
+    /**
+     * @return a list view that materializes each {@link Employee} on access.
+     */
+    default List<Employee> employees() {
+        return new EmployeeList(this);
+    }
+
+    static Integer boxed(int value) {
+        return value == NULL_INT ? null : value;
+    }
+
+    static int unboxed(Integer value) {
+        return value == null ? NULL_INT : value;
+    }
+
+    final class EmployeeList extends AbstractList<Employee> implements RandomAccess {
+        private final EmployeeTable table;
+
+        private EmployeeList(EmployeeTable table) {
+            this.table = table;
+        }
+
+        @Override
+        public Employee get(int index) {
+            return table.employee(index);
+        }
+
+        @Override
+        public int size() {
+            return table.size();
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package com.reliaquest.api.snapshot;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Typo-tolerant name search over an {@link EmployeeTable}, using a SymSpell deletion index over the words of every
+ * name. Each distinct word is indexed under all strings reachable from its prefix by up to {@link #maxDistance()}
+ * deletions. A query word then only has to generate its own deletions and look them up; candidates are confirmed
+ * with the optimal string alignment distance (Levenshtein plus adjacent transpositions).
+ *
+ * <p>A name matches when every query word is within the requested distance of one of its words, case-insensitively.
+ * Results are ranked by the sum of those distances. The search stops once enough close matches are found, so which of
+ * several equally distant names fill the last places is unspecified. Immutable once built.
+ */
+public final class FuzzyNameIndex {
+
+    /**
+     * Only this many leading characters of a word are expanded into deletions, which bounds the index size while
+     * longer words are still compared in full.
+     */
+    static final int PREFIX_LENGTH = 7;
+
+    private final EmployeeTable table;
+    private final int maxDistance;
+    private final Map<String, Integer> termIds;
+    private final String[] terms;
+
+    /**
+     * Per term, the rows whose name contains it, ascending.
+     */
+    private final int[][] postings;
+
+    /**
+     * Deletion of a term prefix to the terms that produce it.
+     */
+    private final Map<String, int[]> deletions;
+
+    private FuzzyNameIndex(
+            EmployeeTable table,
+            int maxDistance,
+            Map<String, Integer> termIds,
+            String[] terms,
+            int[][] postings,
+            Map<String, int[]> deletions) {
+        this.table = table;
+        this.maxDistance = maxDistance;
+        this.termIds = termIds;
+        this.terms = terms;
+        this.postings = postings;
+        this.deletions = deletions;
+    }
+
+    public static FuzzyNameIndex build(EmployeeTable table, int maxDistance) {
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException("Max distance must not be negative: " + maxDistance);
+        }
+        final Map<String, Integer> termIds = new HashMap<>();
+        final List<String> terms = new ArrayList<>();
+        final List<IntList> rowsByTerm = new ArrayList<>();
+        for (int row = 0; row < table.size(); row++) {
+            for (String word : NameWords.lowerCase(table.name(row))) {
+                final int termId = termIds.computeIfAbsent(word, w -> {
+                    terms.add(w);
+                    rowsByTerm.add(new IntList());
+                    return terms.size() - 1;
+                });
+                // A word repeated within one name is listed once.
+                rowsByTerm.get(termId).addIfNotLast(row);
+            }
+        }
+
+        final int[][] postings = new int[terms.size()][];
+        final Map<String, IntList> termsByDeletion = new HashMap<>();
+        for (int termId = 0; termId < terms.size(); termId++) {
+            postings[termId] = rowsByTerm.get(termId).toArray();
+            for (String deletion : deletions(prefix(terms.get(termId)), maxDistance)) {
+                termsByDeletion.computeIfAbsent(deletion, d -> new IntList()).add(termId);
+            }
+        }
+        final Map<String, int[]> deletions = new HashMap<>(termsByDeletion.size() * 4 / 3 + 1);
+        termsByDeletion.forEach((deletion, ids) -> deletions.put(deletion, ids.toArray()));
+
+        return new FuzzyNameIndex(table, maxDistance, termIds, terms.toArray(String[]::new), postings, deletions);
+    }
+
+    /**
+     * @return the largest distance {@link #search} accepts.
+     */
+    public int maxDistance() {
+        return maxDistance;
+    }
+
+    public int termCount() {
+        return terms.length;
+    }
+
+    /**
+     * @return up to {@code limit} employees whose names match {@code query} within {@code distance} edits per word,
+     *     closest first.
+     */
+    public List<Employee> search(String query, int distance, int limit) {
+        final int[] rows = searchRows(query, distance, limit);
+        final List<Employee> employees = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            employees.add(table.employee(row));
+        }
+        return employees;
+    }
+
+    int[] searchRows(String query, int distance, int limit) {
+        if (distance < 0 || distance > maxDistance) {
+            throw new IllegalArgumentException("Distance must be between 0 and " + maxDistance + ": " + distance);
+        }
+        final List<String> words = NameWords.lowerCase(query);
+        if (words.isEmpty() || limit <= 0) {
+            return new int[0];
+        }
+        final Candidates[] candidates = new Candidates[words.size()];
+        int driver = 0;
+        for (int i = 0; i < candidates.length; i++) {
+            candidates[i] = lookup(words.get(i), distance);
+            if (candidates[i].isEmpty()) {
+                return new int[0];
+            }
+            if (candidates[i].rowCount < candidates[driver].rowCount) {
+                driver = i;
+            }
+        }
+        return rank(candidates, driver, distance * candidates.length, limit);
+    }
+
+    /*
+     * Walks the rows of the query word with the fewest candidate rows, closest terms first. After all of its terms at
+     * distance d are walked, every row with a total of at most d has been found, so the walk stops as soon as that
+     * covers the limit.
+     */
+    private int[] rank(Candidates[] candidates, int driver, int maxTotal, int limit) {
+        final IntList[] byTotal = new IntList[maxTotal + 1];
+        final BitSet seen = new BitSet();
+        int found = 0;
+        final Candidates driving = candidates[driver];
+        walk:
+        for (int level = 0; level <= maxDistance; level++) {
+            for (int c = 0; c < driving.size; c++) {
+                if (driving.distances[c] != level) {
+                    continue;
+                }
+                for (int row : postings[driving.termIds[c]]) {
+                    if (seen.get(row)) {
+                        continue;
+                    }
+                    seen.set(row);
+                    int total = level;
+                    for (int i = 0; i < candidates.length && total <= maxTotal; i++) {
+                        if (i != driver) {
+                            total += candidates[i].distanceTo(row, postings);
+                        }
+                    }
+                    if (total > maxTotal) {
+                        continue;
+                    }
+                    if (byTotal[total] == null) {
+                        byTotal[total] = new IntList();
+                    }
+                    byTotal[total].add(row);
+                    if (total <= level && ++found >= limit) {
+                        break walk;
+                    }
+                }
+            }
+            // Rows found at this level with a larger total now count towards the next one.
+            found = 0;
+            for (int total = 0; total <= Math.min(level + 1, maxTotal); total++) {
+                found += byTotal[total] == null ? 0 : byTotal[total].size;
+            }
+            if (found >= limit) {
+                break;
+            }
+        }
+
+        final IntList ranked = new IntList();
+        for (int total = 0; total <= maxTotal && ranked.size < limit; total++) {
+            if (byTotal[total] != null) {
+                final int[] rows = byTotal[total].toArray();
+                Arrays.sort(rows);
+                for (int i = 0; i < rows.length && ranked.size < limit; i++) {
+                    ranked.add(rows[i]);
+                }
+            }
+        }
+        return ranked.toArray();
+    }
+
+    private Candidates lookup(String word, int distance) {
+        final var candidates = new Candidates();
+        if (distance == 0) {
+            final Integer termId = termIds.get(word);
+            if (termId != null) {
+                candidates.add(termId, 0, postings[termId].length);
+            }
+            return candidates;
+        }
+        final Set<Integer> checked = new HashSet<>();
+        for (String deletion : deletions(prefix(word), distance)) {
+            final int[] ids = deletions.get(deletion);
+            if (ids == null) {
+                continue;
+            }
+            for (int termId : ids) {
+                if (checked.add(termId)) {
+                    final int d = distance(word, terms[termId], distance);
+                    if (d <= distance) {
+                        candidates.add(termId, d, postings[termId].length);
+                    }
+                }
+            }
+        }
+        candidates.sortByDistance();
+        return candidates;
+    }
+
+    private static String prefix(String word) {
+        return word.length() <= PREFIX_LENGTH ? word : word.substring(0, PREFIX_LENGTH);
+    }
+
+    /**
+     * @return {@code word} and every string obtained from it by deleting up to {@code distance} characters.
+     */
+    static Set<String> deletions(String word, int distance) {
+        final Set<String> deletions = new HashSet<>();
+        deletions.add(word);
+        addDeletions(word, distance, deletions);
+        return deletions;
+    }
+
+    private static void addDeletions(String word, int distance, Set<String> deletions) {
+        if (distance == 0 || word.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            final String deletion = word.substring(0, i) + word.substring(i + 1);
+            if (deletions.add(deletion)) {
+                addDeletions(deletion, distance - 1, deletions);
+            }
+        }
+    }
+
+    /**
+     * @return the optimal string alignment distance between {@code a} and {@code b}, or {@code max + 1} once it is
+     *     known to exceed {@code max}.
+     */
+    static int distance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length(); j++) {
+                final int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int d = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1
+                        && j > 1
+                        && a.charAt(i - 1) == b.charAt(j - 2)
+                        && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    d = Math.min(d, previous2[j - 2] + 1);
+                }
+                current[j] = d;
+                rowMin = Math.min(rowMin, d);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            final int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], max + 1);
+    }
+
+    /**
+     * Terms within the requested distance of one query word.
+     */
+    private static final class Candidates {
+        private int[] termIds = new int[4];
+        private int[] distances = new int[4];
+        private int size;
+        private long rowCount;
+
+        void add(int termId, int distance, int rows) {
+            if (size == termIds.length) {
+                termIds = Arrays.copyOf(termIds, size * 2);
+                distances = Arrays.copyOf(distances, size * 2);
+            }
+            termIds[size] = termId;
+            distances[size] = distance;
+            size++;
+            rowCount += rows;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void sortByDistance() {
+            // Insertion sort; a word rarely has more than a handful of candidate terms.
+            for (int i = 1; i < size; i++) {
+                final int termId = termIds[i];
+                final int distance = distances[i];
+                int j = i - 1;
+                for (; j >= 0 && distances[j] > distance; j--) {
+                    termIds[j + 1] = termIds[j];
+                    distances[j + 1] = distances[j];
+                }
+                termIds[j + 1] = termId;
+                distances[j + 1] = distance;
+            }
+        }
+
+        /**
+         * @return the distance of the closest candidate term in the row's name, or a value above every allowed
+         *     total when there is none.
+         */
+        int distanceTo(int row, int[][] postings) {
+            for (int c = 0; c < size; c++) {
+                if (Arrays.binarySearch(postings[termIds[c]], row) >= 0) {
+                    return distances[c];
+                }
+            }
+            return Integer.MAX_VALUE / 2;
+        }
+    }
+}
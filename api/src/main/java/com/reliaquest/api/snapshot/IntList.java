@@ -0,0 +1,32 @@
+package com.reliaquest.api.snapshot;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of primitive ints, for collecting row and term ids while an index is built.
+ */
+final class IntList {
+
+    private int[] values = new int[4];
+    private int size;
+
+    void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    /**
+     * Adds {@code value} unless it was the last one added, which deduplicates values that arrive in order.
+     */
+    void addIfNotLast(int value) {
+        if (size == 0 || values[size - 1] != value) {
+            add(value);
+        }
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
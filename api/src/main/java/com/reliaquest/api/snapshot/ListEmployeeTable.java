@@ -0,0 +1,67 @@
+package com.reliaquest.api.snapshot;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+
+/**
+ * {@link EmployeeTable} over decoded {@link Employee} objects, as returned by the upstream.
+ */
+public class ListEmployeeTable implements EmployeeTable {
+
+    private final List<Employee> employees;
+
+    public ListEmployeeTable(List<Employee> employees) {
+        this.employees = employees;
+    }
+
+    @Override
+    public int size() {
+        return employees.size();
+    }
+
+    @Override
+    public String id(int row) {
+        final var employee = employees.get(row);
+        return employee == null ? null : employee.getId();
+    }
+
+    @Override
+    public String name(int row) {
+        final var employee = employees.get(row);
+        return employee == null ? null : employee.getEmployeeName();
+    }
+
+    @Override
+    public int salary(int row) {
+        final var employee = employees.get(row);
+        return employee == null ? NULL_INT : EmployeeTable.unboxed(employee.getEmployeeSalary());
+    }
+
+    @Override
+    public int age(int row) {
+        final var employee = employees.get(row);
+        return employee == null ? NULL_INT : EmployeeTable.unboxed(employee.getEmployeeAge());
+    }
+
+    @Override
+    public String title(int row) {
+        final var employee = employees.get(row);
+        return employee == null ? null : employee.getEmployeeTitle();
+    }
+
+    @Override
+    public String email(int row) {
+        final var employee = employees.get(row);
+        return employee == null ? null : employee.getEmployeeEmail();
+    }
+
+    @Override
+    public Employee employee(int row) {
+        return employees.get(row);
+    }
+
+    @Override
+    public List<Employee> employees() {
+        return employees;
+    }
+}
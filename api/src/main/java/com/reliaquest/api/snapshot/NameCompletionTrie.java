@@ -0,0 +1,235 @@
+package com.reliaquest.api.snapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Prefix completion over the words of employee names, such as first and last names. The trie is stored as parallel
+ * primitive arrays (first child, next sibling, label) rather than node objects. Every node also records the heaviest
+ * word below it, so the top completions of a prefix are found best-first without visiting the rest of its subtree.
+ *
+ * <p>Matching is case-insensitive. A word is returned as it was first seen, for example {@code O'Reilly}. Immutable
+ * once built.
+ */
+public final class NameCompletionTrie {
+
+    public enum Weight {
+        /**
+         * Number of employees whose name contains the word.
+         */
+        FREQUENCY,
+        /**
+         * Highest salary among employees whose name contains the word.
+         */
+        HIGHEST_SALARY
+    }
+
+    private static final int NONE = -1;
+
+    /**
+     * Per word, in lower-case order: as first seen, and its weight.
+     */
+    private final String[] words;
+
+    private final long[] weights;
+
+    private final char[] labels;
+    private final int[] firstChild;
+    private final int[] nextSibling;
+
+    /**
+     * Word ending at the node, or {@link #NONE}.
+     */
+    private final int[] word;
+
+    /**
+     * Heaviest word in the node's subtree, the earliest one among equals.
+     */
+    private final int[] bestWord;
+
+    private NameCompletionTrie(String[] words, long[] weights, Nodes nodes) {
+        this.words = words;
+        this.weights = weights;
+        this.labels = Arrays.copyOf(nodes.labels, nodes.size);
+        this.firstChild = Arrays.copyOf(nodes.firstChild, nodes.size);
+        this.nextSibling = Arrays.copyOf(nodes.nextSibling, nodes.size);
+        this.word = Arrays.copyOf(nodes.word, nodes.size);
+        this.bestWord = Arrays.copyOf(nodes.bestWord, nodes.size);
+    }
+
+    public static NameCompletionTrie build(EmployeeTable table, Weight weight) {
+        final Map<String, WordStats> stats = new HashMap<>();
+        for (int row = 0; row < table.size(); row++) {
+            final int salary = table.salary(row);
+            for (String original : NameWords.of(table.name(row))) {
+                final var wordStats = stats.computeIfAbsent(original.toLowerCase(), w -> new WordStats(original));
+                // A word repeated within one name counts once.
+                if (wordStats.lastRow != row) {
+                    wordStats.lastRow = row;
+                    wordStats.frequency++;
+                }
+                if (salary != EmployeeTable.NULL_INT) {
+                    wordStats.highestSalary = Math.max(wordStats.highestSalary, salary);
+                }
+            }
+        }
+
+        final String[] keys = stats.keySet().toArray(String[]::new);
+        Arrays.sort(keys);
+        final String[] words = new String[keys.length];
+        final long[] weights = new long[keys.length];
+        int chars = 0;
+        for (int i = 0; i < keys.length; i++) {
+            final var wordStats = stats.get(keys[i]);
+            words[i] = wordStats.original;
+            weights[i] = weight == Weight.FREQUENCY ? wordStats.frequency : wordStats.highestSalary;
+            chars += keys[i].length();
+        }
+
+        final var nodes = new Nodes(chars + 1, weights);
+        nodes.add(keys, 0, keys.length, 0, '\0');
+        return new NameCompletionTrie(words, weights, nodes);
+    }
+
+    public int wordCount() {
+        return words.length;
+    }
+
+    public int nodeCount() {
+        return labels.length;
+    }
+
+    /**
+     * Completes the last word of {@code prefix}, so that {@code "arturo mo"} is completed like {@code "mo"}.
+     *
+     * @return up to {@code limit} words starting with that word, heaviest first and alphabetically among equals.
+     */
+    public List<String> complete(String prefix, int limit) {
+        final List<String> prefixWords = NameWords.lowerCase(prefix);
+        if (prefixWords.isEmpty() || limit <= 0 || words.length == 0) {
+            return List.of();
+        }
+        final String last = prefixWords.get(prefixWords.size() - 1);
+        int node = 0;
+        for (int i = 0; i < last.length() && node != NONE; i++) {
+            node = child(node, last.charAt(i));
+        }
+        if (node == NONE) {
+            return List.of();
+        }
+
+        // Nodes are queued by their heaviest word and words by their own weight, so words leave in rank order.
+        final var queue = new PriorityQueue<Entry>(Comparator.comparingLong(Entry::weight)
+                .reversed()
+                .thenComparingInt(Entry::word)
+                .thenComparingInt(Entry::node));
+        queue.add(nodeEntry(node));
+        final List<String> completions = new ArrayList<>(Math.min(limit, 16));
+        while (!queue.isEmpty() && completions.size() < limit) {
+            final var entry = queue.poll();
+            if (entry.node() == NONE) {
+                completions.add(words[entry.word()]);
+                continue;
+            }
+            if (word[entry.node()] != NONE) {
+                queue.add(new Entry(weights[word[entry.node()]], word[entry.node()], NONE));
+            }
+            for (int c = firstChild[entry.node()]; c != NONE; c = nextSibling[c]) {
+                queue.add(nodeEntry(c));
+            }
+        }
+        return completions;
+    }
+
+    private Entry nodeEntry(int node) {
+        return new Entry(weights[bestWord[node]], bestWord[node], node);
+    }
+
+    private int child(int node, char label) {
+        for (int c = firstChild[node]; c != NONE; c = nextSibling[c]) {
+            if (labels[c] == label) {
+                return c;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * A node of the trie ({@code node} set) or a word ready to be returned ({@code node} is {@link #NONE}).
+     */
+    private record Entry(long weight, int word, int node) {}
+
+    private static final class WordStats {
+        private final String original;
+        private int frequency;
+        private long highestSalary;
+        private int lastRow = NONE;
+
+        private WordStats(String original) {
+            this.original = original;
+        }
+    }
+
+    private static final class Nodes {
+        private final char[] labels;
+        private final int[] firstChild;
+        private final int[] nextSibling;
+        private final int[] word;
+        private final int[] bestWord;
+        private final long[] weights;
+        private int size;
+
+        private Nodes(int capacity, long[] weights) {
+            this.labels = new char[capacity];
+            this.firstChild = new int[capacity];
+            this.nextSibling = new int[capacity];
+            this.word = new int[capacity];
+            this.bestWord = new int[capacity];
+            this.weights = weights;
+        }
+
+        /**
+         * Adds the node for {@code keys[from, to)}, which share their first {@code depth} characters, and its
+         * subtree.
+         */
+        private int add(String[] keys, int from, int to, int depth, char label) {
+            final int node = size++;
+            labels[node] = label;
+            firstChild[node] = NONE;
+            nextSibling[node] = NONE;
+            word[node] = NONE;
+            bestWord[node] = NONE;
+            int start = from;
+            if (start < to && keys[start].length() == depth) {
+                word[node] = start;
+                bestWord[node] = start;
+                start++;
+            }
+            int previous = NONE;
+            while (start < to) {
+                final char c = keys[start].charAt(depth);
+                int end = start + 1;
+                while (end < to && keys[end].charAt(depth) == c) {
+                    end++;
+                }
+                final int child = add(keys, start, end, depth + 1, c);
+                if (previous == NONE) {
+                    firstChild[node] = child;
+                } else {
+                    nextSibling[previous] = child;
+                }
+                previous = child;
+                if (bestWord[node] == NONE || weights[bestWord[child]] > weights[bestWord[node]]) {
+                    bestWord[node] = bestWord[child];
+                }
+                start = end;
+            }
+            return node;
+        }
+    }
+}
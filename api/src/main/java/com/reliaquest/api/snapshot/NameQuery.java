@@ -0,0 +1,105 @@
+package com.reliaquest.api.snapshot;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Case-insensitive substring match on employee names, with the semantics of
+ * {@code name.toLowerCase().contains(search.toLowerCase())}. Names stored as UTF-8 are matched byte by byte when both
+ * sides are ASCII, so that scans do not create a {@link String} per row; anything else is decoded and matched as text.
+ */
+public final class NameQuery {
+
+    private static final String UPPER_ASCII = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    private final String lowerCase;
+
+    /**
+     * {@code null} when byte matching could differ from {@link String#toLowerCase()}.
+     */
+    private final byte[] asciiLowerCase;
+
+    private NameQuery(String lowerCase, byte[] asciiLowerCase) {
+        this.lowerCase = lowerCase;
+        this.asciiLowerCase = asciiLowerCase;
+    }
+
+    public static NameQuery of(String search) {
+        final var lowerCase = search.toLowerCase();
+        // toLowerCase() follows the default locale, which may not map ASCII letters to ASCII (e.g. Turkish dotless i).
+        final boolean asciiLocale = UPPER_ASCII.toLowerCase().equals("abcdefghijklmnopqrstuvwxyz");
+        final boolean asciiSearch = lowerCase.chars().allMatch(c -> c < 0x80);
+        return new NameQuery(
+                lowerCase, asciiLocale && asciiSearch ? lowerCase.getBytes(StandardCharsets.US_ASCII) : null);
+    }
+
+    public boolean matches(String name) {
+        return name != null && name.toLowerCase().contains(lowerCase);
+    }
+
+    boolean matches(byte[] utf8, int start, int end) {
+        if (asciiLowerCase != null && isAscii(utf8, start, end)) {
+            return indexOf(utf8, start, end) >= 0;
+        }
+        return matches(new String(utf8, start, end - start, StandardCharsets.UTF_8));
+    }
+
+    boolean matches(ByteBuffer utf8, int start, int end) {
+        if (asciiLowerCase != null && isAscii(utf8, start, end)) {
+            return indexOf(utf8, start, end) >= 0;
+        }
+        final byte[] bytes = new byte[end - start];
+        utf8.get(start, bytes);
+        return matches(new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    private int indexOf(byte[] haystack, int start, int end) {
+        final byte[] needle = asciiLowerCase;
+        outer:
+        for (int i = start; i <= end - needle.length; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (lower(haystack[i + j]) != needle[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private int indexOf(ByteBuffer haystack, int start, int end) {
+        final byte[] needle = asciiLowerCase;
+        outer:
+        for (int i = start; i <= end - needle.length; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (lower(haystack.get(i + j)) != needle[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static boolean isAscii(byte[] bytes, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (bytes[i] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAscii(ByteBuffer bytes, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (bytes.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte lower(byte b) {
+        return b >= 'A' && b <= 'Z' ? (byte) (b | 0x20) : b;
+    }
+}
@@ -0,0 +1,47 @@
+package com.reliaquest.api.snapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits employee names into words for the name indexes: runs of letters, digits and apostrophes, so that
+ * {@code "Mary-Jane O'Reilly"} yields {@code Mary}, {@code Jane} and {@code O'Reilly}.
+ */
+final class NameWords {
+
+    private NameWords() {}
+
+    /**
+     * @return the words of {@code text} in their original case; empty for {@code null}.
+     */
+    static List<String> of(String text) {
+        final List<String> words = new ArrayList<>(3);
+        if (text == null) {
+            return words;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            final boolean wordChar = i < text.length() && isWordChar(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(text.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * @return the lower-cased words of {@code text}.
+     */
+    static List<String> lowerCase(String text) {
+        final List<String> words = of(text);
+        words.replaceAll(String::toLowerCase);
+        return words;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '\'';
+    }
+}
@@ -0,0 +1,326 @@
+package com.reliaquest.api.snapshot;
+
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * {@link EmployeeTable} stored outside the Java heap, in two buffers: fixed-width columns and a UTF-8 string arena.
+ * The table is a flyweight over those buffers; reading a column is an absolute buffer read, so scans create no
+ * objects and the collector sees two large buffers per snapshot regardless of its size. The memory is released when
+ * the table becomes unreachable.
+ *
+ * <p>Column layout, each column contiguous and {@code size} entries long: id most and least significant bits
+ * ({@code long}), salary, age, title code, email domain code, name end, email local part end ({@code int}), flags
+ * ({@code byte}). A row's name is followed by its email local part in the arena, and starts where the previous row's
+ * email local part ends. Dictionaries and the rare non-UUID id stay on the heap.
+ */
+public final class OffHeapEmployeeTable implements EmployeeTable {
+
+    private static final int NO_CODE = -1;
+
+    private static final byte NULL_NAME = 1;
+    private static final byte NULL_EMAIL = 1 << 1;
+    private static final byte IRREGULAR_ID = 1 << 2;
+
+    /**
+     * Bytes per row across all columns.
+     */
+    private static final int ROW_WIDTH = 8 + 8 + 4 * 6 + 1;
+
+    private final int size;
+    private final ByteBuffer columns;
+    private final ByteBuffer strings;
+    private final Map<Integer, String> irregularIds;
+    private final String[] titles;
+    private final String[] emailDomains;
+
+    private final int idLeastSignificantOffset;
+    private final int salaryOffset;
+    private final int ageOffset;
+    private final int titleOffset;
+    private final int emailDomainOffset;
+    private final int nameEndOffset;
+    private final int emailEndOffset;
+    private final int flagsOffset;
+
+    private OffHeapEmployeeTable(
+            int size,
+            ByteBuffer columns,
+            ByteBuffer strings,
+            Map<Integer, String> irregularIds,
+            String[] titles,
+            String[] emailDomains) {
+        this.size = size;
+        this.columns = columns.asReadOnlyBuffer().order(ByteOrder.nativeOrder());
+        this.strings = strings.asReadOnlyBuffer();
+        this.irregularIds = irregularIds;
+        this.titles = titles;
+        this.emailDomains = emailDomains;
+        this.idLeastSignificantOffset = 8 * size;
+        this.salaryOffset = 16 * size;
+        this.ageOffset = salaryOffset + 4 * size;
+        this.titleOffset = ageOffset + 4 * size;
+        this.emailDomainOffset = titleOffset + 4 * size;
+        this.nameEndOffset = emailDomainOffset + 4 * size;
+        this.emailEndOffset = nameEndOffset + 4 * size;
+        this.flagsOffset = emailEndOffset + 4 * size;
+    }
+
+    /**
+     * Copies the employees into direct buffers.
+     */
+    public static OffHeapEmployeeTable of(List<Employee> employees) {
+        return of(employees, ByteBuffer::allocateDirect);
+    }
+
+    /**
+     * Copies the employees into buffers mapped from files in {@code directory}. The files are deleted once mapped,
+     * so the page cache backs the table and the space is reclaimed when the mapping is released.
+     */
+    public static OffHeapEmployeeTable mapped(List<Employee> employees, Path directory) {
+        return of(employees, capacity -> map(directory, capacity));
+    }
+
+    /**
+     * @return {@code table} itself, or a copy of it in heap buffers with the same layout.
+     */
+    static OffHeapEmployeeTable copyOf(EmployeeTable table) {
+        if (table instanceof OffHeapEmployeeTable offHeap) {
+            return offHeap;
+        }
+        return of(table.employees(), ByteBuffer::allocate);
+    }
+
+    /**
+     * Wraps buffers holding a table's columns and string arena, e.g. those of a {@link SnapshotFile}. The columns must
+     * be in native byte order.
+     */
+    static OffHeapEmployeeTable restore(
+            int size,
+            ByteBuffer columns,
+            ByteBuffer strings,
+            Map<Integer, String> irregularIds,
+            String[] titles,
+            String[] emailDomains) {
+        if (size < 0 || columns.capacity() != (long) ROW_WIDTH * size) {
+            throw new IllegalArgumentException("Columns do not hold " + size + " rows");
+        }
+        return new OffHeapEmployeeTable(size, columns, strings, irregularIds, titles, emailDomains);
+    }
+
+    private static OffHeapEmployeeTable of(List<Employee> employees, Allocator allocator) {
+        final var rows = employees.stream().filter(e -> e != null).toList();
+        final int size = rows.size();
+        final var encodedNames = new byte[size][];
+        final var encodedEmailLocalParts = new byte[size][];
+        final var emailDomains = new String[size];
+        long arenaSize = 0;
+        for (int row = 0; row < size; row++) {
+            final var employee = rows.get(row);
+            encodedNames[row] = utf8(employee.getEmployeeName());
+            final var email = employee.getEmployeeEmail();
+            final int at = email == null ? -1 : email.lastIndexOf('@');
+            encodedEmailLocalParts[row] = utf8(at < 0 ? email : email.substring(0, at));
+            emailDomains[row] = at < 0 ? null : email.substring(at + 1);
+            arenaSize += length(encodedNames[row]) + length(encodedEmailLocalParts[row]);
+        }
+        if (arenaSize > Integer.MAX_VALUE || (long) ROW_WIDTH * size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many employees for an off-heap table: " + size);
+        }
+
+        final var columns = allocator.allocate(ROW_WIDTH * size).order(ByteOrder.nativeOrder());
+        final var strings = allocator.allocate((int) arenaSize);
+        final var irregularIds = new HashMap<Integer, String>();
+        final var titleDictionary = new LinkedHashMap<String, Integer>();
+        final var domainDictionary = new LinkedHashMap<String, Integer>();
+        final int salaryOffset = 16 * size;
+        final int ageOffset = salaryOffset + 4 * size;
+        final int titleOffset = ageOffset + 4 * size;
+        final int emailDomainOffset = titleOffset + 4 * size;
+        final int nameEndOffset = emailDomainOffset + 4 * size;
+        final int emailEndOffset = nameEndOffset + 4 * size;
+        final int flagsOffset = emailEndOffset + 4 * size;
+
+        for (int row = 0; row < size; row++) {
+            final var employee = rows.get(row);
+            byte flags = 0;
+            final UUID uuid = Uuids.parseCanonical(employee.getId());
+            if (uuid == null) {
+                irregularIds.put(row, employee.getId());
+                flags |= IRREGULAR_ID;
+            } else {
+                columns.putLong(8 * row, uuid.getMostSignificantBits());
+                columns.putLong(8 * size + 8 * row, uuid.getLeastSignificantBits());
+            }
+            columns.putInt(salaryOffset + 4 * row, EmployeeTable.unboxed(employee.getEmployeeSalary()));
+            columns.putInt(ageOffset + 4 * row, EmployeeTable.unboxed(employee.getEmployeeAge()));
+            columns.putInt(titleOffset + 4 * row, code(titleDictionary, employee.getEmployeeTitle()));
+            columns.putInt(emailDomainOffset + 4 * row, code(domainDictionary, emailDomains[row]));
+
+            if (encodedNames[row] == null) {
+                flags |= NULL_NAME;
+            } else {
+                strings.put(encodedNames[row]);
+            }
+            columns.putInt(nameEndOffset + 4 * row, strings.position());
+            if (encodedEmailLocalParts[row] == null) {
+                flags |= NULL_EMAIL;
+            } else {
+                strings.put(encodedEmailLocalParts[row]);
+            }
+            columns.putInt(emailEndOffset + 4 * row, strings.position());
+            columns.put(flagsOffset + row, flags);
+        }
+
+        return new OffHeapEmployeeTable(
+                size,
+                columns,
+                strings.clear(),
+                irregularIds,
+                titleDictionary.keySet().toArray(String[]::new),
+                domainDictionary.keySet().toArray(String[]::new));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String id(int row) {
+        if ((flags(row) & IRREGULAR_ID) != 0) {
+            return irregularIds.get(row);
+        }
+        return new UUID(columns.getLong(8 * row), columns.getLong(idLeastSignificantOffset + 8 * row)).toString();
+    }
+
+    @Override
+    public String name(int row) {
+        return (flags(row) & NULL_NAME) != 0 ? null : decode(nameStart(row), nameEnd(row));
+    }
+
+    @Override
+    public boolean nameMatches(int row, NameQuery query) {
+        return (flags(row) & NULL_NAME) == 0 && query.matches(strings, nameStart(row), nameEnd(row));
+    }
+
+    @Override
+    public int salary(int row) {
+        return columns.getInt(salaryOffset + 4 * row);
+    }
+
+    @Override
+    public int age(int row) {
+        return columns.getInt(ageOffset + 4 * row);
+    }
+
+    @Override
+    public String title(int row) {
+        final int code = columns.getInt(titleOffset + 4 * row);
+        return code == NO_CODE ? null : titles[code];
+    }
+
+    /*
+     * A domain code of NO_CODE means the address had no '@' and is stored whole as the local part.
+     */
+    @Override
+    public String email(int row) {
+        if ((flags(row) & NULL_EMAIL) != 0) {
+            return null;
+        }
+        final var local = decode(nameEnd(row), columns.getInt(emailEndOffset + 4 * row));
+        final int code = columns.getInt(emailDomainOffset + 4 * row);
+        return code == NO_CODE ? local : local + '@' + emailDomains[code];
+    }
+
+    /**
+     * @return off-heap bytes held by this table.
+     */
+    public long sizeInBytes() {
+        return (long) columns.capacity() + strings.capacity();
+    }
+
+    ByteBuffer columns() {
+        return columns.duplicate().clear();
+    }
+
+    ByteBuffer strings() {
+        return strings.duplicate().clear();
+    }
+
+    Map<Integer, String> irregularIds() {
+        return irregularIds;
+    }
+
+    String[] titles() {
+        return titles;
+    }
+
+    String[] emailDomains() {
+        return emailDomains;
+    }
+
+    private byte flags(int row) {
+        return columns.get(flagsOffset + row);
+    }
+
+    private int nameStart(int row) {
+        return row == 0 ? 0 : columns.getInt(emailEndOffset + 4 * (row - 1));
+    }
+
+    private int nameEnd(int row) {
+        return columns.getInt(nameEndOffset + 4 * row);
+    }
+
+    private String decode(int start, int end) {
+        final byte[] bytes = new byte[end - start];
+        strings.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    private static int code(Map<String, Integer> dictionary, String value) {
+        if (value == null) {
+            return NO_CODE;
+        }
+        return dictionary.computeIfAbsent(value, v -> dictionary.size());
+    }
+
+    private static ByteBuffer map(Path directory, int capacity) {
+        try {
+            Files.createDirectories(directory);
+            final var file = Files.createTempFile(directory, "employees-", ".snapshot");
+            try (var channel = FileChannel.open(
+                    file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE)) {
+                return channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not map employee snapshot in " + directory, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Allocator {
+        ByteBuffer allocate(int capacity);
+    }
+}
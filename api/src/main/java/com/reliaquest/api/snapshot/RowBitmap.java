@@ -0,0 +1,312 @@
+package com.reliaquest.api.snapshot;
+
+import java.util.Arrays;
+
+/**
+ * Compressed set of table rows in the style of a roaring bitmap. Rows are grouped by their upper 16 bits, and each
+ * group of 65536 rows is stored either as a sorted array of its lower 16 bits while it holds at most
+ * {@value #ARRAY_MAX} rows, or as a plain 8 KiB bitmap once it holds more. Sparse sets stay small and dense sets stay
+ * fast to combine, and {@link #and} and {@link #or} only touch groups that are present. Immutable.
+ */
+final class RowBitmap {
+
+    static final int ARRAY_MAX = 4096;
+
+    private static final int BITMAP_WORDS = 1 << 10;
+
+    private static final RowBitmap EMPTY = new RowBitmap(new char[0], new Object[0], new int[0], 0);
+
+    /**
+     * Upper 16 bits of the rows in each container, ascending.
+     */
+    private final char[] keys;
+
+    /**
+     * Per key, a {@code char[]} of lower 16 bits, ascending, or a {@code long[]} bitmap of {@link #BITMAP_WORDS} words.
+     */
+    private final Object[] containers;
+
+    private final int[] cardinalities;
+    private final int size;
+
+    private RowBitmap(char[] keys, Object[] containers, int[] cardinalities, int size) {
+        this.keys = keys;
+        this.containers = containers;
+        this.cardinalities = cardinalities;
+        this.size = size;
+    }
+
+    static RowBitmap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param rows ascending and distinct.
+     */
+    static RowBitmap of(int[] rows) {
+        int keyCount = 0;
+        for (int i = 0; i < rows.length; i++) {
+            if (rows[i] < 0 || (i > 0 && rows[i] <= rows[i - 1])) {
+                throw new IllegalArgumentException("Rows must be ascending and not negative at index " + i);
+            }
+            if (i == 0 || rows[i] >>> 16 != rows[i - 1] >>> 16) {
+                keyCount++;
+            }
+        }
+        final var result = new Result(keyCount);
+        for (int start = 0; start < rows.length; ) {
+            final int key = rows[start] >>> 16;
+            int end = start + 1;
+            while (end < rows.length && rows[end] >>> 16 == key) {
+                end++;
+            }
+            final char[] values = new char[end - start];
+            for (int i = start; i < end; i++) {
+                values[i - start] = (char) rows[i];
+            }
+            final Object container = values.length <= ARRAY_MAX ? values : set(new long[BITMAP_WORDS], values);
+            result.add((char) key, container, values.length);
+            start = end;
+        }
+        return result.build();
+    }
+
+    int cardinality() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(int row) {
+        final int index = Arrays.binarySearch(keys, (char) (row >>> 16));
+        if (row < 0 || index < 0) {
+            return false;
+        }
+        final char low = (char) row;
+        return containers[index] instanceof long[] bitmap
+                ? (bitmap[low >>> 6] & (1L << low)) != 0
+                : Arrays.binarySearch((char[]) containers[index], low) >= 0;
+    }
+
+    RowBitmap and(RowBitmap other) {
+        final var result = new Result(Math.min(keys.length, other.keys.length));
+        for (int i = 0, j = 0; i < keys.length && j < other.keys.length; ) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.add(keys[i], and(containers[i], other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result.build();
+    }
+
+    RowBitmap or(RowBitmap other) {
+        final var result = new Result(keys.length + other.keys.length);
+        int i = 0;
+        int j = 0;
+        while (i < keys.length || j < other.keys.length) {
+            if (j == other.keys.length || (i < keys.length && keys[i] < other.keys[j])) {
+                result.add(keys[i], containers[i], cardinalities[i]);
+                i++;
+            } else if (i == keys.length || keys[i] > other.keys[j]) {
+                result.add(other.keys[j], other.containers[j], other.cardinalities[j]);
+                j++;
+            } else {
+                result.add(keys[i], or(containers[i], other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * @return up to {@code limit} rows, ascending.
+     */
+    int[] toArray(int limit) {
+        final int[] rows = new int[Math.min(limit, size)];
+        int n = 0;
+        for (int i = 0; i < keys.length && n < rows.length; i++) {
+            final int high = keys[i] << 16;
+            if (containers[i] instanceof long[] bitmap) {
+                for (int w = 0; w < bitmap.length && n < rows.length; w++) {
+                    for (long word = bitmap[w]; word != 0 && n < rows.length; word &= word - 1) {
+                        rows[n++] = high | (w << 6) | Long.numberOfTrailingZeros(word);
+                    }
+                }
+            } else {
+                for (char low : (char[]) containers[i]) {
+                    if (n == rows.length) {
+                        break;
+                    }
+                    rows[n++] = high | low;
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static Object and(Object a, Object b) {
+        if (a instanceof long[] left && b instanceof long[] right) {
+            final long[] words = new long[BITMAP_WORDS];
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                words[w] = left[w] & right[w];
+            }
+            return compact(words);
+        }
+        if (a instanceof long[] bitmap) {
+            return filter((char[]) b, bitmap);
+        }
+        if (b instanceof long[] bitmap) {
+            return filter((char[]) a, bitmap);
+        }
+        final char[] left = (char[]) a;
+        final char[] right = (char[]) b;
+        final char[] values = new char[Math.min(left.length, right.length)];
+        int n = 0;
+        for (int i = 0, j = 0; i < left.length && j < right.length; ) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                values[n++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(values, n);
+    }
+
+    private static Object or(Object a, Object b) {
+        if (a instanceof long[] left && b instanceof long[] right) {
+            final long[] words = new long[BITMAP_WORDS];
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                words[w] = left[w] | right[w];
+            }
+            return words;
+        }
+        if (a instanceof long[] bitmap) {
+            return set(bitmap.clone(), (char[]) b);
+        }
+        if (b instanceof long[] bitmap) {
+            return set(bitmap.clone(), (char[]) a);
+        }
+        final char[] left = (char[]) a;
+        final char[] right = (char[]) b;
+        if (left.length + right.length > ARRAY_MAX) {
+            return compact(set(set(new long[BITMAP_WORDS], left), right));
+        }
+        final char[] values = new char[left.length + right.length];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length || j < right.length) {
+            if (j == right.length || (i < left.length && left[i] < right[j])) {
+                values[n++] = left[i++];
+            } else if (i == left.length || left[i] > right[j]) {
+                values[n++] = right[j++];
+            } else {
+                values[n++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(values, n);
+    }
+
+    private static char[] filter(char[] values, long[] bitmap) {
+        final char[] kept = new char[values.length];
+        int n = 0;
+        for (char value : values) {
+            if ((bitmap[value >>> 6] & (1L << value)) != 0) {
+                kept[n++] = value;
+            }
+        }
+        return Arrays.copyOf(kept, n);
+    }
+
+    private static long[] set(long[] bitmap, char[] values) {
+        for (char value : values) {
+            bitmap[value >>> 6] |= 1L << value;
+        }
+        return bitmap;
+    }
+
+    /**
+     * @return {@code bitmap}, or its values as an array when there are few enough of them.
+     */
+    private static Object compact(long[] bitmap) {
+        final int cardinality = cardinality(bitmap);
+        if (cardinality > ARRAY_MAX) {
+            return bitmap;
+        }
+        final char[] values = new char[cardinality];
+        int n = 0;
+        for (int w = 0; w < bitmap.length; w++) {
+            for (long word = bitmap[w]; word != 0; word &= word - 1) {
+                values[n++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+            }
+        }
+        return values;
+    }
+
+    private static int cardinality(Object container) {
+        if (container instanceof long[] bitmap) {
+            int cardinality = 0;
+            for (long word : bitmap) {
+                cardinality += Long.bitCount(word);
+            }
+            return cardinality;
+        }
+        return ((char[]) container).length;
+    }
+
+    /**
+     * Collects the containers of a result in key order, dropping empty ones.
+     */
+    private static final class Result {
+        private final char[] keys;
+        private final Object[] containers;
+        private final int[] cardinalities;
+        private int count;
+        private int size;
+
+        private Result(int capacity) {
+            this.keys = new char[capacity];
+            this.containers = new Object[capacity];
+            this.cardinalities = new int[capacity];
+        }
+
+        void add(char key, Object container) {
+            add(key, container, cardinality(container));
+        }
+
+        void add(char key, Object container, int cardinality) {
+            if (cardinality == 0) {
+                return;
+            }
+            keys[count] = key;
+            containers[count] = container;
+            cardinalities[count] = cardinality;
+            count++;
+            size += cardinality;
+        }
+
+        RowBitmap build() {
+            return count == 0
+                    ? EMPTY
+                    : new RowBitmap(
+                            Arrays.copyOf(keys, count),
+                            Arrays.copyOf(containers, count),
+                            Arrays.copyOf(cardinalities, count),
+                            size);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.reliaquest.api.snapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * An {@link EmployeeSnapshot} on disk, laid out so that it can be served straight from a read-only mapping: a header,
+ * then the columns and string arena of an {@link OffHeapEmployeeTable} byte for byte, then the heap-resident parts of
+ * the table. Reading a file costs a checksum pass and the decoding of the dictionaries; rows are never decoded.
+ *
+ * <p>Header, big-endian: magic, format version, CRC32C of everything after the checksum field, byte order of the
+ * columns, snapshot version, load time in epoch milliseconds, row count, and the lengths of the three sections. The
+ * metadata section holds the upstream the snapshot came from, the title and email domain dictionaries and the
+ * irregular ids, as length-prefixed UTF-8. The same bytes are sent to peers, see {@code PeerSnapshotClient}.
+ */
+public final class SnapshotFile {
+
+    private static final int MAGIC = 0x454D5053;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 48;
+    private static final int CHECKSUMMED_FROM = 12;
+
+    private static final byte BIG_ENDIAN = 0;
+    private static final byte LITTLE_ENDIAN = 1;
+
+    private SnapshotFile() {}
+
+    /**
+     * Writes {@code snapshot} to {@code file}, replacing it atomically: the file is written under a temporary name
+     * next to it, forced to disk and then moved into place, so a crash leaves either the old or the new file.
+     *
+     * @param source the upstream the snapshot was loaded from; {@link #read} only accepts a file of the same source.
+     */
+    public static void write(EmployeeSnapshot snapshot, String source, Path file) throws IOException {
+        final var directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        final var temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (var channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                write(snapshot, source, channel);
+                channel.force(true);
+            }
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Writes {@code snapshot} in the file format to {@code channel}, e.g. to send it to a peer.
+     */
+    public static void write(EmployeeSnapshot snapshot, String source, WritableByteChannel channel)
+            throws IOException {
+        final var table = OffHeapEmployeeTable.copyOf(snapshot.table());
+        final var columns = table.columns();
+        final var strings = table.strings();
+        final var metadata = ByteBuffer.wrap(metadata(source, table));
+
+        final var header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putInt(0)
+                .put(ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? BIG_ENDIAN : LITTLE_ENDIAN)
+                .put(new byte[3])
+                .putLong(snapshot.version())
+                .putLong(snapshot.loadedAt().toEpochMilli())
+                .putInt(table.size())
+                .putInt(columns.remaining())
+                .putInt(strings.remaining())
+                .putInt(metadata.remaining())
+                .flip();
+        final var checksum = new CRC32C();
+        checksum.update(header.slice(CHECKSUMMED_FROM, HEADER_SIZE - CHECKSUMMED_FROM));
+        checksum.update(columns.duplicate());
+        checksum.update(strings.duplicate());
+        checksum.update(metadata.duplicate());
+        header.putInt(8, (int) checksum.getValue());
+
+        for (ByteBuffer section : new ByteBuffer[] {header, columns, strings, metadata}) {
+            while (section.hasRemaining()) {
+                channel.write(section);
+            }
+        }
+    }
+
+    /**
+     * Maps {@code file} and verifies it. The returned snapshot is {@link EmployeeSnapshot#stale() stale}, and its
+     * table reads from the mapping, which stays valid after the file is replaced.
+     *
+     * @throws IOException if the file cannot be read, is corrupt, was written on a platform of another byte order or
+     *     holds a snapshot of another source.
+     */
+    public static EmployeeSnapshot read(Path file, String expectedSource) throws IOException {
+        final ByteBuffer mapped;
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Not a snapshot file: " + file);
+            }
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        final var snapshot = read(mapped, expectedSource, file.toString());
+        return new EmployeeSnapshot(snapshot.version(), snapshot.table(), snapshot.loadedAt(), true);
+    }
+
+    /**
+     * Verifies a snapshot in the file format, e.g. one received from a peer, and returns it with a table over
+     * {@code bytes}.
+     *
+     * @param origin where the bytes came from, for error messages.
+     * @throws IOException under the same conditions as {@link #read(Path, String)}.
+     */
+    public static EmployeeSnapshot read(ByteBuffer bytes, String expectedSource, String origin) throws IOException {
+        final var buffer = bytes.slice();
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a snapshot file: " + origin);
+        }
+        if (buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("Unsupported snapshot format " + buffer.getInt(4) + ": " + origin);
+        }
+        final var checksum = new CRC32C();
+        checksum.update(buffer.slice(CHECKSUMMED_FROM, buffer.capacity() - CHECKSUMMED_FROM));
+        if ((int) checksum.getValue() != buffer.getInt(8)) {
+            throw new IOException("Checksum mismatch: " + origin);
+        }
+        final var byteOrder = buffer.get(12) == BIG_ENDIAN ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+        if (byteOrder != ByteOrder.nativeOrder()) {
+            throw new IOException("Snapshot was written in " + byteOrder + " byte order: " + origin);
+        }
+
+        final long version = buffer.getLong(16);
+        final var loadedAt = Instant.ofEpochMilli(buffer.getLong(24));
+        final int size = buffer.getInt(32);
+        final long columnsLength = buffer.getInt(36) & 0xFFFFFFFFL;
+        final long stringsLength = buffer.getInt(40) & 0xFFFFFFFFL;
+        final long metadataLength = buffer.getInt(44) & 0xFFFFFFFFL;
+        if (HEADER_SIZE + columnsLength + stringsLength + metadataLength != buffer.capacity()) {
+            throw new IOException("Section lengths do not match the snapshot size: " + origin);
+        }
+        try {
+            final int stringsFrom = HEADER_SIZE + (int) columnsLength;
+            final var columns = buffer.slice(HEADER_SIZE, (int) columnsLength);
+            final var strings = buffer.slice(stringsFrom, (int) stringsLength);
+            final var metadata = buffer.slice(stringsFrom + (int) stringsLength, (int) metadataLength);
+
+            final var source = readString(metadata);
+            if (!expectedSource.equals(source)) {
+                throw new IOException("Snapshot was loaded from " + source + ", not " + expectedSource + ": " + origin);
+            }
+            final var titles = readStrings(metadata);
+            final var emailDomains = readStrings(metadata);
+            final int irregularCount = metadata.getInt();
+            final var irregularIds = new HashMap<Integer, String>(irregularCount);
+            for (int i = 0; i < irregularCount; i++) {
+                irregularIds.put(metadata.getInt(), readString(metadata));
+            }
+            final var table =
+                    OffHeapEmployeeTable.restore(size, columns, strings, irregularIds, titles, emailDomains);
+            return new EmployeeSnapshot(version, table, loadedAt);
+        } catch (RuntimeException e) {
+            throw new IOException("Malformed snapshot: " + origin, e);
+        }
+    }
+
+    private static byte[] metadata(String source, OffHeapEmployeeTable table) throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(bytes)) {
+            writeString(out, source);
+            writeStrings(out, table.titles());
+            writeStrings(out, table.emailDomains());
+            out.writeInt(table.irregularIds().size());
+            for (Map.Entry<Integer, String> entry : table.irregularIds().entrySet()) {
+                out.writeInt(entry.getKey());
+                writeString(out, entry.getValue());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeStrings(DataOutputStream out, String[] values) throws IOException {
+        out.writeInt(values.length);
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    /*
+     * A length of -1 stands for null, e.g. the id of an employee without one.
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String[] readStrings(ByteBuffer in) {
+        final var values = new String[in.getInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = readString(in);
+        }
+        return values;
+    }
+
+    private static String readString(ByteBuffer in) {
+        final int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,74 @@
+package com.reliaquest.api.snapshot;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Immutable sequence of strings stored as UTF-8 in one byte array, addressed by index. Costs the encoded bytes plus
+ * four bytes per entry, instead of a {@link String} header and backing array each.
+ */
+final class Utf8Arena {
+
+    private final byte[] bytes;
+    private final int[] offsets;
+    private final BitSet nulls;
+
+    private Utf8Arena(byte[] bytes, int[] offsets, BitSet nulls) {
+        this.bytes = bytes;
+        this.offsets = offsets;
+        this.nulls = nulls;
+    }
+
+    String get(int index) {
+        if (nulls.get(index)) {
+            return null;
+        }
+        final int start = offsets[index];
+        return new String(bytes, start, offsets[index + 1] - start, StandardCharsets.UTF_8);
+    }
+
+    boolean matches(int index, NameQuery query) {
+        return !nulls.get(index) && query.matches(bytes, offsets[index], offsets[index + 1]);
+    }
+
+    long sizeInBytes() {
+        return bytes.length + 4L * offsets.length + nulls.size() / 8;
+    }
+
+    static final class Builder {
+        private byte[] bytes;
+        private final int[] offsets;
+        private final BitSet nulls = new BitSet();
+        private int count;
+
+        Builder(int capacity, int expectedLength) {
+            this.bytes = new byte[Math.max(16, capacity * expectedLength)];
+            this.offsets = new int[capacity + 1];
+        }
+
+        void add(String value) {
+            int end = offsets[count];
+            if (value == null) {
+                nulls.set(count);
+            } else {
+                final byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+                ensureCapacity(end + encoded.length);
+                System.arraycopy(encoded, 0, bytes, end, encoded.length);
+                end += encoded.length;
+            }
+            offsets[++count] = end;
+        }
+
+        Utf8Arena build() {
+            return new Utf8Arena(Arrays.copyOf(bytes, offsets[count]), offsets, nulls);
+        }
+
+        private void ensureCapacity(int required) {
+            if (required > bytes.length) {
+                final int doubled = (int) Math.min(Integer.MAX_VALUE - 8, bytes.length * 2L);
+                bytes = Arrays.copyOf(bytes, Math.max(required, doubled));
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.reliaquest.api.snapshot;
+
+import java.util.UUID;
+
+final class Uuids {
+
+    private Uuids() {}
+
+    /**
+     * @return the UUID if {@code id} is in canonical (lower case, 8-4-4-4-12) form, otherwise {@code null}.
+     *     UUID.fromString also accepts forms that would not round-trip through {@link UUID#toString()}.
+     */
+    static UUID parseCanonical(String id) {
+        if (id == null || id.length() != 36) {
+            return null;
+        }
+        try {
+            final var uuid = UUID.fromString(id);
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.reliaquest.api.trace;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+/**
+ * Timeline of one inbound request: its upstream attempts, retry backoffs, result and response serialization, each
+ * with the threads it ran on. Carried in the Reactor context under {@link #CONTEXT_KEY}.
+ *
+ * <p>Spans are collected for every traced request but only kept when the request turns out to be slow, so a fast
+ * request pays for a few small allocations. Spans ending after the trace finished are dropped, e.g. those of a shared
+ * snapshot load that outlived the request that started it.
+ */
+public final class RequestTrace {
+
+    public static final Object CONTEXT_KEY = RequestTrace.class;
+
+    private final String method;
+    private final String uri;
+    private final String thread = Thread.currentThread().getName();
+    private final long startedAt;
+    private final long startedAtMillis = System.currentTimeMillis();
+
+    // Guarded by this.
+    private final List<Span> spans = new ArrayList<>(4);
+    private Timing serialization;
+    private boolean finished;
+
+    public RequestTrace(String method, String uri) {
+        this(method, uri, System.nanoTime());
+    }
+
+    RequestTrace(String method, String uri, long startedAt) {
+        this.method = method;
+        this.uri = uri;
+        this.startedAt = startedAt;
+    }
+
+    public static Optional<RequestTrace> from(ContextView context) {
+        return context.getOrEmpty(CONTEXT_KEY);
+    }
+
+    /**
+     * Makes the trace visible to {@code result}'s upstream chain, and records when and on which thread the result
+     * arrives.
+     */
+    public <T> Mono<T> traced(Mono<T> result) {
+        return Mono.defer(() -> {
+                    final var timing = start(Span.Kind.RESULT, "result");
+                    return result.doOnEach(signal -> {
+                        if (signal.isOnComplete() || signal.isOnError()) {
+                            timing.end(null, null, signal.isOnError() ? "failed" : "completed");
+                        }
+                    });
+                })
+                .contextWrite(context -> context.put(CONTEXT_KEY, this));
+    }
+
+    /**
+     * Starts timing a span on the current thread; it is recorded once {@link Timing#end ended}.
+     */
+    public Timing start(Span.Kind kind, String name) {
+        return new Timing(kind, name);
+    }
+
+    public synchronized void serializing() {
+        if (serialization == null) {
+            serialization = start(Span.Kind.SERIALIZATION, "response body");
+        }
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startedAt;
+    }
+
+    /**
+     * Stops collecting spans; the serialization span, if any, ends now.
+     */
+    synchronized void finish() {
+        if (serialization != null) {
+            add(serialization.toSpan(null, null, "completed"));
+        }
+        finished = true;
+    }
+
+    synchronized SlowRequest toSlowRequest(String endpoint, int status, long durationNanos, long thresholdNanos) {
+        final List<Span> ordered = new ArrayList<>(spans);
+        ordered.sort((left, right) -> Long.compare(left.offsetMicros(), right.offsetMicros()));
+        return new SlowRequest(
+                Instant.ofEpochMilli(startedAtMillis),
+                method,
+                endpoint,
+                uri,
+                status,
+                micros(durationNanos),
+                micros(thresholdNanos),
+                thread,
+                threadHops(ordered),
+                List.copyOf(ordered));
+    }
+
+    private synchronized void add(Span span) {
+        if (!finished) {
+            spans.add(span);
+        }
+    }
+
+    private int threadHops(List<Span> ordered) {
+        int hops = 0;
+        String last = thread;
+        for (var span : ordered) {
+            for (var next : new String[] {span.thread(), span.completedOn()}) {
+                if (!Objects.equals(last, next)) {
+                    hops++;
+                    last = next;
+                }
+            }
+        }
+        return hops;
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    /**
+     * A span that has started but not yet ended.
+     */
+    public final class Timing {
+        private final Span.Kind kind;
+        private final String name;
+        private final String thread = Thread.currentThread().getName();
+        private final long startedAt = System.nanoTime();
+
+        private Timing(Span.Kind kind, String name) {
+            this.kind = kind;
+            this.name = name;
+        }
+
+        public void end(Integer status, Long bytes, String outcome) {
+            add(toSpan(status, bytes, outcome));
+        }
+
+        private Span toSpan(Integer status, Long bytes, String outcome) {
+            return new Span(
+                    kind,
+                    name,
+                    micros(startedAt - RequestTrace.this.startedAt),
+                    micros(System.nanoTime() - startedAt),
+                    thread,
+                    Thread.currentThread().getName(),
+                    status,
+                    bytes,
+                    outcome);
+        }
+    }
+}
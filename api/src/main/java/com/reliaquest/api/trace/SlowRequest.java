@@ -0,0 +1,23 @@
+package com.reliaquest.api.trace;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A captured inbound request that took at least the slow request threshold.
+ *
+ * @param endpoint the matched handler pattern, e.g. {@code /api/v1/employee/{id}}, if any
+ * @param thread the servlet thread that handled the request
+ * @param threadHops how often the work moved between threads, following the spans in order
+ */
+public record SlowRequest(
+        Instant startedAt,
+        String method,
+        String endpoint,
+        String uri,
+        int status,
+        long durationMicros,
+        long thresholdMicros,
+        String thread,
+        int threadHops,
+        List<Span> spans) {}
@@ -0,0 +1,39 @@
+package com.reliaquest.api.trace;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code /actuator/slowrequests}: the requests captured by {@link SlowRequestRecorder}, newest first. A {@code DELETE}
+ * empties the buffer.
+ */
+@Component
+@Endpoint(id = "slowrequests")
+@RequiredArgsConstructor
+public class SlowRequestEndpoint {
+
+    private final SlowRequestRecorder slowRequestRecorder;
+
+    @ReadOperation
+    public Report slowRequests() {
+        return new Report(
+                TimeUnit.NANOSECONDS.toMicros(slowRequestRecorder.thresholdNanos()),
+                slowRequestRecorder.captured(),
+                slowRequestRecorder.slowRequests());
+    }
+
+    @DeleteOperation
+    public void clear() {
+        slowRequestRecorder.clear();
+    }
+
+    /**
+     * @param captured requests captured since startup, including those no longer held
+     */
+    public record Report(long thresholdMicros, long captured, List<SlowRequest> requests) {}
+}
@@ -0,0 +1,140 @@
+package com.reliaquest.api.trace;
+
+import com.reliaquest.api.config.SlowRequestProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the timelines of the slowest recent inbound requests. A request is captured when it took at least a
+ * percentile of recent inbound latencies, bounded by the configured minimum and maximum. Captures go into a
+ * fixed-size ring buffer that writers claim slots in with a single atomic increment, overwriting the oldest capture;
+ * readers copy it without blocking writers.
+ *
+ * <p>Publishes {@code mock.api.requests.latency}, {@code mock.api.slow-requests.captured} and the current
+ * {@code mock.api.slow-requests.threshold}.
+ */
+@Slf4j
+@Component
+public class SlowRequestRecorder {
+
+    private static final long THRESHOLD_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final SlowRequestProperties slowRequestProperties;
+    private final Timer latency;
+    private final Counter capturedCounter;
+    private final AtomicReferenceArray<SlowRequest> ring;
+    private final AtomicLong captured = new AtomicLong();
+
+    private volatile long thresholdNanos;
+    private volatile long thresholdComputedAt;
+
+    public SlowRequestRecorder(SlowRequestProperties slowRequestProperties, MeterRegistry meterRegistry) {
+        if (slowRequestProperties.getCapacity() < 1) {
+            throw new IllegalArgumentException("Slow request capacity must be positive");
+        }
+        this.slowRequestProperties = slowRequestProperties;
+        this.latency = Timer.builder("mock.api.requests.latency")
+                .description("Latency of traced inbound requests")
+                .publishPercentiles(slowRequestProperties.getPercentile())
+                .distributionStatisticExpiry(Duration.ofMinutes(1))
+                .register(meterRegistry);
+        this.capturedCounter = Counter.builder("mock.api.slow-requests.captured").register(meterRegistry);
+        Gauge.builder("mock.api.slow-requests.threshold", this, recorder -> recorder.thresholdNanos / 1e6)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.ring = new AtomicReferenceArray<>(slowRequestProperties.getCapacity());
+        this.thresholdNanos = clamp(slowRequestProperties.getInitialThreshold().toNanos());
+        this.thresholdComputedAt = System.nanoTime();
+    }
+
+    /**
+     * Finishes the trace and captures it if the request was slow.
+     *
+     * @param endpoint the matched handler pattern, if any
+     */
+    public void complete(RequestTrace trace, String endpoint, int status) {
+        final long duration = trace.elapsedNanos();
+        trace.finish();
+        latency.record(duration, TimeUnit.NANOSECONDS);
+        final long threshold = thresholdNanos();
+        if (duration < threshold) {
+            return;
+        }
+        final var slowRequest = trace.toSlowRequest(endpoint, status, duration, threshold);
+        ring.set((int) (captured.getAndIncrement() % ring.length()), slowRequest);
+        capturedCounter.increment();
+        log.debug(
+                "Captured slow request {} {} after {} ms",
+                slowRequest.method(),
+                slowRequest.uri(),
+                TimeUnit.NANOSECONDS.toMillis(duration));
+    }
+
+    /**
+     * @return the captured requests, newest first.
+     */
+    public List<SlowRequest> slowRequests() {
+        final List<SlowRequest> requests = new ArrayList<>(ring.length());
+        for (int i = 0; i < ring.length(); i++) {
+            final var request = ring.get(i);
+            if (request != null) {
+                requests.add(request);
+            }
+        }
+        requests.sort(Comparator.comparing(SlowRequest::startedAt).reversed());
+        return requests;
+    }
+
+    public void clear() {
+        for (int i = 0; i < ring.length(); i++) {
+            ring.set(i, null);
+        }
+    }
+
+    /**
+     * @return requests captured since startup, including those since overwritten or cleared.
+     */
+    public long captured() {
+        return captured.get();
+    }
+
+    /**
+     * @return the current capture threshold. Percentile snapshots are not free, so it is recomputed at most once per
+     *     second.
+     */
+    public long thresholdNanos() {
+        final long now = System.nanoTime();
+        if (now - thresholdComputedAt < THRESHOLD_REFRESH_NANOS) {
+            return thresholdNanos;
+        }
+        thresholdComputedAt = now;
+        final var snapshot = latency.takeSnapshot();
+        long threshold = slowRequestProperties.getInitialThreshold().toNanos();
+        if (snapshot.count() >= slowRequestProperties.getMinSamples()) {
+            for (var value : snapshot.percentileValues()) {
+                if (value.percentile() == slowRequestProperties.getPercentile()) {
+                    threshold = (long) value.value(TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+        thresholdNanos = clamp(threshold);
+        return thresholdNanos;
+    }
+
+    private long clamp(long threshold) {
+        return Math.max(
+                slowRequestProperties.getMinThreshold().toNanos(),
+                Math.min(slowRequestProperties.getMaxThreshold().toNanos(), threshold));
+    }
+}
@@ -0,0 +1,41 @@
+package com.reliaquest.api.trace;
+
+/**
+ * One timed step of a {@link RequestTrace}. Offsets are from the start of the inbound request.
+ *
+ * @param thread the thread the step started on
+ * @param completedOn the thread the step ended on
+ * @param status HTTP status of an upstream attempt, if it got a response
+ * @param bytes response bytes read by an upstream attempt
+ * @param outcome how the step ended, e.g. {@code completed}, {@code failed} or {@code cancelled}
+ */
+public record Span(
+        Kind kind,
+        String name,
+        long offsetMicros,
+        long durationMicros,
+        String thread,
+        String completedOn,
+        Integer status,
+        Long bytes,
+        String outcome) {
+
+    public enum Kind {
+        /**
+         * An HTTP exchange with the upstream, until its body was read.
+         */
+        UPSTREAM,
+        /**
+         * The backoff before retrying a rate limited upstream request.
+         */
+        RETRY_WAIT,
+        /**
+         * The reactive result reaching the controller, which shows the thread that produced it.
+         */
+        RESULT,
+        /**
+         * Writing the response body.
+         */
+        SERIALIZATION
+    }
+}
@@ -0,0 +1,78 @@
+package com.reliaquest.api.trace;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Adds an {@link Span.Kind#UPSTREAM upstream} span to the {@link RequestTrace} in the subscriber's context for every
+ * exchange, ending once the response body has been read. Exchanges without a trace pass through untouched.
+ */
+public class TracingExchangeFilter implements ExchangeFilterFunction {
+
+    /**
+     * Set by {@link WebClient} when the URI is given as a template.
+     */
+    private static final String URI_TEMPLATE_ATTRIBUTE = WebClient.class.getName() + ".uriTemplate";
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.deferContextual(context -> RequestTrace.from(context)
+                .map(trace -> {
+                    final var attempt = new Attempt(trace.start(Span.Kind.UPSTREAM, operation(request)));
+                    return next.exchange(request)
+                            .map(attempt::received)
+                            .doOnError(error -> attempt.end("failed"))
+                            .doOnCancel(() -> attempt.end("cancelled"));
+                })
+                .orElseGet(() -> next.exchange(request)));
+    }
+
+    private static String operation(ClientRequest request) {
+        final var template = request.attribute(URI_TEMPLATE_ATTRIBUTE)
+                .map(Object::toString)
+                .orElse(request.url().getPath());
+        return request.method().name() + " " + template;
+    }
+
+    private static final class Attempt {
+        private final RequestTrace.Timing timing;
+        private final AtomicBoolean ended = new AtomicBoolean();
+        private final AtomicLong bytes = new AtomicLong();
+        private volatile Integer status;
+
+        private Attempt(RequestTrace.Timing timing) {
+            this.timing = timing;
+        }
+
+        private ClientResponse received(ClientResponse response) {
+            status = response.statusCode().value();
+            return response.mutate()
+                    .body(body -> body.doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount()))
+                            .doFinally(this::bodyEnded))
+                    .build();
+        }
+
+        private void bodyEnded(SignalType signal) {
+            final String outcome =
+                    switch (signal) {
+                        case ON_COMPLETE -> "completed";
+                        case CANCEL -> "cancelled";
+                        default -> "failed";
+                    };
+            end(outcome);
+        }
+
+        private void end(String outcome) {
+            if (ended.compareAndSet(false, true)) {
+                timing.end(status, status == null ? null : bytes.get(), outcome);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.client.Deadline;
+import com.reliaquest.api.config.DeadlineProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Gives each inbound request an end-to-end {@link Deadline}: the timeout sent by the caller, capped at the configured
+ * maximum, or the default timeout when none is sent. The controller carries it into the Reactor context, where
+ * upstream retries and the outbound scheduler honour it.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    public static final String ATTRIBUTE = Deadline.class.getName();
+
+    private final DeadlineProperties deadlineProperties;
+
+    /**
+     * @return the deadline of the request bound to the current thread, if the filter ran for it.
+     */
+    public static Optional<Deadline> current() {
+        final var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable((Deadline) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        request.setAttribute(ATTRIBUTE, Deadline.after(timeout(request)));
+        filterChain.doFilter(request, response);
+    }
+
+    private Duration timeout(HttpServletRequest request) {
+        final var header = request.getHeader(deadlineProperties.getHeader());
+        if (header == null || header.isBlank()) {
+            return deadlineProperties.getDefaultTimeout();
+        }
+        try {
+            final var requested = DurationStyle.detectAndParse(header.trim(), ChronoUnit.MILLIS);
+            if (requested.isNegative()) {
+                throw new IllegalArgumentException("negative timeout");
+            }
+            return requested.compareTo(deadlineProperties.getMaxTimeout()) > 0
+                    ? deadlineProperties.getMaxTimeout()
+                    : requested;
+        } catch (IllegalArgumentException e) {
+            log.debug("Ignoring malformed {} header '{}'", deadlineProperties.getHeader(), header);
+            return deadlineProperties.getDefaultTimeout();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.trace.RequestTrace;
+import com.reliaquest.api.trace.SlowRequestRecorder;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Starts a {@link RequestTrace} for each inbound request and hands it to the {@link SlowRequestRecorder} once the
+ * response has been written, which for an async request is when it completes rather than when the filter returns.
+ * The controller carries the trace into the Reactor context, where upstream attempts and retry waits add their
+ * spans.
+ */
+@RequiredArgsConstructor
+public class RequestTraceFilter extends OncePerRequestFilter {
+
+    public static final String ATTRIBUTE = RequestTrace.class.getName();
+
+    private final SlowRequestRecorder slowRequestRecorder;
+
+    /**
+     * @return the trace of the request bound to the current thread, if the filter ran for it.
+     */
+    public static Optional<RequestTrace> current() {
+        final var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(
+                (RequestTrace) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+
+    public static Optional<RequestTrace> of(ServletRequest request) {
+        return Optional.ofNullable((RequestTrace) request.getAttribute(ATTRIBUTE));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        final var trace = new RequestTrace(request.getMethod(), request.getRequestURI());
+        request.setAttribute(ATTRIBUTE, trace);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        complete(trace, request, response);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {}
+
+                    @Override
+                    public void onError(AsyncEvent event) {}
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {}
+                });
+            } else {
+                complete(trace, request, response);
+            }
+        }
+    }
+
+    private void complete(RequestTrace trace, HttpServletRequest request, HttpServletResponse response) {
+        final var endpoint = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        slowRequestRecorder.complete(trace, endpoint == null ? null : endpoint.toString(), response.getStatus());
+    }
+}
@@ -24,6 +24,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -45,6 +48,9 @@ class ApiApplicationTest {
         registry.add(
                 "mock-api.base-url",
                 () -> String.format("http://localhost:%s/api/v1/employee", mockWebServer.getPort()));
+        // Every test enqueues its own upstream responses.
+        registry.add("mock-api.cache.enabled", () -> "false");
+        registry.add("mock-api.id-filter.enabled", () -> "false");
     }
 
     @BeforeEach
@@ -68,7 +74,7 @@ class ApiApplicationTest {
         List<Employee> employees = List.of(tonyFadel(), elvieBernhard(), jeanCarroll());
         mockWebServer.enqueue(success(employees));
 
-        mockMvc.perform(get("/api/v1/employee"))
+        perform(get("/api/v1/employee"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$[0].id").value(tonyFadel().getId()))
@@ -87,7 +93,7 @@ class ApiApplicationTest {
         Employee employee = arturoMuller();
         mockWebServer.enqueue(success(employee));
 
-        mockMvc.perform(get("/api/v1/employee/{id}", employee.getId()))
+        perform(get("/api/v1/employee/{id}", employee.getId()))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id").value(employee.getId()))
@@ -104,7 +110,7 @@ class ApiApplicationTest {
     void testGetEmployeeById_NotFound() throws Exception {
         mockWebServer.enqueue(notFound());
 
-        mockMvc.perform(get("/api/v1/employee/non-existent-id")).andExpect(status().isNotFound());
+        perform(get("/api/v1/employee/non-existent-id")).andExpect(status().isNotFound());
     }
 
     @Test
@@ -112,7 +118,7 @@ class ApiApplicationTest {
         List<Employee> arturos = allWithArturosInName();
         mockWebServer.enqueue(success(arturos));
 
-        mockMvc.perform(get("/api/v1/employee/search/Arturo"))
+        perform(get("/api/v1/employee/search/Arturo"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$[0].employee_name").value(arturoMuller().getEmployeeName()))
@@ -128,7 +134,7 @@ class ApiApplicationTest {
         List<Employee> employees = List.of(tonyFadel(), elvieBernhard());
         mockWebServer.enqueue(success(employees));
 
-        mockMvc.perform(get("/api/v1/employee/highestSalary"))
+        perform(get("/api/v1/employee/highestSalary"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").value(tonyFadel().getEmployeeSalary()));
@@ -139,7 +145,7 @@ class ApiApplicationTest {
         List<Employee> topTen = topTenByHighestSalary();
         mockWebServer.enqueue(success(topTen));
 
-        mockMvc.perform(get("/api/v1/employee/topTenHighestEarningEmployeeNames"))
+        perform(get("/api/v1/employee/topTenHighestEarningEmployeeNames"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$[0]").value("Tony Fadel"))
@@ -166,7 +172,7 @@ class ApiApplicationTest {
         Employee createdEmployee = williamGlover();
         mockWebServer.enqueue(created(createdEmployee));
 
-        mockMvc.perform(post("/api/v1/employee")
+        perform(post("/api/v1/employee")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isCreated())
@@ -189,7 +195,7 @@ class ApiApplicationTest {
                 .title("")
                 .build();
 
-        mockMvc.perform(post("/api/v1/employee")
+        perform(post("/api/v1/employee")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
@@ -204,7 +210,7 @@ class ApiApplicationTest {
                 .title("Intern")
                 .build();
 
-        mockMvc.perform(post("/api/v1/employee")
+        perform(post("/api/v1/employee")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(tooYoung)))
                 .andExpect(status().isBadRequest());
@@ -216,7 +222,7 @@ class ApiApplicationTest {
                 .title("Consultant")
                 .build();
 
-        mockMvc.perform(post("/api/v1/employee")
+        perform(post("/api/v1/employee")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(tooOld)))
                 .andExpect(status().isBadRequest());
@@ -229,7 +235,7 @@ class ApiApplicationTest {
         mockWebServer.enqueue(success(employee));
         mockWebServer.enqueue(success(true));
 
-        mockMvc.perform(delete("/api/v1/employee/{id}", employee.getId()))
+        perform(delete("/api/v1/employee/{id}", employee.getId()))
                 .andExpect(status().isOk())
                 .andExpect(content().string(employee.getEmployeeName()));
 
@@ -246,14 +252,14 @@ class ApiApplicationTest {
     void testDeleteEmployeeById_NotFound() throws Exception {
         mockWebServer.enqueue(notFound());
 
-        mockMvc.perform(delete("/api/v1/employee/non-existent-id")).andExpect(status().isNotFound());
+        perform(delete("/api/v1/employee/non-existent-id")).andExpect(status().isNotFound());
     }
 
     @Test
     void testServerError_ReturnsInternalServerError() throws Exception {
         mockWebServer.enqueue(serverError());
 
-        mockMvc.perform(get("/api/v1/employee")).andExpect(status().isInternalServerError());
+        perform(get("/api/v1/employee")).andExpect(status().isInternalServerError());
     }
 
     @Test
@@ -266,7 +272,7 @@ class ApiApplicationTest {
         mockWebServer.enqueue(rateLimited());
         mockWebServer.enqueue(success(List.of(employee)));
 
-        mockMvc.perform(get("/api/v1/employee"))
+        perform(get("/api/v1/employee"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].employee_name").value(employee.getEmployeeName()));
 
@@ -278,7 +284,7 @@ class ApiApplicationTest {
     void testEmptyEmployeeList() throws Exception {
         mockWebServer.enqueue(emptyList());
 
-        mockMvc.perform(get("/api/v1/employee"))
+        perform(get("/api/v1/employee"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").isArray())
@@ -289,6 +295,15 @@ class ApiApplicationTest {
     void testMalformedResponse() throws Exception {
         mockWebServer.enqueue(malformed());
 
-        mockMvc.perform(get("/api/v1/employee")).andExpect(status().isInternalServerError());
+        perform(get("/api/v1/employee")).andExpect(status().isInternalServerError());
+    }
+
+    /*
+     * The controller answers asynchronously; validation failures are the exception and answer at once.
+     */
+    private ResultActions perform(RequestBuilder request) throws Exception {
+        ResultActions actions = mockMvc.perform(request);
+        MvcResult result = actions.andReturn();
+        return result.getRequest().isAsyncStarted() ? mockMvc.perform(asyncDispatch(result)) : actions;
     }
 }
@@ -0,0 +1,80 @@
+package com.reliaquest.api;
+
+import static com.reliaquest.api.helper.MockResponseBuilder.*;
+import static com.reliaquest.api.helper.MockResponseBuilder.EmployeeBuilder.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+/**
+ * Runs with the default configuration, caching included, unlike {@link ApiApplicationTest}: only the upstream and the
+ * warm start file are redirected, so that no snapshot of an earlier run is restored.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class CachedReadsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private static MockWebServer mockWebServer;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+
+        registry.add(
+                "mock-api.base-url",
+                () -> String.format("http://localhost:%s/api/v1/employee", mockWebServer.getPort()));
+        Path warmStartFile = Files.createTempDirectory("employee-api").resolve("employees.snapshot");
+        registry.add("mock-api.cache.warm-start.file", warmStartFile::toString);
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    void testRepeatedReadsShareOneUpstreamCall() throws Exception {
+        mockWebServer.enqueue(success(topTenByHighestSalary()));
+
+        for (int i = 0; i < 3; i++) {
+            perform(get("/api/v1/employee")).andExpect(status().isOk()).andExpect(jsonPath("$.length()").value(10));
+            perform(get("/api/v1/employee/search/Tony"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].employee_name").value(tonyFadel().getEmployeeName()));
+            perform(get("/api/v1/employee/highestSalary"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$").value(tonyFadel().getEmployeeSalary()));
+            perform(get("/api/v1/employee/topTenHighestEarningEmployeeNames"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0]").value(tonyFadel().getEmployeeName()));
+        }
+
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+    }
+
+    private ResultActions perform(RequestBuilder request) throws Exception {
+        ResultActions actions = mockMvc.perform(request);
+        MvcResult result = actions.andReturn();
+        return result.getRequest().isAsyncStarted() ? mockMvc.perform(asyncDispatch(result)) : actions;
+    }
+}
@@ -0,0 +1,57 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @Test
+    void testContainsEveryAddedValue() {
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            ids.add(UUID.randomUUID().toString());
+        }
+
+        ids.forEach(filter::add);
+
+        assertThat(ids).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void testFalsePositiveRateIsNearTarget() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    void testSizesForExpectedInsertions() {
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+
+        // About 9.6 bits and 7 hashes per value for a 1% rate.
+        assertThat(filter.bitCount()).isBetween(9_000L, 10_000L);
+        assertThat(filter.hashCount()).isEqualTo(7);
+    }
+
+    @Test
+    void testRejectsInvalidFalsePositiveRate() {
+        assertThatThrownBy(() -> BloomFilter.create(100, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BloomFilter.create(100, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,136 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.config.CacheProperties;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class EmployeeByIdCacheTest {
+
+    private CacheProperties cacheProperties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        cacheProperties = new CacheProperties();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testServesCachedEmployeeAndRecordsHitRatio() {
+        EmployeeByIdCache cache = new EmployeeByIdCache(cacheProperties, meterRegistry);
+        Employee employee = employee("1", "Ngoc Hand");
+
+        assertThat(cache.get("1")).isEmpty();
+        cache.put("1", employee);
+
+        assertThat(cache.get("1")).containsSame(employee);
+        assertThat(meterRegistry.get("mock.api.cache.by-id.hit-ratio").gauge().value())
+                .isEqualTo(0.5);
+        assertThat(meterRegistry
+                        .get("cache.gets")
+                        .tag("cache", EmployeeByIdCache.CACHE_NAME)
+                        .tag("result", "hit")
+                        .functionCounter()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testDeleteDropsIdAndEveryEmployeeWithTheSameName() {
+        EmployeeByIdCache cache = new EmployeeByIdCache(cacheProperties, meterRegistry);
+        cache.put("1", employee("1", "Ngoc Hand"));
+        cache.put("2", employee("2", "ngoc hand"));
+        cache.put("3", employee("3", "Other Person"));
+
+        cache.invalidateDeleted("1", "Ngoc Hand");
+
+        assertThat(cache.get("1")).isEmpty();
+        assertThat(cache.get("2")).isEmpty();
+        assertThat(cache.get("3")).isPresent();
+    }
+
+    @Test
+    void testStaysWithinByteBudget() {
+        int entryBytes = EmployeeByIdCache.weigh("0000", employee("0000", "Employee 0000"));
+        cacheProperties.getById().setMaxSize(DataSize.ofBytes(entryBytes * 10L));
+        EmployeeByIdCache cache = new EmployeeByIdCache(cacheProperties, meterRegistry);
+
+        for (int i = 0; i < 100; i++) {
+            String id = String.format("%04d", i);
+            cache.put(id, employee(id, "Employee " + id));
+        }
+        cache.cleanUp();
+
+        assertThat(cache.weightedSize()).isLessThanOrEqualTo(entryBytes * 10L);
+        assertThat(meterRegistry
+                        .get("cache.evictions")
+                        .tag("cache", EmployeeByIdCache.CACHE_NAME)
+                        .functionCounter()
+                        .count())
+                .isPositive();
+    }
+
+    @Test
+    void testKeepsFrequentlyUsedEmployeeOverOneOffLookups() {
+        int entryBytes = EmployeeByIdCache.weigh("hot0", employee("hot0", "Employee hot0"));
+        cacheProperties.getById().setMaxSize(DataSize.ofBytes(entryBytes * 10L));
+        EmployeeByIdCache cache = new EmployeeByIdCache(cacheProperties, meterRegistry);
+        // Caffeine only starts counting use once the cache is half full.
+        cache.put("hot0", employee("hot0", "Employee hot0"));
+        for (int i = 0; i < 9; i++) {
+            String id = String.format("warm%d", i);
+            cache.put(id, employee(id, "Employee " + id));
+        }
+        cache.cleanUp();
+        for (int i = 0; i < 20; i++) {
+            cache.get("hot0");
+        }
+        cache.cleanUp();
+
+        for (int i = 0; i < 200; i++) {
+            String id = String.format("%04d", i);
+            cache.put(id, employee(id, "Employee " + id));
+            cache.cleanUp();
+        }
+
+        assertThat(cache.get("hot0")).isPresent();
+    }
+
+    @Test
+    void testExpiresAfterTtl() throws InterruptedException {
+        cacheProperties.getById().setTtl(Duration.ofMillis(1));
+        EmployeeByIdCache cache = new EmployeeByIdCache(cacheProperties, meterRegistry);
+        cache.put("1", employee("1", "Ngoc Hand"));
+
+        Thread.sleep(5);
+
+        assertThat(cache.get("1")).isEmpty();
+    }
+
+    @Test
+    void testDisabledWithSnapshotCache() {
+        cacheProperties.setEnabled(false);
+        EmployeeByIdCache cache = new EmployeeByIdCache(cacheProperties, meterRegistry);
+
+        cache.put("1", employee("1", "Ngoc Hand"));
+
+        assertThat(cache.get("1")).isEmpty();
+    }
+
+    private static Employee employee(String id, String name) {
+        return Employee.builder()
+                .id(id)
+                .employeeName(name)
+                .employeeSalary(100_000)
+                .employeeAge(30)
+                .employeeTitle("Engineer")
+                .employeeEmail("employee@company.com")
+                .build();
+    }
+}
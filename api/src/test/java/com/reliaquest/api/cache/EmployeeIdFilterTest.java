@@ -0,0 +1,117 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.config.CacheProperties;
+import com.reliaquest.api.config.IdFilterProperties;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+class EmployeeIdFilterTest {
+
+    private static final String KNOWN_ID = UUID.randomUUID().toString();
+
+    private IdFilterProperties idFilterProperties;
+    private EmployeeSnapshotCache cache;
+    private EmployeeIdFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        idFilterProperties = new IdFilterProperties();
+        cache = new EmployeeSnapshotCache(new CacheProperties());
+        filter = new EmployeeIdFilter(idFilterProperties, cache, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testTrustsNothingBeforeFirstSnapshot() {
+        assertThat(filter.isDefinitelyAbsent(UUID.randomUUID().toString())).isFalse();
+    }
+
+    @Test
+    void testRejectsIdsMissingFromSnapshot() {
+        loadSnapshot(KNOWN_ID);
+
+        assertThat(filter.isDefinitelyAbsent(KNOWN_ID)).isFalse();
+        assertThat(filter.isDefinitelyAbsent(UUID.randomUUID().toString())).isTrue();
+    }
+
+    @Test
+    void testStopsTrustingSnapshotAfterMaxAge() {
+        idFilterProperties.setMaxAge(Duration.ZERO);
+        loadSnapshot(KNOWN_ID);
+
+        assertThat(filter.isDefinitelyAbsent(UUID.randomUUID().toString())).isFalse();
+    }
+
+    @Test
+    void testKeepsCreatedIdsUntilASnapshotContainsThem() {
+        loadSnapshot(KNOWN_ID);
+        String created = UUID.randomUUID().toString();
+
+        filter.recordCreated(created);
+        // Loaded before the create reached the upstream.
+        cache.invalidate();
+        loadSnapshot(KNOWN_ID);
+
+        assertThat(filter.isDefinitelyAbsent(created)).isFalse();
+    }
+
+    @Test
+    void testRemembersRecentNotFoundUntilTtlExpires() throws InterruptedException {
+        String missing = UUID.randomUUID().toString();
+
+        filter.recordNotFound(missing);
+        assertThat(filter.isDefinitelyAbsent(missing)).isTrue();
+
+        idFilterProperties.setNegativeTtl(Duration.ofMillis(1));
+        filter.recordNotFound(missing);
+        Thread.sleep(5);
+        assertThat(filter.isDefinitelyAbsent(missing)).isFalse();
+    }
+
+    @Test
+    void testBoundsNotFoundEntries() {
+        idFilterProperties.setNegativeMaxSize(2);
+        String oldest = UUID.randomUUID().toString();
+
+        filter.recordNotFound(oldest);
+        filter.recordNotFound(UUID.randomUUID().toString());
+        filter.recordNotFound(UUID.randomUUID().toString());
+
+        assertThat(filter.isDefinitelyAbsent(oldest)).isFalse();
+    }
+
+    @Test
+    void testCreateClearsNotFound() {
+        String id = UUID.randomUUID().toString();
+        filter.recordNotFound(id);
+
+        filter.recordCreated(id);
+
+        assertThat(filter.isDefinitelyAbsent(id)).isFalse();
+    }
+
+    @Test
+    void testDisabledFilterTrustsNothing() {
+        idFilterProperties.setEnabled(false);
+        String missing = UUID.randomUUID().toString();
+
+        filter.recordNotFound(missing);
+
+        assertThat(filter.isDefinitelyAbsent(missing)).isFalse();
+    }
+
+    private void loadSnapshot(String... ids) {
+        List<Employee> employees = Arrays.stream(ids)
+                .map(id -> Employee.builder().id(id).employeeName("Employee " + id).build())
+                .toList();
+        cache.snapshot(() -> Mono.just(employees)).block();
+    }
+}
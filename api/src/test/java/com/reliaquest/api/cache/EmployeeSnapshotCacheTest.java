@@ -0,0 +1,192 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.config.CacheProperties;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.snapshot.EmployeeSnapshot;
+import com.reliaquest.api.snapshot.ListEmployeeTable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class EmployeeSnapshotCacheTest {
+
+    private CacheProperties cacheProperties;
+    private EmployeeSnapshotCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cacheProperties = new CacheProperties();
+        cacheProperties.setTtl(Duration.ofMinutes(1));
+        cache = new EmployeeSnapshotCache(cacheProperties);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void testServesCachedSnapshotUntilInvalidated() {
+        EmployeeSnapshot first = cache.snapshot(this::load).block();
+        EmployeeSnapshot second = cache.snapshot(this::load).block();
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(first.table().employees())
+                .extracting(Employee::getEmployeeName)
+                .containsExactly("Load 1");
+
+        cache.invalidate();
+        EmployeeSnapshot third = cache.snapshot(this::load).block();
+
+        assertThat(loads).hasValue(2);
+        assertThat(third.version()).isGreaterThan(first.version());
+    }
+
+    @Test
+    void testReloadsExpiredSnapshot() {
+        cacheProperties.setTtl(Duration.ZERO);
+
+        cache.snapshot(this::load).block();
+        cache.snapshot(this::load).block();
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void testRefreshesAgingSnapshotInBackground() {
+        cacheProperties.setRefreshAfter(Duration.ZERO);
+
+        EmployeeSnapshot first = cache.snapshot(this::load).block();
+        EmployeeSnapshot stillServed = cache.snapshot(this::load).block();
+
+        assertThat(stillServed).isSameAs(first);
+        assertThat(loads).hasValue(2);
+        assertThat(cache.current()).get().isNotSameAs(first);
+    }
+
+    @Test
+    void testConcurrentRequestsShareOneLoad() {
+        Sinks.One<List<Employee>> upstream = Sinks.one();
+        AtomicInteger subscriptions = new AtomicInteger();
+        Mono<List<Employee>> pending = upstream.asMono().doOnSubscribe(s -> subscriptions.incrementAndGet());
+
+        Mono<EmployeeSnapshot> first = cache.snapshot(() -> pending);
+        Mono<EmployeeSnapshot> second = cache.snapshot(() -> pending);
+
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> upstream.tryEmitValue(List.of(Employee.builder().id("1").build())))
+                .assertNext(snapshots -> assertThat(snapshots.getT1()).isSameAs(snapshots.getT2()))
+                .verifyComplete();
+        assertThat(subscriptions).hasValue(1);
+    }
+
+    @Test
+    void testDoesNotCacheFailedLoad() {
+        StepVerifier.create(cache.snapshot(() -> Mono.error(new RuntimeException("upstream down"))))
+                .expectErrorMessage("upstream down")
+                .verify();
+
+        assertThat(cache.current()).isEmpty();
+        assertThat(cache.snapshot(this::load).block()).isNotNull();
+    }
+
+    @Test
+    void testDoesNotCacheLoadStartedBeforeInvalidation() {
+        Sinks.One<List<Employee>> upstream = Sinks.one();
+
+        StepVerifier.create(cache.snapshot(upstream::asMono))
+                .then(cache::invalidate)
+                .then(() -> upstream.tryEmitValue(List.of(Employee.builder().id("1").build())))
+                .expectNextCount(1)
+                .verifyComplete();
+        assertThat(cache.current()).isEmpty();
+    }
+
+    @Test
+    void testServesRestoredSnapshotWhileReloadingIt() {
+        EmployeeSnapshot restored = new EmployeeSnapshot(
+                41,
+                new ListEmployeeTable(List.of(Employee.builder().id("old").build())),
+                Instant.now().minus(Duration.ofHours(1)),
+                true);
+
+        assertThat(cache.restore(restored)).isTrue();
+        EmployeeSnapshot served = cache.snapshot(this::load).block();
+
+        assertThat(served).isSameAs(restored);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.current()).get().satisfies(current -> {
+            assertThat(current.stale()).isFalse();
+            assertThat(current.version()).isGreaterThan(restored.version());
+        });
+        assertThat(cache.restore(restored)).isFalse();
+    }
+
+    @Test
+    void testLoadsInsteadOfServingTooOldRestoredSnapshot() {
+        cacheProperties.getWarmStart().setMaxAge(Duration.ofMinutes(1));
+        cache.restore(new EmployeeSnapshot(
+                1, new ListEmployeeTable(List.of()), Instant.now().minus(Duration.ofHours(1)), true));
+
+        EmployeeSnapshot served = cache.snapshot(this::load).block();
+
+        assertThat(served.stale()).isFalse();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void testFreshSnapshotWaitsForReloadOfAgingSnapshot() {
+        EmployeeSnapshot first = cache.snapshot(this::load).block();
+
+        assertThat(cache.freshSnapshot(this::load, Instant.EPOCH).block()).isSameAs(first);
+
+        cacheProperties.setRefreshAfter(Duration.ZERO);
+        EmployeeSnapshot fresh = cache.freshSnapshot(this::load, Instant.EPOCH).block();
+
+        assertThat(fresh).isNotSameAs(first);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void testFreshSnapshotReloadsSnapshotOlderThanNotBefore() {
+        EmployeeSnapshot first = cache.snapshot(this::load).block();
+
+        EmployeeSnapshot fresh = cache.freshSnapshot(this::load, first.loadedAt().plusMillis(1)).block();
+
+        assertThat(fresh.version()).isGreaterThan(first.version());
+        assertThat(cache.current()).contains(fresh);
+    }
+
+    @Test
+    void testFreshSnapshotJoinsLoadStartedAfterNotBefore() {
+        EmployeeSnapshot first = cache.snapshot(this::load).block();
+        Instant notBefore = Instant.now();
+        cacheProperties.setRefreshAfter(Duration.ZERO);
+        Sinks.One<List<Employee>> upstream = Sinks.one();
+        cache.snapshot(upstream::asMono).block();
+
+        Mono<EmployeeSnapshot> fresh = cache.freshSnapshot(this::load, notBefore);
+
+        StepVerifier.create(fresh)
+                .then(() -> upstream.tryEmitValue(List.of(Employee.builder().id("refreshed").build())))
+                .assertNext(snapshot -> {
+                    assertThat(snapshot.version()).isGreaterThan(first.version());
+                    assertThat(snapshot.table().employees()).extracting(Employee::getId).containsExactly("refreshed");
+                })
+                .verifyComplete();
+        assertThat(loads).hasValue(1);
+    }
+
+    private Mono<List<Employee>> load() {
+        return Mono.fromSupplier(() -> List.of(Employee.builder()
+                .id("id-" + loads.incrementAndGet())
+                .employeeName("Load " + loads.get())
+                .build()));
+    }
+}
@@ -0,0 +1,67 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.config.CacheProperties;
+import com.reliaquest.api.config.FuzzySearchProperties;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.snapshot.EmployeeSnapshot;
+import com.reliaquest.api.snapshot.FuzzyNameIndex;
+import com.reliaquest.api.snapshot.ListEmployeeTable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+class FuzzyNameIndexCacheTest {
+
+    private EmployeeSnapshotCache snapshotCache;
+    private FuzzyNameIndexCache cache;
+
+    @BeforeEach
+    void setUp() {
+        snapshotCache = new EmployeeSnapshotCache(new CacheProperties());
+        cache = new FuzzyNameIndexCache(new FuzzySearchProperties(), snapshotCache);
+    }
+
+    @Test
+    void testReusesIndexForSameVersion() {
+        EmployeeSnapshot snapshot = snapshot(1, "Ngoc Hand");
+
+        FuzzyNameIndex first = cache.index(snapshot).block();
+
+        assertThat(cache.index(snapshot).block()).isSameAs(first);
+    }
+
+    @Test
+    void testNewerVersionReplacesIndexButOlderDoesNot() {
+        FuzzyNameIndex newer = cache.index(snapshot(2, "Ngoc Hand")).block();
+
+        FuzzyNameIndex older = cache.index(snapshot(1, "Bill Bob")).block();
+
+        assertThat(older).isNotSameAs(newer);
+        assertThat(older.search("bill", 0, 10)).hasSize(1);
+        assertThat(cache.index(snapshot(2, "Ngoc Hand")).block()).isSameAs(newer);
+    }
+
+    @Test
+    void testBuildsIndexWhenSnapshotIsPublished() {
+        EmployeeSnapshot published = snapshotCache
+                .snapshot(() -> Mono.just(List.of(employee("Ngoc Hand"))))
+                .block();
+
+        FuzzyNameIndex index = cache.index(published).block(Duration.ofSeconds(5));
+
+        assertThat(index.search("ngco", 1, 10)).extracting(Employee::getEmployeeName).containsExactly("Ngoc Hand");
+    }
+
+    private static EmployeeSnapshot snapshot(long version, String name) {
+        return new EmployeeSnapshot(version, new ListEmployeeTable(List.of(employee(name))), Instant.now());
+    }
+
+    private static Employee employee(String name) {
+        return Employee.builder().id(name).employeeName(name).build();
+    }
+}
@@ -0,0 +1,151 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.config.CacheProperties;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+class SearchResultCacheTest {
+
+    private CacheProperties cacheProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger scans;
+
+    @BeforeEach
+    void setUp() {
+        cacheProperties = new CacheProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        scans = new AtomicInteger();
+    }
+
+    @Test
+    void testRepeatedSearchReturnsSameListWithoutScanning() {
+        SearchResultCache cache = new SearchResultCache(cacheProperties, meterRegistry);
+
+        List<Employee> first = cache.get(1, "Ngoc", scan("Ngoc Hand")).block();
+        List<Employee> second = cache.get(1, "nGOC", scan("Ngoc Hand")).block();
+
+        assertThat(second).isSameAs(first);
+        assertThat(scans).hasValue(1);
+        assertThat(meterRegistry
+                        .get("cache.gets")
+                        .tag("cache", SearchResultCache.CACHE_NAME)
+                        .tag("result", "hit")
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testNewSnapshotVersionDropsEveryResult() {
+        SearchResultCache cache = new SearchResultCache(cacheProperties, meterRegistry);
+        cache.get(1, "ngoc", scan("Ngoc Hand")).block();
+        cache.get(1, "other", scan()).block();
+
+        List<Employee> result = cache.get(2, "ngoc", scan()).block();
+
+        assertThat(result).isEmpty();
+        assertThat(scans).hasValue(3);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testOlderSnapshotVersionBypassesCache() {
+        SearchResultCache cache = new SearchResultCache(cacheProperties, meterRegistry);
+        cache.get(2, "ngoc", scan("Ngoc Hand")).block();
+
+        cache.get(1, "ngoc", scan()).block();
+        List<Employee> current = cache.get(2, "ngoc", scan()).block();
+
+        assertThat(current).hasSize(1);
+        assertThat(scans).hasValue(2);
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsedSearch() {
+        cacheProperties.getSearch().setMaxEntries(2);
+        SearchResultCache cache = new SearchResultCache(cacheProperties, meterRegistry);
+        cache.get(1, "a", scan()).block();
+        cache.get(1, "b", scan()).block();
+        cache.get(1, "a", scan()).block();
+
+        cache.get(1, "c", scan()).block();
+        cache.get(1, "a", scan()).block();
+        cache.get(1, "b", scan()).block();
+
+        // a, b, c and b again; a stayed cached because it was used more recently than b.
+        assertThat(scans).hasValue(4);
+    }
+
+    @Test
+    void testConcurrentIdenticalSearchesShareOneScan() throws Exception {
+        SearchResultCache cache = new SearchResultCache(cacheProperties, meterRegistry);
+        CountDownLatch scanning = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<List<Employee>> slowScan = () -> {
+            scans.incrementAndGet();
+            scanning.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of(employee("Ngoc Hand"));
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<Employee>> first = executor.submit(() -> cache.get(1, "ngoc", slowScan).block());
+            assertThat(scanning.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<List<Employee>> second = executor.submit(() -> cache.get(1, "ngoc", slowScan).block());
+            release.countDown();
+
+            assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+            assertThat(scans).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testFailedScanIsRetried() {
+        SearchResultCache cache = new SearchResultCache(cacheProperties, meterRegistry);
+        Supplier<List<Employee>> failingScan = () -> {
+            scans.incrementAndGet();
+            throw new IllegalStateException("scan failed");
+        };
+
+        StepVerifier.create(cache.get(1, "ngoc", failingScan))
+                .expectError(IllegalStateException.class)
+                .verify();
+        List<Employee> retried = cache.get(1, "ngoc", scan("Ngoc Hand")).block();
+
+        assertThat(retried).extracting(Employee::getEmployeeName).containsExactly("Ngoc Hand");
+        assertThat(cache.get(1, "ngoc", scan()).block()).isSameAs(retried);
+        assertThat(scans).hasValue(2);
+    }
+
+    private Supplier<List<Employee>> scan(String... names) {
+        return () -> {
+            scans.incrementAndGet();
+            return Arrays.stream(names).map(SearchResultCacheTest::employee).toList();
+        };
+    }
+
+    private static Employee employee(String name) {
+        return Employee.builder().id(name).employeeName(name).build();
+    }
+}
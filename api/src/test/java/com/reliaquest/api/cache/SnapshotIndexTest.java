@@ -0,0 +1,53 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.config.CacheProperties;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.snapshot.EmployeeSnapshot;
+import com.reliaquest.api.snapshot.ListEmployeeTable;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+class SnapshotIndexTest {
+
+    private static final EmployeeSnapshot SNAPSHOT = new EmployeeSnapshot(
+            1, new ListEmployeeTable(List.of(Employee.builder().id("1").build())), Instant.now());
+
+    private final AtomicInteger builds = new AtomicInteger();
+
+    @Test
+    void testBuildsOffTheSubscribingThread() {
+        SnapshotIndex<String> index = new SnapshotIndex<>(
+                "thread index",
+                table -> Thread.currentThread().getName(),
+                built -> 1,
+                "threads",
+                new EmployeeSnapshotCache(new CacheProperties()));
+
+        assertThat(index.get(SNAPSHOT).block()).startsWith("boundedElastic");
+    }
+
+    @Test
+    void testRetriesFailedBuild() {
+        SnapshotIndex<Integer> index = new SnapshotIndex<>(
+                "flaky index",
+                table -> {
+                    if (builds.incrementAndGet() == 1) {
+                        throw new IllegalStateException("first build fails");
+                    }
+                    return table.size();
+                },
+                built -> built,
+                "rows",
+                new EmployeeSnapshotCache(new CacheProperties()));
+
+        StepVerifier.create(index.get(SNAPSHOT)).expectError(IllegalStateException.class).verify();
+        StepVerifier.create(index.get(SNAPSHOT)).expectNext(1).verifyComplete();
+        StepVerifier.create(index.get(SNAPSHOT)).expectNext(1).verifyComplete();
+        assertThat(builds).hasValue(2);
+    }
+}
@@ -0,0 +1,169 @@
+package com.reliaquest.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.client.OutboundScheduler.Priority;
+import com.reliaquest.api.config.OutboundProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class OutboundSchedulerTest {
+
+    private static final Duration LONG = Duration.ofMinutes(1);
+
+    private OutboundProperties outboundProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboundScheduler scheduler;
+
+    private final List<String> events = new CopyOnWriteArrayList<>();
+    private final List<OutboundScheduler.Permit> permits = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        outboundProperties = new OutboundProperties();
+        outboundProperties.setMaxConcurrency(1);
+        outboundProperties.setMaxQueueSize(10);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new OutboundScheduler(outboundProperties, meterRegistry);
+    }
+
+    @Test
+    void testGrantsUpToMaxConcurrencyImmediately() {
+        outboundProperties.setMaxConcurrency(2);
+
+        acquire("first", Priority.BACKGROUND, LONG);
+        acquire("second", Priority.BACKGROUND, LONG);
+        acquire("third", Priority.BACKGROUND, LONG);
+
+        assertThat(events).containsExactly("first", "second");
+        assertThat(scheduler.inFlight()).isEqualTo(2);
+        assertThat(scheduler.queued()).isEqualTo(1);
+    }
+
+    @Test
+    void testHoldsPermitUntilResponseBodyIsRead() {
+        Sinks.Many<DataBuffer> body = Sinks.many().unicast().onBackpressureBuffer();
+        ExchangeFunction upstream = request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                .body(body.asFlux())
+                .build());
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(upstream)
+                .filter(scheduler.filter())
+                .build();
+
+        StepVerifier.create(webClient.get().uri("http://upstream").retrieve().bodyToMono(String.class))
+                .then(() -> assertThat(scheduler.inFlight()).isEqualTo(1))
+                .then(() -> {
+                    body.tryEmitNext(DefaultDataBufferFactory.sharedInstance.wrap("done".getBytes()));
+                    body.tryEmitComplete();
+                })
+                .expectNext("done")
+                .verifyComplete();
+        assertThat(scheduler.inFlight()).isZero();
+    }
+
+    @Test
+    void testGrantsWaitersByPriorityThenDeadline() {
+        acquire("running", Priority.BACKGROUND, LONG);
+        acquire("background", Priority.BACKGROUND, LONG);
+        acquire("interactive-late", Priority.INTERACTIVE, LONG);
+        acquire("interactive-early", Priority.INTERACTIVE, Duration.ofSeconds(30));
+        acquire("write", Priority.WRITE, LONG);
+
+        for (int i = 0; i < 4; i++) {
+            permits.get(i).release();
+        }
+
+        assertThat(events)
+                .containsExactly("running", "write", "interactive-early", "interactive-late", "background");
+    }
+
+    @Test
+    void testFullQueueDisplacesLowerPriority() {
+        outboundProperties.setMaxQueueSize(1);
+        acquire("running", Priority.INTERACTIVE, LONG);
+        acquire("background", Priority.BACKGROUND, LONG);
+
+        acquire("write", Priority.WRITE, LONG);
+        acquire("another-background", Priority.BACKGROUND, LONG);
+
+        assertThat(events)
+                .containsExactly(
+                        "running", "background rejected: displaced", "another-background rejected: queue-full");
+        assertThat(scheduler.queued()).isEqualTo(1);
+        assertThat(meterRegistry
+                        .get("mock.api.outbound.rejected")
+                        .tag("reason", "displaced")
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testRejectsExpiredDeadline() {
+        StepVerifier.create(scheduler.acquire(Priority.WRITE, new Deadline(System.nanoTime() - 1)))
+                .expectError(OutboundRejectedException.class)
+                .verify();
+    }
+
+    @Test
+    void testRejectsWaiterWhenDeadlinePasses() {
+        acquire("running", Priority.INTERACTIVE, LONG);
+
+        StepVerifier.create(scheduler.acquire(Priority.INTERACTIVE, Deadline.after(Duration.ofMillis(50))))
+                .expectErrorSatisfies(error -> assertThat(error).hasMessageContaining("deadline-expired"))
+                .verify(Duration.ofSeconds(5));
+        assertThat(scheduler.queued()).isZero();
+    }
+
+    @Test
+    void testRejectsEarlyWhenDeadlineIsUnreachable() throws InterruptedException {
+        acquire("warmup", Priority.INTERACTIVE, LONG);
+        Thread.sleep(100);
+        permits.get(0).release();
+        acquire("running", Priority.INTERACTIVE, LONG);
+
+        // One request in flight and an average service time of ~100 ms: 20 ms cannot be met.
+        acquire("hopeless", Priority.INTERACTIVE, Duration.ofMillis(20));
+
+        assertThat(events).containsExactly("warmup", "running", "hopeless rejected: deadline-unreachable");
+    }
+
+    @Test
+    void testCancelledWaiterLeavesQueue() {
+        acquire("running", Priority.INTERACTIVE, LONG);
+        Disposable waiting = scheduler.acquire(Priority.INTERACTIVE, Deadline.after(LONG)).subscribe();
+
+        waiting.dispose();
+
+        assertThat(scheduler.queued()).isZero();
+        permits.get(0).release();
+        assertThat(scheduler.inFlight()).isZero();
+    }
+
+    private void acquire(String name, Priority priority, Duration timeout) {
+        scheduler
+                .acquire(priority, Deadline.after(timeout))
+                .subscribe(
+                        permit -> {
+                            events.add(name);
+                            permits.add(permit);
+                        },
+                        error -> events.add(name + " rejected: "
+                                + error.getMessage().substring(error.getMessage().lastIndexOf(' ') + 1)));
+    }
+}
@@ -0,0 +1,147 @@
+package com.reliaquest.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.config.HedgingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class RequestHedgerTest {
+
+    private HedgingProperties hedgingProperties;
+    private UpstreamRateLimit upstreamRateLimit;
+    private SimpleMeterRegistry meterRegistry;
+    private RequestHedger requestHedger;
+
+    @BeforeEach
+    void setUp() {
+        hedgingProperties = new HedgingProperties();
+        hedgingProperties.setEnabled(true);
+        hedgingProperties.setInitialDelay(Duration.ofMillis(100));
+        upstreamRateLimit = new UpstreamRateLimit();
+        meterRegistry = new SimpleMeterRegistry();
+        requestHedger = new RequestHedger(hedgingProperties, upstreamRateLimit, meterRegistry);
+    }
+
+    @Test
+    void testHedgeWinsWhenPrimaryIsSlow() {
+        // Delays are created inside withVirtualTime so that they run on the virtual clock.
+        StepVerifier.withVirtualTime(() -> requestHedger.hedge(attempts(
+                        Mono.delay(Duration.ofSeconds(5)).thenReturn("primary"),
+                        Mono.delay(Duration.ofMillis(10)).thenReturn("hedge"))))
+                .thenAwait(Duration.ofMillis(110))
+                .expectNext("hedge")
+                .verifyComplete();
+
+        assertThat(count("mock.api.hedge.launched")).isEqualTo(1);
+        assertThat(count("mock.api.hedge.won")).isEqualTo(1);
+    }
+
+    @Test
+    void testRecordsLatencyOfCancelledAttempts() {
+        StepVerifier.withVirtualTime(() -> requestHedger.hedge(attempts(
+                        Mono.delay(Duration.ofSeconds(5)).thenReturn("primary"),
+                        Mono.delay(Duration.ofMillis(10)).thenReturn("hedge"))))
+                .thenAwait(Duration.ofMillis(110))
+                .expectNext("hedge")
+                .verifyComplete();
+
+        // The cancelled primary counts as well, or the slow tail that triggers hedges would drop out of the
+        // percentile.
+        assertThat(meterRegistry.get("mock.api.hedge.latency").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void testNoHedgeWhenPrimaryAnswersInTime() {
+        StepVerifier.withVirtualTime(() -> requestHedger.hedge(
+                        attempts(Mono.delay(Duration.ofMillis(50)).thenReturn("primary"))))
+                .thenAwait(Duration.ofMillis(50))
+                .expectNext("primary")
+                .verifyComplete();
+
+        assertThat(count("mock.api.hedge.launched")).isZero();
+    }
+
+    @Test
+    void testPrimaryErrorIsNotHedged() {
+        Supplier<Mono<String>> attempts = attempts(Mono.error(new IllegalStateException("not found")));
+
+        StepVerifier.create(requestHedger.hedge(attempts))
+                .expectErrorMessage("not found")
+                .verify();
+    }
+
+    @Test
+    void testLatePrimaryErrorDefersToPendingHedge() {
+        StepVerifier.withVirtualTime(() -> requestHedger.hedge(attempts(
+                        Mono.delay(Duration.ofMillis(150)).then(Mono.error(new IllegalStateException("rate limited"))),
+                        Mono.delay(Duration.ofMillis(100)).thenReturn("hedge"))))
+                .thenAwait(Duration.ofMillis(200))
+                .expectNext("hedge")
+                .verifyComplete();
+
+        assertThat(count("mock.api.hedge.won")).isEqualTo(1);
+    }
+
+    @Test
+    void testFailsWithPrimaryErrorOnlyWhenBothAttemptsFail() {
+        StepVerifier.withVirtualTime(() -> requestHedger.hedge(attempts(
+                        Mono.delay(Duration.ofMillis(150)).then(Mono.error(new IllegalStateException("primary"))),
+                        Mono.delay(Duration.ofMillis(100)).then(Mono.error(new IllegalStateException("hedge"))))))
+                .thenAwait(Duration.ofMillis(200))
+                .expectErrorMessage("primary")
+                .verify();
+    }
+
+    @Test
+    void testSkipsHedgeWhenRateLimitIsNearlyExhausted() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(UpstreamRateLimit.REMAINING_HEADER, "1");
+        upstreamRateLimit.record(200, headers);
+        StepVerifier.withVirtualTime(() -> requestHedger.hedge(
+                        attempts(Mono.delay(Duration.ofSeconds(5)).thenReturn("primary"), Mono.just("hedge"))))
+                .thenAwait(Duration.ofSeconds(5))
+                .expectNext("primary")
+                .verifyComplete();
+
+        assertThat(count("mock.api.hedge.launched")).isZero();
+        assertThat(count("mock.api.hedge.skipped")).isEqualTo(1);
+    }
+
+    @Test
+    void testDisabledPassesThrough() {
+        hedgingProperties.setEnabled(false);
+        Supplier<Mono<String>> attempts = attempts(Mono.just("primary"));
+
+        StepVerifier.create(requestHedger.hedge(attempts)).expectNext("primary").verifyComplete();
+    }
+
+    @Test
+    void testTracksRateLimitFromResponses() {
+        assertThat(upstreamRateLimit.remaining()).isEqualTo(UpstreamRateLimit.UNKNOWN);
+
+        upstreamRateLimit.record(429, new HttpHeaders());
+
+        assertThat(upstreamRateLimit.remaining()).isZero();
+        assertThat(upstreamRateLimit.isNearlyExhausted(0)).isTrue();
+    }
+
+    @SafeVarargs
+    private static Supplier<Mono<String>> attempts(Mono<String>... attempts) {
+        Queue<Mono<String>> queue = new ArrayDeque<>(List.of(attempts));
+        return queue::remove;
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+}
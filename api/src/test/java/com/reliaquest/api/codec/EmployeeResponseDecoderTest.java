@@ -0,0 +1,135 @@
+package com.reliaquest.api.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.config.MockApiProperties;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+
+class EmployeeResponseDecoderTest {
+
+    private static final ResolvableType LIST_TYPE =
+            ResolvableType.forType(new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {});
+    private static final ResolvableType SINGLE_TYPE =
+            ResolvableType.forType(new ParameterizedTypeReference<ApiResponse<Employee>>() {});
+    private static final ResolvableType BOOLEAN_TYPE =
+            ResolvableType.forType(new ParameterizedTypeReference<ApiResponse<Boolean>>() {});
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EmployeeResponseDecoder decoder = new EmployeeResponseDecoder(objectMapper.getFactory());
+
+    private final MediaType smile = MockApiProperties.WireFormat.SMILE.mediaType();
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+    private final EmployeeResponseDecoder smileDecoder = new EmployeeResponseDecoder(smileMapper.getFactory(), smile);
+
+    @Test
+    void testCanDecodeOnlyEmployeeResponses() {
+        assertThat(decoder.canDecode(LIST_TYPE, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(decoder.canDecode(SINGLE_TYPE, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(decoder.canDecode(BOOLEAN_TYPE, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(decoder.canDecode(ResolvableType.forClass(Employee.class), MediaType.APPLICATION_JSON))
+                .isFalse();
+        assertThat(decoder.canDecode(LIST_TYPE, MediaType.TEXT_PLAIN)).isFalse();
+    }
+
+    @Test
+    void testDecodeListMatchesJackson() throws Exception {
+        String json = """
+                {"data":[
+                  {"id":"4a3a170b-22cd-4ac2-aad1-9bb5b34a1507","employee_name":"Tiger Nixon","employee_salary":320800,
+                   "employee_age":61,"employee_title":"Vice Chair Executive Principal Chief Officer",
+                   "employee_email":"tnixon@company.com"},
+                  {"id":"123","employee_name":null,"employee_salary":"50000","employee_age":30.0,
+                   "unknown":{"nested":[1,2,{"x":true}]},"employee_title":42},
+                  null,
+                  {}
+                ],"status":"Successfully processed request.","error":null}
+                """;
+
+        ApiResponse<?> decoded = decode(json, LIST_TYPE);
+
+        assertThat(decoded)
+                .isEqualTo(objectMapper.readValue(
+                        json, objectMapper.getTypeFactory().constructType(LIST_TYPE.getType())));
+    }
+
+    @Test
+    void testDecodeSingleMatchesJackson() throws Exception {
+        String json = """
+                {"status":"Successfully processed request.","data":{"employee_name":"Jill Bob","id":"1",
+                 "employee_salary":null,"employee_age":25}}
+                """;
+
+        ApiResponse<?> decoded = decode(json, SINGLE_TYPE);
+
+        assertThat(decoded)
+                .isEqualTo(objectMapper.readValue(
+                        json, objectMapper.getTypeFactory().constructType(SINGLE_TYPE.getType())));
+        assertThat(decoded.getData()).isInstanceOf(Employee.class);
+    }
+
+    @Test
+    void testDecodeNullData() {
+        ApiResponse<?> decoded = decode("{\"data\":null,\"status\":\"ok\"}", LIST_TYPE);
+
+        assertThat(decoded.getData()).isNull();
+        assertThat(decoded.getStatus()).isEqualTo("ok");
+    }
+
+    @Test
+    void testDecodeSmileMatchesJackson() throws Exception {
+        String json = """
+                {"data":[
+                  {"id":"4a3a170b-22cd-4ac2-aad1-9bb5b34a1507","employee_name":"Tiger Nixon","employee_salary":320800,
+                   "employee_age":61,"employee_title":"Vice Chair Executive Principal Chief Officer",
+                   "employee_email":"tnixon@company.com"},
+                  {"id":"123","employee_name":"Jill Bob","employee_salary":50000,"employee_age":30,
+                   "unknown":{"nested":[1,2,{"x":true}]}}
+                ],"status":"Successfully processed request."}
+                """;
+        byte[] payload = smileMapper.writeValueAsBytes(objectMapper.readTree(json));
+
+        assertThat(smileDecoder.canDecode(LIST_TYPE, smile)).isTrue();
+        assertThat(smileDecoder.canDecode(LIST_TYPE, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(decode(smileDecoder, payload, LIST_TYPE, smile))
+                .isEqualTo(objectMapper.readValue(
+                        json, objectMapper.getTypeFactory().constructType(LIST_TYPE.getType())));
+    }
+
+    @Test
+    void testDecodeMalformedJson() {
+        assertThatThrownBy(() -> decode("{ invalid json }", LIST_TYPE)).isInstanceOf(DecodingException.class);
+        assertThatThrownBy(() -> decode("{\"data\":[{\"employee_salary\":\"abc\"}]}", LIST_TYPE))
+                .isInstanceOf(DecodingException.class);
+        assertThatThrownBy(() -> decode("{\"data\":[\"not an employee\"]}", LIST_TYPE))
+                .isInstanceOf(DecodingException.class);
+    }
+
+    private ApiResponse<?> decode(String json, ResolvableType type) {
+        return decode(decoder, json.getBytes(StandardCharsets.UTF_8), type, MediaType.APPLICATION_JSON);
+    }
+
+    private static ApiResponse<?> decode(
+            EmployeeResponseDecoder decoder, byte[] bytes, ResolvableType type, MediaType mediaType) {
+        // Split the payload so that the decoder has to join buffers, as it does for network responses.
+        int middle = bytes.length / 2;
+        var factory = DefaultDataBufferFactory.sharedInstance;
+        var buffers = Flux.just(
+                factory.wrap(Arrays.copyOfRange(bytes, 0, middle)),
+                factory.wrap(Arrays.copyOfRange(bytes, middle, bytes.length)));
+        return decoder.decodeToMono(buffers, type, mediaType, null).block();
+    }
+}
@@ -0,0 +1,109 @@
+package com.reliaquest.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.OutboundScheduler;
+import com.reliaquest.api.client.UpstreamRateLimit;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.function.client.WebClient;
+
+class WebClientConfigTest {
+
+    private static final Map<String, Object> BODY = Map.of(
+            "data",
+            List.of(Map.of("id", "1", "employee_name", "Tiger Nixon", "employee_salary", 320800)),
+            "status",
+            "Successfully processed request.");
+
+    private MockWebServer mockWebServer;
+    private MockApiProperties mockApiProperties;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+        mockApiProperties = new MockApiProperties();
+        mockApiProperties.setBaseUrl(mockWebServer.url("/api/v1/employee").toString());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testPrefersSmileAndDecodesIt(boolean streamingDecoder) throws Exception {
+        mockApiProperties.setStreamingDecoder(streamingDecoder);
+        byte[] smile = Jackson2ObjectMapperBuilder.smile().build().writeValueAsBytes(BODY);
+        mockWebServer.enqueue(new MockResponse()
+                .setHeader(HttpHeaders.CONTENT_TYPE, "application/x-jackson-smile")
+                .setBody(new Buffer().write(smile)));
+
+        List<Employee> employees = fetchAll();
+
+        assertThat(employees).extracting(Employee::getEmployeeName).containsExactly("Tiger Nixon");
+        RecordedRequest request = mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+        assertThat(MediaType.parseMediaTypes(request.getHeader(HttpHeaders.ACCEPT)))
+                .extracting(MediaType::toString)
+                .containsExactly("application/x-jackson-smile", "application/json;q=0.9");
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testFallsBackToJson(boolean streamingDecoder) throws Exception {
+        mockApiProperties.setStreamingDecoder(streamingDecoder);
+        mockWebServer.enqueue(new MockResponse()
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setBody(new ObjectMapper().writeValueAsString(BODY)));
+
+        assertThat(fetchAll()).extracting(Employee::getEmployeeSalary).containsExactly(320800);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testRequestsOnlyJsonWhenConfigured(boolean streamingDecoder) throws Exception {
+        mockApiProperties.setStreamingDecoder(streamingDecoder);
+        mockApiProperties.setWireFormat(MockApiProperties.WireFormat.JSON);
+        mockWebServer.enqueue(new MockResponse()
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setBody(new ObjectMapper().writeValueAsString(BODY)));
+
+        assertThat(fetchAll()).hasSize(1);
+        assertThat(mockWebServer.takeRequest(1, TimeUnit.SECONDS).getHeader(HttpHeaders.ACCEPT))
+                .isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    private List<Employee> fetchAll() {
+        WebClient webClient = new WebClientConfig(
+                        mockApiProperties,
+                        new UpstreamRateLimit(),
+                        new OutboundScheduler(new OutboundProperties(), new SimpleMeterRegistry()))
+                .mockApiWebClient(WebClient.builder(), new ObjectMapper(), new Jackson2ObjectMapperBuilder());
+        return webClient
+                .get()
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {})
+                .map(ApiResponse::getData)
+                .block();
+    }
+}
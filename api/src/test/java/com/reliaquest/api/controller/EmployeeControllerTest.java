@@ -1,6 +1,8 @@
 package com.reliaquest.api.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -9,19 +11,30 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.model.CreateEmployeeRequest;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.snapshot.EmployeeFilter;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockAsyncContext;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
 import reactor.core.publisher.Mono;
 
 @WebMvcTest(EmployeeController.class)
@@ -70,7 +83,7 @@ class EmployeeControllerTest {
     void getAllEmployees_shouldReturn200WithEmployees() throws Exception {
         when(employeeService.getAllEmployees()).thenReturn(Mono.just(testEmployees));
 
-        mockMvc.perform(get("/api/v1/employee"))
+        perform(get("/api/v1/employee"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$[0].id").value("123"))
@@ -83,25 +96,89 @@ class EmployeeControllerTest {
     void getAllEmployees_shouldReturn500OnError() throws Exception {
         when(employeeService.getAllEmployees()).thenReturn(Mono.error(new RuntimeException("Service error")));
 
-        mockMvc.perform(get("/api/v1/employee")).andExpect(status().isInternalServerError());
+        perform(get("/api/v1/employee")).andExpect(status().isInternalServerError());
     }
 
     @Test
     void getEmployeesByNameSearch_shouldReturnFilteredEmployees() throws Exception {
         when(employeeService.searchEmployeesByName("John")).thenReturn(Mono.just(Arrays.asList(testEmployee1)));
 
-        mockMvc.perform(get("/api/v1/employee/search/John"))
+        perform(get("/api/v1/employee/search/John"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$[0].employee_name").value("John Doe"))
                 .andExpect(jsonPath("$.length()").value(1));
     }
 
+    @Test
+    void getEmployeesByFuzzyNameSearch_shouldReturnRankedEmployees() throws Exception {
+        when(employeeService.fuzzySearchEmployeesByName("Jhon", 2, 10))
+                .thenReturn(Mono.just(Arrays.asList(testEmployee1)));
+
+        perform(get("/api/v1/employee/search/fuzzy/Jhon")
+                        .param("maxDistance", "2")
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].employee_name").value("John Doe"))
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    void getEmployeesByFuzzyNameSearch_shouldReturnBadRequestForInvalidDistance() throws Exception {
+        when(employeeService.fuzzySearchEmployeesByName("Jhon", 9, 50))
+                .thenReturn(Mono.error(new IllegalArgumentException("maxDistance must be between 0 and 2")));
+
+        perform(get("/api/v1/employee/search/fuzzy/Jhon").param("maxDistance", "9"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getEmployeeNameCompletions_shouldReturnCompletions() throws Exception {
+        when(employeeService.autocompleteEmployeeNames("Ja", 10)).thenReturn(Mono.just(List.of("Jane", "Jack")));
+
+        perform(get("/api/v1/employee/autocomplete/Ja"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("Jane"))
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    void getEmployeeNameCompletions_shouldReturnBadRequestForInvalidLimit() throws Exception {
+        when(employeeService.autocompleteEmployeeNames("Ja", 500))
+                .thenReturn(Mono.error(new IllegalArgumentException("limit must be between 1 and 50")));
+
+        perform(get("/api/v1/employee/autocomplete/Ja").param("limit", "500"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getEmployeesByFilter_shouldReturnMatchingEmployees() throws Exception {
+        EmployeeFilter filter = new EmployeeFilter(List.of("engineer"), 30, 40, 150001, null);
+        when(employeeService.filterEmployees(filter, 100)).thenReturn(Mono.just(Arrays.asList(testEmployee1)));
+
+        perform(get("/api/v1/employee/filter")
+                        .param("title", "engineer")
+                        .param("minAge", "30")
+                        .param("maxAge", "40")
+                        .param("minSalary", "150001"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].employee_name").value("John Doe"))
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    void getEmployeesByFilter_shouldReturnBadRequestForInvertedRange() throws Exception {
+        perform(get("/api/v1/employee/filter").param("minAge", "40").param("maxAge", "30"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(employeeService);
+    }
+
     @Test
     void getEmployeeById_shouldReturnEmployee() throws Exception {
         when(employeeService.getEmployeeById("123")).thenReturn(Mono.just(testEmployee1));
 
-        mockMvc.perform(get("/api/v1/employee/123"))
+        perform(get("/api/v1/employee/123"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id").value("123"))
@@ -112,14 +189,14 @@ class EmployeeControllerTest {
     void getEmployeeById_shouldReturn404WhenNotFound() throws Exception {
         when(employeeService.getEmployeeById("999")).thenReturn(Mono.empty());
 
-        mockMvc.perform(get("/api/v1/employee/999")).andExpect(status().isNotFound());
+        perform(get("/api/v1/employee/999")).andExpect(status().isNotFound());
     }
 
     @Test
     void getHighestSalaryOfEmployees_shouldReturnHighestSalary() throws Exception {
         when(employeeService.getHighestSalary()).thenReturn(Mono.just(120000));
 
-        mockMvc.perform(get("/api/v1/employee/highestSalary"))
+        perform(get("/api/v1/employee/highestSalary"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(content().string("120000"));
@@ -130,7 +207,7 @@ class EmployeeControllerTest {
         List<String> topEarners = Arrays.asList("Jane Smith", "John Doe");
         when(employeeService.getTop10HighestEarningEmployeeNames()).thenReturn(Mono.just(topEarners));
 
-        mockMvc.perform(get("/api/v1/employee/topTenHighestEarningEmployeeNames"))
+        perform(get("/api/v1/employee/topTenHighestEarningEmployeeNames"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$[0]").value("Jane Smith"))
@@ -158,7 +235,7 @@ class EmployeeControllerTest {
         when(validator.validate(any(CreateEmployeeRequest.class))).thenReturn(new HashSet<>());
         when(employeeService.createEmployee(any(CreateEmployeeRequest.class))).thenReturn(Mono.just(createdEmployee));
 
-        mockMvc.perform(post("/api/v1/employee")
+        perform(post("/api/v1/employee")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isCreated())
@@ -181,7 +258,7 @@ class EmployeeControllerTest {
         violations.add(violation);
         when(validator.validate(any(CreateEmployeeRequest.class))).thenReturn(violations);
 
-        mockMvc.perform(post("/api/v1/employee")
+        perform(post("/api/v1/employee")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(invalidRequest)))
                 .andExpect(status().isBadRequest());
@@ -196,7 +273,7 @@ class EmployeeControllerTest {
         violations.add(violation);
         when(validator.validate(any(CreateEmployeeRequest.class))).thenReturn(violations);
 
-        mockMvc.perform(post("/api/v1/employee")
+        perform(post("/api/v1/employee")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(invalidJson))
                 .andExpect(status().isBadRequest());
@@ -206,7 +283,7 @@ class EmployeeControllerTest {
     void deleteEmployeeById_shouldReturnEmployeeName() throws Exception {
         when(employeeService.deleteEmployeeById("123")).thenReturn(Mono.just("John Doe"));
 
-        mockMvc.perform(delete("/api/v1/employee/123"))
+        perform(delete("/api/v1/employee/123"))
                 .andExpect(status().isOk())
                 .andExpect(content().string("John Doe"));
     }
@@ -216,13 +293,54 @@ class EmployeeControllerTest {
         when(employeeService.deleteEmployeeById("999"))
                 .thenReturn(Mono.error(new RuntimeException("Employee not found with id: 999")));
 
-        mockMvc.perform(delete("/api/v1/employee/999")).andExpect(status().isNotFound());
+        perform(delete("/api/v1/employee/999")).andExpect(status().isNotFound());
     }
 
     @Test
     void deleteEmployeeById_shouldReturn500OnOtherErrors() throws Exception {
         when(employeeService.deleteEmployeeById("123")).thenReturn(Mono.error(new RuntimeException("Database error")));
 
-        mockMvc.perform(delete("/api/v1/employee/123")).andExpect(status().isInternalServerError());
+        perform(delete("/api/v1/employee/123")).andExpect(status().isInternalServerError());
+    }
+
+    @Test
+    void getAllEmployees_shouldCancelUpstreamWorkWhenClientDisconnects() throws Exception {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        when(employeeService.getAllEmployees())
+                .thenReturn(Mono.<List<Employee>>never().doOnCancel(() -> cancelled.set(true)));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+        AsyncEvent brokenPipe = new AsyncEvent(asyncContext, new IOException("Broken pipe"));
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onError(brokenPipe);
+        }
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onComplete(brokenPipe);
+        }
+
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    void getEmployeeById_shouldAnswerDirectCallers() {
+        when(employeeService.getEmployeeById("123")).thenReturn(Mono.just(testEmployee1));
+
+        ResponseEntity<Employee> response =
+                new EmployeeController(employeeService, validator).getEmployeeById("123").block();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(testEmployee1);
+    }
+
+    /*
+     * Spring MVC answers the controller's Mono asynchronously.
+     */
+    private ResultActions perform(RequestBuilder request) throws Exception {
+        ResultActions actions = mockMvc.perform(request);
+        MvcResult result = actions.andReturn();
+        return result.getRequest().isAsyncStarted() ? mockMvc.perform(asyncDispatch(result)) : actions;
     }
 }
@@ -0,0 +1,112 @@
+package com.reliaquest.api.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+class UpstreamAttemptFilterTest {
+
+    private static final String BODY = "{\"data\":null,\"status\":\"ok\"}";
+
+    @TempDir
+    Path directory;
+
+    private MockWebServer mockWebServer;
+    private WebClient webClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+        webClient = WebClient.builder()
+                .baseUrl(mockWebServer.url("/api/v1/employee").toString())
+                .filter(new UpstreamAttemptFilter())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    void testRecordsOperationStatusAndBytes() throws IOException {
+        mockWebServer.enqueue(new MockResponse().setBody(BODY));
+
+        List<RecordedEvent> events = record(() -> webClient
+                .get()
+                .uri("/{id}", "42")
+                .retrieve()
+                .bodyToMono(String.class)
+                .block());
+
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getString("operation")).isEqualTo("GET /{id}");
+            assertThat(event.getString("uri")).endsWith("/api/v1/employee/42");
+            assertThat(event.getInt("status")).isEqualTo(200);
+            assertThat(event.getLong("bytes")).isEqualTo(BODY.length());
+            assertThat(event.getString("outcome")).isEqualTo("completed");
+            assertThat(event.getDuration()).isGreaterThanOrEqualTo(event.getDuration("timeToHeaders"));
+        });
+    }
+
+    @Test
+    void testRecordsRateLimitedAttempt() throws IOException {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(429));
+
+        List<RecordedEvent> events = record(() -> assertThatThrownBy(
+                        () -> webClient.get().retrieve().bodyToMono(String.class).block())
+                .isInstanceOf(WebClientResponseException.TooManyRequests.class));
+
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getString("operation")).isEqualTo("GET /api/v1/employee");
+            assertThat(event.getInt("status")).isEqualTo(429);
+        });
+    }
+
+    @Test
+    void testRecordsNothingWhileEventIsDisabled() throws IOException {
+        mockWebServer.enqueue(new MockResponse().setBody(BODY));
+
+        try (Recording recording = new Recording()) {
+            recording.start();
+            String body = webClient.get().retrieve().bodyToMono(String.class).block();
+            recording.stop();
+
+            assertThat(body).isEqualTo(BODY);
+            assertThat(events(recording)).isEmpty();
+        }
+    }
+
+    private List<RecordedEvent> record(Runnable exchange) throws IOException {
+        try (Recording recording = new Recording()) {
+            recording.enable(UpstreamAttemptEvent.class).withoutThreshold();
+            recording.start();
+            exchange.run();
+            recording.stop();
+            return events(recording);
+        }
+    }
+
+    private List<RecordedEvent> events(Recording recording) throws IOException {
+        Path file = directory.resolve("recording-" + recording.getId() + ".jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("com.reliaquest.api.UpstreamAttempt"))
+                .toList();
+    }
+}
@@ -0,0 +1,184 @@
+package com.reliaquest.api.peer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.config.CacheProperties;
+import com.reliaquest.api.config.MockApiProperties;
+import com.reliaquest.api.config.PeerProperties;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.snapshot.CompactEmployeeTable;
+import com.reliaquest.api.snapshot.EmployeeSnapshot;
+import com.reliaquest.api.snapshot.SnapshotFile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+class PeerSnapshotClientTest {
+
+    private static final List<Employee> EMPLOYEES = List.of(
+            Employee.builder()
+                    .id("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507")
+                    .employeeName("Tiger Nixon")
+                    .employeeSalary(320800)
+                    .employeeAge(61)
+                    .employeeTitle("Vice Chair Executive Principal Chief Officer")
+                    .employeeEmail("tnixon@company.com")
+                    .build(),
+            Employee.builder().id("2").employeeName("Garrett Winters").build());
+
+    private MockWebServer first;
+    private MockWebServer second;
+    private MockApiProperties mockApiProperties;
+    private PeerProperties peerProperties;
+    private EmployeeSnapshotCache cache;
+    private AtomicInteger upstreamLoads;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        first = new MockWebServer();
+        first.start();
+        second = new MockWebServer();
+        second.start();
+        mockApiProperties = new MockApiProperties();
+        peerProperties = new PeerProperties();
+        peerProperties.setEnabled(true);
+        peerProperties.setSelf("http://localhost:8082");
+        peerProperties.setMembers(List.of(url(first), url(second) + "/", "http://localhost:8082"));
+        peerProperties.setTimeout(Duration.ofSeconds(5));
+        peerProperties.setToken("secret");
+        cache = new EmployeeSnapshotCache(new CacheProperties());
+        upstreamLoads = new AtomicInteger();
+        new PeerSnapshotClient(
+                peerProperties, mockApiProperties, cache, WebClient.builder(), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        first.shutdown();
+        second.shutdown();
+    }
+
+    @Test
+    void testPeersBeforeSelf() {
+        List<String> members = List.of("http://a:8080", "http://b:8080/", "http://c:8080");
+
+        assertThat(PeerSnapshotClient.peersBefore("http://b:8080", members)).containsExactly("http://a:8080");
+        assertThat(PeerSnapshotClient.peersBefore("http://a:8080/", members)).isEmpty();
+        assertThat(PeerSnapshotClient.peersBefore("http://d:8080", members))
+                .containsExactly("http://a:8080", "http://b:8080", "http://c:8080");
+    }
+
+    @Test
+    void testTakesSnapshotFromFirstPeer() throws Exception {
+        Instant loadedAt = Instant.now().minusSeconds(5).truncatedTo(ChronoUnit.MILLIS);
+        first.enqueue(snapshotResponse(loadedAt));
+
+        EmployeeSnapshot snapshot = cache.snapshot(this::upstream).block();
+
+        assertThat(snapshot.table().employees()).containsExactlyElementsOf(EMPLOYEES);
+        assertThat(snapshot.loadedAt()).isEqualTo(loadedAt);
+        assertThat(snapshot.table()).isInstanceOf(CompactEmployeeTable.class);
+        assertThat(upstreamLoads).hasValue(0);
+        RecordedRequest request = first.takeRequest(1, TimeUnit.SECONDS);
+        assertThat(request.getPath()).isEqualTo(PeerSnapshotClient.PATH);
+        assertThat(request.getHeader(PeerSnapshotClient.NOT_BEFORE_HEADER)).isEqualTo("0");
+        assertThat(request.getHeader(PeerSnapshotClient.TOKEN_HEADER)).isEqualTo("secret");
+        assertThat(second.getRequestCount()).isZero();
+    }
+
+    @Test
+    void testAsksForSnapshotNewerThanLastInvalidation() throws Exception {
+        cache.invalidate();
+        long invalidatedAt = Instant.now().toEpochMilli();
+        first.enqueue(snapshotResponse(Instant.now()));
+
+        cache.snapshot(this::upstream).block();
+
+        assertThat(Long.parseLong(
+                        first.takeRequest(1, TimeUnit.SECONDS).getHeader(PeerSnapshotClient.NOT_BEFORE_HEADER)))
+                .isPositive()
+                .isLessThanOrEqualTo(invalidatedAt);
+    }
+
+    @Test
+    void testPassesOverFailedPeer() throws Exception {
+        first.enqueue(new MockResponse().setResponseCode(503));
+        second.enqueue(snapshotResponse(Instant.now()));
+        second.enqueue(snapshotResponse(Instant.now()));
+
+        cache.snapshot(this::upstream).block();
+        cache.invalidate();
+        cache.snapshot(this::upstream).block();
+
+        assertThat(first.getRequestCount()).isEqualTo(1);
+        assertThat(second.getRequestCount()).isEqualTo(2);
+        assertThat(upstreamLoads).hasValue(0);
+    }
+
+    @Test
+    void testLoadsFromUpstreamWhenNoPeerAnswers() {
+        first.enqueue(new MockResponse().setResponseCode(500));
+        second.enqueue(new MockResponse().setBody("not a snapshot"));
+
+        EmployeeSnapshot snapshot = cache.snapshot(this::upstream).block();
+
+        assertThat(snapshot.table().employees()).containsExactlyElementsOf(EMPLOYEES);
+        assertThat(upstreamLoads).hasValue(1);
+    }
+
+    @Test
+    void testRejectsSnapshotOfAnotherUpstream() {
+        mockApiProperties.setBaseUrl("http://elsewhere/api/v1/employee");
+        new PeerSnapshotClient(
+                peerProperties, mockApiProperties, cache, WebClient.builder(), new SimpleMeterRegistry());
+        first.enqueue(snapshotResponse(Instant.now()));
+        second.enqueue(snapshotResponse(Instant.now()));
+
+        cache.snapshot(this::upstream).block();
+
+        assertThat(upstreamLoads).hasValue(1);
+    }
+
+    private Mono<List<Employee>> upstream() {
+        return Mono.fromSupplier(() -> {
+            upstreamLoads.incrementAndGet();
+            return EMPLOYEES;
+        });
+    }
+
+    private MockResponse snapshotResponse(Instant loadedAt) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            SnapshotFile.write(
+                    new EmployeeSnapshot(3, CompactEmployeeTable.of(EMPLOYEES), loadedAt),
+                    new MockApiProperties().getBaseUrl(),
+                    Channels.newChannel(bytes));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return new MockResponse()
+                .setHeader("Content-Type", PeerSnapshotClient.SNAPSHOT.toString())
+                .setBody(new Buffer().write(bytes.toByteArray()));
+    }
+
+    private static String url(MockWebServer server) {
+        return "http://localhost:" + server.getPort();
+    }
+}
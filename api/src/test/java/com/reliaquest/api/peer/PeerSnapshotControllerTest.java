@@ -0,0 +1,107 @@
+package com.reliaquest.api.peer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.reliaquest.api.config.MockApiProperties;
+import com.reliaquest.api.config.PeerProperties;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.snapshot.CompactEmployeeTable;
+import com.reliaquest.api.snapshot.EmployeeSnapshot;
+import com.reliaquest.api.snapshot.SnapshotFile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Mono;
+
+class PeerSnapshotControllerTest {
+
+    private static final String TOKEN = "secret";
+
+    private EmployeeService employeeService;
+    private PeerProperties peerProperties;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        employeeService = mock(EmployeeService.class);
+        peerProperties = new PeerProperties();
+        peerProperties.setToken(TOKEN);
+        mockMvc = MockMvcBuilders.standaloneSetup(new PeerSnapshotController(
+                        employeeService, peerProperties, new MockApiProperties(), new SimpleMeterRegistry()))
+                .build();
+    }
+
+    @Test
+    void testServesSnapshotToPeerWithToken() throws Exception {
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(
+                4, CompactEmployeeTable.of(List.of(Employee.builder().id("1").build())), Instant.now());
+        when(employeeService.getFreshSnapshot(any())).thenReturn(Mono.just(snapshot));
+
+        MvcResult result = mockMvc.perform(get(PeerSnapshotClient.PATH).header(PeerSnapshotClient.TOKEN_HEADER, TOKEN))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        EmployeeSnapshot served =
+                SnapshotFile.read(ByteBuffer.wrap(body), new MockApiProperties().getBaseUrl(), "test");
+        assertThat(served.table().employees()).containsExactlyElementsOf(snapshot.table().employees());
+    }
+
+    @Test
+    void testAnswersUnavailableWhenSnapshotTakesTooLong() throws Exception {
+        peerProperties.setServeTimeout(Duration.ofMillis(50));
+        when(employeeService.getFreshSnapshot(any())).thenReturn(Mono.never());
+
+        mockMvc.perform(get(PeerSnapshotClient.PATH).header(PeerSnapshotClient.TOKEN_HEADER, TOKEN))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void testRefusesPeerWithoutToken() throws Exception {
+        mockMvc.perform(get(PeerSnapshotClient.PATH)).andExpect(status().isForbidden());
+        mockMvc.perform(get(PeerSnapshotClient.PATH).header(PeerSnapshotClient.TOKEN_HEADER, "guess"))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void testRequiresToken() {
+        peerProperties.setToken(" ");
+
+        assertThatThrownBy(() -> new PeerSnapshotController(
+                        employeeService, peerProperties, new MockApiProperties(), new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testRequiresServeTimeoutShorterThanTransferTimeout() {
+        peerProperties.setServeTimeout(peerProperties.getTimeout());
+
+        assertThatThrownBy(() -> new PeerSnapshotController(
+                        employeeService, peerProperties, new MockApiProperties(), new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("serve-timeout");
+    }
+}
@@ -0,0 +1,148 @@
+package com.reliaquest.api.scan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.config.ScanProperties;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.snapshot.CompactEmployeeTable;
+import com.reliaquest.api.snapshot.EmployeeTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+class TableScannerTest {
+
+    private static final int PARTITION_ROWS = 1000;
+
+    private final EmployeeTable table = table(25_500);
+    private SimpleMeterRegistry meterRegistry;
+    private TableScanner scanner;
+
+    @BeforeEach
+    void setUp() {
+        ScanProperties scanProperties = new ScanProperties();
+        scanProperties.setParallelism(4);
+        scanProperties.setPartitionRows(PARTITION_ROWS);
+        meterRegistry = new SimpleMeterRegistry();
+        scanner = new TableScanner(scanProperties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scanner.shutdown();
+    }
+
+    @Test
+    void testFilterAgreesWithSequentialScan() {
+        IntPredicate predicate = row -> table.salary(row) > 400_000;
+        int[] expected = IntStream.range(0, table.size()).filter(predicate).toArray();
+
+        assertThat(scanner.filter(table, predicate, Integer.MAX_VALUE).block()).containsExactly(expected);
+        for (int limit : new int[] {1, 7, 1500, expected.length - 1}) {
+            assertThat(scanner.filter(table, predicate, limit).block())
+                    .as("limit %d", limit)
+                    .containsExactly(IntStream.of(expected).limit(limit).toArray());
+        }
+    }
+
+    @Test
+    void testFilterRunsOnScanThreads() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        scanner.filter(
+                        table,
+                        row -> {
+                            threads.add(Thread.currentThread().getName());
+                            return true;
+                        },
+                        Integer.MAX_VALUE)
+                .block();
+
+        assertThat(threads).isNotEmpty().allMatch(name -> name.startsWith("employee-scan-"));
+    }
+
+    @Test
+    void testLimitStopsBeforeScanningEveryPartition() {
+        AtomicInteger evaluated = new AtomicInteger();
+
+        int[] rows = scanner.filter(
+                        table,
+                        row -> {
+                            evaluated.incrementAndGet();
+                            return row < 10;
+                        },
+                        10)
+                .block();
+
+        assertThat(rows).containsExactly(IntStream.range(0, 10).toArray());
+        // Every partition but the first has to be scanned in full to rule it out, unless it is skipped.
+        assertThat(evaluated.get()).isLessThan(table.size() / 2);
+        assertThat(meterRegistry
+                        .get("mock.api.scan.partitions")
+                        .tag("outcome", "skipped")
+                        .counter()
+                        .count())
+                .isPositive();
+    }
+
+    @Test
+    void testScansSmallTableOnCallingThread() {
+        EmployeeTable small = table(PARTITION_ROWS);
+        List<String> threads = new ArrayList<>();
+
+        Mono.just(small)
+                .flatMap(t -> scanner.filter(
+                        t,
+                        row -> {
+                            threads.add(Thread.currentThread().getName());
+                            return false;
+                        },
+                        10))
+                .block();
+
+        assertThat(threads).hasSize(PARTITION_ROWS).containsOnly(Thread.currentThread().getName());
+    }
+
+    @Test
+    void testAggregateCombinesPartitionsInRowOrder() {
+        Integer highest = scanner.aggregate(
+                        table,
+                        () -> new int[] {Integer.MIN_VALUE},
+                        (max, row) -> max[0] = Math.max(max[0], table.salary(row)),
+                        (left, right) -> new int[] {Math.max(left[0], right[0])})
+                .map(max -> max[0])
+                .block();
+        List<Integer> rows = scanner.<List<Integer>>aggregate(table, ArrayList::new, List::add, (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                })
+                .block();
+
+        assertThat(highest)
+                .isEqualTo(IntStream.range(0, table.size()).map(table::salary).max().getAsInt());
+        assertThat(rows).containsExactlyElementsOf(IntStream.range(0, table.size()).boxed().toList());
+    }
+
+    private static EmployeeTable table(int size) {
+        Random random = new Random(3);
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(Employee.builder()
+                    .id(Integer.toString(i))
+                    .employeeName("Employee " + i)
+                    .employeeSalary(30_000 + random.nextInt(400_000))
+                    .build());
+        }
+        return CompactEmployeeTable.of(employees);
+    }
+}
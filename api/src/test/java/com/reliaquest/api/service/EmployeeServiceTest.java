@@ -2,15 +2,41 @@ package com.reliaquest.api.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.reliaquest.api.cache.EmployeeByIdCache;
+import com.reliaquest.api.cache.EmployeeFilterIndexCache;
+import com.reliaquest.api.cache.EmployeeIdFilter;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.cache.FuzzyNameIndexCache;
+import com.reliaquest.api.cache.NameCompletionCache;
+import com.reliaquest.api.cache.SearchResultCache;
+import com.reliaquest.api.client.Deadline;
+import com.reliaquest.api.client.OutboundScheduler;
+import com.reliaquest.api.client.RequestHedger;
+import com.reliaquest.api.client.UpstreamRateLimit;
+import com.reliaquest.api.config.AutocompleteProperties;
+import com.reliaquest.api.config.CacheProperties;
+import com.reliaquest.api.config.FilterProperties;
+import com.reliaquest.api.config.FuzzySearchProperties;
+import com.reliaquest.api.config.HedgingProperties;
+import com.reliaquest.api.config.IdFilterProperties;
 import com.reliaquest.api.config.MockApiProperties;
+import com.reliaquest.api.config.OutboundProperties;
+import com.reliaquest.api.config.ScanProperties;
 import com.reliaquest.api.model.ApiResponse;
 import com.reliaquest.api.model.CreateEmployeeRequest;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.scan.TableScanner;
+import com.reliaquest.api.snapshot.EmployeeFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +49,7 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
+import reactor.util.context.Context;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeServiceTest {
@@ -51,6 +78,7 @@ class EmployeeServiceTest {
     @Mock
     private MockApiProperties.RetryConfig retryConfig;
 
+    private OutboundProperties outboundProperties;
     private EmployeeService employeeService;
 
     private Employee testEmployee1;
@@ -64,7 +92,30 @@ class EmployeeServiceTest {
         when(retryConfig.getInitialDelay()).thenReturn(10L);
         when(retryConfig.getMaxDelay()).thenReturn(50L);
 
-        employeeService = new EmployeeService(mockWebClient, mockApiProperties);
+        CacheProperties cacheProperties = new CacheProperties();
+        cacheProperties.setEnabled(false);
+        EmployeeSnapshotCache employeeSnapshotCache = new EmployeeSnapshotCache(cacheProperties);
+        RequestHedger requestHedger =
+                new RequestHedger(new HedgingProperties(), new UpstreamRateLimit(), new SimpleMeterRegistry());
+        EmployeeIdFilter employeeIdFilter =
+                new EmployeeIdFilter(new IdFilterProperties(), employeeSnapshotCache, new SimpleMeterRegistry());
+        EmployeeByIdCache employeeByIdCache = new EmployeeByIdCache(cacheProperties, new SimpleMeterRegistry());
+        outboundProperties = new OutboundProperties();
+        employeeService = new EmployeeService(
+                mockWebClient,
+                mockApiProperties,
+                employeeSnapshotCache,
+                employeeIdFilter,
+                employeeByIdCache,
+                new SnapshotQueryService(
+                        employeeSnapshotCache,
+                        new SearchResultCache(cacheProperties, new SimpleMeterRegistry()),
+                        new FuzzyNameIndexCache(new FuzzySearchProperties(), employeeSnapshotCache),
+                        new NameCompletionCache(new AutocompleteProperties(), employeeSnapshotCache),
+                        new EmployeeFilterIndexCache(new FilterProperties(), employeeSnapshotCache),
+                        new TableScanner(new ScanProperties(), new SimpleMeterRegistry())),
+                requestHedger,
+                new OutboundScheduler(outboundProperties, new SimpleMeterRegistry()));
 
         testEmployee1 = Employee.builder()
                 .id("123")
@@ -139,6 +190,56 @@ class EmployeeServiceTest {
                 .verify();
     }
 
+    @Test
+    void getAllEmployees_shouldStopRetryingWhenDeadlineCannotCoverBackoff() {
+        when(mockWebClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+
+        WebClientResponseException rateLimitError =
+                WebClientResponseException.create(429, "Too Many Requests", null, null, null);
+        AtomicInteger attempts = new AtomicInteger();
+
+        when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class)))
+                .thenReturn(Mono.defer(() -> {
+                    attempts.incrementAndGet();
+                    return Mono.error(rateLimitError);
+                }));
+
+        StepVerifier.create(employeeService
+                        .getAllEmployees()
+                        .contextWrite(Context.of(Deadline.CONTEXT_KEY, Deadline.after(Duration.ofMillis(5)))))
+                .expectErrorMatches(throwable -> throwable.getCause() == rateLimitError)
+                .verify();
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void getAllEmployees_shouldShareDefaultDeadlineAcrossRetries() {
+        outboundProperties.getDeadlines().put(OutboundScheduler.Priority.BACKGROUND, Duration.ofMillis(25));
+        when(mockWebClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+
+        WebClientResponseException rateLimitError =
+                WebClientResponseException.create(429, "Too Many Requests", null, null, null);
+        AtomicInteger attempts = new AtomicInteger();
+
+        when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class)))
+                .thenReturn(Mono.defer(() -> {
+                    attempts.incrementAndGet();
+                    return Mono.error(rateLimitError);
+                }));
+
+        // Backoffs of about 10ms then 20ms: only the first fits in one 25ms budget.
+        StepVerifier.create(employeeService
+                        .getAllEmployees()
+                        .contextWrite(OutboundScheduler.withPriority(OutboundScheduler.Priority.BACKGROUND)))
+                .expectErrorMatches(throwable -> throwable.getCause() == rateLimitError)
+                .verify();
+
+        assertThat(attempts).hasValue(2);
+    }
+
     @Test
     void searchEmployeesByName_shouldFilterEmployees() {
         ApiResponse<List<Employee>> apiResponse = new ApiResponse<>(testEmployees, "Success");
@@ -171,6 +272,68 @@ class EmployeeServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    void fuzzySearchEmployeesByName_shouldRankApproximateMatches() {
+        ApiResponse<List<Employee>> apiResponse = new ApiResponse<>(testEmployees, "Success");
+
+        when(mockWebClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class))).thenReturn(Mono.just(apiResponse));
+
+        StepVerifier.create(employeeService.fuzzySearchEmployeesByName("Jhon Deo", 1, 10))
+                .assertNext(employees -> assertThat(employees).containsExactly(testEmployee1))
+                .verifyComplete();
+    }
+
+    @Test
+    void fuzzySearchEmployeesByName_shouldRejectDistanceBeyondIndex() {
+        StepVerifier.create(employeeService.fuzzySearchEmployeesByName("John", 3, 10))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void autocompleteEmployeeNames_shouldCompleteLastWord() {
+        ApiResponse<List<Employee>> apiResponse = new ApiResponse<>(testEmployees, "Success");
+
+        when(mockWebClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class))).thenReturn(Mono.just(apiResponse));
+
+        StepVerifier.create(employeeService.autocompleteEmployeeNames("John sm", 10))
+                .assertNext(completions -> assertThat(completions).containsExactly("Smith"))
+                .verifyComplete();
+    }
+
+    @Test
+    void autocompleteEmployeeNames_shouldRejectLimitAboveMax() {
+        StepVerifier.create(employeeService.autocompleteEmployeeNames("Jo", 51))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void filterEmployees_shouldCombinePredicates() {
+        ApiResponse<List<Employee>> apiResponse = new ApiResponse<>(testEmployees, "Success");
+
+        when(mockWebClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class))).thenReturn(Mono.just(apiResponse));
+
+        EmployeeFilter filter = new EmployeeFilter(List.of("engineer"), 30, 40, 110000, null);
+        StepVerifier.create(employeeService.filterEmployees(filter, 10))
+                .assertNext(employees -> assertThat(employees).containsExactly(testEmployee2))
+                .verifyComplete();
+    }
+
+    @Test
+    void filterEmployees_shouldRejectLimitAboveMax() {
+        EmployeeFilter filter = new EmployeeFilter(List.of(), null, null, null, null);
+        StepVerifier.create(employeeService.filterEmployees(filter, 1001))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
     @Test
     void getEmployeeById_shouldReturnEmployee() {
         ApiResponse<Employee> apiResponse = new ApiResponse<>(testEmployee1, "Success");
@@ -200,6 +363,20 @@ class EmployeeServiceTest {
         StepVerifier.create(employeeService.getEmployeeById("999")).verifyComplete();
     }
 
+    @Test
+    void getEmployeeById_shouldNotAskUpstreamAgainForRecentlyMissingId() {
+        when(mockWebClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri("/{id}", "999")).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class)))
+                .thenReturn(Mono.error(WebClientResponseException.create(404, "Not Found", null, null, null)));
+
+        StepVerifier.create(employeeService.getEmployeeById("999")).verifyComplete();
+        StepVerifier.create(employeeService.getEmployeeById("999")).verifyComplete();
+
+        verify(mockWebClient, times(1)).get();
+    }
+
     @Test
     void getHighestSalary_shouldReturnMaxSalary() {
         ApiResponse<List<Employee>> apiResponse = new ApiResponse<>(testEmployees, "Success");
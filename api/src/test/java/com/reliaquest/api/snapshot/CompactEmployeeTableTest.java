@@ -0,0 +1,82 @@
+package com.reliaquest.api.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class CompactEmployeeTableTest {
+
+    @Test
+    void testRoundTripsEveryField() {
+        List<Employee> employees = List.of(
+                Employee.builder()
+                        .id(UUID.randomUUID().toString())
+                        .employeeName("Tiger Nixon")
+                        .employeeSalary(320800)
+                        .employeeAge(61)
+                        .employeeTitle("Vice Chair Executive Principal Chief Officer")
+                        .employeeEmail("tnixon@company.com")
+                        .build(),
+                Employee.builder()
+                        .id(UUID.randomUUID().toString())
+                        .employeeName("Zoë Ångström 山田")
+                        .employeeSalary(50000)
+                        .employeeAge(25)
+                        .employeeTitle("Vice Chair Executive Principal Chief Officer")
+                        .employeeEmail("zoe@company.com")
+                        .build(),
+                Employee.builder()
+                        .id("123")
+                        .employeeName("")
+                        .employeeSalary(0)
+                        .employeeTitle("Engineer")
+                        .employeeEmail("no-domain")
+                        .build(),
+                Employee.builder()
+                        .id("4A3A170B-22CD-4AC2-AAD1-9BB5B34A1507")
+                        .employeeEmail("odd@@example.org")
+                        .build(),
+                new Employee());
+
+        CompactEmployeeTable table = CompactEmployeeTable.of(employees);
+
+        assertThat(table.size()).isEqualTo(employees.size());
+        assertThat(table.employees()).containsExactlyElementsOf(employees);
+        assertThat(table.salary(3)).isEqualTo(EmployeeTable.NULL_INT);
+        assertThat(table.age(2)).isEqualTo(EmployeeTable.NULL_INT);
+    }
+
+    @Test
+    void testSkipsNullRows() {
+        Employee employee = Employee.builder().id("1").employeeName("Jill Bob").build();
+
+        CompactEmployeeTable table = CompactEmployeeTable.of(Arrays.asList(null, employee, null));
+
+        assertThat(table.employees()).containsExactly(employee);
+    }
+
+    @Test
+    void testIsSmallerThanDecodedObjects() {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            employees.add(Employee.builder()
+                    .id(UUID.randomUUID().toString())
+                    .employeeName("Employee Number " + i)
+                    .employeeSalary(30_000 + i)
+                    .employeeAge(20 + i % 40)
+                    .employeeTitle("Title " + i % 20)
+                    .employeeEmail("employee" + i + "@company.com")
+                    .build());
+        }
+
+        CompactEmployeeTable table = CompactEmployeeTable.of(employees);
+
+        // Object header, seven references and seven payloads take well over 300 bytes per employee.
+        assertThat(table.sizeInBytes() / employees.size()).isLessThan(100);
+    }
+}
@@ -0,0 +1,132 @@
+package com.reliaquest.api.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class EmployeeFilterIndexTest {
+
+    private static final List<Employee> EMPLOYEES = List.of(
+            employee("Ana", "Software Engineer", 31, 160_000),
+            employee("Ben", "Senior Engineer", 40, 150_000),
+            employee("Cleo", "Engineering Manager", 45, 200_000),
+            employee("Dan", "Product Manager", 35, 155_000),
+            employee("Eve", "software engineer", 29, 170_000),
+            employee("Fay", null, null, null));
+
+    private final EmployeeFilterIndex index = EmployeeFilterIndex.build(new ListEmployeeTable(EMPLOYEES), 10, 25_000);
+
+    @Test
+    void testCombinesTitleAgeAndSalary() {
+        EmployeeFilter filter = new EmployeeFilter(List.of("engineer"), 30, 40, 150_001, null);
+
+        assertThat(names(index.filter(filter, 10))).containsExactly("Ana");
+        assertThat(index.count(filter)).isEqualTo(1);
+    }
+
+    @Test
+    void testMatchesAnyTitleCaseInsensitively() {
+        assertThat(names(index.filter(new EmployeeFilter(List.of("SOFTWARE"), null, null, null, null), 10)))
+                .containsExactly("Ana", "Eve");
+        assertThat(names(index.filter(new EmployeeFilter(List.of("product", "senior"), null, null, null, null), 10)))
+                .containsExactly("Ben", "Dan");
+    }
+
+    @Test
+    void testRangeBoundsAreInclusiveAndExcludeMissingValues() {
+        assertThat(names(index.filter(new EmployeeFilter(List.of(), 35, 40, null, null), 10)))
+                .containsExactly("Ben", "Dan");
+        assertThat(names(index.filter(new EmployeeFilter(List.of(), null, null, null, 150_000), 10)))
+                .containsExactly("Ben");
+    }
+
+    @Test
+    void testWithoutPredicatesReturnsEveryoneUpToLimit() {
+        EmployeeFilter filter = new EmployeeFilter(null, null, null, null, null);
+
+        assertThat(names(index.filter(filter, 3))).containsExactly("Ana", "Ben", "Cleo");
+        assertThat(index.count(filter)).isEqualTo(EMPLOYEES.size());
+    }
+
+    @Test
+    void testRejectsInvertedRanges() {
+        assertThatThrownBy(() -> new EmployeeFilter(List.of(), 40, 30, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EmployeeFilter(List.of(), null, null, 2, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testAgreesWithRowScan() {
+        String[] titles = {"Engineer", "Senior Engineer", "Manager", "Analyst", "Designer"};
+        Random random = new Random(11);
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            employees.add(employee(
+                    "e" + i,
+                    random.nextInt(20) == 0 ? null : titles[random.nextInt(titles.length)],
+                    random.nextInt(20) == 0 ? null : 18 + random.nextInt(50),
+                    random.nextInt(20) == 0 ? null : 30_000 + random.nextInt(300_000)));
+        }
+        EmployeeFilterIndex large = EmployeeFilterIndex.build(new ListEmployeeTable(employees), 10, 25_000);
+
+        for (int i = 0; i < 200; i++) {
+            List<String> queryTitles =
+                    random.nextBoolean() ? List.of() : List.of(titles[random.nextInt(titles.length)]);
+            Integer minAge = random.nextBoolean() ? null : 15 + random.nextInt(50);
+            Integer maxAge = random.nextBoolean() ? null : (minAge == null ? 20 : minAge) + random.nextInt(30);
+            Integer minSalary = random.nextBoolean() ? null : 20_000 + random.nextInt(300_000);
+            Integer maxSalary =
+                    random.nextBoolean() ? null : (minSalary == null ? 20_000 : minSalary) + random.nextInt(200_000);
+            EmployeeFilter filter = new EmployeeFilter(queryTitles, minAge, maxAge, minSalary, maxSalary);
+
+            int[] expected = IntStream.range(0, employees.size())
+                    .filter(row -> scanMatches(employees.get(row), filter))
+                    .toArray();
+            assertThat(large.filterRows(filter, Integer.MAX_VALUE)).as("%s", filter).containsExactly(expected);
+        }
+    }
+
+    private static boolean scanMatches(Employee employee, EmployeeFilter filter) {
+        String title = employee.getEmployeeTitle();
+        if (!filter.titles().isEmpty()
+                && (title == null
+                        || filter.titles().stream()
+                                .noneMatch(query -> title.toLowerCase().contains(query.toLowerCase())))) {
+            return false;
+        }
+        return within(employee.getEmployeeAge(), filter.minAge(), filter.maxAge(), filter.hasAgeBound())
+                && within(
+                        employee.getEmployeeSalary(),
+                        filter.minSalary(),
+                        filter.maxSalary(),
+                        filter.hasSalaryBound());
+    }
+
+    private static boolean within(Integer value, Integer min, Integer max, boolean bounded) {
+        if (!bounded) {
+            return true;
+        }
+        return value != null && (min == null || value >= min) && (max == null || value <= max);
+    }
+
+    private static List<String> names(List<Employee> employees) {
+        return employees.stream().map(Employee::getEmployeeName).toList();
+    }
+
+    private static Employee employee(String name, String title, Integer age, Integer salary) {
+        return Employee.builder()
+                .id(name)
+                .employeeName(name)
+                .employeeTitle(title)
+                .employeeAge(age)
+                .employeeSalary(salary)
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.reliaquest.api.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class FuzzyNameIndexTest {
+
+    private static final List<String> NAMES = List.of(
+            "Arturo Morissette", "Ngoc Hand", "Bill Bob", "Jill Bob", "Arturo Hand", "Mary-Jane O'Reilly", "Ngoc Ngoc");
+
+    private final FuzzyNameIndex index = FuzzyNameIndex.build(table(NAMES), 2);
+
+    @Test
+    void testFindsMisspelledWord() {
+        assertThat(names(index.search("Artuor", 1, 10))).containsExactly("Arturo Morissette", "Arturo Hand");
+        assertThat(names(index.search("morisette", 1, 10))).containsExactly("Arturo Morissette");
+    }
+
+    @Test
+    void testRespectsRequestedDistance() {
+        assertThat(index.search("Arxurx", 1, 10)).isEmpty();
+        assertThat(names(index.search("Arxurx", 2, 10))).containsExactly("Arturo Morissette", "Arturo Hand");
+    }
+
+    @Test
+    void testRequiresEveryWordAndRanksByTotalDistance() {
+        assertThat(names(index.search("arturo hnad", 2, 10))).containsExactly("Arturo Hand");
+        assertThat(names(index.search("jill bob", 1, 10))).containsExactly("Jill Bob", "Bill Bob");
+    }
+
+    @Test
+    void testMatchesCaseInsensitivelyAcrossPunctuation() {
+        assertThat(names(index.search("JANE oreilly", 1, 10))).containsExactly("Mary-Jane O'Reilly");
+    }
+
+    @Test
+    void testListsNameWithRepeatedWordOnce() {
+        assertThat(names(index.search("ngoc", 0, 10))).containsExactly("Ngoc Hand", "Ngoc Ngoc");
+    }
+
+    @Test
+    void testStopsAtLimitWithClosestFirst() {
+        assertThat(names(index.search("bill", 1, 1))).containsExactly("Bill Bob");
+    }
+
+    @Test
+    void testMatchesWordsLongerThanIndexedPrefix() {
+        assertThat(FuzzyNameIndex.PREFIX_LENGTH).isLessThan("morissette".length());
+        assertThat(names(index.search("morissettx", 1, 10))).containsExactly("Arturo Morissette");
+        assertThat(index.search("morissettxx", 1, 10)).isEmpty();
+    }
+
+    @Test
+    void testAgreesWithExhaustiveSearch() {
+        List<String> names = new ArrayList<>();
+        String[] words = {"tony", "toni", "tiny", "elvie", "elvis", "jarod", "jared", "carroll", "carol", "ward"};
+        for (int i = 0; i < 500; i++) {
+            names.add(words[i % words.length] + " " + words[(i * 7 + 3) % words.length]);
+        }
+        FuzzyNameIndex large = FuzzyNameIndex.build(table(names), 2);
+
+        for (String query : List.of("tonny", "carrol", "jaord", "elvi ward", "tiny carroll")) {
+            for (int distance = 0; distance <= 2; distance++) {
+                int[] rows = large.searchRows(query, distance, names.size());
+                assertThat(rows)
+                        .as("%s within %d", query, distance)
+                        .containsExactlyInAnyOrder(exhaustive(names, query, distance));
+            }
+        }
+    }
+
+    @Test
+    void testComputesOptimalStringAlignmentDistance() {
+        assertThat(FuzzyNameIndex.distance("arturo", "arturo", 2)).isZero();
+        assertThat(FuzzyNameIndex.distance("arturo", "artuor", 2)).isEqualTo(1);
+        assertThat(FuzzyNameIndex.distance("arturo", "arturos", 2)).isEqualTo(1);
+        assertThat(FuzzyNameIndex.distance("arturo", "atruro", 2)).isEqualTo(1);
+        assertThat(FuzzyNameIndex.distance("kitten", "sitting", 5)).isEqualTo(3);
+        assertThat(FuzzyNameIndex.distance("kitten", "sitting", 2)).isEqualTo(3);
+    }
+
+    @Test
+    void testRejectsDistanceBeyondIndex() {
+        assertThatThrownBy(() -> index.search("ngoc", 3, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static int[] exhaustive(List<String> names, String query, int distance) {
+        List<String> queryWords = NameWords.lowerCase(query);
+        return IntStream.range(0, names.size())
+                .filter(row -> queryWords.stream()
+                        .allMatch(word -> NameWords.lowerCase(names.get(row)).stream()
+                                .anyMatch(nameWord -> FuzzyNameIndex.distance(word, nameWord, distance) <= distance)))
+                .toArray();
+    }
+
+    private static List<String> names(List<Employee> employees) {
+        return employees.stream().map(Employee::getEmployeeName).toList();
+    }
+
+    private static EmployeeTable table(List<String> names) {
+        return new ListEmployeeTable(Arrays.asList(names.stream()
+                .map(name -> Employee.builder().id(name).employeeName(name).build())
+                .toArray(Employee[]::new)));
+    }
+}
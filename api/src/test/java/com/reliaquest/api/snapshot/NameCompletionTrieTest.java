@@ -0,0 +1,124 @@
+package com.reliaquest.api.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class NameCompletionTrieTest {
+
+    private static final Map<String, Integer> SALARIES = Map.of(
+            "Arturo Morissette", 95_000,
+            "Ngoc Hand", 90_000,
+            "Arthur Hand", 70_000,
+            "Mary-Jane O'Reilly", 60_000,
+            "Ngoc Ngoc", 40_000,
+            "Art Mo", 80_000);
+
+    private final EmployeeTable table = table(SALARIES);
+
+    @Test
+    void testRanksByFrequencyThenAlphabetically() {
+        NameCompletionTrie trie = NameCompletionTrie.build(table, NameCompletionTrie.Weight.FREQUENCY);
+
+        assertThat(trie.complete("ar", 10)).containsExactly("Art", "Arthur", "Arturo");
+        assertThat(trie.complete("", 10)).isEmpty();
+        assertThat(trie.complete("n", 10)).containsExactly("Ngoc");
+    }
+
+    @Test
+    void testRanksByHighestSalary() {
+        NameCompletionTrie trie = NameCompletionTrie.build(table, NameCompletionTrie.Weight.HIGHEST_SALARY);
+
+        assertThat(trie.complete("ar", 10)).containsExactly("Arturo", "Art", "Arthur");
+        assertThat(trie.complete("ar", 2)).containsExactly("Arturo", "Art");
+    }
+
+    @Test
+    void testCompletesLastWordCaseInsensitively() {
+        NameCompletionTrie trie = NameCompletionTrie.build(table, NameCompletionTrie.Weight.FREQUENCY);
+
+        assertThat(trie.complete("arturo MO", 10)).containsExactly("Mo", "Morissette");
+        assertThat(trie.complete("o'r", 10)).containsExactly("O'Reilly");
+        assertThat(trie.complete("hand", 10)).containsExactly("Hand");
+        assertThat(trie.complete("handy", 10)).isEmpty();
+    }
+
+    @Test
+    void testCountsWordRepeatedWithinNameOnce() {
+        NameCompletionTrie trie = NameCompletionTrie.build(
+                table(Map.of("Ngoc Ngoc", 1, "Nancy Hand", 2, "Nancy Bob", 3)), NameCompletionTrie.Weight.FREQUENCY);
+
+        assertThat(trie.complete("n", 10)).containsExactly("Nancy", "Ngoc");
+    }
+
+    @Test
+    void testHandlesEmptyTable() {
+        NameCompletionTrie trie = NameCompletionTrie.build(table(Map.of()), NameCompletionTrie.Weight.FREQUENCY);
+
+        assertThat(trie.wordCount()).isZero();
+        assertThat(trie.complete("a", 10)).isEmpty();
+    }
+
+    @Test
+    void testAgreesWithExhaustiveRanking() {
+        String[] words = {"tony", "toni", "tonya", "tom", "tomas", "elvie", "elvis", "el", "jarod", "jared", "ja"};
+        Random random = new Random(42);
+        Map<String, Integer> salaries = new HashMap<>();
+        for (int i = 0; i < 300; i++) {
+            salaries.put(
+                    words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)] + " " + i,
+                    random.nextInt(200_000));
+        }
+        EmployeeTable large = table(salaries);
+
+        for (NameCompletionTrie.Weight weight : NameCompletionTrie.Weight.values()) {
+            NameCompletionTrie trie = NameCompletionTrie.build(large, weight);
+            for (String prefix : List.of("t", "to", "ton", "tom", "e", "el", "ja", "j", "x", "1")) {
+                for (int limit : new int[] {1, 3, 50}) {
+                    assertThat(trie.complete(prefix, limit))
+                            .as("%s %s top %d", weight, prefix, limit)
+                            .containsExactlyElementsOf(exhaustive(salaries, weight, prefix, limit));
+                }
+            }
+        }
+    }
+
+    private static List<String> exhaustive(
+            Map<String, Integer> salaries, NameCompletionTrie.Weight weight, String prefix, int limit) {
+        Map<String, Long> weights = new HashMap<>();
+        salaries.forEach((name, salary) -> {
+            for (String word : new HashSet<>(NameWords.lowerCase(name))) {
+                if (weight == NameCompletionTrie.Weight.FREQUENCY) {
+                    weights.merge(word, 1L, Long::sum);
+                } else {
+                    weights.merge(word, (long) salary, Math::max);
+                }
+            }
+        });
+        List<String> ranked = new ArrayList<>(weights.keySet().stream()
+                .filter(word -> word.startsWith(prefix))
+                .toList());
+        ranked.sort(Comparator.comparing((String word) -> weights.get(word))
+                .reversed()
+                .thenComparing(Comparator.naturalOrder()));
+        return ranked.subList(0, Math.min(limit, ranked.size()));
+    }
+
+    private static EmployeeTable table(Map<String, Integer> salaries) {
+        return new ListEmployeeTable(salaries.entrySet().stream()
+                .map(entry -> Employee.builder()
+                        .id(entry.getKey())
+                        .employeeName(entry.getKey())
+                        .employeeSalary(entry.getValue())
+                        .build())
+                .toList());
+    }
+}
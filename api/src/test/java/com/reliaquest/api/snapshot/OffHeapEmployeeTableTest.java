@@ -0,0 +1,79 @@
+package com.reliaquest.api.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.model.Employee;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OffHeapEmployeeTableTest {
+
+    private static final List<Employee> EMPLOYEES = Arrays.asList(
+            Employee.builder()
+                    .id(UUID.randomUUID().toString())
+                    .employeeName("Tiger Nixon")
+                    .employeeSalary(320800)
+                    .employeeAge(61)
+                    .employeeTitle("Vice Chair Executive Principal Chief Officer")
+                    .employeeEmail("tnixon@company.com")
+                    .build(),
+            null,
+            Employee.builder()
+                    .id(UUID.randomUUID().toString())
+                    .employeeName("Zoë Ångström")
+                    .employeeSalary(50000)
+                    .employeeAge(25)
+                    .employeeTitle("Vice Chair Executive Principal Chief Officer")
+                    .employeeEmail("zoe@company.com")
+                    .build(),
+            Employee.builder()
+                    .id("123")
+                    .employeeName("")
+                    .employeeSalary(0)
+                    .employeeEmail("no-domain")
+                    .build(),
+            new Employee());
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRoundTripsEveryField() {
+        OffHeapEmployeeTable table = OffHeapEmployeeTable.of(EMPLOYEES);
+
+        assertThat(table.employees())
+                .containsExactly(EMPLOYEES.get(0), EMPLOYEES.get(2), EMPLOYEES.get(3), EMPLOYEES.get(4));
+        assertThat(table.salary(3)).isEqualTo(EmployeeTable.NULL_INT);
+        assertThat(table.sizeInBytes()).isPositive();
+    }
+
+    @Test
+    void testRoundTripsMemoryMapped() {
+        OffHeapEmployeeTable table = OffHeapEmployeeTable.mapped(EMPLOYEES, directory);
+
+        assertThat(table.employees()).containsExactlyElementsOf(CompactEmployeeTable.of(EMPLOYEES).employees());
+        assertThat(directory).isEmptyDirectory();
+    }
+
+    @Test
+    void testEmptyTable() {
+        assertThat(OffHeapEmployeeTable.of(List.of()).employees()).isEmpty();
+    }
+
+    @Test
+    void testNameMatchesWithoutDecoding() {
+        OffHeapEmployeeTable table = OffHeapEmployeeTable.of(EMPLOYEES);
+
+        assertThat(table.nameMatches(0, NameQuery.of("NIXON"))).isTrue();
+        assertThat(table.nameMatches(0, NameQuery.of("ger ni"))).isTrue();
+        assertThat(table.nameMatches(0, NameQuery.of("nixons"))).isFalse();
+        assertThat(table.nameMatches(1, NameQuery.of("ÅNGSTRÖM"))).isTrue();
+        assertThat(table.nameMatches(1, NameQuery.of("zoë"))).isTrue();
+        assertThat(table.nameMatches(2, NameQuery.of(""))).isTrue();
+        assertThat(table.nameMatches(3, NameQuery.of(""))).isFalse();
+    }
+}
@@ -0,0 +1,86 @@
+package com.reliaquest.api.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.BitSet;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class RowBitmapTest {
+
+    @Test
+    void testStoresSparseAndDenseGroups() {
+        int[] rows = {1, 5, 70_000, 70_001, 200_000};
+        RowBitmap sparse = RowBitmap.of(rows);
+
+        assertThat(sparse.cardinality()).isEqualTo(5);
+        assertThat(sparse.toArray(10)).containsExactly(rows);
+        assertThat(sparse.toArray(2)).containsExactly(1, 5);
+        assertThat(sparse.contains(70_000)).isTrue();
+        assertThat(sparse.contains(70_002)).isFalse();
+
+        RowBitmap dense = RowBitmap.of(range(0, 3 * RowBitmap.ARRAY_MAX));
+        assertThat(dense.cardinality()).isEqualTo(3 * RowBitmap.ARRAY_MAX);
+        assertThat(dense.contains(RowBitmap.ARRAY_MAX)).isTrue();
+        assertThat(dense.contains(3 * RowBitmap.ARRAY_MAX)).isFalse();
+    }
+
+    @Test
+    void testRejectsUnsortedRows() {
+        assertThatThrownBy(() -> RowBitmap.of(new int[] {3, 2})).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RowBitmap.of(new int[] {-1})).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testEmpty() {
+        assertThat(RowBitmap.empty().isEmpty()).isTrue();
+        assertThat(RowBitmap.of(new int[0]).and(RowBitmap.of(range(0, 10))).isEmpty()).isTrue();
+        assertThat(RowBitmap.empty().or(RowBitmap.of(range(0, 10))).cardinality()).isEqualTo(10);
+    }
+
+    @Test
+    void testAgreesWithBitSetAcrossContainerKinds() {
+        Random random = new Random(7);
+        // Densities on both sides of the array/bitmap threshold within each group of 65536 rows.
+        double[] densities = {0.001, 0.05, 0.2, 0.9};
+        for (double left : densities) {
+            for (double right : densities) {
+                BitSet a = randomRows(random, left);
+                BitSet b = randomRows(random, right);
+                RowBitmap x = RowBitmap.of(a.stream().toArray());
+                RowBitmap y = RowBitmap.of(b.stream().toArray());
+
+                BitSet and = (BitSet) a.clone();
+                and.and(b);
+                BitSet or = (BitSet) a.clone();
+                or.or(b);
+
+                RowBitmap intersection = x.and(y);
+                RowBitmap union = x.or(y);
+                assertThat(intersection.cardinality()).isEqualTo(and.cardinality());
+                assertThat(intersection.toArray(Integer.MAX_VALUE)).containsExactly(and.stream().toArray());
+                assertThat(union.cardinality()).isEqualTo(or.cardinality());
+                assertThat(union.toArray(Integer.MAX_VALUE)).containsExactly(or.stream().toArray());
+            }
+        }
+    }
+
+    private static BitSet randomRows(Random random, double density) {
+        BitSet rows = new BitSet();
+        for (int row = 0; row < 200_000; row++) {
+            if (random.nextDouble() < density) {
+                rows.set(row);
+            }
+        }
+        return rows;
+    }
+
+    private static int[] range(int from, int to) {
+        int[] rows = new int[to - from];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = from + i;
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,114 @@
+package com.reliaquest.api.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SnapshotFileTest {
+
+    private static final String SOURCE = "http://localhost:8112/api/v1/employee";
+
+    private static final List<Employee> EMPLOYEES = Arrays.asList(
+            Employee.builder()
+                    .id(UUID.randomUUID().toString())
+                    .employeeName("Tiger Nixon")
+                    .employeeSalary(320800)
+                    .employeeAge(61)
+                    .employeeTitle("Vice Chair Executive Principal Chief Officer")
+                    .employeeEmail("tnixon@company.com")
+                    .build(),
+            Employee.builder()
+                    .id(UUID.randomUUID().toString())
+                    .employeeName("Zoë Ångström")
+                    .employeeSalary(50000)
+                    .employeeAge(25)
+                    .employeeEmail("zoe@company.com")
+                    .build(),
+            Employee.builder()
+                    .id("123")
+                    .employeeName("")
+                    .employeeEmail("no-domain")
+                    .build(),
+            new Employee());
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRoundTripsCompactSnapshot() throws IOException {
+        Path file = directory.resolve("employees.snapshot");
+        Instant loadedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        SnapshotFile.write(new EmployeeSnapshot(7, CompactEmployeeTable.of(EMPLOYEES), loadedAt), SOURCE, file);
+        EmployeeSnapshot restored = SnapshotFile.read(file, SOURCE);
+
+        assertThat(restored.version()).isEqualTo(7);
+        assertThat(restored.loadedAt()).isEqualTo(loadedAt);
+        assertThat(restored.stale()).isTrue();
+        assertThat(restored.table().employees()).containsExactlyElementsOf(EMPLOYEES);
+        assertThat(restored.table().nameMatches(1, NameQuery.of("ångström"))).isTrue();
+        try (var files = Files.list(directory)) {
+            assertThat(files).containsExactly(file);
+        }
+    }
+
+    @Test
+    void testReplacesExistingFile() throws IOException {
+        Path file = directory.resolve("employees.snapshot");
+
+        SnapshotFile.write(snapshot(1, EMPLOYEES), SOURCE, file);
+        EmployeeSnapshot first = SnapshotFile.read(file, SOURCE);
+        SnapshotFile.write(snapshot(2, EMPLOYEES.subList(0, 1)), SOURCE, file);
+
+        assertThat(SnapshotFile.read(file, SOURCE).table().size()).isEqualTo(1);
+        assertThat(first.table().employees()).containsExactlyElementsOf(EMPLOYEES);
+    }
+
+    @Test
+    void testRejectsCorruptFile() throws IOException {
+        Path file = directory.resolve("employees.snapshot");
+        SnapshotFile.write(snapshot(1, EMPLOYEES), SOURCE, file);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(file, bytes);
+
+        assertThatThrownBy(() -> SnapshotFile.read(file, SOURCE))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Checksum mismatch");
+    }
+
+    @Test
+    void testRejectsTruncatedFile() throws IOException {
+        Path file = directory.resolve("employees.snapshot");
+        SnapshotFile.write(snapshot(1, EMPLOYEES), SOURCE, file);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThatThrownBy(() -> SnapshotFile.read(file, SOURCE)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void testRejectsSnapshotOfAnotherSource() throws IOException {
+        Path file = directory.resolve("employees.snapshot");
+        SnapshotFile.write(snapshot(1, EMPLOYEES), SOURCE, file);
+
+        assertThatThrownBy(() -> SnapshotFile.read(file, "http://elsewhere/api/v1/employee"))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("http://elsewhere");
+    }
+
+    private static EmployeeSnapshot snapshot(long version, List<Employee> employees) {
+        return new EmployeeSnapshot(version, OffHeapEmployeeTable.of(employees), Instant.now());
+    }
+}
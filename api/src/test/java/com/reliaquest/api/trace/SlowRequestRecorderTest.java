@@ -0,0 +1,125 @@
+package com.reliaquest.api.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.config.SlowRequestProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+class SlowRequestRecorderTest {
+
+    private SlowRequestProperties slowRequestProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private SlowRequestRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        slowRequestProperties = new SlowRequestProperties();
+        slowRequestProperties.setInitialThreshold(Duration.ofMillis(200));
+        slowRequestProperties.setCapacity(3);
+        meterRegistry = new SimpleMeterRegistry();
+        recorder = new SlowRequestRecorder(slowRequestProperties, meterRegistry);
+    }
+
+    @Test
+    void testFastRequestIsNotCaptured() {
+        recorder.complete(trace("/api/v1/employee", 10), "/api/v1/employee", 200);
+
+        assertThat(recorder.slowRequests()).isEmpty();
+        assertThat(recorder.captured()).isZero();
+    }
+
+    @Test
+    void testSlowRequestIsCapturedWithItsSpans() {
+        RequestTrace trace = trace("/api/v1/employee/42", 500);
+        trace.start(Span.Kind.UPSTREAM, "GET /{id}").end(429, 0L, "completed");
+        trace.start(Span.Kind.RETRY_WAIT, "retry 1 of 3").end(null, null, "completed");
+        trace.serializing();
+
+        recorder.complete(trace, "/api/v1/employee/{id}", 200);
+
+        assertThat(recorder.slowRequests()).singleElement().satisfies(request -> {
+            assertThat(request.method()).isEqualTo("GET");
+            assertThat(request.endpoint()).isEqualTo("/api/v1/employee/{id}");
+            assertThat(request.uri()).isEqualTo("/api/v1/employee/42");
+            assertThat(request.status()).isEqualTo(200);
+            assertThat(request.durationMicros()).isGreaterThanOrEqualTo(500_000);
+            assertThat(request.thresholdMicros()).isEqualTo(200_000);
+            assertThat(request.threadHops()).isZero();
+            assertThat(request.spans())
+                    .extracting(Span::kind)
+                    .containsExactly(Span.Kind.UPSTREAM, Span.Kind.RETRY_WAIT, Span.Kind.SERIALIZATION);
+            assertThat(request.spans().get(0).status()).isEqualTo(429);
+        });
+        assertThat(meterRegistry.get("mock.api.slow-requests.captured").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testCountsThreadHopsOfTheResult() {
+        RequestTrace trace = trace("/api/v1/employee", 500);
+        ExecutorService executor =
+                Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "upstream-thread"));
+        try {
+            trace.traced(Mono.just("result").publishOn(Schedulers.fromExecutor(executor))).block();
+        } finally {
+            executor.shutdown();
+        }
+
+        recorder.complete(trace, "/api/v1/employee", 200);
+
+        assertThat(recorder.slowRequests()).singleElement().satisfies(request -> {
+            assertThat(request.spans()).singleElement().satisfies(span -> {
+                assertThat(span.kind()).isEqualTo(Span.Kind.RESULT);
+                assertThat(span.completedOn()).isEqualTo("upstream-thread");
+            });
+            assertThat(request.threadHops()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void testSpansEndingAfterTheRequestAreDropped() {
+        RequestTrace trace = trace("/api/v1/employee", 500);
+        RequestTrace.Timing upstream = trace.start(Span.Kind.UPSTREAM, "GET /api/v1/employee");
+
+        recorder.complete(trace, "/api/v1/employee", 504);
+        upstream.end(200, 100L, "completed");
+
+        assertThat(recorder.slowRequests())
+                .singleElement()
+                .satisfies(request -> assertThat(request.spans()).isEmpty());
+    }
+
+    @Test
+    void testBufferKeepsTheNewestCaptures() {
+        for (int i = 0; i < 5; i++) {
+            recorder.complete(trace("/api/v1/employee/" + i, 500 - i), null, 200);
+        }
+
+        List<SlowRequest> requests = recorder.slowRequests();
+
+        assertThat(requests)
+                .extracting(SlowRequest::uri)
+                .containsExactlyInAnyOrder("/api/v1/employee/2", "/api/v1/employee/3", "/api/v1/employee/4");
+        assertThat(recorder.captured()).isEqualTo(5);
+
+        recorder.clear();
+
+        assertThat(recorder.slowRequests()).isEmpty();
+    }
+
+    /**
+     * @return a trace of a GET request that started {@code agoMillis} ago.
+     */
+    private static RequestTrace trace(String uri, long agoMillis) {
+        return new RequestTrace("GET", uri, System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(agoMillis));
+    }
+}
@@ -0,0 +1,65 @@
+package com.reliaquest.api.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.client.Deadline;
+import com.reliaquest.api.config.DeadlineProperties;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestDeadlineFilterTest {
+
+    private final DeadlineProperties deadlineProperties = new DeadlineProperties();
+
+    @Test
+    void usesDefaultTimeoutWithoutHeader() throws Exception {
+        deadlineProperties.setDefaultTimeout(Duration.ofSeconds(30));
+
+        assertThat(remaining(new MockHttpServletRequest()))
+                .isGreaterThan(Duration.ofSeconds(29))
+                .isLessThanOrEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void readsTimeoutInMillisecondsOrAsDuration() throws Exception {
+        assertThat(remaining(withHeader("1500")))
+                .isGreaterThan(Duration.ofMillis(500))
+                .isLessThanOrEqualTo(Duration.ofMillis(1500));
+        assertThat(remaining(withHeader("2s")))
+                .isGreaterThan(Duration.ofSeconds(1))
+                .isLessThanOrEqualTo(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void capsTimeoutAtMaximum() throws Exception {
+        deadlineProperties.setMaxTimeout(Duration.ofSeconds(5));
+
+        assertThat(remaining(withHeader("600000"))).isLessThanOrEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void fallsBackToDefaultForMalformedHeader() throws Exception {
+        deadlineProperties.setDefaultTimeout(Duration.ofSeconds(30));
+
+        assertThat(remaining(withHeader("soon"))).isGreaterThan(Duration.ofSeconds(29));
+        assertThat(remaining(withHeader("-100"))).isGreaterThan(Duration.ofSeconds(29));
+    }
+
+    private MockHttpServletRequest withHeader(String value) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(deadlineProperties.getHeader(), value);
+        return request;
+    }
+
+    private Duration remaining(MockHttpServletRequest request) throws Exception {
+        new RequestDeadlineFilter(deadlineProperties)
+                .doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Deadline deadline = (Deadline) request.getAttribute(RequestDeadlineFilter.ATTRIBUTE);
+        assertThat(deadline).isNotNull();
+        return deadline.remaining();
+    }
+}
@@ -0,0 +1,154 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeByIdCache;
+import com.reliaquest.api.cache.EmployeeFilterIndexCache;
+import com.reliaquest.api.cache.EmployeeIdFilter;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.cache.FuzzyNameIndexCache;
+import com.reliaquest.api.cache.NameCompletionCache;
+import com.reliaquest.api.cache.SearchResultCache;
+import com.reliaquest.api.client.OutboundScheduler;
+import com.reliaquest.api.client.RequestHedger;
+import com.reliaquest.api.client.UpstreamRateLimit;
+import com.reliaquest.api.codec.EmployeeResponseDecoder;
+import com.reliaquest.api.config.AutocompleteProperties;
+import com.reliaquest.api.config.CacheProperties;
+import com.reliaquest.api.config.FilterProperties;
+import com.reliaquest.api.config.FuzzySearchProperties;
+import com.reliaquest.api.config.HedgingProperties;
+import com.reliaquest.api.config.IdFilterProperties;
+import com.reliaquest.api.config.MockApiProperties;
+import com.reliaquest.api.config.OutboundProperties;
+import com.reliaquest.api.config.ScanProperties;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.scan.TableScanner;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.SnapshotQueryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Deterministic synthetic datasets shaped like the mock server's output: random UUIDs, a few thousand distinct names,
+ * and titles drawn from a small vocabulary, so that benchmark runs are comparable across machines and commits.
+ */
+public final class EmployeeDatasets {
+
+    public static final String SUCCESS_STATUS = "Successfully processed request.";
+
+    private static final String[] FIRST_NAMES = {
+        "Tony", "Elvie", "Jean", "Eugene", "Aracelis", "Jarod", "Charlesetta", "Corrine", "Carroll", "Neva",
+        "Arturo", "William", "Rosario", "Ngoc", "Tiger", "Bill", "Jill", "Margarita", "Desmond", "Yuki"
+    };
+    private static final String[] LAST_NAMES = {
+        "Fadel", "Bernhard", "Carroll", "Graham", "Kiehn", "Sauer", "Douglas", "Ward", "Bartoletti", "O'Reilly",
+        "Muller", "Marks", "Glover", "Goldner", "Hand", "Nixon", "Bob", "Jenkins", "Okafor", "Tanaka"
+    };
+    private static final String[] TITLE_LEVELS = {"Junior", "Senior", "Lead", "Principal", "Chief", "District"};
+    private static final String[] TITLE_ROLES = {
+        "Engineer", "Designer", "Sales Specialist", "Retail Analyst", "Facilitator", "Associate", "Developer"
+    };
+
+    private EmployeeDatasets() {}
+
+    public static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    /**
+     * @return a mapper configured like {@link #objectMapper()} that reads and writes Smile.
+     */
+    public static ObjectMapper smileMapper() {
+        return Jackson2ObjectMapperBuilder.smile().build();
+    }
+
+    public static List<Employee> employees(int size) {
+        final var random = new Random(42);
+        final var employees = new ArrayList<Employee>(size);
+        for (int i = 0; i < size; i++) {
+            final var first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            final var last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            employees.add(Employee.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()).toString())
+                    .employeeName(first + " " + last + (i % 7 == 0 ? " " + (char) ('A' + i % 26) + "." : ""))
+                    .employeeSalary(30_000 + random.nextInt(470_000))
+                    .employeeAge(16 + random.nextInt(54))
+                    .employeeTitle(TITLE_LEVELS[random.nextInt(TITLE_LEVELS.length)] + " "
+                            + TITLE_ROLES[random.nextInt(TITLE_ROLES.length)])
+                    .employeeEmail(first.toLowerCase() + "." + last.toLowerCase() + i + "@company.com")
+                    .build());
+        }
+        return employees;
+    }
+
+    /**
+     * @return the mock server's JSON envelope for the given employees, as received by the API module.
+     */
+    public static byte[] listResponse(ObjectMapper objectMapper, List<Employee> employees) {
+        try {
+            return objectMapper.writeValueAsBytes(new ApiResponse<>(employees, SUCCESS_STATUS));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return a client that answers every request with {@code payload} as JSON, without touching the network.
+     */
+    public static WebClient cannedWebClient(ObjectMapper objectMapper, byte[] payload, boolean streamingDecoder) {
+        final var strategies = ExchangeStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().maxInMemorySize(-1);
+                    if (streamingDecoder) {
+                        codecs.customCodecs()
+                                .registerWithDefaultConfig(new EmployeeResponseDecoder(objectMapper.getFactory()));
+                    }
+                })
+                .build();
+        return WebClient.builder()
+                .exchangeStrategies(strategies)
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK, strategies)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(payload)))
+                        .build()))
+                .build();
+    }
+
+    /**
+     * @return a service with default upstream settings and hedging disabled.
+     */
+    public static EmployeeService employeeService(WebClient webClient, CacheProperties cacheProperties) {
+        EmployeeSnapshotCache employeeSnapshotCache = new EmployeeSnapshotCache(cacheProperties);
+        return new EmployeeService(
+                webClient,
+                new MockApiProperties(),
+                employeeSnapshotCache,
+                new EmployeeIdFilter(new IdFilterProperties(), employeeSnapshotCache, new SimpleMeterRegistry()),
+                new EmployeeByIdCache(cacheProperties, new SimpleMeterRegistry()),
+                new SnapshotQueryService(
+                        employeeSnapshotCache,
+                        new SearchResultCache(cacheProperties, new SimpleMeterRegistry()),
+                        new FuzzyNameIndexCache(new FuzzySearchProperties(), employeeSnapshotCache),
+                        new NameCompletionCache(new AutocompleteProperties(), employeeSnapshotCache),
+                        new EmployeeFilterIndexCache(new FilterProperties(), employeeSnapshotCache),
+                        new TableScanner(new ScanProperties(), new SimpleMeterRegistry())),
+                new RequestHedger(new HedgingProperties(), new UpstreamRateLimit(), new SimpleMeterRegistry()),
+                new OutboundScheduler(new OutboundProperties(), new SimpleMeterRegistry()));
+    }
+}
@@ -0,0 +1,73 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.snapshot.CompactEmployeeTable;
+import com.reliaquest.api.snapshot.EmployeeFilter;
+import com.reliaquest.api.snapshot.EmployeeFilterIndex;
+import com.reliaquest.api.snapshot.EmployeeTable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * "Engineers aged 30 to 40 earning over 150k" against a prebuilt {@link EmployeeFilterIndex}, compared with scanning
+ * the same compact table row by row. Both return the first 100 matches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeFilterBenchmark {
+
+    private static final int LIMIT = 100;
+
+    private static final EmployeeFilter FILTER = new EmployeeFilter(List.of("engineer"), 30, 40, 150_001, null);
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private EmployeeTable table;
+    private EmployeeFilterIndex index;
+
+    @Setup
+    public void setUp() {
+        table = CompactEmployeeTable.of(EmployeeDatasets.employees(size));
+        index = EmployeeFilterIndex.build(table, 10, 25_000);
+    }
+
+    @Benchmark
+    public List<Employee> bitmapIndex() {
+        return index.filter(FILTER, LIMIT);
+    }
+
+    @Benchmark
+    public int bitmapIndexCount() {
+        return index.count(FILTER);
+    }
+
+    @Benchmark
+    public List<Employee> rowScan() {
+        final List<Employee> matches = new ArrayList<>();
+        for (int row = 0; row < table.size() && matches.size() < LIMIT; row++) {
+            final String title = table.title(row);
+            final int age = table.age(row);
+            final int salary = table.salary(row);
+            if (title != null
+                    && title.toLowerCase().contains("engineer")
+                    && age >= 30
+                    && age <= 40
+                    && salary != EmployeeTable.NULL_INT
+                    && salary >= 150_001) {
+                matches.add(table.employee(row));
+            }
+        }
+        return matches;
+    }
+}
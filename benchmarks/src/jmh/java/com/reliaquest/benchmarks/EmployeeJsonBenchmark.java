@@ -0,0 +1,63 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.codec.EmployeeJsonReader;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Wire format costs in isolation: decoding the upstream list envelope, with Jackson data binding and with the
+ * streaming {@link EmployeeJsonReader}, and serializing the list returned to clients.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeJsonBenchmark {
+
+    private static final TypeReference<ApiResponse<List<Employee>>> LIST_RESPONSE = new TypeReference<>() {};
+
+    @Param({"100", "10000", "100000", "1000000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private EmployeeJsonReader reader;
+    private List<Employee> employees;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        objectMapper = EmployeeDatasets.objectMapper();
+        reader = new EmployeeJsonReader();
+        employees = EmployeeDatasets.employees(size);
+        payload = EmployeeDatasets.listResponse(objectMapper, employees);
+    }
+
+    @Benchmark
+    public ApiResponse<List<Employee>> decodeListResponse() throws IOException {
+        return objectMapper.readValue(payload, LIST_RESPONSE);
+    }
+
+    @Benchmark
+    public ApiResponse<List<Employee>> decodeListResponseStreaming() throws IOException {
+        try (var parser = objectMapper.getFactory().createParser(payload)) {
+            return reader.readList(parser);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeEmployees() throws IOException {
+        return objectMapper.writeValueAsBytes(employees);
+    }
+}
@@ -0,0 +1,62 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.config.CacheProperties;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * End-to-end cost of the service's read paths for one request, with the network replaced by a canned upstream
+ * response: decoding plus the search or aggregation itself. The snapshot cache is disabled, so every invocation
+ * fetches and decodes; {@link EmployeeSnapshotBenchmark} covers the cached path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeServiceBenchmark {
+
+    @Param({"100", "10000", "100000", "1000000"})
+    private int size;
+
+    /**
+     * {@code jackson} for data binding, {@code streaming} for {@code EmployeeResponseDecoder}.
+     */
+    @Param({"jackson", "streaming"})
+    private String decoder;
+
+    private EmployeeService employeeService;
+
+    @Setup
+    public void setUp() {
+        final var objectMapper = EmployeeDatasets.objectMapper();
+        final byte[] payload = EmployeeDatasets.listResponse(objectMapper, EmployeeDatasets.employees(size));
+        final var webClient = EmployeeDatasets.cannedWebClient(objectMapper, payload, "streaming".equals(decoder));
+        final var cacheProperties = new CacheProperties();
+        cacheProperties.setEnabled(false);
+        employeeService = EmployeeDatasets.employeeService(webClient, cacheProperties);
+    }
+
+    @Benchmark
+    public List<Employee> searchByName() {
+        return employeeService.searchEmployeesByName("arturo m").block();
+    }
+
+    @Benchmark
+    public Integer highestSalary() {
+        return employeeService.getHighestSalary().block();
+    }
+
+    @Benchmark
+    public List<String> topTenHighestEarningNames() {
+        return employeeService.getTop10HighestEarningEmployeeNames().block();
+    }
+}
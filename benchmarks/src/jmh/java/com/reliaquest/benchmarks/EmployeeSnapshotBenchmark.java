@@ -0,0 +1,80 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.config.CacheProperties;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The service's read paths against a warm snapshot cache, per cache representation. Run {@link SnapshotFootprint} for
+ * the heap retained by each representation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeSnapshotBenchmark {
+
+    @Param({"100", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"OBJECTS", "COMPACT", "OFF_HEAP"})
+    private CacheProperties.Representation representation;
+
+    private EmployeeService employeeService;
+
+    /**
+     * Same snapshot, with search results cached per snapshot version.
+     */
+    private EmployeeService cachedSearchService;
+
+    @Setup
+    public void setUp() {
+        final var objectMapper = EmployeeDatasets.objectMapper();
+        final byte[] payload = EmployeeDatasets.listResponse(objectMapper, EmployeeDatasets.employees(size));
+        employeeService = EmployeeDatasets.employeeService(
+                EmployeeDatasets.cannedWebClient(objectMapper, payload, true), cacheProperties(false));
+        employeeService.getAllEmployees().block();
+        cachedSearchService = EmployeeDatasets.employeeService(
+                EmployeeDatasets.cannedWebClient(objectMapper, payload, true), cacheProperties(true));
+        cachedSearchService.searchEmployeesByName("arturo m").block();
+    }
+
+    private CacheProperties cacheProperties(boolean searchCache) {
+        final var cacheProperties = new CacheProperties();
+        cacheProperties.setRepresentation(representation);
+        cacheProperties.setTtl(Duration.ofDays(1));
+        cacheProperties.setRefreshAfter(Duration.ofDays(1));
+        cacheProperties.getSearch().setEnabled(searchCache);
+        return cacheProperties;
+    }
+
+    @Benchmark
+    public List<Employee> searchByName() {
+        return employeeService.searchEmployeesByName("arturo m").block();
+    }
+
+    @Benchmark
+    public List<Employee> repeatedSearchByName() {
+        return cachedSearchService.searchEmployeesByName("arturo m").block();
+    }
+
+    @Benchmark
+    public Integer highestSalary() {
+        return employeeService.getHighestSalary().block();
+    }
+
+    @Benchmark
+    public List<String> topTenHighestEarningNames() {
+        return employeeService.getTop10HighestEarningEmployeeNames().block();
+    }
+}
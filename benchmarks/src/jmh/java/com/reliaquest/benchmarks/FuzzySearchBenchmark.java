@@ -0,0 +1,52 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.snapshot.CompactEmployeeTable;
+import com.reliaquest.api.snapshot.FuzzyNameIndex;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Fuzzy name searches against a prebuilt {@link FuzzyNameIndex} over a compact snapshot table, with the default
+ * limit of 50 results. The synthetic names repeat heavily, so every query word has tens of thousands of rows at 1M.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FuzzySearchBenchmark {
+
+    private static final int LIMIT = 50;
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private FuzzyNameIndex index;
+
+    @Setup
+    public void setUp() {
+        index = FuzzyNameIndex.build(CompactEmployeeTable.of(EmployeeDatasets.employees(size)), 2);
+    }
+
+    @Benchmark
+    public List<Employee> oneWordOneTypo() {
+        return index.search("artuor", 1, LIMIT);
+    }
+
+    @Benchmark
+    public List<Employee> twoWordsTwoTypos() {
+        return index.search("artuor muler", 2, LIMIT);
+    }
+
+    @Benchmark
+    public List<Employee> noMatch() {
+        return index.search("zzyzx", 2, LIMIT);
+    }
+}
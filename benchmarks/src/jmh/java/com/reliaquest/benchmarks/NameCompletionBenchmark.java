@@ -0,0 +1,57 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.snapshot.CompactEmployeeTable;
+import com.reliaquest.api.snapshot.NameCompletionTrie;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Type-ahead completions against a prebuilt {@link NameCompletionTrie}, with the default limit of 10. A one-letter
+ * prefix covers a large share of all words, so it shows the cost of the best-first walk rather than the prefix lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameCompletionBenchmark {
+
+    private static final int LIMIT = 10;
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private NameCompletionTrie trie;
+
+    @Setup
+    public void setUp() {
+        trie = NameCompletionTrie.build(
+                CompactEmployeeTable.of(EmployeeDatasets.employees(size)), NameCompletionTrie.Weight.FREQUENCY);
+    }
+
+    @Benchmark
+    public List<String> oneLetter() {
+        return trie.complete("m", LIMIT);
+    }
+
+    @Benchmark
+    public List<String> threeLetters() {
+        return trie.complete("art", LIMIT);
+    }
+
+    @Benchmark
+    public List<String> secondWord() {
+        return trie.complete("arturo mu", LIMIT);
+    }
+
+    @Benchmark
+    public List<String> noMatch() {
+        return trie.complete("zzyzx", LIMIT);
+    }
+}
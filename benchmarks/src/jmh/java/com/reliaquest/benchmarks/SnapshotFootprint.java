@@ -0,0 +1,68 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.snapshot.CompactEmployeeTable;
+import com.reliaquest.api.snapshot.OffHeapEmployeeTable;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Heap retained by one cached snapshot, per representation, measured as the difference in used heap after full
+ * collections. Run with {@code ./gradlew benchmarks:snapshotFootprint [-PfootprintSize=1000000]}.
+ */
+public final class SnapshotFootprint {
+
+    private SnapshotFootprint() {}
+
+    public static void main(String[] args) throws IOException {
+        final int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        final var objectMapper = EmployeeDatasets.objectMapper();
+        final byte[] payload = EmployeeDatasets.listResponse(objectMapper, EmployeeDatasets.employees(size));
+
+        // Decoded rather than generated, so that strings are not shared between rows, exactly as in the cache.
+        final Function<byte[], List<Employee>> decode = bytes -> {
+            try {
+                return objectMapper
+                        .readValue(bytes, new TypeReference<ApiResponse<List<Employee>>>() {})
+                        .getData();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+
+        final long objects = retained(() -> decode.apply(payload));
+        final long compact = retained(() -> CompactEmployeeTable.of(decode.apply(payload)));
+        final var offHeap = new OffHeapEmployeeTable[1];
+        final long offHeapHeap = retained(() -> offHeap[0] = OffHeapEmployeeTable.of(decode.apply(payload)));
+
+        System.out.printf("Employees:      %,d%n", size);
+        System.out.printf("OBJECTS:        %,d bytes (%d per employee)%n", objects, objects / size);
+        System.out.printf("COMPACT:        %,d bytes (%d per employee)%n", compact, compact / size);
+        System.out.printf("Employees/GB:   %.1fx more with COMPACT%n", (double) objects / compact);
+        System.out.printf(
+                "OFF_HEAP:       %,d bytes on heap, %,d bytes off heap (%d per employee)%n",
+                offHeapHeap, offHeap[0].sizeInBytes(), offHeap[0].sizeInBytes() / size);
+    }
+
+    private static long retained(Supplier<Object> build) {
+        final long before = usedHeapAfterGc();
+        final Object retained = build.get();
+        final long after = usedHeapAfterGc();
+        Reference.reachabilityFence(retained);
+        return after - before;
+    }
+
+    private static long usedHeapAfterGc() {
+        final var memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
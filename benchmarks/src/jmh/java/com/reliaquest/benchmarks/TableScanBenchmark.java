@@ -0,0 +1,73 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.config.ScanProperties;
+import com.reliaquest.api.scan.TableScanner;
+import com.reliaquest.api.snapshot.CompactEmployeeTable;
+import com.reliaquest.api.snapshot.EmployeeTable;
+import com.reliaquest.api.snapshot.NameQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Unindexed scans of a compact table through {@link TableScanner}, on the calling thread ({@code parallelism=0}) or
+ * partitioned across that many scan threads. Run with {@code -p parallelism=0,2,4,8} to see how scans scale.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TableScanBenchmark {
+
+    private static final NameQuery QUERY = NameQuery.of("arturo m");
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    @Param({"0", "4"})
+    private int parallelism;
+
+    private EmployeeTable table;
+    private TableScanner scanner;
+
+    @Setup
+    public void setUp() {
+        table = CompactEmployeeTable.of(EmployeeDatasets.employees(size));
+        final var scanProperties = new ScanProperties();
+        scanProperties.setEnabled(parallelism > 0);
+        scanProperties.setParallelism(Math.max(1, parallelism));
+        scanner = new TableScanner(scanProperties, new SimpleMeterRegistry());
+    }
+
+    @TearDown
+    public void tearDown() {
+        scanner.shutdown();
+    }
+
+    @Benchmark
+    public int[] searchByName() {
+        return scanner.filter(table, row -> table.nameMatches(row, QUERY), Integer.MAX_VALUE).block();
+    }
+
+    @Benchmark
+    public int[] firstTenByName() {
+        return scanner.filter(table, row -> table.nameMatches(row, QUERY), 10).block();
+    }
+
+    @Benchmark
+    public int[] highestSalary() {
+        return scanner.aggregate(
+                        table,
+                        () -> new int[] {EmployeeTable.NULL_INT},
+                        (highest, row) -> highest[0] = Math.max(highest[0], table.salary(row)),
+                        (left, right) -> new int[] {Math.max(left[0], right[0])})
+                .block();
+    }
+}
@@ -0,0 +1,83 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.codec.EmployeeJsonReader;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The upstream list envelope as JSON and as Smile: decoding it with Jackson data binding and with the streaming
+ * {@link EmployeeJsonReader}, and encoding it as the mock server does. Payload sizes, raw and gzipped as the server
+ * compresses JSON, are printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WireFormatBenchmark {
+
+    private static final TypeReference<ApiResponse<List<Employee>>> LIST_RESPONSE = new TypeReference<>() {};
+
+    @Param({"json", "smile"})
+    private String format;
+
+    @Param({"100", "10000", "1000000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private EmployeeJsonReader reader;
+    private List<Employee> employees;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        objectMapper = format.equals("smile") ? EmployeeDatasets.smileMapper() : EmployeeDatasets.objectMapper();
+        reader = new EmployeeJsonReader();
+        employees = EmployeeDatasets.employees(size);
+        payload = EmployeeDatasets.listResponse(objectMapper, employees);
+        System.out.printf(
+                "%n%s payload for %d employees: %d bytes, %d bytes gzipped%n",
+                format, size, payload.length, gzippedLength(payload));
+    }
+
+    @Benchmark
+    public ApiResponse<List<Employee>> decodeListResponse() throws IOException {
+        return objectMapper.readValue(payload, LIST_RESPONSE);
+    }
+
+    @Benchmark
+    public ApiResponse<List<Employee>> decodeListResponseStreaming() throws IOException {
+        try (var parser = objectMapper.getFactory().createParser(payload)) {
+            return reader.readList(parser);
+        }
+    }
+
+    @Benchmark
+    public byte[] encodeListResponse() {
+        return EmployeeDatasets.listResponse(objectMapper, employees);
+    }
+
+    private static int gzippedLength(byte[] bytes) {
+        final var compressed = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.size();
+    }
+}
@@ -0,0 +1,91 @@
+package com.reliaquest.loadtest;
+
+import com.reliaquest.loadtest.config.LoadTestProperties;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Starts the server and api boot jars as child processes, so that the measured JVMs are configured exactly like
+ * production ones and do not share a heap with the load generator.
+ */
+@Slf4j
+public class ApplicationLauncher implements AutoCloseable {
+
+    private final LoadTestProperties.Launch launch;
+    private final Path logDir;
+    private final List<Process> processes = new ArrayList<>();
+
+    public ApplicationLauncher(LoadTestProperties.Launch launch, Path logDir) {
+        this.launch = launch;
+        this.logDir = logDir;
+    }
+
+    public void start() throws IOException, InterruptedException {
+        Files.createDirectories(logDir);
+        startJar("server", launch.getServerJar(), launch.getServerPort(), launch.getServerArgs());
+        final var apiArgs = new ArrayList<>(launch.getApiArgs());
+        apiArgs.add("--mock-api.base-url=http://localhost:%d/api/v1/employee".formatted(launch.getServerPort()));
+        startJar("api", launch.getApiJar(), launch.getApiPort(), apiArgs);
+    }
+
+    @Override
+    public void close() {
+        for (int i = processes.size() - 1; i >= 0; i--) {
+            final var process = processes.get(i);
+            process.destroy();
+            try {
+                if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void startJar(String name, String jar, int port, List<String> args)
+            throws IOException, InterruptedException {
+        if (jar == null || !new File(jar).isFile()) {
+            throw new IllegalStateException("Boot jar for " + name + " not found: " + jar
+                    + " (run through ./gradlew loadtest:bootRun or set loadtest.launch." + name + "-jar)");
+        }
+        final var command = new ArrayList<String>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(jar);
+        command.add("--server.port=" + port);
+        command.addAll(args);
+
+        final var logFile = logDir.resolve(name + ".log").toFile();
+        log.info("Starting {}: {} (output in {})", name, command, logFile);
+        processes.add(new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile)
+                .start());
+        awaitPort(name, port, launch.getStartupTimeout());
+    }
+
+    private static void awaitPort(String name, int port, Duration timeout) throws InterruptedException {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            try (var socket = new Socket()) {
+                socket.connect(new InetSocketAddress("localhost", port), 500);
+                log.info("{} is accepting connections on port {}", name, port);
+                return;
+            } catch (IOException e) {
+                TimeUnit.MILLISECONDS.sleep(250);
+            }
+        }
+        throw new IllegalStateException(name + " did not start listening on port " + port + " within " + timeout);
+    }
+}
@@ -0,0 +1,70 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Request targets. Reads use the employees present before the run; deletes only ever target employees created by the
+ * run itself, so lookups by id keep hitting existing rows however long the test lasts.
+ */
+public class IdPool {
+
+    private final List<String> existingIds;
+    private final List<String> nameFragments;
+    private final Queue<String> createdIds = new ConcurrentLinkedQueue<>();
+
+    private IdPool(List<String> existingIds, List<String> nameFragments) {
+        this.existingIds = existingIds;
+        this.nameFragments = nameFragments;
+    }
+
+    /**
+     * @param employees the JSON array returned by {@code GET /api/v1/employee}
+     */
+    public static IdPool from(JsonNode employees) {
+        final var ids = new ArrayList<String>();
+        final var fragments = new ArrayList<String>();
+        for (JsonNode employee : employees) {
+            ids.add(employee.path("id").asText());
+            final var name = employee.path("employee_name").asText("");
+            if (!name.isBlank()) {
+                fragments.add(URLEncoder.encode(name.split(" ")[0], StandardCharsets.UTF_8)
+                        .replace("+", "%20"));
+            }
+        }
+        return new IdPool(List.copyOf(ids), List.copyOf(fragments));
+    }
+
+    public int size() {
+        return existingIds.size();
+    }
+
+    public Optional<String> randomExistingId() {
+        return random(existingIds);
+    }
+
+    public Optional<String> randomNameFragment() {
+        return random(nameFragments);
+    }
+
+    public void created(String id) {
+        createdIds.add(id);
+    }
+
+    public Optional<String> pollCreatedId() {
+        return Optional.ofNullable(createdIds.poll());
+    }
+
+    private static Optional<String> random(List<String> values) {
+        return values.isEmpty()
+                ? Optional.empty()
+                : Optional.of(values.get(ThreadLocalRandom.current().nextInt(values.size())));
+    }
+}
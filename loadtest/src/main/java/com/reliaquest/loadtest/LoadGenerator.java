@@ -0,0 +1,201 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.loadtest.config.LoadTestProperties;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Open-model traffic generator: request <i>i</i> is due at a time fixed by the arrival process, independent of how
+ * long earlier requests take, and is sent asynchronously so that a slow system under test cannot slow the generator
+ * down (which would hide exactly the latency we want to see).
+ *
+ * <p>Requests due while {@code max-in-flight} are outstanding are dropped rather than queued. Leaving them out of the
+ * percentiles would hide the very stall that caused them, so each one waits for the next completion, i.e. the
+ * earliest moment it could have been sent, and is recorded with the latency up to then.
+ */
+@Slf4j
+public class LoadGenerator {
+
+    private final LoadTestProperties properties;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final IdPool ids;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Queue<Dropped> dropped = new ConcurrentLinkedQueue<>();
+
+    public LoadGenerator(LoadTestProperties properties, HttpClient httpClient, ObjectMapper objectMapper, IdPool ids) {
+        this.properties = properties;
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.ids = ids;
+
+        final var weighted = properties.getMix().entrySet().stream()
+                .filter(entry -> entry.getValue() != null && entry.getValue() > 0)
+                .toList();
+        if (weighted.isEmpty()) {
+            throw new IllegalStateException("loadtest.mix must give at least one operation a positive weight");
+        }
+        this.operations = new Operation[weighted.size()];
+        this.cumulativeWeights = new int[weighted.size()];
+        int total = 0;
+        for (int i = 0; i < weighted.size(); i++) {
+            operations[i] = weighted.get(i).getKey();
+            total += weighted.get(i).getValue();
+            cumulativeWeights[i] = total;
+        }
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    /**
+     * Runs warmup followed by the measured period, then waits up to the request timeout for outstanding requests.
+     *
+     * @return the measured period as scheduled; the drain is left out, so that a slow system under test does not
+     *     lower the reported throughput
+     */
+    public Duration run() throws InterruptedException {
+        final var random = new SplittableRandom(new Random().nextLong());
+        final double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / properties.getRate();
+        final long start = System.nanoTime();
+        final long measureFrom = start + properties.getWarmup().toNanos();
+        final long end = measureFrom + properties.getDuration().toNanos();
+
+        log.info(
+                "Generating {} req/s ({} arrivals) for {} after {} warmup",
+                properties.getRate(),
+                properties.getArrival(),
+                properties.getDuration(),
+                properties.getWarmup());
+
+        boolean measuring = false;
+        double due = start;
+        while (due < end) {
+            if (!measuring && due >= measureFrom) {
+                dropped.clear();
+                stats.values().forEach(OperationStats::reset);
+                measuring = true;
+            }
+            final long intendedStart = (long) due;
+            final long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            issue(pick(random), intendedStart);
+            due += properties.getArrival() == LoadTestProperties.Arrival.POISSON
+                    ? -Math.log(1.0 - random.nextDouble()) * meanIntervalNanos
+                    : meanIntervalNanos;
+        }
+
+        final long drainFrom = System.nanoTime();
+        final long drainDeadline = drainFrom + properties.getRequestTimeout().toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        final long drained = System.nanoTime();
+        Dropped waiting;
+        while ((waiting = dropped.poll()) != null) {
+            waiting.stats().droppedUntil(waiting.intendedStart(), drained);
+        }
+        log.info(
+                "Drained outstanding requests in {} ms, {} still in flight",
+                TimeUnit.NANOSECONDS.toMillis(drained - drainFrom),
+                inFlight.get());
+        return Duration.ofNanos(end - measureFrom);
+    }
+
+    public Map<Operation, OperationStats.Snapshot> snapshot() {
+        final var snapshots = new EnumMap<Operation, OperationStats.Snapshot>(Operation.class);
+        stats.forEach((operation, operationStats) -> snapshots.put(operation, operationStats.snapshot()));
+        return snapshots;
+    }
+
+    public static HttpClient newHttpClient(Duration connectTimeout) {
+        final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+            final var thread = new Thread(runnable, "loadtest-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .executor(executor)
+                .build();
+    }
+
+    private Operation pick(SplittableRandom random) {
+        final int ticket = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private void issue(Operation operation, long intendedStart) {
+        final var operationStats = stats.get(operation);
+        final var request = operation.build(properties.getApiBaseUrl(), ids, properties.getRequestTimeout());
+        if (request.isEmpty()) {
+            operationStats.skipped();
+            return;
+        }
+        if (inFlight.incrementAndGet() > properties.getMaxInFlight()) {
+            inFlight.decrementAndGet();
+            operationStats.dropped();
+            dropped.add(new Dropped(operationStats, intendedStart));
+            return;
+        }
+
+        final long sent = System.nanoTime();
+        httpClient
+                .sendAsync(request.get(), HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, error) -> {
+                    final long completed = System.nanoTime();
+                    inFlight.decrementAndGet();
+                    final var waiting = dropped.poll();
+                    if (waiting != null) {
+                        waiting.stats().droppedUntil(waiting.intendedStart(), completed);
+                    }
+                    if (error != null) {
+                        operationStats.failed(intendedStart, sent, completed);
+                        return;
+                    }
+                    operationStats.completed(intendedStart, sent, completed, response.statusCode());
+                    if (operation == Operation.CREATE && response.statusCode() / 100 == 2) {
+                        rememberCreated(response.body());
+                    }
+                });
+    }
+
+    private void rememberCreated(byte[] body) {
+        try {
+            final var id = objectMapper.readTree(body).path("id").asText(null);
+            if (id != null) {
+                ids.created(id);
+            }
+        } catch (IOException e) {
+            log.debug("Could not read id of created employee", e);
+        }
+    }
+
+    private record Dropped(OperationStats stats, long intendedStart) {}
+}
@@ -0,0 +1,133 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reliaquest.loadtest.config.LoadTestProperties;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Machine-readable result of one run, written as JSON (for comparing runs) plus one HdrHistogram percentile
+ * distribution per operation (for plotting).
+ */
+public record LoadTestReport(
+        Instant startedAt,
+        Duration measured,
+        double targetRate,
+        LoadTestProperties.Arrival arrival,
+        Map<Operation, Integer> mix,
+        Summary total,
+        Map<Operation, Summary> operations) {
+
+    public static LoadTestReport of(
+            LoadTestProperties properties,
+            Instant startedAt,
+            Duration measured,
+            Map<Operation, OperationStats.Snapshot> snapshots) {
+        final var combined = new Histogram(3);
+        final var combinedService = new Histogram(3);
+        final var operations = new LinkedHashMap<Operation, Summary>();
+        long failures = 0;
+        long dropped = 0;
+        long skipped = 0;
+        final Map<Integer, Long> statuses = new TreeMap<>();
+        for (var entry : snapshots.entrySet()) {
+            final var snapshot = entry.getValue();
+            if (snapshot.responseTime().getTotalCount() == 0 && snapshot.dropped() == 0 && snapshot.skipped() == 0) {
+                continue;
+            }
+            operations.put(entry.getKey(), Summary.of(snapshot, measured));
+            combined.add(snapshot.responseTime());
+            combinedService.add(snapshot.serviceTime());
+            failures += snapshot.failures();
+            dropped += snapshot.dropped();
+            skipped += snapshot.skipped();
+            snapshot.statusCounts().forEach((status, count) -> statuses.merge(status, count, Long::sum));
+        }
+        final var total = Summary.of(
+                new OperationStats.Snapshot(combined, combinedService, statuses, failures, dropped, skipped), measured);
+        return new LoadTestReport(
+                startedAt,
+                measured,
+                properties.getRate(),
+                properties.getArrival(),
+                properties.getMix(),
+                total,
+                operations);
+    }
+
+    public Path write(ObjectMapper objectMapper, Path reportDir, Map<Operation, OperationStats.Snapshot> snapshots)
+            throws IOException {
+        Files.createDirectories(reportDir);
+        final var report = reportDir.resolve("loadtest-" + startedAt.getEpochSecond() + ".json");
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report.toFile(), this);
+        for (var entry : snapshots.entrySet()) {
+            if (entry.getValue().responseTime().getTotalCount() == 0) {
+                continue;
+            }
+            final var distribution = reportDir.resolve(
+                    "loadtest-" + startedAt.getEpochSecond() + "-" + entry.getKey().name().toLowerCase() + ".hgrm");
+            try (var out = new PrintStream(Files.newOutputStream(distribution))) {
+                // Values are recorded in microseconds; scale the output to milliseconds.
+                entry.getValue().responseTime().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Latencies in milliseconds. {@code p*} are coordinated-omission-corrected response times, including lower
+     * bounds for dropped requests; {@code serviceP99} is the uncorrected time from actual send, for comparison.
+     * {@code requests} and {@code throughput} count sent requests only.
+     */
+    public record Summary(
+            long requests,
+            double throughput,
+            Map<Integer, Long> statusCounts,
+            long failures,
+            long dropped,
+            long skipped,
+            double mean,
+            double p50,
+            double p90,
+            double p99,
+            double p999,
+            double max,
+            double serviceP50,
+            double serviceP99) {
+
+        static Summary of(OperationStats.Snapshot snapshot, Duration measured) {
+            final var response = snapshot.responseTime();
+            final var service = snapshot.serviceTime();
+            final double seconds = Math.max(measured.toNanos(), 1L) / 1e9;
+            final long sent = response.getTotalCount() - snapshot.dropped();
+            return new Summary(
+                    sent,
+                    sent / seconds,
+                    snapshot.statusCounts(),
+                    snapshot.failures(),
+                    snapshot.dropped(),
+                    snapshot.skipped(),
+                    millis(response.getMean()),
+                    millis(response.getValueAtPercentile(50)),
+                    millis(response.getValueAtPercentile(90)),
+                    millis(response.getValueAtPercentile(99)),
+                    millis(response.getValueAtPercentile(99.9)),
+                    millis(response.getMaxValue()),
+                    millis(service.getValueAtPercentile(50)),
+                    millis(service.getValueAtPercentile(99)));
+        }
+
+        private static double millis(double micros) {
+            return Math.round(micros) / 1000.0;
+        }
+    }
+}
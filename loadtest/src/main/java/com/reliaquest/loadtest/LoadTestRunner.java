@@ -0,0 +1,114 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.loadtest.config.LoadTestProperties;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoadTestRunner implements CommandLineRunner, ExitCodeGenerator {
+
+    private final LoadTestProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private int exitCode;
+
+    @Override
+    public void run(String... args) throws Exception {
+        final var reportDir = Path.of(properties.getReportDir());
+        final var launcher = properties.getLaunch().isEnabled()
+                ? new ApplicationLauncher(properties.getLaunch(), reportDir.resolve("logs"))
+                : null;
+        try {
+            if (launcher != null) {
+                launcher.start();
+            }
+            final var httpClient = LoadGenerator.newHttpClient(Duration.ofSeconds(5));
+            final var ids = seed(httpClient);
+            log.info("Seeded {} employee ids from {}", ids.size(), properties.getApiBaseUrl());
+
+            final var startedAt = Instant.now();
+            final var generator = new LoadGenerator(properties, httpClient, objectMapper, ids);
+            final var measured = generator.run();
+            final var snapshots = generator.snapshot();
+            final var report = LoadTestReport.of(properties, startedAt, measured, snapshots);
+            final var file = report.write(objectMapper, reportDir, snapshots);
+
+            report.operations().forEach((operation, summary) -> log(operation.name(), summary));
+            log("TOTAL", report.total());
+            log.info("Report written to {}", file.toAbsolutePath());
+            if (report.total().dropped() > 0) {
+                log.warn(
+                        "{} requests were dropped at loadtest.max-in-flight; their latencies are lower bounds, so the"
+                                + " percentiles are too",
+                        report.total().dropped());
+                exitCode = 1;
+            }
+        } catch (Exception e) {
+            exitCode = 1;
+            throw e;
+        } finally {
+            if (launcher != null) {
+                launcher.close();
+            }
+        }
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    /*
+     * The api module fetches from the upstream on demand, which is rate limited unless the launched server disables
+     * it, so the initial listing is retried for a while.
+     */
+    private IdPool seed(HttpClient httpClient) throws Exception {
+        final var request = HttpRequest.newBuilder(URI.create(properties.getApiBaseUrl()))
+                .timeout(properties.getRequestTimeout())
+                .GET()
+                .build();
+        final long deadline = System.nanoTime() + properties.getLaunch().getStartupTimeout().toNanos();
+        while (true) {
+            final var response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() == 200) {
+                return IdPool.from(objectMapper.readTree(response.body()));
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Could not list employees for seeding, last status "
+                        + response.statusCode());
+            }
+            Thread.sleep(1000);
+        }
+    }
+
+    private static void log(String name, LoadTestReport.Summary summary) {
+        log.info(
+                "{}: {} req ({} /s), failures {}, dropped {}, statuses {} | ms p50 {} p99 {} p999 {} max {}"
+                        + " (service p50 {} p99 {})",
+                String.format("%-15s", name),
+                summary.requests(),
+                String.format("%.1f", summary.throughput()),
+                summary.failures(),
+                summary.dropped(),
+                summary.statusCounts(),
+                summary.p50(),
+                summary.p99(),
+                summary.p999(),
+                summary.max(),
+                summary.serviceP50(),
+                summary.serviceP99());
+    }
+}
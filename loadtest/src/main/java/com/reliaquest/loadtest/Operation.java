@@ -0,0 +1,78 @@
+package com.reliaquest.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The {@code IEmployeeController} endpoints, each able to build a request from the shared {@link IdPool}. An
+ * operation without a suitable target (e.g. a delete before anything was created) yields no request.
+ */
+public enum Operation {
+    GET_ALL {
+        @Override
+        Optional<HttpRequest.Builder> request(String baseUrl, IdPool ids) {
+            return Optional.of(HttpRequest.newBuilder(URI.create(baseUrl)).GET());
+        }
+    },
+    SEARCH {
+        @Override
+        Optional<HttpRequest.Builder> request(String baseUrl, IdPool ids) {
+            return ids.randomNameFragment()
+                    .map(fragment -> HttpRequest.newBuilder(URI.create(baseUrl + "/search/" + fragment))
+                            .GET());
+        }
+    },
+    GET_BY_ID {
+        @Override
+        Optional<HttpRequest.Builder> request(String baseUrl, IdPool ids) {
+            return ids.randomExistingId()
+                    .map(id -> HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).GET());
+        }
+    },
+    HIGHEST_SALARY {
+        @Override
+        Optional<HttpRequest.Builder> request(String baseUrl, IdPool ids) {
+            return Optional.of(HttpRequest.newBuilder(URI.create(baseUrl + "/highestSalary"))
+                    .GET());
+        }
+    },
+    TOP_TEN {
+        @Override
+        Optional<HttpRequest.Builder> request(String baseUrl, IdPool ids) {
+            return Optional.of(HttpRequest.newBuilder(URI.create(baseUrl + "/topTenHighestEarningEmployeeNames"))
+                    .GET());
+        }
+    },
+    CREATE {
+        @Override
+        Optional<HttpRequest.Builder> request(String baseUrl, IdPool ids) {
+            final var random = ThreadLocalRandom.current();
+            final var body = """
+                    {"name":"Loadtest %s","salary":%d,"age":%d,"title":"Load Tester"}"""
+                    .formatted(
+                            UUID.randomUUID().toString().substring(0, 8),
+                            random.nextInt(30_000, 500_000),
+                            random.nextInt(16, 76));
+            return Optional.of(HttpRequest.newBuilder(URI.create(baseUrl))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body)));
+        }
+    },
+    DELETE {
+        @Override
+        Optional<HttpRequest.Builder> request(String baseUrl, IdPool ids) {
+            return ids.pollCreatedId()
+                    .map(id -> HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).DELETE());
+        }
+    };
+
+    abstract Optional<HttpRequest.Builder> request(String baseUrl, IdPool ids);
+
+    Optional<HttpRequest> build(String baseUrl, IdPool ids, Duration timeout) {
+        return request(baseUrl, ids).map(builder -> builder.timeout(timeout).build());
+    }
+}
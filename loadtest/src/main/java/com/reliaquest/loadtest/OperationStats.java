@@ -0,0 +1,93 @@
+package com.reliaquest.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latencies and outcomes of one operation. Response time is measured from the moment the request was <i>due</i>
+ * according to the arrival schedule, which corrects for coordinated omission: a stall in the system under test (or in
+ * the generator) shows up as latency of every request that should have been sent during it. Service time is measured
+ * from the actual send and is kept alongside for comparison.
+ *
+ * <p>Requests dropped at the in-flight limit are part of the response times too, at a lower bound of their latency:
+ * from when they were due until an outstanding request completed, which is the earliest they could have been sent.
+ */
+public class OperationStats {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Recorder responseTime = new Recorder(SIGNIFICANT_DIGITS);
+    private final Recorder serviceTime = new Recorder(SIGNIFICANT_DIGITS);
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    public void completed(long intendedStartNanos, long sentNanos, long completedNanos, int status) {
+        responseTime.recordValue(TimeUnit.NANOSECONDS.toMicros(completedNanos - intendedStartNanos));
+        serviceTime.recordValue(TimeUnit.NANOSECONDS.toMicros(completedNanos - sentNanos));
+        statusCounts.computeIfAbsent(status, ignored -> new LongAdder()).increment();
+    }
+
+    /**
+     * Transport-level failure (timeout, reset, refused). Counted separately; its latency is still recorded so that
+     * failures are not hidden from the percentiles.
+     */
+    public void failed(long intendedStartNanos, long sentNanos, long completedNanos) {
+        responseTime.recordValue(TimeUnit.NANOSECONDS.toMicros(completedNanos - intendedStartNanos));
+        serviceTime.recordValue(TimeUnit.NANOSECONDS.toMicros(completedNanos - sentNanos));
+        failures.increment();
+    }
+
+    public void dropped() {
+        dropped.increment();
+    }
+
+    /**
+     * Records the latency lower bound of a request counted by {@link #dropped()}; it has no service time.
+     */
+    public void droppedUntil(long intendedStartNanos, long earliestSendNanos) {
+        responseTime.recordValue(TimeUnit.NANOSECONDS.toMicros(Math.max(0L, earliestSendNanos - intendedStartNanos)));
+    }
+
+    public void skipped() {
+        skipped.increment();
+    }
+
+    /**
+     * Discards everything recorded so far, e.g. at the end of the warmup.
+     */
+    public void reset() {
+        responseTime.reset();
+        serviceTime.reset();
+        statusCounts.clear();
+        failures.reset();
+        dropped.reset();
+        skipped.reset();
+    }
+
+    public Snapshot snapshot() {
+        final Map<Integer, Long> statuses = new TreeMap<>();
+        statusCounts.forEach((status, count) -> statuses.put(status, count.sum()));
+        return new Snapshot(
+                responseTime.getIntervalHistogram(),
+                serviceTime.getIntervalHistogram(),
+                statuses,
+                failures.sum(),
+                dropped.sum(),
+                skipped.sum());
+    }
+
+    public record Snapshot(
+            Histogram responseTime,
+            Histogram serviceTime,
+            Map<Integer, Long> statusCounts,
+            long failures,
+            long dropped,
+            long skipped) {}
+}
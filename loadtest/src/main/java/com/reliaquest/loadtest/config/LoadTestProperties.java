@@ -0,0 +1,55 @@
+package com.reliaquest.loadtest.config;
+
+import com.reliaquest.loadtest.Operation;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "loadtest")
+public class LoadTestProperties {
+    private String apiBaseUrl = "http://localhost:8080/api/v1/employee";
+
+    /**
+     * Target arrival rate in requests per second.
+     */
+    private double rate = 200;
+
+    private Arrival arrival = Arrival.POISSON;
+    private Duration warmup = Duration.ofSeconds(10);
+    private Duration duration = Duration.ofSeconds(60);
+    private Duration requestTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Requests due while this many are outstanding are counted as dropped instead of sent, which bounds memory when
+     * the system under test stalls. Dropped requests are recorded at a lower bound of their latency and fail the run.
+     */
+    private int maxInFlight = 10_000;
+
+    private Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+    private String reportDir = "build/reports/loadtest";
+    private Launch launch = new Launch();
+
+    public enum Arrival {
+        CONSTANT,
+        POISSON
+    }
+
+    @Data
+    public static class Launch {
+        private boolean enabled = true;
+        private String serverJar;
+        private String apiJar;
+        private int serverPort = 8112;
+        private int apiPort = 8080;
+        private Duration startupTimeout = Duration.ofSeconds(120);
+        private List<String> serverArgs = new ArrayList<>();
+        private List<String> apiArgs = new ArrayList<>();
+    }
+}
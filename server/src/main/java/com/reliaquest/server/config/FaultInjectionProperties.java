@@ -0,0 +1,25 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.FaultProfile;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "mock.faults")
+public class FaultInjectionProperties {
+    private boolean enabled = true;
+
+    /**
+     * Named fault profiles which can be assigned to endpoints at startup or through the admin endpoint.
+     */
+    private Map<String, FaultProfile> profiles = new LinkedHashMap<>();
+
+    /**
+     * Initial assignments of endpoint (e.g. {@code GET /api/v1/employee/{id}} or {@code *}) to profile name.
+     */
+    private Map<String, String> endpoints = new LinkedHashMap<>();
+}
@@ -0,0 +1,68 @@
+package com.reliaquest.server.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.server.service.FaultInjectionService;
+import com.reliaquest.server.web.FaultInjectionWebFilter;
+import com.reliaquest.server.web.ReactiveEndpoints;
+import com.reliaquest.server.web.RequestLimitWebFilter;
+import com.reliaquest.server.web.RequestLimiter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * Event-loop runtime, enabled by the {@code reactive} profile. The same controllers are served by WebFlux on Netty;
+ * the servlet interceptors are replaced by equivalent non-blocking web filters.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveServerConfiguration {
+
+    /*
+     * Tomcat stays on the classpath for the default servlet runtime and would otherwise be preferred for reactive
+     * applications as well.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /*
+     * Smile codecs built from Boot's mapper builder, so that they take the same customizations as the JSON codecs.
+     * Custom codecs are consulted before WebFlux's default Smile codecs.
+     */
+    @Bean
+    public CodecCustomizer smileCodecCustomizer(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        final ObjectMapper smileMapper = objectMapperBuilder.factory(new SmileFactory()).build();
+        return configurer -> {
+            configurer.customCodecs().register(new Jackson2SmileEncoder(smileMapper));
+            configurer.customCodecs().register(new Jackson2SmileDecoder(smileMapper));
+        };
+    }
+
+    @Bean
+    public ReactiveEndpoints reactiveEndpoints(RequestMappingHandlerMapping requestMappingHandlerMapping) {
+        return new ReactiveEndpoints(requestMappingHandlerMapping);
+    }
+
+    @Bean
+    public RequestLimitWebFilter requestLimitWebFilter(
+            RequestLimitProperties requestLimitProperties, ReactiveEndpoints reactiveEndpoints) {
+        return new RequestLimitWebFilter(new RequestLimiter(requestLimitProperties), reactiveEndpoints);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "mock.faults.enabled", matchIfMissing = true)
+    public FaultInjectionWebFilter faultInjectionWebFilter(
+            FaultInjectionService faultInjectionService, ReactiveEndpoints reactiveEndpoints, ObjectMapper objectMapper) {
+        return new FaultInjectionWebFilter(faultInjectionService, reactiveEndpoints, objectMapper);
+    }
+}
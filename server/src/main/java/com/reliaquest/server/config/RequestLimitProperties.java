@@ -0,0 +1,44 @@
+package com.reliaquest.server.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "mock.rate-limit")
+public class RequestLimitProperties {
+    private boolean enabled = true;
+    private Algorithm algorithm = Algorithm.TOKEN_BUCKET;
+    private KeyStrategy key = KeyStrategy.GLOBAL;
+
+    /**
+     * Requests admitted per {@link #window}. For {@link Algorithm#TOKEN_BUCKET} this is also the burst size.
+     */
+    private int limit = 10;
+
+    private Duration window = Duration.ofSeconds(60);
+
+    /**
+     * Header identifying the caller for {@link KeyStrategy#CLIENT} keys; the remote address is used when absent.
+     */
+    private String clientHeader = "X-Client-Id";
+
+    /**
+     * Upper bound on tracked keys; limiters unused for two windows expire regardless.
+     */
+    private int maxKeys = 10_000;
+
+    public enum Algorithm {
+        TOKEN_BUCKET,
+        SLIDING_WINDOW
+    }
+
+    public enum KeyStrategy {
+        GLOBAL,
+        CLIENT,
+        ENDPOINT,
+        CLIENT_AND_ENDPOINT
+    }
+}
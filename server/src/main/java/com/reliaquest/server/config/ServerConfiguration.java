@@ -1,37 +1,57 @@
 package com.reliaquest.server.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import com.reliaquest.server.service.FaultInjectionService;
+import com.reliaquest.server.web.ConnectionResetInterceptor;
+import com.reliaquest.server.web.ErrorInjectionInterceptor;
+import com.reliaquest.server.web.LatencyInjectionInterceptor;
+import com.reliaquest.server.web.RequestLimitInterceptor;
+import com.reliaquest.server.web.RequestLimiter;
+import com.reliaquest.server.web.SlowDripInterceptor;
+import com.reliaquest.server.web.ThrottledResponseFilter;
 import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import net.datafaker.transformations.Field;
 import net.datafaker.transformations.JavaObjectTransformer;
 import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private static final String ADMIN_PATHS = "/admin/**";
+
+    private final RequestLimitProperties requestLimitProperties;
+    private final FaultInjectionService faultInjectionService;
+    private final ObjectMapper objectMapper;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * The employees the server starts with; MockEmployeeService keeps them in its store for CRUD operations.
      */
     @Bean
     public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
@@ -49,11 +69,44 @@ public class ServerConfiguration implements WebMvcConfigurer {
         return IntStream.rangeClosed(1, maxEmployees)
                 .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
                 .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+                .toList();
+    }
+
+    /*
+     * Serves application/x-jackson-smile to clients that prefer it. Built from Boot's mapper builder, so it takes the
+     * same customizations as the JSON converter, and replaces Spring MVC's default Smile converter, which would not.
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+            Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        return new MappingJackson2SmileHttpMessageConverter(objectMapperBuilder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnProperty(name = "mock.faults.enabled", matchIfMissing = true)
+    public FilterRegistrationBean<ThrottledResponseFilter> throttledResponseFilter() {
+        return new FilterRegistrationBean<>(new ThrottledResponseFilter());
     }
 
+    /*
+     * Order matters: requests rejected by the rate limit never see injected faults, and latency is paid before the
+     * request fails or is served.
+     */
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        registry.addInterceptor(new RequestLimitInterceptor(new RequestLimiter(requestLimitProperties)))
+                .excludePathPatterns(ADMIN_PATHS);
+        if (faultInjectionService.isEnabled()) {
+            registry.addInterceptor(new LatencyInjectionInterceptor(faultInjectionService))
+                    .excludePathPatterns(ADMIN_PATHS);
+            registry.addInterceptor(new ConnectionResetInterceptor(faultInjectionService))
+                    .excludePathPatterns(ADMIN_PATHS);
+            registry.addInterceptor(new ErrorInjectionInterceptor(faultInjectionService, objectMapper))
+                    .excludePathPatterns(ADMIN_PATHS);
+            registry.addInterceptor(new SlowDripInterceptor(faultInjectionService))
+                    .excludePathPatterns(ADMIN_PATHS);
+        }
     }
 }
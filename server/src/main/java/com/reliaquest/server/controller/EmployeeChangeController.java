@@ -0,0 +1,51 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.EmployeeChangeEvent;
+import com.reliaquest.server.service.EmployeeChangeFeed;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * Server-sent change feed. Clients fetch the full list once, remember its {@value MockEmployeeController#VERSION_HEADER}
+ * and subscribe from that version; on reconnect the standard {@code Last-Event-ID} header resumes the feed. Returning
+ * a {@link Flux} keeps this controller identical on the servlet and reactive runtimes.
+ */
+@RestController
+@RequestMapping("/api/v1/employee/changes")
+@RequiredArgsConstructor
+public class EmployeeChangeController {
+
+    private final EmployeeChangeFeed employeeChangeFeed;
+
+    @Value("${mock.changes.heartbeat:15s}")
+    private Duration heartbeat;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<EmployeeChangeEvent>> streamChanges(
+            @RequestParam(name = "since", required = false) Long since,
+            @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        final long sinceVersion = lastEventId != null
+                ? lastEventId
+                : since != null ? since : employeeChangeFeed.getVersion();
+        final Flux<ServerSentEvent<EmployeeChangeEvent>> changes = employeeChangeFeed
+                .changesSince(sinceVersion)
+                .map(event -> ServerSentEvent.builder(event)
+                        .id(Long.toString(event.version()))
+                        .event(event.type().name().toLowerCase())
+                        .build());
+        final Flux<ServerSentEvent<EmployeeChangeEvent>> keepAlive = Flux.interval(heartbeat)
+                .map(ignored -> ServerSentEvent.<EmployeeChangeEvent>builder()
+                        .comment("keep-alive")
+                        .build());
+        return Flux.merge(changes, keepAlive);
+    }
+}
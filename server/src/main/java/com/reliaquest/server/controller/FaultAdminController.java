@@ -0,0 +1,69 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.FaultAssignmentInput;
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.FaultInjectionService;
+import jakarta.validation.Valid;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Switches fault profiles at runtime. Admin routes are excluded from rate limiting and fault injection.
+ */
+@RestController
+@RequestMapping("/admin/faults")
+@RequiredArgsConstructor
+public class FaultAdminController {
+
+    private final FaultInjectionService faultInjectionService;
+
+    @GetMapping("/profiles")
+    public Response<Map<String, FaultProfile>> getProfiles() {
+        return Response.handledWith(faultInjectionService.getProfiles());
+    }
+
+    @PutMapping("/profiles/{name}")
+    public ResponseEntity<Response<FaultProfile>> defineProfile(
+            @PathVariable("name") String name, @Valid @RequestBody FaultProfile profile) {
+        try {
+            faultInjectionService.define(name, profile);
+            return ResponseEntity.ok(Response.handledWith(profile));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Response.error(e.getMessage()));
+        }
+    }
+
+    @GetMapping("/endpoints")
+    public Response<Map<String, String>> getAssignments() {
+        return Response.handledWith(faultInjectionService.getAssignments());
+    }
+
+    @PutMapping("/endpoints")
+    public ResponseEntity<Response<Map<String, String>>> assign(@Valid @RequestBody FaultAssignmentInput input) {
+        try {
+            faultInjectionService.assign(input.getEndpoint(), input.getProfile());
+            return ResponseEntity.ok(Response.handledWith(faultInjectionService.getAssignments()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Response.error(e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/endpoints")
+    public ResponseEntity<Response<Map<String, String>>> unassign(@RequestParam("endpoint") String endpoint) {
+        return faultInjectionService
+                .unassign(endpoint)
+                .map(ignored -> ResponseEntity.ok(Response.handledWith(faultInjectionService.getAssignments())))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+    }
+}
@@ -3,10 +3,12 @@ package com.reliaquest.server.controller;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Page;
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.EmployeeChangeFeed;
 import com.reliaquest.server.service.MockEmployeeService;
 import jakarta.validation.Valid;
-import java.util.List;
+import java.util.Collection;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -24,11 +27,40 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    /**
+     * Change feed version the returned list reflects at least; subscribe to the feed from this version and apply
+     * events idempotently.
+     */
+    public static final String VERSION_HEADER = "X-Employee-Version";
+
     private final MockEmployeeService mockEmployeeService;
+    private final EmployeeChangeFeed employeeChangeFeed;
 
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<Response<Collection<MockEmployee>>> getEmployees() {
+        final long version = employeeChangeFeed.getVersion();
+        return ResponseEntity.ok()
+                .header(VERSION_HEADER, Long.toString(version))
+                .body(Response.handledWith(mockEmployeeService.getMockEmployees()));
+    }
+
+    /**
+     * Pages of at most {@link MockEmployeeService#MAX_PAGE_SIZE} rows, addressed by offset or by the previous page's
+     * cursor.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<Response<Page<MockEmployee>>> getEmployeePage(
+            @RequestParam(name = "offset", defaultValue = "0") int offset,
+            @RequestParam(name = "limit", defaultValue = "100") int limit,
+            @RequestParam(name = "cursor", required = false) String cursor) {
+        try {
+            final var page = cursor != null
+                    ? mockEmployeeService.pageAfter(cursor, limit)
+                    : mockEmployeeService.page(offset, limit);
+            return ResponseEntity.ok(Response.handledWith(page));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Response.error(e.getMessage()));
+        }
     }
 
     @GetMapping("/{id}")
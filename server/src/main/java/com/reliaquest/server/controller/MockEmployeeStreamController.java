@@ -0,0 +1,43 @@
+package com.reliaquest.server.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.service.MockEmployeeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Bounded-memory alternative to {@link MockEmployeeController#getEmployees()}: an NDJSON stream written row by row
+ * from the store. Servlet runtime only, see {@link ReactiveMockEmployeeStreamController}.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1/employee")
+@RequiredArgsConstructor
+public class MockEmployeeStreamController {
+
+    private final MockEmployeeService mockEmployeeService;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEmployees() {
+        final var employees = mockEmployeeService.iterator();
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(outputStream -> {
+            try (var generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(new SerializedString("\n"));
+                while (employees.hasNext()) {
+                    generator.writeObject(employees.next());
+                }
+                generator.writeRaw('\n');
+            }
+        });
+    }
+}
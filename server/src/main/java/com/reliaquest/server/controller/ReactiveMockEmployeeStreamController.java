@@ -0,0 +1,29 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reactive runtime counterpart of {@link MockEmployeeStreamController}; the NDJSON encoder writes and flushes rows as
+ * they are pulled from the store, honouring back-pressure from slow clients.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/v1/employee")
+@RequiredArgsConstructor
+public class ReactiveMockEmployeeStreamController {
+
+    private final MockEmployeeService mockEmployeeService;
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<MockEmployee> streamEmployees() {
+        return Flux.fromIterable(mockEmployeeService::iterator);
+    }
+}
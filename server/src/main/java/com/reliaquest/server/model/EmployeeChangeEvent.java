@@ -0,0 +1,22 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * A versioned mutation of the employee store. Versions increase by one per mutation, from a base that is higher on
+ * every run of the server; {@link Type#RESET} tells a subscriber that the changes it asked for are no longer retained,
+ * or were made by an earlier run, and it must re-fetch the full list.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EmployeeChangeEvent(long version, Type type, MockEmployee employee) {
+
+    public static EmployeeChangeEvent reset(long version) {
+        return new EmployeeChangeEvent(version, Type.RESET, null);
+    }
+
+    public enum Type {
+        CREATED,
+        DELETED,
+        RESET
+    }
+}
@@ -0,0 +1,17 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class FaultAssignmentInput {
+
+    /**
+     * Matched route such as {@code GET /api/v1/employee/{id}}, or {@code *} for every endpoint.
+     */
+    @NotBlank
+    private String endpoint;
+
+    @NotBlank
+    private String profile;
+}
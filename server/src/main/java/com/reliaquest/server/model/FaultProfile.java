@@ -0,0 +1,113 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+import lombok.Data;
+
+/**
+ * Describes how the mock server misbehaves for an endpoint. All faults are independent and evaluated per request.
+ */
+@Data
+public class FaultProfile {
+
+    /**
+     * Profile of endpoints without an assignment. Test for it with {@link #injectsFaults()}, which also covers
+     * configured profiles that inject nothing.
+     */
+    public static final FaultProfile NONE = new FaultProfile();
+
+    @Valid
+    @NotNull private Latency latency = new Latency();
+
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double errorRate;
+
+    @Min(400)
+    @Max(599)
+    private int errorStatus = 500;
+
+    /**
+     * Probability that the connection is closed after a partial response body has been written.
+     */
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double resetRate;
+
+    /**
+     * Throughput cap for the response body, {@code 0} disables slow-drip.
+     */
+    @Min(0)
+    private int dripBytesPerSecond;
+
+    @Min(1)
+    private int dripChunkSize = 256;
+
+    /**
+     * @return whether any fault can apply to a request; false for {@link #NONE} and profiles equivalent to it.
+     */
+    public boolean injectsFaults() {
+        return latency.getDistribution() != Distribution.NONE
+                || errorRate > 0
+                || resetRate > 0
+                || dripBytesPerSecond > 0;
+    }
+
+    @Data
+    public static class Latency {
+
+        @NotNull private Distribution distribution = Distribution.NONE;
+
+        /**
+         * Delay of the {@link Distribution#FIXED} distribution.
+         */
+        private Duration delay = Duration.ZERO;
+
+        /**
+         * Lower bound of the {@link Distribution#UNIFORM} distribution.
+         */
+        private Duration min = Duration.ZERO;
+
+        /**
+         * Upper bound of the {@link Distribution#UNIFORM} distribution; also caps the {@link Distribution#LOG_NORMAL}
+         * tail.
+         */
+        private Duration max = Duration.ofSeconds(10);
+
+        /**
+         * Median of the {@link Distribution#LOG_NORMAL} distribution.
+         */
+        private Duration median = Duration.ofMillis(100);
+
+        /**
+         * Shape of the {@link Distribution#LOG_NORMAL} distribution; larger values give a heavier tail.
+         */
+        @DecimalMin("0.0")
+        private double sigma = 0.5;
+
+        public long sampleNanos(RandomGenerator random) {
+            return switch (distribution) {
+                case NONE -> 0L;
+                case FIXED -> delay.toNanos();
+                case UNIFORM -> min.toNanos() >= max.toNanos()
+                        ? min.toNanos()
+                        : random.nextLong(min.toNanos(), max.toNanos() + 1);
+                case LOG_NORMAL -> Math.min(
+                        max.toNanos(), (long) (median.toNanos() * Math.exp(sigma * random.nextGaussian())));
+            };
+        }
+    }
+
+    public enum Distribution {
+        NONE,
+        FIXED,
+        UNIFORM,
+        LOG_NORMAL
+    }
+}
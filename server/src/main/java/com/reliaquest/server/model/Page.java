@@ -0,0 +1,11 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+/**
+ * One page of results. {@code nextCursor} resumes after the last item even when earlier items were deleted in the
+ * meantime; it is absent on the last page.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record Page<T>(List<T> items, int offset, int limit, int total, String nextCursor) {}
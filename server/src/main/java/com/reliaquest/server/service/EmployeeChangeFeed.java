@@ -0,0 +1,133 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.EmployeeChangeEvent;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * Versioned log of employee mutations with a bounded replay buffer. Subscribers resume from the last version they
+ * applied; if that version has already been overwritten, or comes from a previous run of the server, they receive a
+ * single {@link EmployeeChangeEvent.Type#RESET} and are expected to re-fetch the full list.
+ *
+ * <p>Versions of a run start after a base derived from its boot time, so that they are higher than any version of an
+ * earlier run. Mutations are rare compared to reads, so publishing and subscribing share one monitor, under which
+ * events are numbered and queued per subscriber: this is what guarantees that a subscriber sees every version after
+ * its starting point exactly once and in order, without gaps between replay and live events. Events are handed to
+ * subscribers after the monitor is released, so a slow subscriber never holds up a mutation.
+ */
+@Service
+public class EmployeeChangeFeed {
+
+    private final EmployeeChangeEvent[] replayBuffer;
+    private final int subscriberBufferSize;
+    private final long baseVersion;
+    private final List<Subscriber> subscribers = new ArrayList<>();
+    private long version;
+
+    @Autowired
+    public EmployeeChangeFeed(
+            @Value("${mock.changes.replay-size:1024}") int replaySize,
+            @Value("${mock.changes.subscriber-buffer-size:256}") int subscriberBufferSize) {
+        // A thousand versions per millisecond of uptime before a restart could reuse them.
+        this(replaySize, subscriberBufferSize, System.currentTimeMillis() * 1000);
+    }
+
+    EmployeeChangeFeed(int replaySize, int subscriberBufferSize, long baseVersion) {
+        this.replayBuffer = new EmployeeChangeEvent[replaySize];
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.baseVersion = baseVersion;
+        this.version = baseVersion;
+    }
+
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    public EmployeeChangeEvent publish(@NonNull EmployeeChangeEvent.Type type, @NonNull MockEmployee employee) {
+        final EmployeeChangeEvent event;
+        final List<Subscriber> recipients;
+        synchronized (this) {
+            event = new EmployeeChangeEvent(++version, type, employee);
+            replayBuffer[slot(event.version())] = event;
+            subscribers.forEach(subscriber -> subscriber.queue.add(event));
+            recipients = List.copyOf(subscribers);
+        }
+        recipients.forEach(Subscriber::drain);
+        return event;
+    }
+
+    /**
+     * @return every change after {@code sinceVersion} followed by live changes. A subscriber that falls more than the
+     *     subscriber buffer behind is terminated with an error and can resume from its last applied version.
+     */
+    public Flux<EmployeeChangeEvent> changesSince(long sinceVersion) {
+        return Flux.<EmployeeChangeEvent>create(
+                        sink -> {
+                            final var subscriber = new Subscriber(sink);
+                            synchronized (this) {
+                                replay(sinceVersion, subscriber.queue);
+                                subscribers.add(subscriber);
+                            }
+                            sink.onDispose(() -> {
+                                synchronized (this) {
+                                    subscribers.remove(subscriber);
+                                }
+                            });
+                            subscriber.drain();
+                        },
+                        FluxSink.OverflowStrategy.BUFFER)
+                .onBackpressureBuffer(subscriberBufferSize, ignored -> {}, BufferOverflowStrategy.ERROR);
+    }
+
+    private void replay(long sinceVersion, Queue<EmployeeChangeEvent> queue) {
+        final long oldestRetained = Math.max(baseVersion + 1, version - replayBuffer.length + 1);
+        // Versions below our base come from an earlier run of the server; versions ahead of ours cannot be resumed.
+        if (sinceVersion > version || sinceVersion < oldestRetained - 1) {
+            queue.add(EmployeeChangeEvent.reset(version));
+            return;
+        }
+        for (long next = sinceVersion + 1; next <= version; next++) {
+            queue.add(replayBuffer[slot(next)]);
+        }
+    }
+
+    private int slot(long eventVersion) {
+        return (int) ((eventVersion - 1) % replayBuffer.length);
+    }
+
+    /*
+     * Events are queued under the feed's monitor, in version order, and drained outside it by one thread at a time.
+     */
+    private static final class Subscriber {
+        private final FluxSink<EmployeeChangeEvent> sink;
+        private final Queue<EmployeeChangeEvent> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger drains = new AtomicInteger();
+
+        private Subscriber(FluxSink<EmployeeChangeEvent> sink) {
+            this.sink = sink;
+        }
+
+        private void drain() {
+            if (drains.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                EmployeeChangeEvent event;
+                while ((event = queue.poll()) != null) {
+                    sink.next(event);
+                }
+            } while (drains.decrementAndGet() != 0);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.config.FaultInjectionProperties;
+import com.reliaquest.server.model.FaultProfile;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Holds the fault profiles and which endpoint uses which profile. Both can be changed at runtime; lookups are a
+ * couple of concurrent map reads so unaffected endpoints pay next to nothing.
+ */
+@Slf4j
+@Service
+public class FaultInjectionService {
+
+    public static final String ALL_ENDPOINTS = "*";
+    public static final String NONE_PROFILE = "none";
+
+    private final boolean enabled;
+    private final Map<String, FaultProfile> profiles = new ConcurrentHashMap<>();
+    private final Map<String, String> assignments = new ConcurrentHashMap<>();
+
+    public FaultInjectionService(FaultInjectionProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.profiles.put(NONE_PROFILE, FaultProfile.NONE);
+        properties.getProfiles().forEach(this::define);
+        properties.getEndpoints().forEach(this::assign);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public FaultProfile profileFor(@NonNull String endpoint) {
+        var profileName = assignments.get(endpoint);
+        if (profileName == null) {
+            profileName = assignments.get(ALL_ENDPOINTS);
+        }
+        return profileName == null ? FaultProfile.NONE : profiles.getOrDefault(profileName, FaultProfile.NONE);
+    }
+
+    public Map<String, FaultProfile> getProfiles() {
+        return Map.copyOf(profiles);
+    }
+
+    public Map<String, String> getAssignments() {
+        return Map.copyOf(assignments);
+    }
+
+    public void define(@NonNull String name, @NonNull FaultProfile profile) {
+        if (NONE_PROFILE.equals(name)) {
+            throw new IllegalArgumentException("Profile '" + NONE_PROFILE + "' is reserved.");
+        }
+        profiles.put(name, profile);
+        log.info("Defined fault profile '{}': {}", name, profile);
+    }
+
+    public void assign(@NonNull String endpoint, @NonNull String profileName) {
+        if (!profiles.containsKey(profileName)) {
+            throw new IllegalArgumentException("Unknown fault profile: " + profileName);
+        }
+        assignments.put(endpoint, profileName);
+        log.info("Assigned fault profile '{}' to endpoint '{}'", profileName, endpoint);
+    }
+
+    public Optional<String> unassign(@NonNull String endpoint) {
+        final var removed = Optional.ofNullable(assignments.remove(endpoint));
+        removed.ifPresent(
+                profileName -> log.info("Removed fault profile '{}' from endpoint '{}'", profileName, endpoint));
+        return removed;
+    }
+}
@@ -3,30 +3,69 @@ package com.reliaquest.server.service;
 import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeChangeEvent;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Page;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MockEmployeeService {
 
+    public static final int MAX_PAGE_SIZE = 1000;
+
     private final Faker faker;
+    private final EmployeeChangeFeed employeeChangeFeed;
+
+    /**
+     * The store in creation order, keyed by a sequence number that is never reused. A create or delete touches one
+     * entry, and readers iterate it without copying or locking: iteration is weakly consistent, so it sees every row
+     * at most once, including rows created meanwhile but not those deleted before it reaches them.
+     */
+    private final ConcurrentNavigableMap<Long, MockEmployee> mockEmployees = new ConcurrentSkipListMap<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * The number of rows, kept alongside the store because {@link ConcurrentSkipListMap#size()} walks every entry.
+     */
+    private final AtomicInteger rowCount = new AtomicInteger();
+
+    public MockEmployeeService(
+            Faker faker, EmployeeChangeFeed employeeChangeFeed, List<MockEmployee> initialMockEmployees) {
+        this.faker = faker;
+        this.employeeChangeFeed = employeeChangeFeed;
+        initialMockEmployees.forEach(mockEmployee -> mockEmployees.put(sequence.incrementAndGet(), mockEmployee));
+        rowCount.set(mockEmployees.size());
+    }
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    /**
+     * @return a live, unmodifiable view of the store; iterating it neither copies nor locks the store.
+     */
+    public Collection<MockEmployee> getMockEmployees() {
+        return Collections.unmodifiableCollection(mockEmployees.values());
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
+        return mockEmployees.values().stream()
                 .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
                         && mockEmployee.getId().equals(uuid))
                 .findFirst();
@@ -37,22 +76,82 @@ public class MockEmployeeService {
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        mockEmployees.put(sequence.incrementAndGet(), mockEmployee);
+        rowCount.incrementAndGet();
+        employeeChangeFeed.publish(EmployeeChangeEvent.Type.CREATED, mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
+        final var mockEmployee = mockEmployees.entrySet().stream()
+                .filter(entry -> Objects.nonNull(entry.getValue().getName())
+                        && entry.getValue().getName().equalsIgnoreCase(input.getName()))
                 .findFirst();
         if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
+            // Of two concurrent deletes of the same row, only the one that removes it publishes the change.
+            if (mockEmployees.remove(mockEmployee.get().getKey(), mockEmployee.get().getValue())) {
+                rowCount.decrementAndGet();
+                employeeChangeFeed.publish(EmployeeChangeEvent.Type.DELETED, mockEmployee.get().getValue());
+            }
+            log.debug("Removed employee: {}", mockEmployee.get().getValue());
             return true;
         }
 
         return false;
     }
+
+    /**
+     * @return an iterator over {@link #getMockEmployees()}.
+     */
+    public Iterator<MockEmployee> iterator() {
+        return getMockEmployees().iterator();
+    }
+
+    /**
+     * Skips {@code offset} rows to reach the page, so its cost grows with the offset; {@link #pageAfter} seeks to its
+     * cursor instead and is the way to page through a large store.
+     */
+    public Page<MockEmployee> page(int offset, int limit) {
+        final int start = Math.max(offset, 0);
+        return page(start, limit, mockEmployees.entrySet().stream().skip(start).iterator());
+    }
+
+    /**
+     * Resumes after the row encoded in the cursor, which carries the row's sequence number, so that the next page
+     * starts in the right place even when that row or earlier ones were deleted in the meantime. The page's offset is
+     * the row's position when the cursor was issued. The cost of a page depends on its size only.
+     */
+    public Page<MockEmployee> pageAfter(@NonNull String cursor, int limit) {
+        final var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        final int separator = decoded.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Malformed cursor: " + cursor);
+        }
+        final int position = Integer.parseInt(decoded.substring(0, separator));
+        final long lastKey = Long.parseLong(decoded.substring(separator + 1));
+        return page(position, limit, mockEmployees.tailMap(lastKey, false).entrySet().iterator());
+    }
+
+    private Page<MockEmployee> page(int start, int limit, Iterator<Map.Entry<Long, MockEmployee>> rows) {
+        final int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        final var items = new ArrayList<MockEmployee>(size);
+        long lastKey = 0;
+        while (rows.hasNext() && items.size() < size) {
+            final var row = rows.next();
+            items.add(row.getValue());
+            lastKey = row.getKey();
+        }
+        final int end = start + items.size();
+        final var nextCursor = items.size() == size && mockEmployees.higherKey(lastKey) != null
+                ? encodeCursor(end, lastKey)
+                : null;
+        return new Page<>(items, start, size, rowCount.get(), nextCursor);
+    }
+
+    private static String encodeCursor(int end, long lastKey) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((end + ":" + lastKey).getBytes(StandardCharsets.UTF_8));
+    }
 }
@@ -0,0 +1,40 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.service.FaultInjectionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+/**
+ * Simulates a connection dropped mid-response: headers announce a body that is never completed and the connection
+ * is closed after the partial write, so clients observe a premature close rather than a clean HTTP error.
+ */
+public class ConnectionResetInterceptor extends FaultInjectionInterceptor {
+
+    private static final byte[] PARTIAL_BODY = "{\"data\":[".getBytes(StandardCharsets.UTF_8);
+    private static final int ANNOUNCED_LENGTH = 64 * 1024;
+
+    public ConnectionResetInterceptor(FaultInjectionService faultInjectionService) {
+        super(faultInjectionService);
+    }
+
+    @Override
+    protected boolean inject(FaultProfile profile, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        if (ThreadLocalRandom.current().nextDouble() >= profile.getResetRate()) {
+            return true;
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.CONNECTION, "close");
+        response.setContentLength(ANNOUNCED_LENGTH);
+        response.getOutputStream().write(PARTIAL_BODY);
+        response.flushBuffer();
+        return false;
+    }
+}
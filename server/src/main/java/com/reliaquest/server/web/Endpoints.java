@@ -0,0 +1,18 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+public final class Endpoints {
+
+    private Endpoints() {}
+
+    /**
+     * @return the matched route of the request, e.g. {@code GET /api/v1/employee/{id}}, so that every id maps to the
+     *     same endpoint; falls back to the raw request URI when no handler pattern has been resolved.
+     */
+    public static String of(HttpServletRequest request) {
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+}
@@ -0,0 +1,33 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.FaultInjectionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.http.MediaType;
+
+public class ErrorInjectionInterceptor extends FaultInjectionInterceptor {
+
+    private final ObjectMapper objectMapper;
+
+    public ErrorInjectionInterceptor(FaultInjectionService faultInjectionService, ObjectMapper objectMapper) {
+        super(faultInjectionService);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean inject(FaultProfile profile, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        if (ThreadLocalRandom.current().nextDouble() >= profile.getErrorRate()) {
+            return true;
+        }
+        response.setStatus(profile.getErrorStatus());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Response.error("Injected fault."));
+        return false;
+    }
+}
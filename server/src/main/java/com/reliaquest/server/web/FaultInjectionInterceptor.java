@@ -0,0 +1,38 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.service.FaultInjectionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Base class of the fault interceptors; resolves the request's {@link FaultProfile} once and shares it between them
+ * through a request attribute.
+ */
+@RequiredArgsConstructor
+public abstract class FaultInjectionInterceptor implements HandlerInterceptor {
+
+    private static final String PROFILE_ATTRIBUTE = FaultInjectionInterceptor.class.getName() + ".profile";
+
+    private final FaultInjectionService faultInjectionService;
+
+    @Override
+    public final boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        var profile = (FaultProfile) request.getAttribute(PROFILE_ATTRIBUTE);
+        if (profile == null) {
+            profile = faultInjectionService.profileFor(Endpoints.of(request));
+            request.setAttribute(PROFILE_ATTRIBUTE, profile);
+        }
+        return !profile.injectsFaults() || inject(profile, request, response);
+    }
+
+    /**
+     * @return false when the fault has completed the response and the handler must not run.
+     */
+    protected abstract boolean inject(FaultProfile profile, HttpServletRequest request, HttpServletResponse response)
+            throws IOException;
+}
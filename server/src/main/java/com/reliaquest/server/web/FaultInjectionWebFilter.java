@@ -0,0 +1,138 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.FaultInjectionService;
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.server.HttpServerResponse;
+
+/**
+ * Reactive counterpart of the fault interceptors. Latency and slow-drip are timer-driven rather than sleeping, so
+ * injected delays do not occupy event loop threads; resets abort the TCP connection with an RST.
+ */
+@RequiredArgsConstructor
+public class FaultInjectionWebFilter implements WebFilter, Ordered {
+
+    public static final int ORDER = RequestLimitWebFilter.ORDER + 1;
+
+    private final FaultInjectionService faultInjectionService;
+    private final ReactiveEndpoints endpoints;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (ReactiveEndpoints.isAdmin(exchange)) {
+            return chain.filter(exchange);
+        }
+        return endpoints.of(exchange).map(faultInjectionService::profileFor).flatMap(profile -> {
+            if (!profile.injectsFaults()) {
+                return chain.filter(exchange);
+            }
+            final long delayNanos = profile.getLatency().sampleNanos(ThreadLocalRandom.current());
+            final var faulted = Mono.defer(() -> inject(profile, exchange, chain));
+            return delayNanos > 0 ? Mono.delay(Duration.ofNanos(delayNanos)).then(faulted) : faulted;
+        });
+    }
+
+    private Mono<Void> inject(FaultProfile profile, ServerWebExchange exchange, WebFilterChain chain) {
+        final var random = ThreadLocalRandom.current();
+        if (random.nextDouble() < profile.getResetRate()) {
+            return reset(exchange.getResponse());
+        }
+        if (random.nextDouble() < profile.getErrorRate()) {
+            return error(profile, exchange.getResponse());
+        }
+        if (profile.getDripBytesPerSecond() > 0) {
+            return chain.filter(exchange.mutate()
+                    .response(new SlowDripResponse(exchange.getResponse(), profile))
+                    .build());
+        }
+        return chain.filter(exchange);
+    }
+
+    private Mono<Void> reset(ServerHttpResponse response) {
+        final HttpServerResponse nativeResponse = ServerHttpResponseDecorator.getNativeResponse(response);
+        nativeResponse.withConnection(connection -> {
+            connection.channel().config().setOption(ChannelOption.SO_LINGER, 0);
+            connection.channel().close();
+        });
+        return Mono.empty();
+    }
+
+    private Mono<Void> error(FaultProfile profile, ServerHttpResponse response) {
+        final byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(Response.error("Injected fault."));
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+        response.setStatusCode(HttpStatus.valueOf(profile.getErrorStatus()));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    private static class SlowDripResponse extends ServerHttpResponseDecorator {
+
+        private final int chunkSize;
+        private final Duration chunkInterval;
+
+        SlowDripResponse(ServerHttpResponse delegate, FaultProfile profile) {
+            super(delegate);
+            this.chunkSize = profile.getDripChunkSize();
+            this.chunkInterval =
+                    Duration.ofNanos(TimeUnit.SECONDS.toNanos(chunkSize) / profile.getDripBytesPerSecond());
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            final Flux<Publisher<DataBuffer>> chunks = Flux.from(body)
+                    .concatMapIterable(this::split)
+                    .delayElements(chunkInterval)
+                    .map(Mono::just);
+            return getDelegate().writeAndFlushWith(chunks);
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return writeWith(Flux.from(body).concatMap(Flux::from));
+        }
+
+        private Iterable<DataBuffer> split(DataBuffer buffer) {
+            final byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            DataBufferUtils.release(buffer);
+            final int count = (bytes.length + chunkSize - 1) / chunkSize;
+            final DataBuffer[] chunks = new DataBuffer[count];
+            for (int i = 0; i < count; i++) {
+                chunks[i] = bufferFactory()
+                        .wrap(Arrays.copyOfRange(bytes, i * chunkSize, Math.min(bytes.length, (i + 1) * chunkSize)));
+            }
+            return Arrays.asList(chunks);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.service.FaultInjectionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+public class LatencyInjectionInterceptor extends FaultInjectionInterceptor {
+
+    public LatencyInjectionInterceptor(FaultInjectionService faultInjectionService) {
+        super(faultInjectionService);
+    }
+
+    @Override
+    protected boolean inject(FaultProfile profile, HttpServletRequest request, HttpServletResponse response) {
+        final long delayNanos = profile.getLatency().sampleNanos(ThreadLocalRandom.current());
+        if (delayNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(delayNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,26 @@
+package com.reliaquest.server.web;
+
+/**
+ * Non-blocking admission check. Implementations must be safe for concurrent use without locking and read the clock
+ * at most once per call, so that admission stays exact under contention.
+ */
+public interface RateLimiter {
+
+    Decision tryAcquire(long nowNanos);
+
+    /**
+     * @return true when the limiter holds no state worth keeping, i.e. a fresh limiter would behave identically.
+     */
+    boolean isIdle(long nowNanos);
+
+    record Decision(boolean allowed, int remaining, long retryAfterNanos) {
+
+        public static Decision allow(int remaining) {
+            return new Decision(true, remaining, 0L);
+        }
+
+        public static Decision deny(long retryAfterNanos) {
+            return new Decision(false, 0, retryAfterNanos);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.reliaquest.server.web;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link Endpoints}. Web filters run before handler mapping, so the first filter that needs
+ * the matched route resolves the handler itself and reads {@link HandlerMapping#BEST_MATCHING_PATTERN_ATTRIBUTE}.
+ * The handler is remembered on the exchange, and as the first {@link HandlerMapping} this class hands it to the
+ * dispatcher, so that a request is matched once however many filters ask for its endpoint.
+ */
+@RequiredArgsConstructor
+public class ReactiveEndpoints implements HandlerMapping, Ordered {
+
+    private static final String ENDPOINT_ATTRIBUTE = ReactiveEndpoints.class.getName() + ".endpoint";
+    private static final String HANDLER_ATTRIBUTE = ReactiveEndpoints.class.getName() + ".handler";
+
+    private final RequestMappingHandlerMapping handlerMapping;
+
+    public Mono<String> of(ServerWebExchange exchange) {
+        final String cached = exchange.getAttribute(ENDPOINT_ATTRIBUTE);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return handlerMapping
+                .getHandler(exchange)
+                .mapNotNull(handler -> {
+                    exchange.getAttributes().put(HANDLER_ATTRIBUTE, handler);
+                    return exchange.getAttribute(BEST_MATCHING_PATTERN_ATTRIBUTE);
+                })
+                .map(Object::toString)
+                .defaultIfEmpty(exchange.getRequest().getPath().value())
+                .map(pattern -> {
+                    final var endpoint = exchange.getRequest().getMethod().name() + " " + pattern;
+                    exchange.getAttributes().put(ENDPOINT_ATTRIBUTE, endpoint);
+                    return endpoint;
+                });
+    }
+
+    /**
+     * @return the handler resolved by {@link #of}, if any; otherwise the next mapping matches the request as usual.
+     */
+    @Override
+    public Mono<Object> getHandler(ServerWebExchange exchange) {
+        return Mono.justOrEmpty(exchange.getAttribute(HANDLER_ATTRIBUTE));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    public static boolean isAdmin(ServerWebExchange exchange) {
+        return exchange.getRequest().getPath().value().startsWith("/admin/");
+    }
+}
@@ -0,0 +1,43 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Deterministic replacement for the former random request limit: limits, window and keying come from
+ * {@link com.reliaquest.server.config.RequestLimitProperties}, and every decision is a single lock-free update of the
+ * key's {@link RateLimiter}.
+ */
+@RequiredArgsConstructor
+public class RequestLimitInterceptor implements HandlerInterceptor {
+
+    private final RequestLimiter requestLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!requestLimiter.isEnabled()) {
+            return true;
+        }
+
+        final var endpoint = requestLimiter.isKeyedByEndpoint() ? Endpoints.of(request) : null;
+        final var decision = requestLimiter.tryAcquire(clientOf(request), endpoint);
+        response.setHeader(RequestLimiter.LIMIT_HEADER, Integer.toString(requestLimiter.getLimit()));
+        response.setHeader(RequestLimiter.REMAINING_HEADER, Integer.toString(decision.remaining()));
+        if (decision.allowed()) {
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(RequestLimiter.retryAfterSeconds(decision)));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        return false;
+    }
+
+    private String clientOf(HttpServletRequest request) {
+        final String client = request.getHeader(requestLimiter.getClientHeader());
+        return client != null && !client.isBlank() ? client : request.getRemoteAddr();
+    }
+}
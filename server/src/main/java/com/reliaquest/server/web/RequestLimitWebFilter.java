@@ -0,0 +1,60 @@
+package com.reliaquest.server.web;
+
+import java.net.InetSocketAddress;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link RequestLimitInterceptor}, sharing its {@link RequestLimiter} semantics.
+ */
+@RequiredArgsConstructor
+public class RequestLimitWebFilter implements WebFilter, Ordered {
+
+    public static final int ORDER = 0;
+
+    private final RequestLimiter requestLimiter;
+    private final ReactiveEndpoints endpoints;
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!requestLimiter.isEnabled() || ReactiveEndpoints.isAdmin(exchange)) {
+            return chain.filter(exchange);
+        }
+        final var endpoint = requestLimiter.isKeyedByEndpoint() ? endpoints.of(exchange) : Mono.just("");
+        return endpoint.flatMap(resolved -> {
+            final var decision = requestLimiter.tryAcquire(clientOf(exchange), resolved);
+            final var response = exchange.getResponse();
+            response.getHeaders().set(RequestLimiter.LIMIT_HEADER, Integer.toString(requestLimiter.getLimit()));
+            response.getHeaders().set(RequestLimiter.REMAINING_HEADER, Integer.toString(decision.remaining()));
+            if (decision.allowed()) {
+                return chain.filter(exchange);
+            }
+            response.getHeaders()
+                    .set(HttpHeaders.RETRY_AFTER, Long.toString(RequestLimiter.retryAfterSeconds(decision)));
+            response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            return response.setComplete();
+        });
+    }
+
+    private String clientOf(ServerWebExchange exchange) {
+        final String client = exchange.getRequest().getHeaders().getFirst(requestLimiter.getClientHeader());
+        if (client != null && !client.isBlank()) {
+            return client;
+        }
+        return Optional.ofNullable(exchange.getRequest().getRemoteAddress())
+                .map(InetSocketAddress::getHostString)
+                .orElse("unknown");
+    }
+}
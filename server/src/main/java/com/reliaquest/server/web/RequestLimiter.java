@@ -0,0 +1,86 @@
+package com.reliaquest.server.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.server.config.RequestLimitProperties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Runtime-agnostic core of the request limit: maps each request to a key according to
+ * {@link RequestLimitProperties#getKey()} and admits it through that key's {@link RateLimiter}. Servlet and reactive
+ * adapters only extract the client and endpoint and translate the decision into headers.
+ *
+ * <p>Limiters are kept in a cache bounded by {@link RequestLimitProperties#getMaxKeys()}. A limiter that has not been
+ * used for two windows is idle, i.e. a fresh one would behave identically, and expires; beyond that, the size bound
+ * evicts the least valuable keys, which then start over with a full budget.
+ */
+public class RequestLimiter {
+
+    public static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private static final String GLOBAL_KEY = "*";
+
+    private final RequestLimitProperties properties;
+    private final LongSupplier nanoTime;
+    private final Cache<String, RateLimiter> limiters;
+
+    public RequestLimiter(RequestLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    RequestLimiter(RequestLimitProperties properties, LongSupplier nanoTime) {
+        this.properties = properties;
+        this.nanoTime = nanoTime;
+        this.limiters = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterAccess(properties.getWindow().multipliedBy(2))
+                .ticker(nanoTime::getAsLong)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public int getLimit() {
+        return properties.getLimit();
+    }
+
+    public String getClientHeader() {
+        return properties.getClientHeader();
+    }
+
+    public boolean isKeyedByEndpoint() {
+        return switch (properties.getKey()) {
+            case ENDPOINT, CLIENT_AND_ENDPOINT -> true;
+            case GLOBAL, CLIENT -> false;
+        };
+    }
+
+    public RateLimiter.Decision tryAcquire(String client, String endpoint) {
+        final long now = nanoTime.getAsLong();
+        return limiters.get(keyOf(client, endpoint), ignored -> newLimiter(now)).tryAcquire(now);
+    }
+
+    public static long retryAfterSeconds(RateLimiter.Decision decision) {
+        return Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(decision.retryAfterNanos() - 1) + 1);
+    }
+
+    private RateLimiter newLimiter(long nowNanos) {
+        return switch (properties.getAlgorithm()) {
+            case TOKEN_BUCKET -> new TokenBucketRateLimiter(properties.getLimit(), properties.getWindow(), nowNanos);
+            case SLIDING_WINDOW -> new SlidingWindowRateLimiter(properties.getLimit(), properties.getWindow(), nowNanos);
+        };
+    }
+
+    private String keyOf(String client, String endpoint) {
+        return switch (properties.getKey()) {
+            case GLOBAL -> GLOBAL_KEY;
+            case CLIENT -> client;
+            case ENDPOINT -> endpoint;
+            case CLIENT_AND_ENDPOINT -> client + '|' + endpoint;
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sliding window counter: the previous fixed window's count is weighted by how much of it still overlaps the
+ * sliding window, which approximates a true sliding log in constant space. State transitions are a CAS over an
+ * immutable snapshot, so concurrent callers never over-admit.
+ */
+public class SlidingWindowRateLimiter implements RateLimiter {
+
+    private final int limit;
+    private final long windowNanos;
+    private final AtomicReference<Window> window;
+
+    public SlidingWindowRateLimiter(int limit, Duration window, long nowNanos) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        this.limit = limit;
+        this.windowNanos = Math.max(1L, window.toNanos());
+        this.window = new AtomicReference<>(new Window(nowNanos, 0, 0));
+    }
+
+    @Override
+    public Decision tryAcquire(long nowNanos) {
+        while (true) {
+            final Window current = window.get();
+            final Window rolled = current.rollTo(nowNanos, windowNanos);
+            final double elapsed = (double) (nowNanos - rolled.start()) / windowNanos;
+            final double estimate = rolled.previous() * (1.0 - elapsed) + rolled.current();
+            if (estimate + 1 > limit) {
+                if (rolled != current) {
+                    window.compareAndSet(current, rolled);
+                }
+                return Decision.deny(retryAfter(rolled, elapsed));
+            }
+            final Window next = new Window(rolled.start(), rolled.previous(), rolled.current() + 1);
+            if (window.compareAndSet(current, next)) {
+                return Decision.allow((int) Math.max(0, Math.floor(limit - estimate - 1)));
+            }
+        }
+    }
+
+    @Override
+    public boolean isIdle(long nowNanos) {
+        return nowNanos - window.get().start() >= 2 * windowNanos;
+    }
+
+    private long retryAfter(Window rolled, double elapsed) {
+        final double waitFraction;
+        if (rolled.current() + 1 > limit) {
+            // Nothing fits in this window; in the next one the current count becomes the weighted previous count.
+            final double nextElapsed = Math.max(0.0, 1.0 - (double) (limit - 1) / rolled.current());
+            waitFraction = (1.0 - elapsed) + nextElapsed;
+        } else {
+            final double required = 1.0 - (double) (limit - rolled.current() - 1) / rolled.previous();
+            waitFraction = Math.max(0.0, required - elapsed);
+        }
+        return Math.max(1L, (long) Math.ceil(waitFraction * windowNanos));
+    }
+
+    private record Window(long start, int previous, int current) {
+
+        Window rollTo(long nowNanos, long windowNanos) {
+            final long elapsedWindows = (nowNanos - start) / windowNanos;
+            if (elapsedWindows <= 0) {
+                return this;
+            }
+            final long newStart = start + elapsedWindows * windowNanos;
+            return new Window(newStart, elapsedWindows == 1 ? current : 0, 0);
+        }
+    }
+}
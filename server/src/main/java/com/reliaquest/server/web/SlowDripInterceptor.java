@@ -0,0 +1,25 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.service.FaultInjectionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.util.WebUtils;
+
+public class SlowDripInterceptor extends FaultInjectionInterceptor {
+
+    public SlowDripInterceptor(FaultInjectionService faultInjectionService) {
+        super(faultInjectionService);
+    }
+
+    @Override
+    protected boolean inject(FaultProfile profile, HttpServletRequest request, HttpServletResponse response) {
+        if (profile.getDripBytesPerSecond() > 0) {
+            final var throttled = WebUtils.getNativeResponse(response, ThrottledResponse.class);
+            if (throttled != null) {
+                throttled.throttle(profile.getDripBytesPerSecond(), profile.getDripChunkSize());
+            }
+        }
+        return true;
+    }
+}
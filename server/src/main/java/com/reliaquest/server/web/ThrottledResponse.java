@@ -0,0 +1,114 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response wrapper which passes writes straight through until {@link #throttle(int, int)} is called, after which the
+ * body is written in flushed chunks paced to the requested throughput.
+ */
+public class ThrottledResponse extends HttpServletResponseWrapper {
+
+    private volatile int bytesPerSecond;
+    private volatile int chunkSize;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    public ThrottledResponse(HttpServletResponse response) {
+        super(response);
+    }
+
+    public void throttle(int bytesPerSecond, int chunkSize) {
+        this.bytesPerSecond = bytesPerSecond;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new ThrottledOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    private class ThrottledOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        ThrottledOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            final int rate = bytesPerSecond;
+            if (rate <= 0) {
+                delegate.write(bytes, offset, length);
+                return;
+            }
+            final int chunk = Math.max(1, chunkSize);
+            for (int written = 0; written < length; written += chunk) {
+                final int size = Math.min(chunk, length - written);
+                delegate.write(bytes, offset + written, size);
+                delegate.flush();
+                pause(TimeUnit.SECONDS.toNanos(size) / rate);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+
+        private void pause(long nanos) throws IOException {
+            try {
+                TimeUnit.NANOSECONDS.sleep(nanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while throttling response.", e);
+            }
+        }
+    }
+}
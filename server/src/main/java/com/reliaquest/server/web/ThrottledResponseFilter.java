@@ -0,0 +1,21 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Installs a pass-through {@link ThrottledResponse} so that {@link SlowDripInterceptor}, which runs after handler
+ * mapping and therefore knows the endpoint, can slow the body down.
+ */
+public class ThrottledResponseFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        filterChain.doFilter(request, new ThrottledResponse(response));
+    }
+}
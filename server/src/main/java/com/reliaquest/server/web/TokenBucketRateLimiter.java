@@ -0,0 +1,48 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket expressed as GCRA (generic cell rate algorithm): the whole bucket is a single "theoretical arrival
+ * time" which is advanced by one emission interval per admitted request, so each decision is one CAS on one long.
+ */
+public class TokenBucketRateLimiter implements RateLimiter {
+
+    private final int capacity;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucketRateLimiter(int capacity, Duration refillPeriod, long nowNanos) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.emissionIntervalNanos = Math.max(1L, refillPeriod.toNanos() / capacity);
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    @Override
+    public Decision tryAcquire(long nowNanos) {
+        while (true) {
+            final long current = theoreticalArrival.get();
+            final long arrival = Math.max(current, nowNanos);
+            final long backlog = arrival - nowNanos;
+            if (backlog > burstToleranceNanos) {
+                return Decision.deny(backlog - burstToleranceNanos);
+            }
+            final long next = arrival + emissionIntervalNanos;
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                final long headroom = burstToleranceNanos - (next - nowNanos);
+                return Decision.allow(headroom < 0 ? 0 : (int) Math.min(capacity, headroom / emissionIntervalNanos + 1));
+            }
+        }
+    }
+
+    @Override
+    public boolean isIdle(long nowNanos) {
+        return theoreticalArrival.get() <= nowNanos;
+    }
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.server.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {"mock.employees.max=3", "mock.rate-limit.enabled=false", "mock.faults.enabled=false"})
+@AutoConfigureMockMvc
+class MockEmployeeControllerTest {
+
+    static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testServesSmileWhenPreferred() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/v1/employee").accept(SMILE, MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(SMILE))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        JsonNode response = Jackson2ObjectMapperBuilder.smile().build().readTree(body);
+
+        assertThat(response.get("data")).hasSize(3);
+        assertThat(response.get("data").get(0).has("employee_name")).isTrue();
+    }
+
+    @Test
+    void testServesJsonOtherwise() throws Exception {
+        String body = mockMvc.perform(get("/api/v1/employee").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(new ObjectMapper().readTree(body).get("data")).hasSize(3);
+    }
+
+    @Test
+    void testServesJsonWhenPreferredOverSmile() throws Exception {
+        mockMvc.perform(get("/api/v1/employee")
+                        .header("Accept", "application/json, application/x-jackson-smile;q=0.5"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+}
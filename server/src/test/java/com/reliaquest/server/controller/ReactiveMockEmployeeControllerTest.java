@@ -0,0 +1,61 @@
+package com.reliaquest.server.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * Content negotiation of the {@code reactive} profile, which serves the same controllers from WebFlux.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"mock.employees.max=3", "mock.rate-limit.enabled=false", "mock.faults.enabled=false"})
+@ActiveProfiles("reactive")
+class ReactiveMockEmployeeControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void testServesSmileWhenPreferred() throws Exception {
+        byte[] body = webTestClient
+                .get()
+                .uri("/api/v1/employee")
+                .accept(MockEmployeeControllerTest.SMILE, MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .contentTypeCompatibleWith(MockEmployeeControllerTest.SMILE)
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+        JsonNode response = Jackson2ObjectMapperBuilder.smile().build().readTree(body);
+
+        assertThat(response.get("data")).hasSize(3);
+    }
+
+    @Test
+    void testServesJsonOtherwise() {
+        webTestClient
+                .get()
+                .uri("/api/v1/employee")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.data.length()")
+                .isEqualTo(3);
+    }
+}
@@ -0,0 +1,85 @@
+package com.reliaquest.server.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class FaultProfileTest {
+
+    private final SplittableRandom random = new SplittableRandom(42);
+    private final FaultProfile.Latency latency = new FaultProfile.Latency();
+
+    @Test
+    void testNoLatencyByDefault() {
+        assertThat(latency.sampleNanos(random)).isZero();
+    }
+
+    @Test
+    void testInjectsFaultsOnlyWhenAnyFaultIsSet() {
+        FaultProfile inert = new FaultProfile();
+        inert.setErrorStatus(503);
+        FaultProfile dripping = new FaultProfile();
+        dripping.setDripBytesPerSecond(1024);
+        FaultProfile delayed = new FaultProfile();
+        delayed.getLatency().setDistribution(FaultProfile.Distribution.FIXED);
+
+        assertThat(FaultProfile.NONE.injectsFaults()).isFalse();
+        assertThat(inert.injectsFaults()).isFalse();
+        assertThat(dripping.injectsFaults()).isTrue();
+        assertThat(delayed.injectsFaults()).isTrue();
+    }
+
+    @Test
+    void testFixedLatency() {
+        latency.setDistribution(FaultProfile.Distribution.FIXED);
+        latency.setDelay(Duration.ofMillis(250));
+
+        assertThat(latency.sampleNanos(random)).isEqualTo(Duration.ofMillis(250).toNanos());
+    }
+
+    @Test
+    void testUniformLatencyStaysWithinBounds() {
+        latency.setDistribution(FaultProfile.Distribution.UNIFORM);
+        latency.setMin(Duration.ofMillis(20));
+        latency.setMax(Duration.ofMillis(400));
+
+        assertThat(samples(10_000))
+                .allSatisfy(sample -> assertThat(sample).isBetween(
+                        Duration.ofMillis(20).toNanos(), Duration.ofMillis(400).toNanos()));
+    }
+
+    @Test
+    void testUniformLatencyCollapsesToMinWhenBoundsCross() {
+        latency.setDistribution(FaultProfile.Distribution.UNIFORM);
+        latency.setMin(Duration.ofMillis(500));
+        latency.setMax(Duration.ofMillis(400));
+
+        assertThat(latency.sampleNanos(random)).isEqualTo(Duration.ofMillis(500).toNanos());
+    }
+
+    @Test
+    void testLogNormalLatencyCentresOnMedianAndCapsTail() {
+        latency.setDistribution(FaultProfile.Distribution.LOG_NORMAL);
+        latency.setMedian(Duration.ofMillis(100));
+        latency.setSigma(1.5);
+        latency.setMax(Duration.ofSeconds(1));
+
+        List<Long> samples = samples(10_000);
+
+        assertThat(samples).allSatisfy(sample -> assertThat(sample).isBetween(0L, Duration.ofSeconds(1).toNanos()));
+        assertThat(samples).contains(Duration.ofSeconds(1).toNanos());
+        assertThat(samples)
+                .filteredOn(sample -> sample < Duration.ofMillis(100).toNanos())
+                .hasSizeBetween(4_800, 5_200);
+    }
+
+    private List<Long> samples(int count) {
+        return LongStream.range(0, count)
+                .mapToObj(ignored -> latency.sampleNanos(random))
+                .toList();
+    }
+}
@@ -0,0 +1,111 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.model.EmployeeChangeEvent;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class EmployeeChangeFeedTest {
+
+    private static final long BASE = 1_000;
+
+    private final EmployeeChangeFeed employeeChangeFeed = new EmployeeChangeFeed(4, 16, BASE);
+
+    @Test
+    void testReplaysThenFollowsLiveChangesWithoutGaps() {
+        publish(3);
+        List<EmployeeChangeEvent> events = new CopyOnWriteArrayList<>();
+
+        employeeChangeFeed.changesSince(BASE + 1).subscribe(events::add);
+        publish(2);
+
+        assertThat(events).extracting(EmployeeChangeEvent::version).containsExactly(1002L, 1003L, 1004L, 1005L);
+    }
+
+    @Test
+    void testResetsResumeFromOverwrittenVersion() {
+        publish(6);
+
+        EmployeeChangeEvent first = employeeChangeFeed.changesSince(BASE + 1).blockFirst();
+
+        assertThat(first).isEqualTo(EmployeeChangeEvent.reset(BASE + 6));
+    }
+
+    @Test
+    void testResetsResumeFromEarlierRun() {
+        EmployeeChangeEvent first = new EmployeeChangeFeed(4, 16, 2_000)
+                .changesSince(BASE + 1)
+                .blockFirst();
+
+        assertThat(first).isEqualTo(EmployeeChangeEvent.reset(2_000));
+    }
+
+    @Test
+    void testStartsVersionsFromBootTime() {
+        long before = System.currentTimeMillis() * 1000;
+
+        assertThat(new EmployeeChangeFeed(4, 16).getVersion()).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    void testDeliversOutsideTheFeedLock() {
+        List<Boolean> heldLock = new CopyOnWriteArrayList<>();
+        employeeChangeFeed.changesSince(BASE).subscribe(event -> heldLock.add(Thread.holdsLock(employeeChangeFeed)));
+
+        publish(2);
+
+        assertThat(heldLock).containsExactly(false, false);
+    }
+
+    @Test
+    void testSlowSubscriberDoesNotHoldUpPublishers() throws Exception {
+        CountDownLatch delivering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Long> versions = new CopyOnWriteArrayList<>();
+        employeeChangeFeed.changesSince(BASE).subscribe(event -> {
+            delivering.countDown();
+            await(release);
+            versions.add(event.version());
+        });
+
+        CompletableFuture<Void> slow = CompletableFuture.runAsync(() -> publish(1));
+        assertThat(delivering.await(1, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture.runAsync(() -> publish(2)).get(1, TimeUnit.SECONDS);
+        release.countDown();
+        slow.get(1, TimeUnit.SECONDS);
+
+        assertThat(versions).containsExactly(1001L, 1002L, 1003L);
+    }
+
+    private void publish(int count) {
+        for (int i = 0; i < count; i++) {
+            employeeChangeFeed.publish(EmployeeChangeEvent.Type.CREATED, employee());
+        }
+    }
+
+    private static MockEmployee employee() {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name("Employee")
+                .salary(50000)
+                .age(30)
+                .title("Engineer")
+                .email("employee@company.com")
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
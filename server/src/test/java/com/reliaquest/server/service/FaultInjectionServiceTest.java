@@ -0,0 +1,85 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.server.config.FaultInjectionProperties;
+import com.reliaquest.server.model.FaultProfile;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FaultInjectionServiceTest {
+
+    private static final String LIST = "GET /api/v1/employee";
+    private static final String BY_ID = "GET /api/v1/employee/{id}";
+
+    private final FaultProfile slow = new FaultProfile();
+    private final FaultProfile flaky = new FaultProfile();
+    private FaultInjectionService faultInjectionService;
+
+    @BeforeEach
+    void setUp() {
+        slow.getLatency().setDistribution(FaultProfile.Distribution.FIXED);
+        flaky.setErrorRate(0.5);
+        FaultInjectionProperties properties = new FaultInjectionProperties();
+        properties.setProfiles(Map.of("slow", slow, "flaky", flaky));
+        properties.setEndpoints(Map.of(BY_ID, "slow"));
+        faultInjectionService = new FaultInjectionService(properties);
+    }
+
+    @Test
+    void testResolvesConfiguredAssignments() {
+        assertThat(faultInjectionService.profileFor(BY_ID)).isSameAs(slow);
+        assertThat(faultInjectionService.profileFor(LIST)).isSameAs(FaultProfile.NONE);
+    }
+
+    @Test
+    void testEndpointAssignmentTakesPrecedenceOverWildcard() {
+        faultInjectionService.assign(FaultInjectionService.ALL_ENDPOINTS, "flaky");
+
+        assertThat(faultInjectionService.profileFor(BY_ID)).isSameAs(slow);
+        assertThat(faultInjectionService.profileFor(LIST)).isSameAs(flaky);
+    }
+
+    @Test
+    void testNoneProfileDisablesFaultsUnderWildcard() {
+        faultInjectionService.assign(FaultInjectionService.ALL_ENDPOINTS, "flaky");
+        faultInjectionService.assign(LIST, FaultInjectionService.NONE_PROFILE);
+
+        assertThat(faultInjectionService.profileFor(LIST)).isSameAs(FaultProfile.NONE);
+    }
+
+    @Test
+    void testUnassignFallsBackToNone() {
+        assertThat(faultInjectionService.unassign(BY_ID)).contains("slow");
+        assertThat(faultInjectionService.unassign(BY_ID)).isEmpty();
+
+        assertThat(faultInjectionService.profileFor(BY_ID)).isSameAs(FaultProfile.NONE);
+    }
+
+    @Test
+    void testRedefinedProfileAppliesToExistingAssignments() {
+        FaultProfile slower = new FaultProfile();
+
+        faultInjectionService.define("slow", slower);
+
+        assertThat(faultInjectionService.profileFor(BY_ID)).isSameAs(slower);
+    }
+
+    @Test
+    void testRejectsUnknownAndReservedProfiles() {
+        assertThatThrownBy(() -> faultInjectionService.assign(LIST, "missing"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> faultInjectionService.define(FaultInjectionService.NONE_PROFILE, new FaultProfile()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testRejectsReservedProfileInConfiguration() {
+        FaultInjectionProperties properties = new FaultInjectionProperties();
+        properties.setProfiles(Map.of(FaultInjectionService.NONE_PROFILE, flaky));
+
+        assertThatThrownBy(() -> new FaultInjectionService(properties)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,118 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Page;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeServiceTest {
+
+    private EmployeeChangeFeed employeeChangeFeed;
+    private MockEmployeeService mockEmployeeService;
+
+    @BeforeEach
+    void setUp() {
+        employeeChangeFeed = new EmployeeChangeFeed(16, 16, 0);
+        mockEmployeeService = new MockEmployeeService(
+                new Faker(),
+                employeeChangeFeed,
+                IntStream.rangeClosed(1, 5).mapToObj(MockEmployeeServiceTest::employee).toList());
+    }
+
+    @Test
+    void testPagesInCreationOrder() {
+        Page<MockEmployee> first = mockEmployeeService.page(0, 2);
+        Page<MockEmployee> last = mockEmployeeService.page(4, 2);
+
+        assertThat(first.items()).extracting(MockEmployee::getName).containsExactly("Employee 1", "Employee 2");
+        assertThat(first.total()).isEqualTo(5);
+        assertThat(first.nextCursor()).isNotNull();
+        assertThat(last.items()).extracting(MockEmployee::getName).containsExactly("Employee 5");
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    void testCursorResumesAfterDeletedRow() {
+        Page<MockEmployee> first = mockEmployeeService.page(0, 2);
+
+        mockEmployeeService.delete(delete("Employee 2"));
+        mockEmployeeService.delete(delete("Employee 1"));
+        Page<MockEmployee> second = mockEmployeeService.pageAfter(first.nextCursor(), 2);
+
+        assertThat(second.items()).extracting(MockEmployee::getName).containsExactly("Employee 3", "Employee 4");
+        assertThat(second.offset()).isEqualTo(2);
+    }
+
+    @Test
+    void testTotalTracksCreatesAndDeletes() {
+        CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setName("Employee 6");
+        input.setSalary(50000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+
+        mockEmployeeService.create(input);
+        mockEmployeeService.delete(delete("Employee 1"));
+        mockEmployeeService.delete(delete("Employee 2"));
+        mockEmployeeService.delete(delete("Employee 2"));
+        Page<MockEmployee> first = mockEmployeeService.page(0, 2);
+
+        assertThat(first.total()).isEqualTo(4);
+        assertThat(mockEmployeeService.pageAfter(first.nextCursor(), 2).total()).isEqualTo(4);
+    }
+
+    @Test
+    void testIteratesLiveStoreWithoutFailingOnWrites() {
+        Iterator<MockEmployee> iterator = mockEmployeeService.iterator();
+        iterator.next();
+
+        mockEmployeeService.delete(delete("Employee 2"));
+        List<String> rest = new ArrayList<>();
+        iterator.forEachRemaining(employee -> rest.add(employee.getName()));
+
+        assertThat(rest).containsExactly("Employee 3", "Employee 4", "Employee 5");
+    }
+
+    @Test
+    void testDeletePublishesOnce() {
+        assertThat(mockEmployeeService.delete(delete("employee 3"))).isTrue();
+        assertThat(mockEmployeeService.delete(delete("Employee 3"))).isFalse();
+
+        assertThat(employeeChangeFeed.getVersion()).isEqualTo(1);
+        assertThat(mockEmployeeService.getMockEmployees()).hasSize(4);
+    }
+
+    @Test
+    void testRejectsMalformedCursor() {
+        assertThatThrownBy(() -> mockEmployeeService.pageAfter("bm90LWEtY3Vyc29y", 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static MockEmployee employee(int number) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name("Employee " + number)
+                .salary(50000)
+                .age(30)
+                .title("Engineer")
+                .email("employee" + number + "@company.com")
+                .build();
+    }
+
+    private static DeleteMockEmployeeInput delete(String name) {
+        var input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        return input;
+    }
+}
@@ -0,0 +1,85 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.config.FaultInjectionProperties;
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.service.FaultInjectionService;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+class FaultInjectionInterceptorTest {
+
+    private static final String ENDPOINT = "GET /api/v1/employee/{id}";
+
+    private final FaultProfile profile = new FaultProfile();
+    private FaultInjectionService faultInjectionService;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        FaultInjectionProperties properties = new FaultInjectionProperties();
+        properties.setProfiles(Map.of("faulty", profile));
+        properties.setEndpoints(Map.of(ENDPOINT, "faulty"));
+        faultInjectionService = new FaultInjectionService(properties);
+        request = new MockHttpServletRequest("GET", "/api/v1/employee/42");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/employee/{id}");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void testInjectsErrorWhenRateIsOne() throws Exception {
+        profile.setErrorRate(1.0);
+        profile.setErrorStatus(503);
+
+        assertThat(errorInterceptor().preHandle(request, response, new Object())).isFalse();
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getContentAsString()).contains("Injected fault.");
+    }
+
+    @Test
+    void testPassesThroughWhenRateIsZero() throws Exception {
+        assertThat(errorInterceptor().preHandle(request, response, new Object())).isTrue();
+        assertThat(new ConnectionResetInterceptor(faultInjectionService).preHandle(request, response, new Object()))
+                .isTrue();
+        assertThat(response.getContentLength()).isZero();
+    }
+
+    @Test
+    void testLeavesUnassignedEndpointsAlone() throws Exception {
+        profile.setErrorRate(1.0);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/employee");
+
+        assertThat(errorInterceptor().preHandle(request, response, new Object())).isTrue();
+    }
+
+    @Test
+    void testResetsWithTruncatedBody() throws Exception {
+        profile.setResetRate(1.0);
+
+        assertThat(new ConnectionResetInterceptor(faultInjectionService).preHandle(request, response, new Object()))
+                .isFalse();
+        assertThat(response.getHeader(HttpHeaders.CONNECTION)).isEqualTo("close");
+        assertThat(response.getContentAsByteArray().length).isLessThan(response.getContentLength());
+    }
+
+    @Test
+    void testResolvesProfileOncePerRequest() throws Exception {
+        profile.setErrorRate(1.0);
+        new LatencyInjectionInterceptor(faultInjectionService).preHandle(request, response, new Object());
+        faultInjectionService.unassign(ENDPOINT);
+
+        assertThat(errorInterceptor().preHandle(request, response, new Object())).isFalse();
+    }
+
+    private ErrorInjectionInterceptor errorInterceptor() {
+        return new ErrorInjectionInterceptor(faultInjectionService, new ObjectMapper());
+    }
+}
@@ -0,0 +1,87 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.config.FaultInjectionProperties;
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.service.FaultInjectionService;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+class FaultInjectionWebFilterTest {
+
+    private static final String ENDPOINT = "GET /api/v1/employee/{id}";
+
+    private final FaultProfile profile = new FaultProfile();
+    private final AtomicBoolean handled = new AtomicBoolean();
+    private final WebFilterChain chain = exchange -> Mono.fromRunnable(() -> handled.set(true));
+    private FaultInjectionWebFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        FaultInjectionProperties properties = new FaultInjectionProperties();
+        properties.setProfiles(Map.of("faulty", profile));
+        properties.setEndpoints(Map.of(ENDPOINT, "faulty"));
+        ReactiveEndpoints endpoints = mock(ReactiveEndpoints.class);
+        when(endpoints.of(any())).thenReturn(Mono.just(ENDPOINT));
+        filter = new FaultInjectionWebFilter(new FaultInjectionService(properties), endpoints, new ObjectMapper());
+    }
+
+    @Test
+    void testInjectsErrorWhenRateIsOne() {
+        profile.setErrorRate(1.0);
+        profile.setErrorStatus(503);
+        MockServerWebExchange exchange = exchange("/api/v1/employee/42");
+
+        filter.filter(exchange, chain).block(Duration.ofSeconds(1));
+
+        assertThat(handled).isFalse();
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(exchange.getResponse().getBodyAsString().block()).contains("Injected fault.");
+    }
+
+    @Test
+    void testPassesThroughWhenRateIsZero() {
+        filter.filter(exchange("/api/v1/employee/42"), chain).block(Duration.ofSeconds(1));
+
+        assertThat(handled).isTrue();
+    }
+
+    @Test
+    void testDelaysWithoutBlocking() {
+        profile.getLatency().setDistribution(FaultProfile.Distribution.FIXED);
+        profile.getLatency().setDelay(Duration.ofMillis(200));
+
+        Mono<Void> filtered = filter.filter(exchange("/api/v1/employee/42"), chain);
+        long started = System.nanoTime();
+        filtered.block(Duration.ofSeconds(1));
+
+        assertThat(handled).isTrue();
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+    }
+
+    @Test
+    void testLeavesAdminEndpointsAlone() {
+        profile.setErrorRate(1.0);
+
+        filter.filter(exchange("/admin/faults/profiles"), chain).block(Duration.ofSeconds(1));
+
+        assertThat(handled).isTrue();
+    }
+
+    private static MockServerWebExchange exchange(String path) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path));
+    }
+}
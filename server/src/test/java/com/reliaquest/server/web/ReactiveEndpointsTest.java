@@ -0,0 +1,54 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+import reactor.core.publisher.Mono;
+
+class ReactiveEndpointsTest {
+
+    private final RequestMappingHandlerMapping handlerMapping = mock(RequestMappingHandlerMapping.class);
+    private final ReactiveEndpoints endpoints = new ReactiveEndpoints(handlerMapping);
+    private final Object handler = new Object();
+
+    @Test
+    void testResolvesHandlerOnceAndHandsItToDispatcher() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/employee/42"));
+        when(handlerMapping.getHandler(any())).thenAnswer(invocation -> {
+            exchange.getAttributes().put(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/employee/{id}");
+            return Mono.just(handler);
+        });
+
+        assertThat(endpoints.of(exchange).block()).isEqualTo("GET /api/v1/employee/{id}");
+        assertThat(endpoints.of(exchange).block()).isEqualTo("GET /api/v1/employee/{id}");
+        assertThat(endpoints.getHandler(exchange).block()).isSameAs(handler);
+
+        verify(handlerMapping, times(1)).getHandler(any());
+    }
+
+    @Test
+    void testFallsBackToPathAndDefersToNextMappingWhenUnmatched() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/unknown"));
+        when(handlerMapping.getHandler(any())).thenReturn(Mono.empty());
+
+        assertThat(endpoints.of(exchange).block()).isEqualTo("GET /unknown");
+        assertThat(endpoints.getHandler(exchange).blockOptional()).isEmpty();
+    }
+
+    @Test
+    void testDefersToNextMappingWhenNoFilterResolved() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/employee"));
+
+        assertThat(endpoints.getHandler(exchange).blockOptional()).isEmpty();
+        assertThat(endpoints.getOrder()).isLessThan(new RequestMappingHandlerMapping().getOrder());
+    }
+}
@@ -0,0 +1,81 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.server.config.RequestLimitProperties;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+class RequestLimitWebFilterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final AtomicInteger handled = new AtomicInteger();
+    private final WebFilterChain chain = exchange -> Mono.fromRunnable(handled::incrementAndGet);
+    private final ReactiveEndpoints endpoints = mock(ReactiveEndpoints.class);
+    private RequestLimitProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RequestLimitProperties();
+        properties.setLimit(1);
+        properties.setWindow(Duration.ofSeconds(30));
+        when(endpoints.of(any())).thenReturn(Mono.just("GET /api/v1/employee"));
+    }
+
+    @Test
+    void testRejectsOverLimitWithRetryAfter() {
+        RequestLimitWebFilter filter = filter();
+        MockServerWebExchange first = exchange("/api/v1/employee", "a");
+        MockServerWebExchange second = exchange("/api/v1/employee", "a");
+
+        filter.filter(first, chain).block();
+        filter.filter(second, chain).block();
+
+        assertThat(handled).hasValue(1);
+        assertThat(first.getResponse().getHeaders().getFirst(RequestLimiter.LIMIT_HEADER)).isEqualTo("1");
+        assertThat(first.getResponse().getHeaders().getFirst(RequestLimiter.REMAINING_HEADER)).isEqualTo("0");
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(second.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+    }
+
+    @Test
+    void testKeysByClientHeader() {
+        properties.setKey(RequestLimitProperties.KeyStrategy.CLIENT);
+        RequestLimitWebFilter filter = filter();
+
+        filter.filter(exchange("/api/v1/employee", "a"), chain).block();
+        filter.filter(exchange("/api/v1/employee", "b"), chain).block();
+
+        assertThat(handled).hasValue(2);
+    }
+
+    @Test
+    void testLeavesAdminEndpointsAlone() {
+        RequestLimitWebFilter filter = filter();
+
+        filter.filter(exchange("/admin/faults/profiles", "a"), chain).block();
+        filter.filter(exchange("/admin/faults/profiles", "a"), chain).block();
+
+        assertThat(handled).hasValue(2);
+    }
+
+    private RequestLimitWebFilter filter() {
+        return new RequestLimitWebFilter(new RequestLimiter(properties, clock::get), endpoints);
+    }
+
+    private MockServerWebExchange exchange(String path, String client) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path).header(properties.getClientHeader(), client));
+    }
+}
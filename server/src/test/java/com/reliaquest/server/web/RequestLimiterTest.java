@@ -0,0 +1,94 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.config.RequestLimitProperties;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RequestLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private RequestLimitProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RequestLimitProperties();
+        properties.setLimit(2);
+        properties.setWindow(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void testGlobalKeySharesOneBudget() {
+        RequestLimiter requestLimiter = new RequestLimiter(properties, clock::get);
+
+        assertThat(requestLimiter.tryAcquire("a", "GET /api/v1/employee").allowed()).isTrue();
+        assertThat(requestLimiter.tryAcquire("b", "DELETE /api/v1/employee").allowed()).isTrue();
+        assertThat(requestLimiter.tryAcquire("c", "GET /api/v1/employee/{id}").allowed()).isFalse();
+    }
+
+    @Test
+    void testClientKeySeparatesBudgets() {
+        properties.setKey(RequestLimitProperties.KeyStrategy.CLIENT);
+        RequestLimiter requestLimiter = new RequestLimiter(properties, clock::get);
+
+        assertThat(drain(requestLimiter, "a", "GET /api/v1/employee")).isEqualTo(2);
+        assertThat(drain(requestLimiter, "b", "GET /api/v1/employee")).isEqualTo(2);
+        assertThat(requestLimiter.isKeyedByEndpoint()).isFalse();
+    }
+
+    @Test
+    void testClientAndEndpointKeySeparatesBudgets() {
+        properties.setKey(RequestLimitProperties.KeyStrategy.CLIENT_AND_ENDPOINT);
+        RequestLimiter requestLimiter = new RequestLimiter(properties, clock::get);
+
+        assertThat(drain(requestLimiter, "a", "GET /api/v1/employee")).isEqualTo(2);
+        assertThat(drain(requestLimiter, "a", "GET /api/v1/employee/{id}")).isEqualTo(2);
+        assertThat(drain(requestLimiter, "b", "GET /api/v1/employee")).isEqualTo(2);
+        assertThat(requestLimiter.isKeyedByEndpoint()).isTrue();
+    }
+
+    @Test
+    void testReadsTheInjectedClock() {
+        RequestLimiter requestLimiter = new RequestLimiter(properties, clock::get);
+        drain(requestLimiter, "a", "GET /api/v1/employee");
+
+        RateLimiter.Decision denied = requestLimiter.tryAcquire("a", "GET /api/v1/employee");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+
+        assertThat(RequestLimiter.retryAfterSeconds(denied)).isEqualTo(5);
+        assertThat(requestLimiter.tryAcquire("a", "GET /api/v1/employee").allowed()).isTrue();
+    }
+
+    @Test
+    void testStartsOverOnceAKeyHasExpired() {
+        properties.setKey(RequestLimitProperties.KeyStrategy.CLIENT);
+        properties.setAlgorithm(RequestLimitProperties.Algorithm.SLIDING_WINDOW);
+        RequestLimiter requestLimiter = new RequestLimiter(properties, clock::get);
+        drain(requestLimiter, "a", "GET /api/v1/employee");
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(20));
+
+        assertThat(drain(requestLimiter, "a", "GET /api/v1/employee")).isEqualTo(2);
+    }
+
+    @Test
+    void testRoundsRetryAfterUpToWholeSeconds() {
+        assertThat(RequestLimiter.retryAfterSeconds(RateLimiter.Decision.deny(1))).isEqualTo(1);
+        assertThat(RequestLimiter.retryAfterSeconds(RateLimiter.Decision.deny(TimeUnit.SECONDS.toNanos(2))))
+                .isEqualTo(2);
+        assertThat(RequestLimiter.retryAfterSeconds(RateLimiter.Decision.deny(TimeUnit.SECONDS.toNanos(2) + 1)))
+                .isEqualTo(3);
+    }
+
+    private static int drain(RequestLimiter requestLimiter, String client, String endpoint) {
+        int admitted = 0;
+        while (requestLimiter.tryAcquire(client, endpoint).allowed()) {
+            admitted++;
+        }
+        return admitted;
+    }
+}
@@ -0,0 +1,112 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowRateLimiterTest {
+
+    private static final long START = 1_000_000_000L;
+    private static final long WINDOW = TimeUnit.SECONDS.toNanos(1);
+
+    private final SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(10, Duration.ofSeconds(1), START);
+
+    @Test
+    void testAdmitsLimitPerWindowAndCountsDownRemaining() {
+        for (int remaining = 9; remaining >= 0; remaining--) {
+            assertThat(limiter.tryAcquire(START)).isEqualTo(RateLimiter.Decision.allow(remaining));
+        }
+
+        assertThat(limiter.tryAcquire(START + WINDOW - 1).allowed()).isFalse();
+    }
+
+    @Test
+    void testWeighsPreviousWindowByItsOverlap() {
+        drain(START);
+
+        // Halfway into the next window, half of the previous window's ten requests still count.
+        assertThat(limiter.tryAcquire(START + WINDOW + WINDOW / 2)).isEqualTo(RateLimiter.Decision.allow(4));
+        assertThat(drain(START + WINDOW + WINDOW / 2)).isEqualTo(4);
+    }
+
+    @Test
+    void testRetryAfterPointsAtTheFirstAdmissibleInstant() {
+        drain(START);
+
+        RateLimiter.Decision denied = limiter.tryAcquire(START);
+
+        // The full window has to pass, then a tenth of the next one until only nine of the ten requests still count.
+        assertThat(denied.allowed()).isFalse();
+        assertThat(denied.retryAfterNanos()).isCloseTo(WINDOW + WINDOW / 10, Offset.offset(2L));
+        assertThat(limiter.tryAcquire(START + WINDOW).allowed()).isFalse();
+        assertThat(limiter.tryAcquire(START + denied.retryAfterNanos()).allowed()).isTrue();
+    }
+
+    @Test
+    void testRetryAfterWithinWindowWeighsPreviousCount() {
+        drain(START);
+        long now = START + WINDOW + WINDOW / 2;
+        drain(now);
+
+        RateLimiter.Decision denied = limiter.tryAcquire(now);
+
+        // Five requests in this window: the previous window's weight has to fall from 5/10 to 4/10.
+        assertThat(denied.retryAfterNanos()).isCloseTo(WINDOW / 10, Offset.offset(2L));
+        assertThat(limiter.tryAcquire(now + denied.retryAfterNanos()).allowed()).isTrue();
+    }
+
+    @Test
+    void testForgetsWindowsOlderThanThePreviousOne() {
+        drain(START);
+
+        assertThat(drain(START + 2 * WINDOW)).isEqualTo(10);
+    }
+
+    @Test
+    void testIsIdleAfterTwoWindows() {
+        limiter.tryAcquire(START);
+
+        assertThat(limiter.isIdle(START + 2 * WINDOW - 1)).isFalse();
+        assertThat(limiter.isIdle(START + 2 * WINDOW)).isTrue();
+    }
+
+    @Test
+    void testNeverOverAdmitsUnderContention() throws InterruptedException {
+        AtomicInteger admitted = new AtomicInteger();
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 100; j++) {
+                    if (limiter.tryAcquire(START).allowed()) {
+                        admitted.incrementAndGet();
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(admitted).hasValue(10);
+    }
+
+    @Test
+    void testRejectsEmptyWindow() {
+        assertThatThrownBy(() -> new SlidingWindowRateLimiter(0, Duration.ofSeconds(1), START))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private int drain(long nowNanos) {
+        int admitted = 0;
+        while (limiter.tryAcquire(nowNanos).allowed()) {
+            admitted++;
+        }
+        return admitted;
+    }
+}
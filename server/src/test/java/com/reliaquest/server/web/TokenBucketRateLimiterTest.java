@@ -0,0 +1,87 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRateLimiterTest {
+
+    private static final long START = 1_000_000_000L;
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, Duration.ofSeconds(1), START);
+
+    @Test
+    void testAdmitsFullBurstThenCountsDownRemaining() {
+        for (int remaining = 9; remaining >= 0; remaining--) {
+            assertThat(limiter.tryAcquire(START)).isEqualTo(RateLimiter.Decision.allow(remaining));
+        }
+
+        assertThat(limiter.tryAcquire(START)).isEqualTo(RateLimiter.Decision.deny(INTERVAL));
+    }
+
+    @Test
+    void testRefillsOneTokenPerEmissionInterval() {
+        drain(START);
+
+        assertThat(limiter.tryAcquire(START + INTERVAL / 2)).isEqualTo(RateLimiter.Decision.deny(INTERVAL / 2));
+        assertThat(limiter.tryAcquire(START + INTERVAL)).isEqualTo(RateLimiter.Decision.allow(0));
+        assertThat(limiter.tryAcquire(START + INTERVAL).allowed()).isFalse();
+        assertThat(limiter.tryAcquire(START + 3 * INTERVAL)).isEqualTo(RateLimiter.Decision.allow(1));
+    }
+
+    @Test
+    void testDoesNotAccumulateMoreThanCapacity() {
+        long later = START + TimeUnit.MINUTES.toNanos(5);
+
+        assertThat(drain(later)).isEqualTo(10);
+    }
+
+    @Test
+    void testIsIdleOnceTheBucketIsFull() {
+        limiter.tryAcquire(START);
+        limiter.tryAcquire(START);
+
+        assertThat(limiter.isIdle(START + INTERVAL)).isFalse();
+        assertThat(limiter.isIdle(START + 2 * INTERVAL)).isTrue();
+    }
+
+    @Test
+    void testNeverOverAdmitsUnderContention() throws InterruptedException {
+        AtomicInteger admitted = new AtomicInteger();
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 100; j++) {
+                    if (limiter.tryAcquire(START).allowed()) {
+                        admitted.incrementAndGet();
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(admitted).hasValue(10);
+    }
+
+    @Test
+    void testRejectsEmptyBucket() {
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(0, Duration.ofSeconds(1), START))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private int drain(long nowNanos) {
+        int admitted = 0;
+        while (limiter.tryAcquire(nowNanos).allowed()) {
+            admitted++;
+        }
+        return admitted;
+    }
+}